@@ -25,6 +25,8 @@ public class AlertCriteriaResponse {
     private Double latitude;
     private Double longitude;
     private Double radiusKm;
+    private String forecastZone;
+    private String county;
     private String eventType;
     private String minSeverity;
     private Double maxTemperature;
@@ -55,6 +57,8 @@ public class AlertCriteriaResponse {
                 .latitude(criteria.getLatitude())
                 .longitude(criteria.getLongitude())
                 .radiusKm(criteria.getRadiusKm())
+                .forecastZone(criteria.getForecastZone())
+                .county(criteria.getCounty())
                 .eventType(criteria.getEventType())
                 .minSeverity(criteria.getMinSeverity())
                 .maxTemperature(criteria.getMaxTemperature())
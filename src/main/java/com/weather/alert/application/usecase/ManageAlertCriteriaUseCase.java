@@ -4,10 +4,13 @@ import com.weather.alert.application.dto.CreateAlertCriteriaRequest;
 import com.weather.alert.application.exception.CriteriaNotFoundException;
 import com.weather.alert.domain.model.AlertCriteria;
 import com.weather.alert.domain.model.EmailMessage;
+import com.weather.alert.domain.model.PointMetadata;
 import com.weather.alert.domain.model.User;
 import com.weather.alert.domain.port.AlertCriteriaRepositoryPort;
 import com.weather.alert.domain.port.EmailSenderPort;
 import com.weather.alert.domain.port.UserRepositoryPort;
+import com.weather.alert.domain.port.WeatherDataPort;
+import com.weather.alert.domain.port.WeatherFetchResult;
 import com.weather.alert.domain.service.AlertProcessingService;
 import com.weather.alert.domain.service.notification.EmailDeliveryException;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +22,10 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Use case for managing alert criteria (Command)
@@ -33,6 +39,7 @@ public class ManageAlertCriteriaUseCase {
     private final AlertProcessingService alertProcessingService;
     private final UserRepositoryPort userRepository;
     private final EmailSenderPort emailSenderPort;
+    private final WeatherDataPort weatherDataPort;
 
     @Value("${app.notification.criteria-created.send-email:false}")
     private boolean sendCriteriaCreatedEmail;
@@ -75,6 +82,7 @@ public class ManageAlertCriteriaUseCase {
                 .build();
         
         AlertCriteria saved = criteriaRepository.save(criteria);
+        resolveZoneCodes(saved);
         try {
             alertProcessingService.processCriteriaImmediately(saved);
         } catch (Exception ex) {
@@ -88,12 +96,15 @@ public class ManageAlertCriteriaUseCase {
         AlertCriteria criteria = criteriaRepository.findById(criteriaId)
                 .orElseThrow(() -> new CriteriaNotFoundException(criteriaId));
         criteriaRepository.delete(criteriaId);
+        alertProcessingService.forgetCriteria(criteriaId);
         sendCriteriaDeletedEmailIfEnabled(criteria);
     }
     
     public AlertCriteria updateCriteria(String criteriaId, CreateAlertCriteriaRequest request) {
         return criteriaRepository.findById(criteriaId)
                 .map(existing -> {
+                    boolean sameCoordinates = Objects.equals(existing.getLatitude(), request.getLatitude())
+                            && Objects.equals(existing.getLongitude(), request.getLongitude());
                     existing.setName(normalizeName(request.getName()));
                     existing.setLocation(request.getLocation());
                     existing.setLatitude(request.getLatitude());
@@ -115,11 +126,78 @@ public class ManageAlertCriteriaUseCase {
                     existing.setTemperatureUnit(defaultTemperatureUnit(request.getTemperatureUnit()));
                     existing.setOncePerEvent(defaultOncePerEvent(request.getOncePerEvent()));
                     existing.setRearmWindowMinutes(defaultRearmWindowMinutes(request.getRearmWindowMinutes()));
-                    return criteriaRepository.save(existing);
+                    if (!sameCoordinates) {
+                        existing.setForecastZone(null);
+                        existing.setCounty(null);
+                    }
+                    AlertCriteria saved = criteriaRepository.save(existing);
+                    if (!sameCoordinates || (saved.getForecastZone() == null && saved.getCounty() == null)) {
+                        resolveZoneCodes(saved);
+                    }
+                    return saved;
                 })
                 .orElseThrow(() -> new CriteriaNotFoundException(criteriaId));
     }
 
+    /**
+     * Look up the NWS forecast zone and county containing the criteria coordinate in the background and store them,
+     * so active alerts can be matched by the codes they are issued for without the request waiting on NOAA. Until
+     * the lookup completes, or when it fails, the criteria has no codes and still matches by location text and
+     * coordinates; the next update with the same coordinate retries. Codes are only stored while the criteria still
+     * has the coordinate they were resolved for.
+     */
+    private void resolveZoneCodes(AlertCriteria criteria) {
+        if (criteria.getLatitude() == null || criteria.getLongitude() == null) {
+            return;
+        }
+        String criteriaId = criteria.getId();
+        double latitude = criteria.getLatitude();
+        double longitude = criteria.getLongitude();
+        CompletableFuture<WeatherFetchResult<Optional<PointMetadata>>> lookup;
+        try {
+            lookup = weatherDataPort.resolvePointMetadataAsync(latitude, longitude);
+        } catch (RuntimeException ex) {
+            log.warn("Zone code lookup failed for criteria {}: {}", criteriaId, ex.getMessage());
+            return;
+        }
+        if (lookup == null) {
+            return;
+        }
+        lookup.thenAccept(result -> storeZoneCodes(criteriaId, latitude, longitude, result))
+                .exceptionally(ex -> {
+                    log.warn("Zone code lookup failed for criteria {}: {}", criteriaId, ex.getMessage());
+                    return null;
+                });
+    }
+
+    private void storeZoneCodes(
+            String criteriaId,
+            double latitude,
+            double longitude,
+            WeatherFetchResult<Optional<PointMetadata>> result) {
+        if (result == null || !result.successful()) {
+            log.warn(
+                    "Zone codes unavailable for criteria {}: {}",
+                    criteriaId,
+                    result == null ? "no result" : result.failureReason());
+            return;
+        }
+        PointMetadata metadata = result.data() == null ? null : result.data().orElse(null);
+        if (metadata == null) {
+            return;
+        }
+        criteriaRepository.findById(criteriaId)
+                .filter(current -> Objects.equals(current.getLatitude(), latitude)
+                        && Objects.equals(current.getLongitude(), longitude))
+                .filter(current -> !Objects.equals(current.getForecastZone(), metadata.getForecastZone())
+                        || !Objects.equals(current.getCounty(), metadata.getCounty()))
+                .ifPresent(current -> {
+                    current.setForecastZone(metadata.getForecastZone());
+                    current.setCounty(metadata.getCounty());
+                    criteriaRepository.save(current);
+                });
+    }
+
     private boolean defaultMonitorCurrent(Boolean monitorCurrent) {
         return monitorCurrent == null || monitorCurrent;
     }
@@ -52,6 +52,14 @@ public class AlertCriteria {
     @Schema(example = "50")
     private Double radiusKm;
 
+    @Schema(description = "NWS forecast zone containing the coordinate, resolved on save", example = "WAZ558",
+            accessMode = Schema.AccessMode.READ_ONLY)
+    private String forecastZone;
+
+    @Schema(description = "NWS county containing the coordinate, resolved on save", example = "WAC033",
+            accessMode = Schema.AccessMode.READ_ONLY)
+    private String county;
+
     @Schema(example = "Tornado Warning")
     private String eventType;
 
@@ -102,6 +110,9 @@ public class AlertCriteria {
 
     @Schema(example = "true")
     private Boolean enabled;
+
+    @Schema(description = "Optimistic-lock version, incremented on every update", example = "3")
+    private Long version;
     
     public boolean matches(WeatherData weatherData) {
         return AlertCriteriaRuleEvaluator.defaultInstance().matches(this, weatherData);
@@ -0,0 +1,150 @@
+package com.weather.alert.domain.model;
+
+import java.util.List;
+
+/**
+ * Area an alert was issued for, as polygon rings in a compact primitive form.
+ * <p>
+ * Each ring is one {@code double[]} of interleaved longitude/latitude pairs. Holes and the parts of a
+ * multipolygon are plain rings too: a point is inside when it is inside an odd number of rings (even-odd rule),
+ * which holds for valid GeoJSON polygons. The bounding box is computed once, on construction.
+ */
+public final class AlertGeometry {
+
+    private static final double KM_PER_DEGREE = 111.195;
+
+    private final double[][] rings;
+    private final double minLatitude;
+    private final double minLongitude;
+    private final double maxLatitude;
+    private final double maxLongitude;
+
+    private AlertGeometry(double[][] rings) {
+        double minLat = Double.POSITIVE_INFINITY;
+        double minLon = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double maxLon = Double.NEGATIVE_INFINITY;
+        for (double[] ring : rings) {
+            for (int i = 0; i < ring.length; i += 2) {
+                minLon = Math.min(minLon, ring[i]);
+                maxLon = Math.max(maxLon, ring[i]);
+                minLat = Math.min(minLat, ring[i + 1]);
+                maxLat = Math.max(maxLat, ring[i + 1]);
+            }
+        }
+        this.rings = rings;
+        this.minLatitude = minLat;
+        this.minLongitude = minLon;
+        this.maxLatitude = maxLat;
+        this.maxLongitude = maxLon;
+    }
+
+    /**
+     * @param rings interleaved longitude/latitude pairs per ring; rings of fewer than three points are dropped
+     * @return the geometry, or {@code null} when no usable ring is left
+     */
+    public static AlertGeometry of(List<double[]> rings) {
+        if (rings == null) {
+            return null;
+        }
+        double[][] usable = rings.stream()
+                .filter(ring -> ring != null && ring.length >= 6 && ring.length % 2 == 0)
+                .toArray(double[][]::new);
+        return usable.length == 0 ? null : new AlertGeometry(usable);
+    }
+
+    public double minLatitude() {
+        return minLatitude;
+    }
+
+    public double minLongitude() {
+        return minLongitude;
+    }
+
+    public double maxLatitude() {
+        return maxLatitude;
+    }
+
+    public double maxLongitude() {
+        return maxLongitude;
+    }
+
+    public int ringCount() {
+        return rings.length;
+    }
+
+    /**
+     * Even-odd ray casting over every ring.
+     */
+    public boolean contains(double latitude, double longitude) {
+        if (latitude < minLatitude || latitude > maxLatitude || longitude < minLongitude || longitude > maxLongitude) {
+            return false;
+        }
+        boolean inside = false;
+        for (double[] ring : rings) {
+            int points = ring.length / 2;
+            for (int i = 0, j = points - 1; i < points; j = i++) {
+                double xi = ring[2 * i];
+                double yi = ring[2 * i + 1];
+                double xj = ring[2 * j];
+                double yj = ring[2 * j + 1];
+                if ((yi > latitude) != (yj > latitude)
+                        && longitude < (xj - xi) * (latitude - yi) / (yj - yi) + xi) {
+                    inside = !inside;
+                }
+            }
+        }
+        return inside;
+    }
+
+    /**
+     * Whether the circle of {@code radiusKm} around the point overlaps the area: the point is inside, or an edge
+     * passes within the radius. Distances use an equirectangular projection centred on the point, which is
+     * accurate to well under a percent at alert radii.
+     */
+    public boolean intersectsCircle(double latitude, double longitude, double radiusKm) {
+        if (radiusKm <= 0.0) {
+            return contains(latitude, longitude);
+        }
+        double cosLatitude = Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+        double latitudeSpan = radiusKm / KM_PER_DEGREE;
+        double longitudeSpan = latitudeSpan / cosLatitude;
+        if (latitude + latitudeSpan < minLatitude
+                || latitude - latitudeSpan > maxLatitude
+                || longitude + longitudeSpan < minLongitude
+                || longitude - longitudeSpan > maxLongitude) {
+            return false;
+        }
+        if (contains(latitude, longitude)) {
+            return true;
+        }
+        double xScale = cosLatitude * KM_PER_DEGREE;
+        double radiusSquared = radiusKm * radiusKm;
+        for (double[] ring : rings) {
+            int points = ring.length / 2;
+            for (int i = 0, j = points - 1; i < points; j = i++) {
+                double ax = (ring[2 * j] - longitude) * xScale;
+                double ay = (ring[2 * j + 1] - latitude) * KM_PER_DEGREE;
+                double bx = (ring[2 * i] - longitude) * xScale;
+                double by = (ring[2 * i + 1] - latitude) * KM_PER_DEGREE;
+                if (distanceSquaredToOrigin(ax, ay, bx, by) <= radiusSquared) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Squared distance from the origin to the segment {@code a-b}.
+     */
+    private static double distanceSquaredToOrigin(double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared == 0.0 ? 0.0 : Math.max(0.0, Math.min(1.0, -(ax * dx + ay * dy) / lengthSquared));
+        double x = ax + t * dx;
+        double y = ay + t * dy;
+        return x * x + y * y;
+    }
+}
@@ -0,0 +1,44 @@
+package com.weather.alert.domain.model;
+
+import java.util.Set;
+
+/**
+ * Subset of criteria hash partitions an evaluation cycle should process. Criteria are assigned to a partition
+ * by {@code floorMod(id.hashCode(), partitionCount)}, which is stable across JVMs and nodes.
+ */
+public record CriteriaPartitionSelector(int partitionCount, Set<Integer> partitions) {
+
+    private static final CriteriaPartitionSelector ALL = new CriteriaPartitionSelector(1, Set.of(0));
+
+    public CriteriaPartitionSelector {
+        partitionCount = Math.max(partitionCount, 1);
+        partitions = partitions == null ? Set.of() : Set.copyOf(partitions);
+    }
+
+    public static CriteriaPartitionSelector all() {
+        return ALL;
+    }
+
+    public static CriteriaPartitionSelector none(int partitionCount) {
+        return new CriteriaPartitionSelector(partitionCount, Set.of());
+    }
+
+    public static int partitionOf(String criteriaId, int partitionCount) {
+        return Math.floorMod(criteriaId.hashCode(), Math.max(partitionCount, 1));
+    }
+
+    public boolean includes(String criteriaId) {
+        if (criteriaId == null) {
+            return false;
+        }
+        return partitions.contains(partitionOf(criteriaId, partitionCount));
+    }
+
+    public boolean isEmpty() {
+        return partitions.isEmpty();
+    }
+
+    public boolean coversAll() {
+        return partitions.size() >= partitionCount;
+    }
+}
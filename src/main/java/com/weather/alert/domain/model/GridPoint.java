@@ -0,0 +1,13 @@
+package com.weather.alert.domain.model;
+
+/**
+ * NWS forecast grid cell (forecast office plus grid coordinates) that a latitude/longitude resolves to.
+ * All coordinates inside the same cell share one forecast and one set of observation stations.
+ */
+public record GridPoint(String office, int gridX, int gridY) {
+
+    @Override
+    public String toString() {
+        return office + "/" + gridX + "," + gridY;
+    }
+}
@@ -0,0 +1,41 @@
+package com.weather.alert.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Provider metadata a coordinate resolves to: forecast grid cell, forecast URL, zone, county and the primary
+ * observation station. Changes very rarely, so it is persisted and only refreshed after a long TTL.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointMetadata {
+    private double latitude;
+    private double longitude;
+    private String gridId;
+    private Integer gridX;
+    private Integer gridY;
+    private String forecastHourlyUrl;
+    private String observationStationsUrl;
+    private String forecastZone;
+    private String county;
+    private String stationId;
+    private String stationName;
+    private Instant resolvedAt;
+
+    /**
+     * @return the grid cell, or {@code null} when the provider did not return a complete one
+     */
+    public GridPoint gridPoint() {
+        if (gridId == null || gridId.isBlank() || gridX == null || gridY == null) {
+            return null;
+        }
+        return new GridPoint(gridId, gridX, gridY);
+    }
+}
@@ -1,11 +1,13 @@
 package com.weather.alert.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.Instant;
+import java.util.List;
 
 /**
  * Domain model representing weather data from NOAA
@@ -17,6 +19,12 @@ import java.time.Instant;
 public class WeatherData {
     private String id;
     private String location;
+    private List<String> zoneCodes;
+    /**
+     * Polygon of a storm-based alert, for exact matching against criteria coordinates; not part of the API.
+     */
+    @JsonIgnore
+    private AlertGeometry geometry;
     private Double latitude;
     private Double longitude;
     private String eventType;
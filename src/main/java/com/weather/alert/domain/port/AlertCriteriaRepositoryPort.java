@@ -17,6 +17,12 @@ public interface AlertCriteriaRepositoryPort {
     List<AlertCriteria> findByUserId(String userId);
     
     List<AlertCriteria> findAllEnabled();
+
+    /**
+     * Keyset page of enabled criteria ordered by id: up to {@code limit} criteria with an id greater than
+     * {@code afterId}, or from the start when {@code afterId} is null.
+     */
+    List<AlertCriteria> findEnabledAfter(String afterId, int limit);
     
     void delete(String id);
 }
@@ -2,6 +2,9 @@ package com.weather.alert.domain.port;
 
 import com.weather.alert.domain.model.AlertCriteriaState;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -12,4 +15,22 @@ public interface AlertCriteriaStateRepositoryPort {
     Optional<AlertCriteriaState> findByCriteriaId(String criteriaId);
 
     AlertCriteriaState save(AlertCriteriaState state);
+
+    /**
+     * Load the states of several criteria at once, keyed by criteria id. Criteria without state are absent.
+     */
+    default Map<String, AlertCriteriaState> findByCriteriaIds(Collection<String> criteriaIds) {
+        Map<String, AlertCriteriaState> states = new LinkedHashMap<>();
+        for (String criteriaId : criteriaIds) {
+            findByCriteriaId(criteriaId).ifPresent(state -> states.put(criteriaId, state));
+        }
+        return states;
+    }
+
+    /**
+     * Insert or update several states, ideally in one transaction and round trip.
+     */
+    default void saveAll(Collection<AlertCriteriaState> states) {
+        states.forEach(this::save);
+    }
 }
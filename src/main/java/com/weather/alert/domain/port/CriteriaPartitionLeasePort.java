@@ -0,0 +1,24 @@
+package com.weather.alert.domain.port;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Port for cluster-wide leases on criteria hash partitions.
+ */
+public interface CriteriaPartitionLeasePort {
+
+    /**
+     * Record a heartbeat for the node, renew the leases it holds, and rebalance towards an even share of the
+     * partitions across live nodes: excess partitions are released and free or expired ones are claimed.
+     * Partitions in {@code inUse} are being evaluated by a running cycle and are kept even when they are excess.
+     *
+     * @return partitions leased to the node after the heartbeat
+     */
+    Set<Integer> heartbeat(String nodeId, int partitionCount, Duration leaseDuration, Set<Integer> inUse);
+
+    /**
+     * Release every partition held by the node and remove it from the live node set.
+     */
+    void release(String nodeId);
+}
@@ -0,0 +1,15 @@
+package com.weather.alert.domain.port;
+
+import com.weather.alert.domain.model.PointMetadata;
+
+import java.util.Optional;
+
+/**
+ * Port for persisted provider point metadata, keyed by coordinate rounded to four decimal places.
+ */
+public interface PointMetadataRepositoryPort {
+
+    Optional<PointMetadata> findByCoordinate(double latitude, double longitude);
+
+    PointMetadata save(PointMetadata metadata);
+}
@@ -1,9 +1,12 @@
 package com.weather.alert.domain.port;
 
+import com.weather.alert.domain.model.GridPoint;
+import com.weather.alert.domain.model.PointMetadata;
 import com.weather.alert.domain.model.WeatherData;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Port for fetching weather data from external sources (NOAA)
@@ -58,4 +61,108 @@ public interface WeatherDataPort {
             int forecastWindowHours) {
         return WeatherFetchResult.success(fetchForecastConditions(latitude, longitude, forecastWindowHours));
     }
+
+    /**
+     * Resolve a coordinate to its forecast gridpoint. An empty result means the provider does not support
+     * gridpoint lookups for this coordinate and callers should use the coordinate-based methods.
+     */
+    default WeatherFetchResult<Optional<GridPoint>> resolveGridPointWithStatus(double latitude, double longitude) {
+        return WeatherFetchResult.success(Optional.empty());
+    }
+
+    /**
+     * Fetch latest current conditions from the primary observation station of a gridpoint.
+     */
+    default WeatherFetchResult<Optional<WeatherData>> fetchCurrentConditionsWithStatus(GridPoint gridPoint) {
+        return WeatherFetchResult.failure(Optional.empty(), "gridpoint lookups not supported");
+    }
+
+    /**
+     * Fetch the full hourly forecast (up to 168 hours) for a gridpoint. Callers slice it to their own window.
+     */
+    default WeatherFetchResult<List<WeatherData>> fetchForecastConditionsWithStatus(GridPoint gridPoint) {
+        return WeatherFetchResult.failure(List.of(), "gridpoint lookups not supported");
+    }
+
+    /**
+     * Fetch active alerts for one NOAA area: a state or marine area code such as {@code FL} or {@code AM}.
+     * The default runs {@link #fetchAlertsForState(String)}.
+     */
+    default CompletableFuture<WeatherFetchResult<List<WeatherData>>> fetchActiveAlertsForAreaAsync(String area) {
+        return CompletableFuture.completedFuture(WeatherFetchResult.success(fetchAlertsForState(area)));
+    }
+
+    /**
+     * Resolve a coordinate to the code of the forecast zone containing it, e.g. {@code FLZ045}. An empty result
+     * means the provider cannot tell.
+     */
+    default CompletableFuture<WeatherFetchResult<Optional<String>>> resolveForecastZoneAsync(double latitude, double longitude) {
+        return CompletableFuture.completedFuture(WeatherFetchResult.success(Optional.empty()));
+    }
+
+    /**
+     * Resolve a coordinate to its provider metadata, including the forecast zone and county codes alerts are
+     * issued for. An empty result means the provider cannot tell.
+     */
+    default WeatherFetchResult<Optional<PointMetadata>> resolvePointMetadataWithStatus(double latitude, double longitude) {
+        return WeatherFetchResult.success(Optional.empty());
+    }
+
+    /**
+     * Non-blocking variant of {@link #resolvePointMetadataWithStatus(double, double)}. The future completes off the
+     * provider's I/O threads, so dependent stages may block.
+     */
+    default CompletableFuture<WeatherFetchResult<Optional<PointMetadata>>> resolvePointMetadataAsync(
+            double latitude,
+            double longitude) {
+        return CompletableFuture.completedFuture(resolvePointMetadataWithStatus(latitude, longitude));
+    }
+
+    /**
+     * Non-blocking variant of {@link #fetchActiveAlertsWithStatus()}. The default runs the blocking call.
+     */
+    default CompletableFuture<WeatherFetchResult<List<WeatherData>>> fetchActiveAlertsAsync() {
+        return CompletableFuture.completedFuture(fetchActiveAlertsWithStatus());
+    }
+
+    /**
+     * Non-blocking variant of {@link #fetchCurrentConditionsWithStatus(double, double)}.
+     */
+    default CompletableFuture<WeatherFetchResult<Optional<WeatherData>>> fetchCurrentConditionsAsync(
+            double latitude,
+            double longitude) {
+        return CompletableFuture.completedFuture(fetchCurrentConditionsWithStatus(latitude, longitude));
+    }
+
+    /**
+     * Non-blocking variant of {@link #fetchForecastConditionsWithStatus(double, double, int)}.
+     */
+    default CompletableFuture<WeatherFetchResult<List<WeatherData>>> fetchForecastConditionsAsync(
+            double latitude,
+            double longitude,
+            int forecastWindowHours) {
+        return CompletableFuture.completedFuture(
+                fetchForecastConditionsWithStatus(latitude, longitude, forecastWindowHours));
+    }
+
+    /**
+     * Non-blocking variant of {@link #resolveGridPointWithStatus(double, double)}.
+     */
+    default CompletableFuture<WeatherFetchResult<Optional<GridPoint>>> resolveGridPointAsync(double latitude, double longitude) {
+        return CompletableFuture.completedFuture(resolveGridPointWithStatus(latitude, longitude));
+    }
+
+    /**
+     * Non-blocking variant of {@link #fetchCurrentConditionsWithStatus(GridPoint)}.
+     */
+    default CompletableFuture<WeatherFetchResult<Optional<WeatherData>>> fetchCurrentConditionsAsync(GridPoint gridPoint) {
+        return CompletableFuture.completedFuture(fetchCurrentConditionsWithStatus(gridPoint));
+    }
+
+    /**
+     * Non-blocking variant of {@link #fetchForecastConditionsWithStatus(GridPoint)}.
+     */
+    default CompletableFuture<WeatherFetchResult<List<WeatherData>>> fetchForecastConditionsAsync(GridPoint gridPoint) {
+        return CompletableFuture.completedFuture(fetchForecastConditionsWithStatus(gridPoint));
+    }
 }
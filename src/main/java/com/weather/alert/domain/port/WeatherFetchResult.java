@@ -3,13 +3,24 @@ package com.weather.alert.domain.port;
 /**
  * Wrapper for external weather fetch outcomes that distinguishes
  * successful empty data from provider failures.
+ * <p>
+ * {@code stale} marks successful data served from cache past its freshness lifetime, e.g. while the provider
+ * is unavailable or the entry is being refreshed.
  */
-public record WeatherFetchResult<T>(boolean successful, T data, String failureReason) {
+public record WeatherFetchResult<T>(boolean successful, T data, String failureReason, boolean stale) {
+
+    public WeatherFetchResult(boolean successful, T data, String failureReason) {
+        this(successful, data, failureReason, false);
+    }
 
     public static <T> WeatherFetchResult<T> success(T data) {
         return new WeatherFetchResult<>(true, data, null);
     }
 
+    public static <T> WeatherFetchResult<T> stale(T data) {
+        return new WeatherFetchResult<>(true, data, null, true);
+    }
+
     public static <T> WeatherFetchResult<T> failure(T fallbackData, String failureReason) {
         return new WeatherFetchResult<>(false, fallbackData, failureReason);
     }
@@ -0,0 +1,138 @@
+package com.weather.alert.domain.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Bounding boxes of the NOAA areas (states, DC and territories, and the marine areas covering coastal and offshore
+ * waters and the Great Lakes) used to find every area a criteria radius can reach, not only the one containing its
+ * coordinate. Marine alerts carry polygons that a radius on the coast can intersect, so they count as well.
+ * <p>
+ * Boxes are padded by {@value #PADDING_DEGREES} degrees and overlap along every border, so the areas returned are
+ * a superset of those the circle actually touches. Alaska and its waters are split at the antimeridian; radius
+ * boxes are not.
+ */
+final class AlertAreaBounds {
+
+    private static final double KM_PER_DEGREE = 111.195;
+    private static final double PADDING_DEGREES = 0.2;
+
+    /**
+     * Area code to boxes of {@code {minLatitude, minLongitude, maxLatitude, maxLongitude}}.
+     */
+    private static final Map<String, double[][]> BOUNDS = new LinkedHashMap<>();
+
+    static {
+        add("AL", 30.14, -88.47, 35.01, -84.89);
+        add("AK", 51.21, -180.0, 71.44, -129.98);
+        add("AK", 51.21, 172.42, 53.02, 180.0);
+        add("AZ", 31.33, -114.82, 37.00, -109.04);
+        add("AR", 33.00, -94.62, 36.50, -89.64);
+        add("CA", 32.53, -124.41, 42.01, -114.13);
+        add("CO", 36.99, -109.06, 41.00, -102.04);
+        add("CT", 40.98, -73.73, 42.05, -71.79);
+        add("DE", 38.45, -75.79, 39.84, -75.05);
+        add("DC", 38.79, -77.12, 38.99, -76.91);
+        add("FL", 24.40, -87.63, 31.00, -80.03);
+        add("GA", 30.36, -85.61, 35.00, -80.84);
+        add("HI", 18.91, -178.33, 28.45, -154.81);
+        add("ID", 41.99, -117.24, 49.00, -111.04);
+        add("IL", 36.97, -91.51, 42.51, -87.02);
+        add("IN", 37.77, -88.10, 41.76, -84.78);
+        add("IA", 40.38, -96.64, 43.50, -90.14);
+        add("KS", 36.99, -102.05, 40.00, -94.59);
+        add("KY", 36.50, -89.57, 39.15, -81.96);
+        add("LA", 28.93, -94.04, 33.02, -88.82);
+        add("ME", 42.98, -71.08, 47.46, -66.95);
+        add("MD", 37.91, -79.49, 39.72, -75.05);
+        add("MA", 41.24, -73.51, 42.89, -69.93);
+        add("MI", 41.70, -90.42, 48.31, -82.41);
+        add("MN", 43.50, -97.24, 49.38, -89.49);
+        add("MS", 30.17, -91.66, 35.00, -88.10);
+        add("MO", 35.99, -95.77, 40.61, -89.10);
+        add("MT", 44.36, -116.05, 49.00, -104.04);
+        add("NE", 40.00, -104.05, 43.00, -95.31);
+        add("NV", 35.00, -120.01, 42.00, -114.04);
+        add("NH", 42.70, -72.56, 45.31, -70.61);
+        add("NJ", 38.93, -75.56, 41.36, -73.89);
+        add("NM", 31.33, -109.05, 37.00, -103.00);
+        add("NY", 40.50, -79.76, 45.02, -71.86);
+        add("NC", 33.84, -84.32, 36.59, -75.46);
+        add("ND", 45.94, -104.05, 49.00, -96.55);
+        add("OH", 38.40, -84.82, 41.98, -80.52);
+        add("OK", 33.62, -103.00, 37.00, -94.43);
+        add("OR", 41.99, -124.57, 46.29, -116.46);
+        add("PA", 39.72, -80.52, 42.27, -74.69);
+        add("RI", 41.15, -71.86, 42.02, -71.12);
+        add("SC", 32.03, -83.35, 35.22, -78.54);
+        add("SD", 42.48, -104.06, 45.95, -96.44);
+        add("TN", 34.98, -90.31, 36.68, -81.65);
+        add("TX", 25.84, -106.65, 36.50, -93.51);
+        add("UT", 37.00, -114.05, 42.00, -109.04);
+        add("VT", 42.73, -73.44, 45.02, -71.46);
+        add("VA", 36.54, -83.68, 39.47, -75.24);
+        add("WA", 45.54, -124.85, 49.00, -116.92);
+        add("WV", 37.20, -82.64, 40.64, -77.72);
+        add("WI", 42.49, -92.89, 47.31, -86.25);
+        add("WY", 40.99, -111.06, 45.01, -104.05);
+        add("PR", 17.88, -67.95, 18.52, -65.22);
+        add("VI", 17.67, -65.09, 18.42, -64.56);
+        add("GU", 13.23, 144.61, 13.65, 144.96);
+        add("AS", -14.55, -171.14, -11.04, -168.14);
+        add("MP", 14.10, 144.88, 20.56, 146.10);
+        add("AN", 35.50, -77.60, 45.20, -60.00);
+        add("AM", 17.00, -82.50, 37.00, -60.00);
+        add("GM", 18.00, -98.00, 31.00, -80.00);
+        add("PZ", 30.00, -135.00, 49.50, -117.00);
+        add("PK", 50.00, -180.0, 75.00, -129.00);
+        add("PK", 50.00, 165.00, 60.00, 180.0);
+        add("PH", 15.00, -180.0, 30.00, -150.00);
+        add("PM", 10.00, 140.00, 22.00, 150.00);
+        add("PS", -16.00, -173.00, -10.00, -166.00);
+        add("LS", 46.20, -92.30, 49.10, -84.30);
+        add("LM", 41.60, -88.10, 46.20, -84.70);
+        add("LH", 43.00, -84.80, 46.40, -79.60);
+        add("LC", 42.20, -83.00, 42.70, -82.30);
+        add("LE", 41.30, -83.60, 43.00, -78.80);
+        add("LO", 43.10, -80.00, 44.30, -75.90);
+        add("SL", 44.00, -76.50, 45.20, -74.50);
+    }
+
+    private AlertAreaBounds() {
+    }
+
+    /**
+     * Codes of the areas whose padded box intersects the box around the circle of {@code radiusKm}.
+     */
+    static Set<String> reachedBy(double latitude, double longitude, double radiusKm) {
+        double latitudeSpan = Math.max(0.0, radiusKm) / KM_PER_DEGREE;
+        double longitudeSpan = latitudeSpan / Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+        double minLatitude = latitude - latitudeSpan;
+        double maxLatitude = latitude + latitudeSpan;
+        double minLongitude = longitude - longitudeSpan;
+        double maxLongitude = longitude + longitudeSpan;
+        Set<String> areas = new TreeSet<>();
+        BOUNDS.forEach((area, boxes) -> {
+            for (double[] box : boxes) {
+                if (box[0] - PADDING_DEGREES <= maxLatitude && box[2] + PADDING_DEGREES >= minLatitude
+                        && box[1] - PADDING_DEGREES <= maxLongitude && box[3] + PADDING_DEGREES >= minLongitude) {
+                    areas.add(area);
+                    return;
+                }
+            }
+        });
+        return areas;
+    }
+
+    private static void add(String area, double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        double[] box = {minLatitude, minLongitude, maxLatitude, maxLongitude};
+        BOUNDS.merge(area, new double[][] {box}, (existing, added) -> {
+            double[][] merged = new double[existing.length + 1][];
+            System.arraycopy(existing, 0, merged, 0, existing.length);
+            merged[existing.length] = box;
+            return merged;
+        });
+    }
+}
@@ -3,6 +3,8 @@ package com.weather.alert.domain.service;
 import com.weather.alert.domain.model.Alert;
 import com.weather.alert.domain.model.AlertCriteria;
 import com.weather.alert.domain.model.AlertCriteriaState;
+import com.weather.alert.domain.model.CriteriaPartitionSelector;
+import com.weather.alert.domain.model.GridPoint;
 import com.weather.alert.domain.model.WeatherData;
 import com.weather.alert.domain.port.AlertCriteriaRepositoryPort;
 import com.weather.alert.domain.port.AlertCriteriaStateRepositoryPort;
@@ -12,19 +14,41 @@ import com.weather.alert.domain.port.WeatherDataPort;
 import com.weather.alert.domain.port.WeatherDataSearchPort;
 import com.weather.alert.domain.port.WeatherFetchResult;
 import com.weather.alert.domain.service.evaluation.AlertCriteriaRuleEvaluator;
+import com.weather.alert.domain.service.evaluation.AlertGeometryIndex;
+import com.weather.alert.domain.service.evaluation.CompiledAlertCriteria;
+import com.weather.alert.domain.service.evaluation.CriteriaAttributeIndex;
+import com.weather.alert.domain.service.evaluation.CriteriaBitmap;
+import com.weather.alert.domain.service.evaluation.CriteriaSpatialIndex;
+import com.weather.alert.domain.service.evaluation.CriteriaTextIndex;
+import com.weather.alert.domain.service.evaluation.CriteriaZoneIndex;
+import com.weather.alert.domain.service.evaluation.ForecastThresholdColumns;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Domain service for processing weather alerts
@@ -45,88 +69,130 @@ public class AlertProcessingService {
     private final AlertCriteriaRuleEvaluator criteriaRuleEvaluator;
     private final MeterRegistry meterRegistry;
 
+    @Value("${app.alert-processing.parallelism:1}")
+    private int parallelism = 1;
+
+    @Value("${app.alert-processing.state-touch-interval-minutes:60}")
+    private long stateTouchIntervalMinutes = 60;
+
+    @Value("${app.alert-processing.pipeline.queue-capacity:256}")
+    private int pipelineQueueCapacity = 256;
+
+    @Value("${app.alert-processing.pipeline.persist-workers:2}")
+    private int persistWorkers = 2;
+
+    @Value("${app.alert-processing.pipeline.publish-workers:2}")
+    private int publishWorkers = 2;
+
+    @Value("${app.alert-processing.pipeline.index-workers:2}")
+    private int indexWorkers = 2;
+
+    @Value("${app.alert-processing.alert-feed.partitioned:false}")
+    private boolean partitionedAlertFeed = false;
+
+    @Value("${app.alert-processing.alert-feed.max-areas:8}")
+    private int alertFeedMaxAreas = 8;
+
+    private final Map<String, AtomicInteger> pipelineQueueDepths = new ConcurrentHashMap<>();
+
     /**
      * Process weather data and generate alerts based on user criteria
      */
     public void processWeatherAlerts() {
+        processWeatherAlerts(CriteriaPartitionSelector.all());
+    }
+
+    /**
+     * Process weather data for the criteria in the selected hash partitions only. Used when several instances
+     * share the evaluation work and each one holds leases on a subset of the partitions.
+     * <p>
+     * The cycle runs as a pipeline of bounded stages so NOAA fetching, Postgres writes, Kafka publishing and
+     * Elasticsearch indexing overlap instead of serialising behind each other:
+     * <ol>
+     *   <li>{@code evaluate}: criteria pages, condition fetches and state decisions</li>
+     *   <li>{@code persist}: alert dedupe/save and the batch's criteria state write</li>
+     *   <li>{@code publish}: Kafka publication of saved alerts</li>
+     *   <li>{@code index}: Elasticsearch indexing of fetched weather data</li>
+     * </ol>
+     * If criteria paging fails part way, closing the stages in the same order still persists, publishes and indexes
+     * everything already handed to the pipeline before the failure propagates.
+     */
+    public void processWeatherAlerts(CriteriaPartitionSelector partitions) {
         Timer.Sample processingTimer = Timer.start(meterRegistry);
         try {
-            log.info("Starting weather alert processing");
+            if (partitions.coversAll()) {
+                log.info("Starting weather alert processing");
+            } else {
+                log.info(
+                        "Starting weather alert processing for criteria partitions {} of {}",
+                        partitions.partitions(),
+                        partitions.partitionCount());
+            }
 
-            WeatherFetchResult<List<WeatherData>> activeAlertsResult = weatherDataPort.fetchActiveAlertsWithStatus();
+            CycleCriteria cycleCriteria = new CycleCriteria(partitions);
+            WeatherFetchResult<List<WeatherData>> activeAlertsResult = fetchActiveAlerts(cycleCriteria::get);
             List<WeatherData> activeWeatherAlerts = activeAlertsResult.data() == null ? List.of() : activeAlertsResult.data();
             log.info(
                     "Fetched {} active NOAA weather alerts (providerSuccess={})",
                     activeWeatherAlerts.size(),
                     activeAlertsResult.successful());
+            AlertGeometryIndex geometryIndex = AlertGeometryIndex.build(activeWeatherAlerts);
+            CycleAlertMatches cycleAlertMatches = activeWeatherAlerts.isEmpty()
+                    ? CycleAlertMatches.NONE
+                    : CycleAlertMatches.of(
+                            cycleCriteria.get(),
+                            matchActiveAlerts(cycleCriteria.get(), activeWeatherAlerts, geometryIndex));
+            cycleCriteria.release();
             if (!activeAlertsResult.successful()) {
                 log.warn("NOAA active alerts unavailable. reason={}", safeValue(activeAlertsResult.failureReason()));
             }
 
-            activeWeatherAlerts.forEach(searchPort::indexWeatherData);
-
-            List<AlertCriteria> allCriteria = criteriaRepository.findAllEnabled();
-            log.info("Found {} enabled alert criteria", allCriteria.size());
-
-            int generatedAlertCount = 0;
-            int metCount = 0;
-            int notMetCount = 0;
-            int unavailableCount = 0;
-            int suppressedCount = 0;
-
-            HashMap<CoordinateKey, WeatherFetchResult<Optional<WeatherData>>> currentConditionsCache = new HashMap<>();
-            HashMap<ForecastKey, WeatherFetchResult<List<WeatherData>>> forecastConditionsCache = new HashMap<>();
-
-            List<List<AlertCriteria>> batches = partition(allCriteria, CRITERIA_BATCH_SIZE);
-            for (int i = 0; i < batches.size(); i++) {
-                List<AlertCriteria> batch = batches.get(i);
-                log.info("Processing criteria batch {}/{} (size={})", i + 1, batches.size(), batch.size());
-
-                for (AlertCriteria criteria : batch) {
-                    meterRegistry.counter("weather.alert.criteria.evaluated").increment();
-
-                    CriteriaEvaluation evaluation = evaluateCriteria(
-                            criteria,
-                            activeWeatherAlerts,
-                            activeAlertsResult.successful(),
-                            activeAlertsResult.failureReason(),
-                            currentConditionsCache,
-                            forecastConditionsCache);
-
-                    switch (evaluation.status()) {
-                        case MET -> {
-                            metCount++;
-                            meterRegistry.counter("weather.alert.criteria.met").increment();
-                        }
-                        case NOT_MET -> {
-                            notMetCount++;
-                            meterRegistry.counter("weather.alert.criteria.not_met").increment();
-                        }
-                        case UNAVAILABLE -> {
-                            unavailableCount++;
-                            meterRegistry.counter("weather.alert.criteria.unavailable").increment();
-                        }
-                    }
-
-                    List<Alert> generatedAlerts = applyStateAndMaybeNotify(criteria, evaluation, true);
-                    if (evaluation.status() == CriteriaEvaluationStatus.MET && generatedAlerts.isEmpty()) {
-                        suppressedCount++;
-                        meterRegistry.counter("weather.alert.criteria.suppressed").increment();
-                    }
-                    if (!generatedAlerts.isEmpty()) {
-                        meterRegistry.counter("weather.alert.triggered").increment(generatedAlerts.size());
-                    }
-                    generatedAlertCount += generatedAlerts.size();
+            EvaluationTally tally = new EvaluationTally();
+            int batchCount;
+
+            try (PipelineStage<WeatherData> indexStage = newPipelineStage(
+                    "index", indexWorkers, pipelineQueueCapacity, searchPort::indexWeatherData)) {
+                ConditionFetchCache fetchCache = new ConditionFetchCache(indexStage::submit);
+                try (PipelineStage<Alert> publishStage = newPipelineStage(
+                        "publish", publishWorkers, pipelineQueueCapacity, notificationPort::publishAlert);
+                     PipelineStage<BatchOutcome> persistStage = newPipelineStage(
+                             "persist", persistWorkers, pipelineQueueCapacity,
+                             outcome -> persistBatchOutcome(outcome, publishStage::submit, tally));
+                     PipelineStage<CriteriaBatch> evaluateStage = newPipelineStage(
+                             "evaluate", parallelism, Math.max(parallelism, 1) * 2,
+                             batch -> evaluateCriteriaBatch(
+                                     batch,
+                                     cycleAlertMatches,
+                                     activeWeatherAlerts,
+                                     geometryIndex,
+                                     activeAlertsResult,
+                                     fetchCache,
+                                     tally,
+                                     persistStage::submit))) {
+                    activeWeatherAlerts.forEach(indexStage::submit);
+                    batchCount = forEachEnabledCriteriaBatch(
+                            partitions,
+                            (batchNumber, batch) -> evaluateStage.submit(new CriteriaBatch(batchNumber, batch)));
+                    awaitStages(evaluateStage, persistStage, publishStage, indexStage);
                 }
+                log.info("Evaluated {} enabled alert criteria in {} batches", tally.evaluated.sum(), batchCount);
+                log.debug(
+                        "Condition fetches this cycle: gridpoints={}, currentByGridpoint={}, forecastByGridpoint={}, "
+                                + "currentByCoordinate={}, forecastByCoordinate={}",
+                        fetchCache.gridPoints.size(),
+                        fetchCache.gridCurrentConditions.size(),
+                        fetchCache.gridForecasts.size(),
+                        fetchCache.currentConditions.size(),
+                        fetchCache.forecasts.size());
             }
 
             log.info(
                     "Weather alert processing completed: generated={}, met={}, notMet={}, unavailable={}, suppressed={}",
-                    generatedAlertCount,
-                    metCount,
-                    notMetCount,
-                    unavailableCount,
-                    suppressedCount);
+                    tally.generated.sum(),
+                    tally.met.sum(),
+                    tally.notMet.sum(),
+                    tally.unavailable.sum(),
+                    tally.suppressed.sum());
         } finally {
             processingTimer.stop(meterRegistry.timer("weather.alert.processing.duration"));
         }
@@ -143,64 +209,465 @@ public class AlertProcessingService {
 
         log.info("Running immediate evaluation for criteria {} (user={})", criteria.getId(), criteria.getUserId());
 
-        WeatherFetchResult<List<WeatherData>> activeAlertsResult = weatherDataPort.fetchActiveAlertsWithStatus();
+        WeatherFetchResult<List<WeatherData>> activeAlertsResult = fetchActiveAlerts(() -> List.of(criteria));
         List<WeatherData> activeWeatherAlerts = activeAlertsResult.data() == null ? List.of() : activeAlertsResult.data();
         activeWeatherAlerts.forEach(searchPort::indexWeatherData);
 
-        HashMap<CoordinateKey, WeatherFetchResult<Optional<WeatherData>>> currentConditionsCache = new HashMap<>();
-        HashMap<ForecastKey, WeatherFetchResult<List<WeatherData>>> forecastConditionsCache = new HashMap<>();
-
         CriteriaEvaluation evaluation = evaluateCriteria(
                 criteria,
-                activeWeatherAlerts,
+                matchActiveAlerts(List.of(criteria), activeWeatherAlerts, AlertGeometryIndex.build(activeWeatherAlerts))
+                        .get(criteria),
                 activeAlertsResult.successful(),
                 activeAlertsResult.failureReason(),
-                currentConditionsCache,
-                forecastConditionsCache);
-        List<Alert> generatedAlerts = applyStateAndMaybeNotify(criteria, evaluation, true);
+                new ConditionFetchCache(searchPort::indexWeatherData),
+                null);
+        CriteriaStateBatch stateBatch = new CriteriaStateBatch(List.of(criteria));
+        List<Alert> generatedAlerts = new ArrayList<>();
+        try {
+            applyStateTransition(criteria, evaluation, stateBatch)
+                    .flatMap(alert -> persistAlert(criteria, alert))
+                    .ifPresent(savedAlert -> {
+                        notificationPort.publishAlert(savedAlert);
+                        generatedAlerts.add(savedAlert);
+                    });
+        } finally {
+            stateBatch.flush();
+        }
 
         log.info("Immediate evaluation generated {} alerts for criteria {}", generatedAlerts.size(), criteria.getId());
         return generatedAlerts;
     }
 
+    /**
+     * The national active alert feed, or with {@code app.alert-processing.alert-feed.partitioned} only the NOAA
+     * areas the given criteria can reach (see {@link PartitionedAlertFeed}). The criteria are only requested when
+     * partitioning; it falls back to the national feed whenever coverage cannot be narrowed.
+     */
+    private WeatherFetchResult<List<WeatherData>> fetchActiveAlerts(Supplier<List<AlertCriteria>> criteriaSource) {
+        if (!partitionedAlertFeed) {
+            return weatherDataPort.fetchActiveAlertsWithStatus();
+        }
+        PartitionedAlertFeed feed = new PartitionedAlertFeed(weatherDataPort, alertFeedMaxAreas);
+        feed.include(criteriaSource.get());
+        Optional<Set<String>> areas = feed.areas();
+        if (areas.isEmpty()) {
+            meterRegistry.counter("weather.alert.active_alert.fetches", "mode", "national").increment();
+            log.debug("Fetching the national active alert feed: criteria coverage cannot be partitioned");
+            return weatherDataPort.fetchActiveAlertsWithStatus();
+        }
+        meterRegistry.counter("weather.alert.active_alert.fetches", "mode", "partitioned").increment();
+        log.info("Fetching active alerts for {} NOAA areas: {}", areas.get().size(), areas.get());
+        return feed.fetch(areas.get());
+    }
+
+    /**
+     * Page through enabled criteria in id order, handing each page to the consumer before the next one is loaded.
+     * Criteria outside the selected partitions are dropped from each page; pages left empty are skipped.
+     *
+     * @return number of batches handed to the consumer
+     */
+    private int forEachEnabledCriteriaBatch(
+            CriteriaPartitionSelector partitions,
+            BiConsumer<Integer, List<AlertCriteria>> batchConsumer) {
+        boolean filterPartitions = !partitions.coversAll();
+        String afterId = null;
+        int batchCount = 0;
+        while (true) {
+            List<AlertCriteria> page = criteriaRepository.findEnabledAfter(afterId, CRITERIA_BATCH_SIZE);
+            if (page == null || page.isEmpty()) {
+                return batchCount;
+            }
+            List<AlertCriteria> batch = filterPartitions
+                    ? page.stream().filter(criteria -> partitions.includes(criteria.getId())).toList()
+                    : page;
+            if (!batch.isEmpty()) {
+                batchCount++;
+                batchConsumer.accept(batchCount, batch);
+            }
+            if (page.size() < CRITERIA_BATCH_SIZE) {
+                return batchCount;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+    }
+
+    /**
+     * Evaluate stage: decide the outcome of every criteria in the batch and hand the resulting state changes and
+     * alerts to the persist stage. The outcome is handed over even when evaluation fails part way, so decisions
+     * already made are still written, as they were when state was flushed in place.
+     */
+    private void evaluateCriteriaBatch(
+            CriteriaBatch batch,
+            CycleAlertMatches cycleAlertMatches,
+            List<WeatherData> activeWeatherAlerts,
+            AlertGeometryIndex geometryIndex,
+            WeatherFetchResult<List<WeatherData>> activeAlertsResult,
+            ConditionFetchCache fetchCache,
+            EvaluationTally tally,
+            Consumer<BatchOutcome> persistStage) {
+        log.info("Processing criteria batch {} (size={})", batch.number(), batch.criteria().size());
+        Map<AlertCriteria, WeatherData> activeAlertMatches =
+                batchAlertMatches(batch.criteria(), cycleAlertMatches, activeWeatherAlerts, geometryIndex);
+        prefetchConditions(CriteriaAttributeIndex.build(batch.criteria()), activeAlertMatches, fetchCache);
+        BatchOutcome outcome = new BatchOutcome(new CriteriaStateBatch(batch.criteria()), new ArrayList<>());
+        ForecastTriggers forecastTriggers = new ForecastTriggers(batch.criteria(), activeAlertMatches, fetchCache);
+        try {
+            for (AlertCriteria criteria : batch.criteria()) {
+                evaluateScheduledCriteria(
+                        criteria,
+                        activeAlertMatches.get(criteria),
+                        activeAlertsResult,
+                        fetchCache,
+                        forecastTriggers,
+                        outcome,
+                        tally);
+            }
+        } finally {
+            persistStage.accept(outcome);
+        }
+    }
+
+    private void evaluateScheduledCriteria(
+            AlertCriteria criteria,
+            WeatherData activeAlertMatch,
+            WeatherFetchResult<List<WeatherData>> activeAlertsResult,
+            ConditionFetchCache fetchCache,
+            ForecastTriggers forecastTriggers,
+            BatchOutcome outcome,
+            EvaluationTally tally) {
+        tally.evaluated.increment();
+        meterRegistry.counter("weather.alert.criteria.evaluated").increment();
+
+        CriteriaEvaluation evaluation = evaluateCriteria(
+                criteria,
+                activeAlertMatch,
+                activeAlertsResult.successful(),
+                activeAlertsResult.failureReason(),
+                fetchCache,
+                forecastTriggers);
+
+        switch (evaluation.status()) {
+            case MET -> {
+                tally.met.increment();
+                meterRegistry.counter("weather.alert.criteria.met").increment();
+            }
+            case NOT_MET -> {
+                tally.notMet.increment();
+                meterRegistry.counter("weather.alert.criteria.not_met").increment();
+            }
+            case UNAVAILABLE -> {
+                tally.unavailable.increment();
+                meterRegistry.counter("weather.alert.criteria.unavailable").increment();
+            }
+        }
+
+        Optional<Alert> pendingAlert = applyStateTransition(criteria, evaluation, outcome.stateBatch());
+        if (pendingAlert.isPresent()) {
+            outcome.pendingAlerts().add(new PendingAlert(criteria, pendingAlert.get()));
+        } else if (evaluation.status() == CriteriaEvaluationStatus.MET) {
+            recordSuppressed(tally);
+        }
+    }
+
+    /**
+     * Persist stage: save the batch's alerts, then write its criteria state. A criteria whose alert could not be
+     * saved keeps its previous state so it is retried next cycle. Saved alerts move on to the publish stage.
+     */
+    private void persistBatchOutcome(BatchOutcome outcome, Consumer<Alert> publishStage, EvaluationTally tally) {
+        RuntimeException failure = null;
+        try {
+            for (PendingAlert pending : outcome.pendingAlerts()) {
+                Optional<Alert> savedAlert;
+                try {
+                    savedAlert = persistAlert(pending.criteria(), pending.alert());
+                } catch (RuntimeException ex) {
+                    log.error("Failed to save alert for criteria {}", pending.criteria().getId(), ex);
+                    outcome.stateBatch().discardChange(pending.criteria().getId());
+                    if (failure == null) {
+                        failure = ex;
+                    }
+                    continue;
+                }
+                if (savedAlert.isEmpty()) {
+                    recordSuppressed(tally);
+                    continue;
+                }
+                meterRegistry.counter("weather.alert.triggered").increment();
+                tally.generated.increment();
+                publishStage.accept(savedAlert.get());
+            }
+        } finally {
+            outcome.stateBatch().flush();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void recordSuppressed(EvaluationTally tally) {
+        tally.suppressed.increment();
+        meterRegistry.counter("weather.alert.criteria.suppressed").increment();
+    }
+
+    private <T> PipelineStage<T> newPipelineStage(String name, int workers, int queueCapacity, Consumer<T> handler) {
+        AtomicInteger queueDepth = pipelineQueueDepths.computeIfAbsent(name, stage -> meterRegistry.gauge(
+                "weather.alert.pipeline.queue.depth",
+                Tags.of("stage", stage),
+                new AtomicInteger()));
+        return new PipelineStage<>(name, workers, queueCapacity, handler, meterRegistry, queueDepth);
+    }
+
+    /**
+     * Wait for the stages in pipeline order, so each one only stops accepting work once everything upstream has
+     * finished. Every stage is awaited even when an earlier one failed; the first failure is re-thrown.
+     */
+    private void awaitStages(PipelineStage<?>... stages) {
+        RuntimeException failure = null;
+        for (PipelineStage<?> stage : stages) {
+            try {
+                stage.awaitCompletion();
+            } catch (RuntimeException ex) {
+                if (failure == null) {
+                    failure = ex;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Drop any cached evaluation state for a criteria that no longer exists.
+     */
+    public void forgetCriteria(String criteriaId) {
+        criteriaRuleEvaluator.evict(criteriaId);
+    }
+
     /**
      * Process alerts for a specific location
      */
     public List<Alert> processAlertsForLocation(double latitude, double longitude) {
         List<WeatherData> weatherDataList = weatherDataPort.fetchAlertsForLocation(latitude, longitude);
-        List<AlertCriteria> allCriteria = criteriaRepository.findAllEnabled();
-
+        if (weatherDataList.isEmpty()) {
+            return List.of();
+        }
+        List<AlertCriteria> enabledCriteria = new CycleCriteria(CriteriaPartitionSelector.all()).get();
+        CriteriaSpatialIndex criteriaIndex = CriteriaSpatialIndex.build(enabledCriteria);
+        CriteriaZoneIndex zoneIndex = CriteriaZoneIndex.build(enabledCriteria);
+        CriteriaTextIndex textIndex = CriteriaTextIndex.build(enabledCriteria);
         List<Alert> alerts = new ArrayList<>();
         for (WeatherData weatherData : weatherDataList) {
-            for (AlertCriteria criteria : allCriteria) {
-                if (criteriaRuleEvaluator.matches(criteria, weatherData)) {
-                    saveAndPublishAlert(criteria, weatherData, false).ifPresent(alerts::add);
+            for (AlertCriteria criteria : alertCandidates(criteriaIndex, zoneIndex, textIndex, weatherData)) {
+                if (criteriaRuleEvaluator.matches(criteriaRuleEvaluator.compile(criteria), weatherData)) {
+                    persistAlert(criteria, createAlert(criteria, weatherData)).ifPresent(alerts::add);
                 }
             }
         }
         return alerts;
     }
 
+    /**
+     * Active alert matches for an evaluation batch, taken from the cycle's matches. Criteria added or updated since
+     * the cycle matched its alerts are matched here on their own.
+     */
+    private Map<AlertCriteria, WeatherData> batchAlertMatches(
+            List<AlertCriteria> batch,
+            CycleAlertMatches cycleAlertMatches,
+            List<WeatherData> activeWeatherAlerts,
+            AlertGeometryIndex geometryIndex) {
+        Map<AlertCriteria, WeatherData> matches = new IdentityHashMap<>();
+        List<AlertCriteria> unmatched = new ArrayList<>();
+        for (AlertCriteria criteria : batch) {
+            if (!cycleAlertMatches.covers(criteria)) {
+                unmatched.add(criteria);
+                continue;
+            }
+            WeatherData match = cycleAlertMatches.matchFor(criteria);
+            if (match != null) {
+                matches.put(criteria, match);
+            }
+        }
+        if (!unmatched.isEmpty()) {
+            matches.putAll(matchActiveAlerts(unmatched, activeWeatherAlerts, geometryIndex));
+        }
+        return matches;
+    }
+
+    /**
+     * Resolve the first matching active alert for each criteria. Run once per cycle over every criteria of its
+     * partitions, so the indexes are built once and each alert is looked up once. Alerts are only tested against the
+     * criteria reachable from the alert: by position through the spatial index, and by the UGC zone and county
+     * codes it was issued for through the zone index, less those whose location or event type text the text index
+     * finds missing from the alert and those the attribute index rules out (disabled, or a minimum severity above
+     * the alert's). Radius criteria are then looked up in the cycle's geometry
+     * index for alert polygons their circle reaches that come earlier in the feed than their current match.
+     */
+    private Map<AlertCriteria, WeatherData> matchActiveAlerts(
+            List<AlertCriteria> criteria,
+            List<WeatherData> activeWeatherAlerts,
+            AlertGeometryIndex geometryIndex) {
+        Map<AlertCriteria, WeatherData> matches = new IdentityHashMap<>();
+        Map<AlertCriteria, Integer> matchedAt = new IdentityHashMap<>();
+        if (criteria == null || criteria.isEmpty() || activeWeatherAlerts.isEmpty()) {
+            return matches;
+        }
+
+        CriteriaSpatialIndex criteriaIndex = CriteriaSpatialIndex.build(criteria);
+        CriteriaZoneIndex zoneIndex = CriteriaZoneIndex.build(criteria);
+        CriteriaTextIndex textIndex = CriteriaTextIndex.build(criteria);
+        CriteriaAttributeIndex attributes = CriteriaAttributeIndex.build(criteria);
+        long candidateChecks = 0;
+        CriteriaBitmap[] eligibleAt = new CriteriaBitmap[activeWeatherAlerts.size()];
+        for (int position = 0; position < activeWeatherAlerts.size(); position++) {
+            WeatherData weatherData = activeWeatherAlerts.get(position);
+            CriteriaBitmap eligible = attributes.alertEligible(weatherData);
+            eligibleAt[position] = eligible;
+            if (eligible.isEmpty()) {
+                continue;
+            }
+            for (AlertCriteria candidate : alertCandidates(criteriaIndex, zoneIndex, textIndex, weatherData)) {
+                if (matches.containsKey(candidate) || !eligible.contains(attributes.ordinal(candidate))) {
+                    continue;
+                }
+                candidateChecks++;
+                if (criteriaRuleEvaluator.matches(criteriaRuleEvaluator.compile(candidate), weatherData)) {
+                    matches.put(candidate, weatherData);
+                    matchedAt.put(candidate, position);
+                }
+            }
+        }
+        if (geometryIndex.size() > 0) {
+            for (AlertCriteria candidate : criteria) {
+                Integer matchedPosition = matchedAt.get(candidate);
+                for (int position : geometryIndex.candidates(candidate)) {
+                    if (matchedPosition != null && position >= matchedPosition) {
+                        break;
+                    }
+                    if (!eligibleAt[position].contains(attributes.ordinal(candidate))) {
+                        continue;
+                    }
+                    WeatherData weatherData = activeWeatherAlerts.get(position);
+                    candidateChecks++;
+                    if (criteriaRuleEvaluator.matches(criteriaRuleEvaluator.compile(candidate), weatherData)) {
+                        matches.put(candidate, weatherData);
+                        break;
+                    }
+                }
+            }
+        }
+        meterRegistry.counter("weather.alert.active_alert.candidate_checks").increment(candidateChecks);
+        log.debug(
+                "Matched {} active alerts against {} criteria with {} candidate checks ({} criteria matched)",
+                activeWeatherAlerts.size(),
+                criteriaIndex.size(),
+                candidateChecks,
+                matches.size());
+        return matches;
+    }
+
+    /**
+     * Criteria an alert may match. The zone index holds only criteria the spatial index leaves out, so the two
+     * never return the same criteria. The alert's text is scanned once to drop the candidates whose required text does not occur in it.
+     */
+    private static List<AlertCriteria> alertCandidates(
+            CriteriaSpatialIndex criteriaIndex,
+            CriteriaZoneIndex zoneIndex,
+            CriteriaTextIndex textIndex,
+            WeatherData weatherData) {
+        List<AlertCriteria> byPosition = criteriaIndex.candidates(weatherData.getLatitude(), weatherData.getLongitude());
+        List<AlertCriteria> byZone = zoneIndex.candidates(weatherData.getZoneCodes());
+        if (byZone.isEmpty()) {
+            return textIndex.filter(byPosition, weatherData);
+        }
+        List<AlertCriteria> candidates = new ArrayList<>(byPosition.size() + byZone.size());
+        candidates.addAll(byPosition);
+        candidates.addAll(byZone);
+        return textIndex.filter(candidates, weatherData);
+    }
+
+    /**
+     * Start every condition fetch the batch will need without waiting on any of them, so they overlap on the
+     * provider's non-blocking client. Evaluation then reads the same single-flight entries and only waits for
+     * fetches still in progress. Fetch failures surface during evaluation, exactly as without prefetching.
+     */
+    private void prefetchConditions(
+            CriteriaAttributeIndex attributes,
+            Map<AlertCriteria, WeatherData> activeAlertMatches,
+            ConditionFetchCache fetchCache) {
+        CriteriaBitmap monitorsNothing = attributes.with(CriteriaAttributeIndex.Flag.MONITOR_CURRENT, false)
+                .and(attributes.with(CriteriaAttributeIndex.Flag.MONITOR_FORECAST, false));
+        CriteriaBitmap monitored = attributes.with(CriteriaAttributeIndex.Flag.ENABLED, true)
+                .and(attributes.with(CriteriaAttributeIndex.Flag.WEATHER_CONDITION_RULES, true))
+                .andNot(monitorsNothing);
+        for (AlertCriteria criteria : attributes.criteria(monitored)) {
+            if (activeAlertMatches.containsKey(criteria)
+                    || criteria.getLatitude() == null
+                    || criteria.getLongitude() == null) {
+                continue;
+            }
+            boolean monitorCurrent = shouldMonitorCurrent(criteria);
+            boolean monitorForecast = shouldMonitorForecast(criteria);
+            int forecastWindowHours = normalizeForecastWindowHours(criteria.getForecastWindowHours());
+            fetchCache.gridPoints.getAsync(
+                    CoordinateKey.rounded(criteria.getLatitude(), criteria.getLongitude()),
+                    key -> weatherDataPort.resolveGridPointAsync(key.latitude(), key.longitude()))
+                    .thenAccept(gridPointResult -> {
+                        if (gridPointResult == null || !gridPointResult.successful()) {
+                            return;
+                        }
+                        GridPoint gridPoint = gridPointResult.data() == null ? null : gridPointResult.data().orElse(null);
+                        if (monitorCurrent) {
+                            prefetchCurrentConditions(criteria, gridPoint, fetchCache);
+                        }
+                        if (monitorForecast) {
+                            prefetchForecastConditions(criteria, forecastWindowHours, gridPoint, fetchCache);
+                        }
+                    });
+        }
+    }
+
+    private void prefetchCurrentConditions(AlertCriteria criteria, GridPoint gridPoint, ConditionFetchCache fetchCache) {
+        if (gridPoint != null) {
+            fetchCache.gridCurrentConditions.getAsync(gridPoint, weatherDataPort::fetchCurrentConditionsAsync);
+            return;
+        }
+        fetchCache.currentConditions.getAsync(
+                new CoordinateKey(criteria.getLatitude(), criteria.getLongitude()),
+                key -> weatherDataPort.fetchCurrentConditionsAsync(key.latitude(), key.longitude()));
+    }
+
+    private void prefetchForecastConditions(
+            AlertCriteria criteria,
+            int forecastWindowHours,
+            GridPoint gridPoint,
+            ConditionFetchCache fetchCache) {
+        if (gridPoint != null) {
+            fetchCache.gridForecasts.getAsync(gridPoint, weatherDataPort::fetchForecastConditionsAsync);
+            return;
+        }
+        fetchCache.forecasts.getAsync(
+                new ForecastKey(criteria.getLatitude(), criteria.getLongitude(), forecastWindowHours),
+                key -> weatherDataPort.fetchForecastConditionsAsync(key.latitude(), key.longitude(), key.windowHours()));
+    }
+
     private CriteriaEvaluation evaluateCriteria(
             AlertCriteria criteria,
-            List<WeatherData> activeWeatherAlerts,
+            WeatherData activeAlertMatch,
             boolean activeAlertsSuccessful,
             String activeAlertsFailureReason,
-            HashMap<CoordinateKey, WeatherFetchResult<Optional<WeatherData>>> currentConditionsCache,
-            HashMap<ForecastKey, WeatherFetchResult<List<WeatherData>>> forecastConditionsCache) {
+            ConditionFetchCache fetchCache,
+            ForecastTriggers forecastTriggers) {
         if (criteria == null || !Boolean.TRUE.equals(criteria.getEnabled())) {
             return CriteriaEvaluation.notMet("criteria disabled");
         }
 
-        Optional<WeatherData> activeAlertMatch = activeWeatherAlerts.stream()
-                .filter(weatherData -> criteriaRuleEvaluator.matches(criteria, weatherData))
-                .findFirst();
-        if (activeAlertMatch.isPresent()) {
-            return CriteriaEvaluation.met(activeAlertMatch.get(), "active alert match");
+        if (activeAlertMatch != null) {
+            return CriteriaEvaluation.met(activeAlertMatch, "active alert match");
         }
 
-        boolean hasConditionRules = criteriaRuleEvaluator.hasWeatherConditionRules(criteria);
-        if (!hasConditionRules) {
+        CompiledAlertCriteria compiled = criteriaRuleEvaluator.compile(criteria);
+        if (!compiled.hasWeatherConditionRules()) {
             if (!activeAlertsSuccessful) {
                 return CriteriaEvaluation.unavailable("active alerts unavailable: " + safeValue(activeAlertsFailureReason));
             }
@@ -217,42 +684,54 @@ public class AlertProcessingService {
             unavailableReasons.add("active alerts unavailable");
         }
 
-        if (shouldMonitorCurrent(criteria)) {
-            CoordinateKey key = new CoordinateKey(criteria.getLatitude(), criteria.getLongitude());
-            WeatherFetchResult<Optional<WeatherData>> currentResult = currentConditionsCache.computeIfAbsent(
-                    key,
-                    coordinateKey -> weatherDataPort.fetchCurrentConditionsWithStatus(coordinateKey.latitude(), coordinateKey.longitude()));
+        boolean monitorCurrent = shouldMonitorCurrent(criteria);
+        boolean monitorForecast = shouldMonitorForecast(criteria);
+        GridPoint gridPoint = null;
+        if (monitorCurrent || monitorForecast) {
+            WeatherFetchResult<Optional<GridPoint>> gridPointResult = fetchCache.gridPoints.get(
+                    CoordinateKey.rounded(criteria.getLatitude(), criteria.getLongitude()),
+                    coordinateKey -> weatherDataPort.resolveGridPointWithStatus(coordinateKey.latitude(), coordinateKey.longitude()));
+            if (gridPointResult != null && !gridPointResult.successful()) {
+                unavailableReasons.add("point metadata unavailable: " + safeValue(gridPointResult.failureReason()));
+                return CriteriaEvaluation.unavailable(String.join("; ", unavailableReasons));
+            }
+            if (gridPointResult != null && gridPointResult.data() != null) {
+                gridPoint = gridPointResult.data().orElse(null);
+            }
+        }
+
+        if (monitorCurrent) {
+            WeatherFetchResult<Optional<WeatherData>> currentResult = fetchCurrentConditions(criteria, gridPoint, fetchCache);
             if (!currentResult.successful()) {
                 unavailableReasons.add("current conditions unavailable: " + safeValue(currentResult.failureReason()));
             } else {
                 Optional<WeatherData> current = currentResult.data() == null ? Optional.empty() : currentResult.data();
-                current.ifPresent(searchPort::indexWeatherData);
-                if (current.isPresent() && criteriaRuleEvaluator.matches(criteria, current.get())) {
+                if (current.isPresent() && compiled.matchesAtOwnLocation(current.get())) {
                     return CriteriaEvaluation.met(current.get(), "current conditions match");
                 }
             }
         }
 
-        if (shouldMonitorForecast(criteria)) {
+        if (monitorForecast) {
             int forecastWindowHours = normalizeForecastWindowHours(criteria.getForecastWindowHours());
-            ForecastKey key = new ForecastKey(criteria.getLatitude(), criteria.getLongitude(), forecastWindowHours);
-            WeatherFetchResult<List<WeatherData>> forecastResult = forecastConditionsCache.computeIfAbsent(
-                    key,
-                    forecastKey -> weatherDataPort.fetchForecastConditionsWithStatus(
-                            forecastKey.latitude(),
-                            forecastKey.longitude(),
-                            forecastKey.windowHours()));
-
+            WeatherFetchResult<List<WeatherData>> forecastResult =
+                    fetchForecastConditions(criteria, forecastWindowHours, gridPoint, fetchCache);
             if (!forecastResult.successful()) {
                 unavailableReasons.add("forecast unavailable: " + safeValue(forecastResult.failureReason()));
             } else {
                 List<WeatherData> forecast = forecastResult.data() == null ? List.of() : forecastResult.data();
-                forecast.forEach(searchPort::indexWeatherData);
-                Optional<WeatherData> forecastMatch = forecast.stream()
-                        .filter(weatherData -> criteriaRuleEvaluator.matches(criteria, weatherData))
-                        .findFirst();
-                if (forecastMatch.isPresent()) {
-                    return CriteriaEvaluation.met(forecastMatch.get(), "forecast match");
+                Instant cutoff = Instant.now().plusSeconds(forecastWindowHours * 3600L);
+                int firstPeriod = forecastTriggers == null
+                        ? 0
+                        : forecastTriggers.firstTriggeredPeriod(criteria, gridPoint, forecast);
+                for (int period = firstPeriod; period < forecast.size(); period++) {
+                    WeatherData weatherData = forecast.get(period);
+                    if (weatherData.getOnset() != null && weatherData.getOnset().isAfter(cutoff)) {
+                        continue;
+                    }
+                    if (compiled.matchesAtOwnLocation(weatherData)) {
+                        return CriteriaEvaluation.met(weatherData, "forecast match");
+                    }
                 }
             }
         }
@@ -263,9 +742,76 @@ public class AlertProcessingService {
         return CriteriaEvaluation.notMet("no condition match");
     }
 
-    private List<Alert> applyStateAndMaybeNotify(AlertCriteria criteria, CriteriaEvaluation evaluation, boolean publish) {
+    /**
+     * Current conditions for the criteria, shared per gridpoint when the provider resolved one and per exact
+     * coordinate otherwise. Fetched data is indexed once per fetch, not once per criteria.
+     */
+    private WeatherFetchResult<Optional<WeatherData>> fetchCurrentConditions(
+            AlertCriteria criteria,
+            GridPoint gridPoint,
+            ConditionFetchCache fetchCache) {
+        if (gridPoint != null) {
+            return indexCurrentConditions(
+                    fetchCache.gridCurrentConditions.get(gridPoint, weatherDataPort::fetchCurrentConditionsWithStatus),
+                    fetchCache);
+        }
+        return indexCurrentConditions(
+                fetchCache.currentConditions.get(
+                        new CoordinateKey(criteria.getLatitude(), criteria.getLongitude()),
+                        key -> weatherDataPort.fetchCurrentConditionsWithStatus(key.latitude(), key.longitude())),
+                fetchCache);
+    }
+
+    /**
+     * Forecast for the criteria. With a gridpoint the full forecast is fetched once and each criteria slices
+     * its own window; otherwise the provider is asked for the criteria's coordinate and window.
+     */
+    private WeatherFetchResult<List<WeatherData>> fetchForecastConditions(
+            AlertCriteria criteria,
+            int forecastWindowHours,
+            GridPoint gridPoint,
+            ConditionFetchCache fetchCache) {
+        if (gridPoint != null) {
+            return indexForecast(
+                    fetchCache.gridForecasts.get(gridPoint, weatherDataPort::fetchForecastConditionsWithStatus),
+                    fetchCache);
+        }
+        return indexForecast(
+                fetchCache.forecasts.get(
+                        new ForecastKey(criteria.getLatitude(), criteria.getLongitude(), forecastWindowHours),
+                        key -> weatherDataPort.fetchForecastConditionsWithStatus(
+                                key.latitude(), key.longitude(), key.windowHours())),
+                fetchCache);
+    }
+
+    private WeatherFetchResult<Optional<WeatherData>> indexCurrentConditions(
+            WeatherFetchResult<Optional<WeatherData>> result,
+            ConditionFetchCache fetchCache) {
+        if (result != null && result.successful() && result.data() != null && fetchCache.firstRead(result)) {
+            result.data().ifPresent(fetchCache.indexer);
+        }
+        return result;
+    }
+
+    private WeatherFetchResult<List<WeatherData>> indexForecast(
+            WeatherFetchResult<List<WeatherData>> result,
+            ConditionFetchCache fetchCache) {
+        if (result != null && result.successful() && result.data() != null && fetchCache.firstRead(result)) {
+            result.data().forEach(fetchCache.indexer);
+        }
+        return result;
+    }
+
+    /**
+     * Apply the anti-spam state machine to an evaluation. Returns the alert to raise, not yet saved, when the
+     * criteria should notify; the caller persists and publishes it.
+     */
+    private Optional<Alert> applyStateTransition(
+            AlertCriteria criteria,
+            CriteriaEvaluation evaluation,
+            CriteriaStateBatch stateBatch) {
         if (criteria == null || criteria.getId() == null || criteria.getId().isBlank()) {
-            return List.of();
+            return Optional.empty();
         }
 
         if (evaluation.status() == CriteriaEvaluationStatus.UNAVAILABLE) {
@@ -273,26 +819,20 @@ public class AlertProcessingService {
                     "Skipping state transition for criteria {} due to unavailable data. reason={}",
                     criteria.getId(),
                     safeValue(evaluation.reason()));
-            return List.of();
+            return Optional.empty();
         }
 
         Instant now = Instant.now();
-        AlertCriteriaState state = criteriaStateRepository.findByCriteriaId(criteria.getId())
-                .orElseGet(() -> AlertCriteriaState.builder()
-                        .criteriaId(criteria.getId())
-                        .lastConditionMet(false)
-                        .createdAt(now)
-                        .updatedAt(now)
-                        .build());
+        AlertCriteriaState state = stateBatch.stateFor(criteria.getId(), now);
 
         if (!evaluation.conditionMet()) {
             if (Boolean.TRUE.equals(state.getLastConditionMet())) {
                 state.setLastConditionMet(false);
                 state.setUpdatedAt(now);
-                criteriaStateRepository.save(state);
+                stateBatch.markChanged(state);
             }
             log.debug("Criteria {} evaluated outcome=NOT_MET reason={}", criteria.getId(), safeValue(evaluation.reason()));
-            return List.of();
+            return Optional.empty();
         }
 
         WeatherData matchedWeatherData = evaluation.matchedWeatherData();
@@ -312,27 +852,28 @@ public class AlertProcessingService {
         }
 
         if (shouldNotify) {
-            Optional<Alert> savedAlert = saveAndPublishAlert(criteria, matchedWeatherData, publish);
+            Alert alert = createAlert(criteria, matchedWeatherData);
             state.setLastConditionMet(true);
             state.setLastEventSignature(eventSignature);
             state.setLastNotifiedAt(now);
             state.setUpdatedAt(now);
-            criteriaStateRepository.save(state);
+            stateBatch.markChanged(state);
             log.info(
                     "Criteria decision outcome=TRIGGERED criteriaId={} eventSignature={}",
                     criteria.getId(),
                     eventSignature);
-            return savedAlert.map(List::of).orElseGet(List::of);
+            return Optional.of(alert);
         }
 
         // Keep the state "not met" while still in cooldown after a fresh condition edge, so it can fire later.
-        if (!wasMet && !cooldownElapsed) {
-            state.setLastConditionMet(false);
+        boolean stillMet = wasMet || cooldownElapsed;
+        if (stillMet != wasMet || !stateBatch.isPersisted(state.getCriteriaId()) || isStateTouchDue(state, now)) {
+            state.setLastConditionMet(stillMet);
+            state.setUpdatedAt(now);
+            stateBatch.markChanged(state);
         } else {
-            state.setLastConditionMet(true);
+            stateBatch.markUnchanged();
         }
-        state.setUpdatedAt(now);
-        criteriaStateRepository.save(state);
         log.info(
                 "Criteria decision outcome=SUPPRESSED criteriaId={} eventSignature={} oncePerEvent={} signatureChanged={} cooldownElapsed={}",
                 criteria.getId(),
@@ -340,7 +881,19 @@ public class AlertProcessingService {
                 oncePerEvent,
                 signatureChanged,
                 cooldownElapsed);
-        return List.of();
+        return Optional.empty();
+    }
+
+    /**
+     * Unchanged states are still rewritten periodically so retention, which deletes by {@code updatedAt},
+     * does not drop the state of a condition that has been met for a long time.
+     */
+    private boolean isStateTouchDue(AlertCriteriaState state, Instant now) {
+        if (state.getUpdatedAt() == null) {
+            return true;
+        }
+        long touchIntervalMinutes = Math.max(stateTouchIntervalMinutes, 0);
+        return !state.getUpdatedAt().plusSeconds(touchIntervalMinutes * 60L).isAfter(now);
     }
 
     private boolean isCooldownElapsed(AlertCriteria criteria, AlertCriteriaState state, Instant now) {
@@ -373,8 +926,10 @@ public class AlertProcessingService {
         return value == null ? "unknown" : value;
     }
 
-    private Optional<Alert> saveAndPublishAlert(AlertCriteria criteria, WeatherData weatherData, boolean publish) {
-        Alert alert = createAlert(criteria, weatherData);
+    /**
+     * Save the alert unless one with the same event key already exists for the criteria.
+     */
+    private Optional<Alert> persistAlert(AlertCriteria criteria, Alert alert) {
         Optional<Alert> existing = alertRepository.findByCriteriaIdAndEventKey(criteria.getId(), alert.getEventKey());
         if (existing.isPresent()) {
             meterRegistry.counter("weather.alert.criteria.deduped").increment();
@@ -383,9 +938,6 @@ public class AlertProcessingService {
         }
 
         Alert savedAlert = alertRepository.save(alert);
-        if (publish) {
-            notificationPort.publishAlert(savedAlert);
-        }
         log.info(
                 "Generated alert {} for user {} based on criteria {} (eventKey={})",
                 savedAlert.getId(),
@@ -485,18 +1037,6 @@ public class AlertProcessingService {
         return Instant.now();
     }
 
-    private List<List<AlertCriteria>> partition(List<AlertCriteria> criteria, int batchSize) {
-        if (criteria == null || criteria.isEmpty()) {
-            return List.of();
-        }
-        List<List<AlertCriteria>> partitions = new ArrayList<>();
-        for (int start = 0; start < criteria.size(); start += batchSize) {
-            int end = Math.min(start + batchSize, criteria.size());
-            partitions.add(criteria.subList(start, end));
-        }
-        return partitions;
-    }
-
     private enum CriteriaEvaluationStatus {
         MET,
         NOT_MET,
@@ -525,7 +1065,281 @@ public class AlertProcessingService {
         }
     }
 
+    private static final class EvaluationTally {
+        private final LongAdder evaluated = new LongAdder();
+        private final LongAdder generated = new LongAdder();
+        private final LongAdder met = new LongAdder();
+        private final LongAdder notMet = new LongAdder();
+        private final LongAdder unavailable = new LongAdder();
+        private final LongAdder suppressed = new LongAdder();
+    }
+
+    /**
+     * Criteria state for one evaluation batch: loaded with a single query, mutated in memory, and written back
+     * with a single bulk save containing only the states that changed. Owned by one thread at a time: the evaluate
+     * worker that builds it, then the persist worker that flushes it.
+     */
+    private final class CriteriaStateBatch {
+        private final Map<String, AlertCriteriaState> persisted;
+        private final Map<String, AlertCriteriaState> working = new HashMap<>();
+        private final Map<String, AlertCriteriaState> changed = new LinkedHashMap<>();
+        private int unchangedCount;
+
+        private CriteriaStateBatch(List<AlertCriteria> criteria) {
+            List<String> criteriaIds = new ArrayList<>(criteria.size());
+            for (AlertCriteria item : criteria) {
+                if (item != null && item.getId() != null && !item.getId().isBlank()) {
+                    criteriaIds.add(item.getId());
+                }
+            }
+            Map<String, AlertCriteriaState> loaded = criteriaIds.isEmpty()
+                    ? Map.of()
+                    : criteriaStateRepository.findByCriteriaIds(criteriaIds);
+            this.persisted = loaded == null ? Map.of() : loaded;
+        }
+
+        private AlertCriteriaState stateFor(String criteriaId, Instant now) {
+            return working.computeIfAbsent(criteriaId, id -> {
+                AlertCriteriaState existing = persisted.get(id);
+                if (existing != null) {
+                    return existing;
+                }
+                return AlertCriteriaState.builder()
+                        .criteriaId(id)
+                        .lastConditionMet(false)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build();
+            });
+        }
+
+        private boolean isPersisted(String criteriaId) {
+            return persisted.containsKey(criteriaId);
+        }
+
+        private void markChanged(AlertCriteriaState state) {
+            changed.put(state.getCriteriaId(), state);
+        }
+
+        private void markUnchanged() {
+            unchangedCount++;
+        }
+
+        /**
+         * Drop a pending change so the previously persisted state is kept.
+         */
+        private void discardChange(String criteriaId) {
+            changed.remove(criteriaId);
+        }
+
+        private void flush() {
+            if (!changed.isEmpty()) {
+                criteriaStateRepository.saveAll(new ArrayList<>(changed.values()));
+            }
+            meterRegistry.summary("weather.alert.criteria.state.writes_avoided").record(unchangedCount);
+            log.debug("Flushed criteria state batch: written={}, unchanged={}", changed.size(), unchangedCount);
+            changed.clear();
+            unchangedCount = 0;
+        }
+    }
+
+    /**
+     * Per-cycle fetch caches shared by all evaluation workers. Fetched weather data goes to the indexer once per
+     * fetch.
+     */
+    private static final class ConditionFetchCache {
+        private final Consumer<WeatherData> indexer;
+        private final SingleFlightCache<CoordinateKey, WeatherFetchResult<Optional<GridPoint>>> gridPoints =
+                new SingleFlightCache<>();
+        private final SingleFlightCache<GridPoint, WeatherFetchResult<Optional<WeatherData>>> gridCurrentConditions =
+                new SingleFlightCache<>();
+        private final SingleFlightCache<GridPoint, WeatherFetchResult<List<WeatherData>>> gridForecasts =
+                new SingleFlightCache<>();
+        private final SingleFlightCache<CoordinateKey, WeatherFetchResult<Optional<WeatherData>>> currentConditions =
+                new SingleFlightCache<>();
+        private final SingleFlightCache<ForecastKey, WeatherFetchResult<List<WeatherData>>> forecasts =
+                new SingleFlightCache<>();
+
+        private final Set<WeatherFetchResult<?>> readResults =
+                Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+        private ConditionFetchCache(Consumer<WeatherData> indexer) {
+            this.indexer = indexer;
+        }
+
+        /**
+         * True for the first evaluation to read a fetched result. Indexing happens on that read, on an
+         * evaluation worker, rather than on the provider thread that completed a prefetch.
+         */
+        private boolean firstRead(WeatherFetchResult<?> result) {
+            return readResults.add(result);
+        }
+    }
+
+    /**
+     * Where each criteria of a batch starts scanning its gridpoint's forecast. The first time a gridpoint's forecast
+     * is read, the trigger thresholds of the batch criteria already resolved to that gridpoint are put in
+     * {@link ForecastThresholdColumns}, which yields the first period each of them can match at. Criteria whose
+     * gridpoint was not resolved yet, or that have no gridpoint, scan from the first period. Used by the single
+     * worker evaluating the batch.
+     */
+    private final class ForecastTriggers {
+        private final List<AlertCriteria> criteria;
+        private final Map<AlertCriteria, WeatherData> activeAlertMatches;
+        private final ConditionFetchCache fetchCache;
+        private final Map<GridPoint, GridPointTriggers> byGridPoint = new HashMap<>();
+
+        private ForecastTriggers(
+                List<AlertCriteria> criteria,
+                Map<AlertCriteria, WeatherData> activeAlertMatches,
+                ConditionFetchCache fetchCache) {
+            this.criteria = criteria;
+            this.activeAlertMatches = activeAlertMatches;
+            this.fetchCache = fetchCache;
+        }
+
+        private int firstTriggeredPeriod(AlertCriteria evaluated, GridPoint gridPoint, List<WeatherData> forecast) {
+            if (gridPoint == null) {
+                return 0;
+            }
+            return byGridPoint.computeIfAbsent(gridPoint, this::resolvedMembers).firstTriggeredPeriod(evaluated, forecast);
+        }
+
+        private GridPointTriggers resolvedMembers(GridPoint gridPoint) {
+            Map<AlertCriteria, Integer> positions = new IdentityHashMap<>();
+            List<CompiledAlertCriteria> members = new ArrayList<>();
+            for (AlertCriteria item : criteria) {
+                if (activeAlertMatches.containsKey(item)
+                        || !Boolean.TRUE.equals(item.getEnabled())
+                        || item.getLatitude() == null
+                        || item.getLongitude() == null
+                        || !shouldMonitorForecast(item)) {
+                    continue;
+                }
+                WeatherFetchResult<Optional<GridPoint>> resolved =
+                        fetchCache.gridPoints.peek(CoordinateKey.rounded(item.getLatitude(), item.getLongitude()));
+                if (resolved == null
+                        || !resolved.successful()
+                        || resolved.data() == null
+                        || !resolved.data().map(gridPoint::equals).orElse(false)) {
+                    continue;
+                }
+                positions.put(item, members.size());
+                members.add(criteriaRuleEvaluator.compile(item));
+            }
+            return new GridPointTriggers(positions, ForecastThresholdColumns.build(members));
+        }
+    }
+
+    private static final class GridPointTriggers {
+        private final Map<AlertCriteria, Integer> positions;
+        private final ForecastThresholdColumns columns;
+        private List<WeatherData> periods;
+        private int[] firstTriggered;
+
+        private GridPointTriggers(Map<AlertCriteria, Integer> positions, ForecastThresholdColumns columns) {
+            this.positions = positions;
+            this.columns = columns;
+        }
+
+        private int firstTriggeredPeriod(AlertCriteria evaluated, List<WeatherData> forecast) {
+            Integer position = positions.get(evaluated);
+            if (position == null) {
+                return 0;
+            }
+            if (periods != forecast) {
+                periods = forecast;
+                firstTriggered = columns.firstTriggeredPeriods(forecast);
+            }
+            return firstTriggered[position];
+        }
+    }
+
+    private record CriteriaBatch(int number, List<AlertCriteria> criteria) {
+    }
+
+    /**
+     * Every enabled criteria of the cycle's partitions, paged in once on first use. Only held while the cycle's
+     * active alerts are matched; evaluation pages the criteria again batch by batch.
+     */
+    private final class CycleCriteria {
+
+        private final CriteriaPartitionSelector partitions;
+        private List<AlertCriteria> criteria;
+
+        private CycleCriteria(CriteriaPartitionSelector partitions) {
+            this.partitions = partitions;
+        }
+
+        List<AlertCriteria> get() {
+            if (criteria == null) {
+                List<AlertCriteria> loaded = new ArrayList<>();
+                forEachEnabledCriteriaBatch(partitions, (batchNumber, batch) -> loaded.addAll(batch));
+                criteria = loaded;
+            }
+            return criteria;
+        }
+
+        void release() {
+            criteria = null;
+        }
+    }
+
+    /**
+     * Active alert matches of a cycle by criteria id, with the version of each criteria they were computed for.
+     */
+    private record CycleAlertMatches(Map<String, Long> matchedVersions, Map<String, WeatherData> matches) {
+
+        static final CycleAlertMatches NONE = new CycleAlertMatches(Map.of(), Map.of());
+
+        static CycleAlertMatches of(List<AlertCriteria> criteria, Map<AlertCriteria, WeatherData> matches) {
+            Map<String, Long> versions = new HashMap<>();
+            Map<String, WeatherData> byId = new HashMap<>();
+            for (AlertCriteria item : criteria) {
+                if (item.getId() == null) {
+                    continue;
+                }
+                versions.put(item.getId(), item.getVersion());
+                WeatherData match = matches.get(item);
+                if (match != null) {
+                    byId.put(item.getId(), match);
+                }
+            }
+            return new CycleAlertMatches(versions, byId);
+        }
+
+        boolean covers(AlertCriteria criteria) {
+            return criteria.getId() != null
+                    && matchedVersions.containsKey(criteria.getId())
+                    && Objects.equals(matchedVersions.get(criteria.getId()), criteria.getVersion());
+        }
+
+        WeatherData matchFor(AlertCriteria criteria) {
+            return matches.get(criteria.getId());
+        }
+    }
+
+    private record PendingAlert(AlertCriteria criteria, Alert alert) {
+    }
+
+    /**
+     * Everything the evaluate stage decided for one batch, handed to the persist stage as a unit.
+     */
+    private record BatchOutcome(CriteriaStateBatch stateBatch, List<PendingAlert> pendingAlerts) {
+    }
+
     private record CoordinateKey(double latitude, double longitude) {
+
+        /**
+         * NOAA point metadata is only meaningful to four decimal places (~11 m).
+         */
+        static CoordinateKey rounded(double latitude, double longitude) {
+            return new CoordinateKey(roundCoordinate(latitude), roundCoordinate(longitude));
+        }
+
+        private static double roundCoordinate(double value) {
+            return Math.round(value * 10_000.0) / 10_000.0;
+        }
     }
 
     private record ForecastKey(double latitude, double longitude, int windowHours) {
@@ -0,0 +1,171 @@
+package com.weather.alert.domain.service;
+
+import com.weather.alert.domain.model.AlertCriteria;
+import com.weather.alert.domain.model.WeatherData;
+import com.weather.alert.domain.port.WeatherDataPort;
+import com.weather.alert.domain.port.WeatherFetchResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Active alert fetching limited to the NOAA areas (states, territories and marine areas) that enabled criteria can
+ * reach.
+ * <p>
+ * Criteria are fed in with {@link #include}. A criteria is localized when it has a coordinate radius; its areas are
+ * the prefix of the forecast zone containing the coordinate (e.g. {@code FL} for {@code FLZ045}), taken from the
+ * zone stored with the criteria or else resolved through the provider, plus every area the radius can reach across
+ * a state line or onto coastal and lake waters ({@link AlertAreaBounds}). A criteria
+ * without coordinates (location text only, or no location rule at all) can match alerts anywhere, so it forces
+ * the national feed. So does one with both location text and coordinates, since either rule alone is enough for a
+ * match; and so do unresolved zones and coverage of more than {@code maxAreas} areas.
+ */
+@Slf4j
+final class PartitionedAlertFeed {
+
+    private final WeatherDataPort weatherDataPort;
+    private final int maxAreas;
+    private final Map<String, CompletableFuture<WeatherFetchResult<Optional<String>>>> zones = new LinkedHashMap<>();
+    private final Set<String> reached = new TreeSet<>();
+    private boolean national;
+
+    PartitionedAlertFeed(WeatherDataPort weatherDataPort, int maxAreas) {
+        this.weatherDataPort = weatherDataPort;
+        this.maxAreas = Math.max(1, maxAreas);
+    }
+
+    void include(List<AlertCriteria> criteria) {
+        for (AlertCriteria candidate : criteria) {
+            if (national) {
+                return;
+            }
+            if (candidate.getLatitude() == null || candidate.getLongitude() == null || candidate.getRadiusKm() == null
+                    || hasText(candidate.getLocation())) {
+                national = true;
+                return;
+            }
+            double latitude = round(candidate.getLatitude());
+            double longitude = round(candidate.getLongitude());
+            reached.addAll(AlertAreaBounds.reachedBy(latitude, longitude, candidate.getRadiusKm()));
+            if (reached.size() > maxAreas) {
+                national = true;
+                return;
+            }
+            String key = latitude + "," + longitude;
+            if (!zones.containsKey(key)) {
+                String stored = candidate.getForecastZone();
+                CompletableFuture<WeatherFetchResult<Optional<String>>> zone = stored != null && !stored.isBlank()
+                        ? CompletableFuture.completedFuture(WeatherFetchResult.success(Optional.of(stored.trim())))
+                        : weatherDataPort.resolveForecastZoneAsync(latitude, longitude);
+                if (zone == null) {
+                    national = true;
+                    return;
+                }
+                zones.put(key, zone);
+            }
+        }
+    }
+
+    /**
+     * @return the areas to fetch, or empty when the national feed is needed
+     */
+    Optional<Set<String>> areas() {
+        if (national || zones.isEmpty()) {
+            return Optional.empty();
+        }
+        Set<String> areas = new TreeSet<>(reached);
+        for (CompletableFuture<WeatherFetchResult<Optional<String>>> zone : zones.values()) {
+            WeatherFetchResult<Optional<String>> result = zone.join();
+            if (result == null || !result.successful() || result.data() == null || result.data().isEmpty()) {
+                return Optional.empty();
+            }
+            String code = result.data().get();
+            if (code.length() < 2) {
+                return Optional.empty();
+            }
+            areas.add(code.substring(0, 2));
+            if (areas.size() > maxAreas) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(areas);
+    }
+
+    /**
+     * Fetch every area in parallel and merge the alerts, dropping duplicates by id. Areas that fail are requested
+     * once more; if some still fail, the national feed stands in for them. The result is only a failure when that
+     * fails too, and then still carries the alerts of the areas that were fetched. It is stale when any source was
+     * served stale.
+     */
+    WeatherFetchResult<List<WeatherData>> fetch(Set<String> areas) {
+        Map<String, WeatherData> merged = new LinkedHashMap<>();
+        boolean[] stale = {false};
+        Map<String, String> failed = fetchAreas(areas, merged, stale);
+        if (!failed.isEmpty()) {
+            failed = fetchAreas(failed.keySet(), merged, stale);
+        }
+        if (!failed.isEmpty()) {
+            log.warn("Active alerts unavailable for NOAA areas {}; falling back to the national feed", failed.keySet());
+            WeatherFetchResult<List<WeatherData>> national = weatherDataPort.fetchActiveAlertsWithStatus();
+            if (national == null || !national.successful()) {
+                List<String> reasons = new ArrayList<>();
+                failed.forEach((area, reason) -> reasons.add(area + ": " + reason));
+                reasons.add("national: " + (national == null ? "no result" : national.failureReason()));
+                return WeatherFetchResult.failure(List.copyOf(merged.values()), String.join("; ", reasons));
+            }
+            stale[0] |= national.stale();
+            if (national.data() != null) {
+                for (WeatherData alert : national.data()) {
+                    merged.putIfAbsent(alert.getId(), alert);
+                }
+            }
+        }
+        List<WeatherData> alerts = List.copyOf(merged.values());
+        return stale[0] ? WeatherFetchResult.stale(alerts) : WeatherFetchResult.success(alerts);
+    }
+
+    /**
+     * @return the areas that could not be fetched, with the failure reason
+     */
+    private Map<String, String> fetchAreas(Set<String> areas, Map<String, WeatherData> merged, boolean[] stale) {
+        Map<String, CompletableFuture<WeatherFetchResult<List<WeatherData>>>> requests = new LinkedHashMap<>();
+        for (String area : areas) {
+            CompletableFuture<WeatherFetchResult<List<WeatherData>>> request =
+                    weatherDataPort.fetchActiveAlertsForAreaAsync(area);
+            requests.put(area, request == null ? CompletableFuture.completedFuture(null) : request);
+        }
+        Map<String, String> failed = new LinkedHashMap<>();
+        requests.forEach((area, request) -> {
+            WeatherFetchResult<List<WeatherData>> result = request
+                    .exceptionally(ex -> WeatherFetchResult.failure(null, String.valueOf(ex.getMessage())))
+                    .join();
+            if (result == null || !result.successful()) {
+                failed.put(area, result == null ? "no result" : result.failureReason());
+            } else {
+                stale[0] |= result.stale();
+            }
+            if (result != null && result.data() != null) {
+                for (WeatherData alert : result.data()) {
+                    merged.putIfAbsent(alert.getId(), alert);
+                }
+            }
+        });
+        return failed;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10_000.0) / 10_000.0;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,164 @@
+package com.weather.alert.domain.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * One stage of the alert processing pipeline: a bounded queue drained by a fixed set of worker threads.
+ * <p>
+ * {@link #submit} blocks while the queue is full, so a slow stage throttles the stages feeding it instead of
+ * buffering without limit. A failing item, {@link Error}s included, does not stop the stage; the first failure is
+ * re-thrown from {@link #awaitCompletion()} once every submitted item has been handled. {@link #close()} also lets
+ * the workers finish the queued items rather than dropping or interrupting them, so items already accepted (a saved
+ * alert waiting to be published, a state write inside its transaction) are never lost halfway.
+ * <p>
+ * Metrics, tagged with the stage name: {@code weather.alert.pipeline.items} (outcome success/failure),
+ * {@code weather.alert.pipeline.item.duration}, {@code weather.alert.pipeline.submit.blocked} (time producers
+ * waited on a full queue) and the {@code weather.alert.pipeline.queue.depth} gauge owned by the caller.
+ */
+@Slf4j
+final class PipelineStage<T> implements AutoCloseable {
+
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final String name;
+    private final BlockingQueue<T> queue;
+    private final Consumer<T> handler;
+    private final AtomicInteger queueDepth;
+    private final List<Thread> workers = new ArrayList<>();
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+    private final Counter succeeded;
+    private final Counter failed;
+    private final Timer itemTimer;
+    private final Timer blockedTimer;
+    private volatile boolean inputClosed;
+
+    PipelineStage(
+            String name,
+            int workerCount,
+            int queueCapacity,
+            Consumer<T> handler,
+            MeterRegistry meterRegistry,
+            AtomicInteger queueDepth) {
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+        this.handler = handler;
+        this.queueDepth = queueDepth;
+        this.succeeded = meterRegistry.counter("weather.alert.pipeline.items", "stage", name, "outcome", "success");
+        this.failed = meterRegistry.counter("weather.alert.pipeline.items", "stage", name, "outcome", "failure");
+        this.itemTimer = meterRegistry.timer("weather.alert.pipeline.item.duration", "stage", name);
+        this.blockedTimer = meterRegistry.timer("weather.alert.pipeline.submit.blocked", "stage", name);
+        for (int i = 1; i <= Math.max(workerCount, 1); i++) {
+            Thread worker = new Thread(this::drain, "alert-" + name + "-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * Queue an item, waiting for space when the stage is saturated.
+     */
+    void submit(T item) {
+        if (inputClosed) {
+            throw new IllegalStateException("Pipeline stage " + name + " no longer accepts items");
+        }
+        if (queue.offer(item)) {
+            queueDepth.incrementAndGet();
+            return;
+        }
+        long waitStart = System.nanoTime();
+        try {
+            queue.put(item);
+            queueDepth.incrementAndGet();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing work for pipeline stage " + name, ex);
+        } finally {
+            blockedTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Stop accepting items and wait until every queued item has been handled. Re-throws the first failure.
+     */
+    void awaitCompletion() {
+        inputClosed = true;
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for pipeline stage " + name, ex);
+            }
+        }
+        Throwable failure = firstFailure.get();
+        if (failure instanceof RuntimeException runtimeFailure) {
+            throw runtimeFailure;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Pipeline stage " + name + " failed", failure);
+        }
+    }
+
+    /**
+     * Stop accepting items and wait for the queued ones to be handled, without re-throwing item failures. Used when
+     * the cycle is abandoned: closing the stages in pipeline order still delivers everything accepted upstream. If
+     * the caller is interrupted it stops waiting, but the workers are left to finish the queue on their own.
+     */
+    @Override
+    public void close() {
+        inputClosed = true;
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while closing pipeline stage {}; {} queued items are still being handled", name, queue.size());
+                return;
+            }
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            T item;
+            try {
+                item = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                return;
+            }
+            if (item == null) {
+                if (inputClosed && queue.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            queueDepth.decrementAndGet();
+            long start = System.nanoTime();
+            try {
+                handler.accept(item);
+                succeeded.increment();
+            } catch (Throwable ex) {
+                failed.increment();
+                firstFailure.compareAndSet(null, ex);
+            } finally {
+                itemTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
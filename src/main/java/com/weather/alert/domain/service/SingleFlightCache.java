@@ -0,0 +1,103 @@
+package com.weather.alert.domain.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Per-cycle memoizing cache that is safe to share between evaluation workers.
+ * <p>
+ * The first caller for a key runs the loader; concurrent callers for the same key wait for that result
+ * instead of issuing a duplicate fetch. Failures are not cached, so a later caller retries the load.
+ * <p>
+ * {@link #getAsync} starts a non-blocking load and returns immediately; a later {@link #get} for the same key
+ * waits for that load instead of starting its own.
+ */
+final class SingleFlightCache<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> entries = new ConcurrentHashMap<>();
+
+    V get(K key, Function<K, V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = entries.putIfAbsent(key, created);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            V value = loader.apply(key);
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            entries.remove(key, created);
+            created.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Start loading the key without waiting for it. A loader that returns no future, or a future without a
+     * value, leaves the key free for a later {@link #get}; the returned future then completes with {@code null}.
+     */
+    CompletableFuture<V> getAsync(K key, Function<K, CompletableFuture<V>> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = entries.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        CompletableFuture<V> load;
+        try {
+            load = loader.apply(key);
+        } catch (RuntimeException | Error ex) {
+            entries.remove(key, created);
+            created.completeExceptionally(ex);
+            return created;
+        }
+        if (load == null) {
+            entries.remove(key, created);
+            created.complete(null);
+            return created;
+        }
+        load.whenComplete((value, failure) -> {
+            if (failure != null) {
+                entries.remove(key, created);
+                created.completeExceptionally(failure);
+            } else if (value == null) {
+                entries.remove(key, created);
+                created.complete(null);
+            } else {
+                created.complete(value);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * The value of a load that already completed, without waiting for or starting one; {@code null} otherwise.
+     */
+    V peek(K key) {
+        CompletableFuture<V> entry = entries.get(key);
+        if (entry == null || !entry.isDone() || entry.isCompletedExceptionally()) {
+            return null;
+        }
+        return entry.getNow(null);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+}
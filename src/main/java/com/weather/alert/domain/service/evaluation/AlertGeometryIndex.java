@@ -0,0 +1,197 @@
+package com.weather.alert.domain.service.evaluation;
+
+import com.weather.alert.domain.model.AlertCriteria;
+import com.weather.alert.domain.model.AlertGeometry;
+import com.weather.alert.domain.model.WeatherData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sort-Tile-Recursive packed R-tree over the bounding boxes of alert polygons, built once per active alert
+ * snapshot so every criteria coordinate is looked up in logarithmic time instead of against every alert.
+ * <p>
+ * Lookups only compare bounding boxes; the exact point-in-polygon or polygon-circle test is part of the
+ * criteria's coordinate rule ({@link CompiledAlertCriteria}). Alerts without geometry are not indexed. Lookups
+ * return positions in the list the index was built from, ascending, so callers can keep feed order.
+ */
+public final class AlertGeometryIndex {
+
+    private static final int NODE_CAPACITY = 8;
+    private static final double KM_PER_DEGREE = 111.195;
+
+    private static final int[] NONE = new int[0];
+
+    private final int size;
+    private final Node root;
+
+    private AlertGeometryIndex(int size, Node root) {
+        this.size = size;
+        this.root = root;
+    }
+
+    public static AlertGeometryIndex build(List<WeatherData> activeAlerts) {
+        List<Node> leaves = new ArrayList<>();
+        if (activeAlerts != null) {
+            for (int position = 0; position < activeAlerts.size(); position++) {
+                WeatherData alert = activeAlerts.get(position);
+                AlertGeometry geometry = alert == null ? null : alert.getGeometry();
+                if (geometry != null) {
+                    leaves.add(Node.entry(position, geometry));
+                }
+            }
+        }
+        if (leaves.isEmpty()) {
+            return new AlertGeometryIndex(0, null);
+        }
+        List<Node> level = leaves;
+        while (level.size() > 1) {
+            level = pack(level);
+        }
+        return new AlertGeometryIndex(leaves.size(), level.get(0));
+    }
+
+    /**
+     * Positions of the alerts whose bounding box a radius-only criteria can reach, or that contains the point a
+     * zone-only criteria watches. Other criteria get none: they are paired with every alert by
+     * {@link CriteriaSpatialIndex} already.
+     */
+    public int[] candidates(AlertCriteria criteria) {
+        if (root == null || criteria == null) {
+            return NONE;
+        }
+        if (CompiledAlertCriteria.isRadiusOnly(criteria)) {
+            return candidates(criteria.getLatitude(), criteria.getLongitude(), criteria.getRadiusKm());
+        }
+        if (CompiledAlertCriteria.isZoneOnly(criteria)) {
+            return candidates(criteria.getLatitude(), criteria.getLongitude(), 0.0);
+        }
+        return NONE;
+    }
+
+    /**
+     * Positions of the alerts whose bounding box intersects the box around the circle of {@code radiusKm}.
+     */
+    public int[] candidates(double latitude, double longitude, double radiusKm) {
+        if (root == null) {
+            return NONE;
+        }
+        double latitudeSpan = Math.max(0.0, radiusKm) / KM_PER_DEGREE;
+        double longitudeSpan = latitudeSpan / Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+        int[] found = new int[size];
+        int count = collect(root,
+                latitude - latitudeSpan, longitude - longitudeSpan,
+                latitude + latitudeSpan, longitude + longitudeSpan,
+                found, 0);
+        Arrays.sort(found, 0, count);
+        return count == found.length ? found : Arrays.copyOf(found, count);
+    }
+
+    /**
+     * Number of indexed alerts, those with geometry.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static int collect(
+            Node node,
+            double minLatitude,
+            double minLongitude,
+            double maxLatitude,
+            double maxLongitude,
+            int[] found,
+            int count) {
+        if (node.maxLatitude < minLatitude || node.minLatitude > maxLatitude
+                || node.maxLongitude < minLongitude || node.minLongitude > maxLongitude) {
+            return count;
+        }
+        if (node.children == null) {
+            found[count] = node.position;
+            return count + 1;
+        }
+        for (Node child : node.children) {
+            count = collect(child, minLatitude, minLongitude, maxLatitude, maxLongitude, found, count);
+        }
+        return count;
+    }
+
+    /**
+     * One STR level: sort by longitude centre into vertical slices of whole nodes, sort each slice by latitude
+     * centre and group runs of {@link #NODE_CAPACITY}.
+     */
+    private static List<Node> pack(List<Node> nodes) {
+        int parentCount = (nodes.size() + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int sliceCount = (int) Math.ceil(Math.sqrt(parentCount));
+        int sliceSize = sliceCount * NODE_CAPACITY;
+        List<Node> sorted = new ArrayList<>(nodes);
+        sorted.sort(Comparator.comparingDouble(Node::longitudeCentre));
+        List<Node> parents = new ArrayList<>(parentCount);
+        for (int sliceStart = 0; sliceStart < sorted.size(); sliceStart += sliceSize) {
+            List<Node> slice = new ArrayList<>(sorted.subList(sliceStart, Math.min(sliceStart + sliceSize, sorted.size())));
+            slice.sort(Comparator.comparingDouble(Node::latitudeCentre));
+            for (int start = 0; start < slice.size(); start += NODE_CAPACITY) {
+                parents.add(Node.parent(slice.subList(start, Math.min(start + NODE_CAPACITY, slice.size()))));
+            }
+        }
+        return parents;
+    }
+
+    private static final class Node {
+        private final double minLatitude;
+        private final double minLongitude;
+        private final double maxLatitude;
+        private final double maxLongitude;
+        private final Node[] children;
+        private final int position;
+
+        private Node(
+                double minLatitude,
+                double minLongitude,
+                double maxLatitude,
+                double maxLongitude,
+                Node[] children,
+                int position) {
+            this.minLatitude = minLatitude;
+            this.minLongitude = minLongitude;
+            this.maxLatitude = maxLatitude;
+            this.maxLongitude = maxLongitude;
+            this.children = children;
+            this.position = position;
+        }
+
+        static Node entry(int position, AlertGeometry geometry) {
+            return new Node(
+                    geometry.minLatitude(),
+                    geometry.minLongitude(),
+                    geometry.maxLatitude(),
+                    geometry.maxLongitude(),
+                    null,
+                    position);
+        }
+
+        static Node parent(List<Node> children) {
+            double minLatitude = Double.POSITIVE_INFINITY;
+            double minLongitude = Double.POSITIVE_INFINITY;
+            double maxLatitude = Double.NEGATIVE_INFINITY;
+            double maxLongitude = Double.NEGATIVE_INFINITY;
+            for (Node child : children) {
+                minLatitude = Math.min(minLatitude, child.minLatitude);
+                minLongitude = Math.min(minLongitude, child.minLongitude);
+                maxLatitude = Math.max(maxLatitude, child.maxLatitude);
+                maxLongitude = Math.max(maxLongitude, child.maxLongitude);
+            }
+            return new Node(minLatitude, minLongitude, maxLatitude, maxLongitude, children.toArray(Node[]::new), -1);
+        }
+
+        double latitudeCentre() {
+            return (minLatitude + maxLatitude) / 2;
+        }
+
+        double longitudeCentre() {
+            return (minLongitude + maxLongitude) / 2;
+        }
+    }
+}
@@ -0,0 +1,425 @@
+package com.weather.alert.domain.service.evaluation;
+
+import com.weather.alert.domain.model.AlertCriteria;
+import com.weather.alert.domain.model.AlertGeometry;
+import com.weather.alert.domain.model.WeatherData;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable, pre-normalized form of an {@link AlertCriteria}.
+ * <p>
+ * Only rules that apply to the source criteria are enabled, and every value the rules need (lowercased
+ * text, Celsius thresholds, radians) is computed once, so {@link #matches(WeatherData)} performs no
+ * allocation and no string conversion.
+ */
+public final class CompiledAlertCriteria {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final String criteriaId;
+    private final Long version;
+    private final boolean enabled;
+
+    private final boolean locationTextRule;
+    private final String locationTextLower;
+    private final boolean coordinateRule;
+    private final double latitude;
+    private final double longitude;
+    private final double latitudeRadians;
+    private final double cosLatitude;
+    private final double radiusKm;
+    private final boolean zoneRule;
+    private final String forecastZone;
+    private final String county;
+
+    private final boolean eventTypeRule;
+    private final String eventType;
+    private final String eventTypeLower;
+
+    private final boolean severityRule;
+    private final int minSeverityLevel;
+
+    private final AlertCriteria.TemperatureDirection temperatureDirection;
+    private final double temperatureThresholdCelsius;
+
+    private final boolean legacyTemperatureRule;
+    private final boolean hasMaxTemperature;
+    private final double maxTemperature;
+    private final boolean hasMinTemperature;
+    private final double minTemperature;
+
+    private final boolean windSpeedRule;
+    private final double maxWindSpeed;
+
+    private final boolean legacyPrecipitationRule;
+    private final double maxPrecipitation;
+
+    private final AlertCriteria.RainThresholdType rainThresholdType;
+    private final double rainThreshold;
+
+    private final boolean hasFilterRule;
+    private final boolean hasTriggerRule;
+    private final boolean hasWeatherConditionRules;
+
+    private CompiledAlertCriteria(AlertCriteria criteria) {
+        this.criteriaId = criteria.getId();
+        this.version = criteria.getVersion();
+        this.enabled = Boolean.TRUE.equals(criteria.getEnabled());
+
+        this.locationTextRule = hasText(criteria.getLocation());
+        this.locationTextLower = locationTextRule ? criteria.getLocation().toLowerCase(Locale.ROOT) : null;
+        this.coordinateRule = criteria.getLatitude() != null && criteria.getLongitude() != null && criteria.getRadiusKm() != null;
+        this.zoneRule = hasZoneCodes(criteria) && criteria.getRadiusKm() == null;
+        this.latitude = coordinateRule || zoneRule ? criteria.getLatitude() : 0.0;
+        this.longitude = coordinateRule || zoneRule ? criteria.getLongitude() : 0.0;
+        this.latitudeRadians = Math.toRadians(latitude);
+        this.cosLatitude = Math.cos(latitudeRadians);
+        this.radiusKm = coordinateRule ? criteria.getRadiusKm() : 0.0;
+        this.forecastZone = zoneRule ? zoneCode(criteria.getForecastZone()) : null;
+        this.county = zoneRule ? zoneCode(criteria.getCounty()) : null;
+
+        this.eventTypeRule = hasText(criteria.getEventType());
+        this.eventType = eventTypeRule ? criteria.getEventType() : null;
+        this.eventTypeLower = eventTypeRule ? criteria.getEventType().toLowerCase(Locale.ROOT) : null;
+
+        this.severityRule = hasText(criteria.getMinSeverity());
+        this.minSeverityLevel = severityRule ? severityLevel(criteria.getMinSeverity()) : 0;
+
+        boolean temperatureThresholdRule = criteria.getTemperatureThreshold() != null && criteria.getTemperatureDirection() != null;
+        this.temperatureDirection = temperatureThresholdRule ? criteria.getTemperatureDirection() : null;
+        this.temperatureThresholdCelsius = temperatureThresholdRule
+                ? toCelsius(criteria.getTemperatureThreshold(), criteria.getTemperatureUnit())
+                : 0.0;
+
+        // New threshold mode takes precedence when configured, to avoid mixed-mode false positives.
+        this.legacyTemperatureRule = criteria.getTemperatureThreshold() == null
+                && criteria.getTemperatureDirection() == null
+                && (criteria.getMaxTemperature() != null || criteria.getMinTemperature() != null);
+        this.hasMaxTemperature = legacyTemperatureRule && criteria.getMaxTemperature() != null;
+        this.maxTemperature = hasMaxTemperature ? criteria.getMaxTemperature() : 0.0;
+        this.hasMinTemperature = legacyTemperatureRule && criteria.getMinTemperature() != null;
+        this.minTemperature = hasMinTemperature ? criteria.getMinTemperature() : 0.0;
+
+        this.windSpeedRule = criteria.getMaxWindSpeed() != null;
+        this.maxWindSpeed = windSpeedRule ? criteria.getMaxWindSpeed() : 0.0;
+
+        // New rain threshold mode takes precedence when configured.
+        this.legacyPrecipitationRule = criteria.getRainThreshold() == null
+                && criteria.getRainThresholdType() == null
+                && criteria.getMaxPrecipitation() != null;
+        this.maxPrecipitation = legacyPrecipitationRule ? criteria.getMaxPrecipitation() : 0.0;
+
+        boolean rainRule = criteria.getRainThreshold() != null && criteria.getRainThresholdType() != null;
+        this.rainThresholdType = rainRule ? criteria.getRainThresholdType() : null;
+        this.rainThreshold = rainRule ? criteria.getRainThreshold() : 0.0;
+
+        this.hasFilterRule = locationTextRule || coordinateRule || zoneRule || eventTypeRule || severityRule;
+        this.hasTriggerRule = temperatureDirection != null
+                || legacyTemperatureRule
+                || windSpeedRule
+                || legacyPrecipitationRule
+                || rainThresholdType != null;
+        this.hasWeatherConditionRules = criteria.getTemperatureThreshold() != null
+                || criteria.getMaxTemperature() != null
+                || criteria.getMinTemperature() != null
+                || criteria.getMaxWindSpeed() != null
+                || criteria.getMaxPrecipitation() != null
+                || criteria.getRainThreshold() != null;
+    }
+
+    public static CompiledAlertCriteria compile(AlertCriteria criteria) {
+        return new CompiledAlertCriteria(criteria);
+    }
+
+    public String criteriaId() {
+        return criteriaId;
+    }
+
+    public Long version() {
+        return version;
+    }
+
+    public boolean hasWeatherConditionRules() {
+        return hasWeatherConditionRules;
+    }
+
+    /**
+     * Hands every trigger rule threshold to the forecast columns, as {@link #matches(WeatherData)} compares it.
+     *
+     * @return false when the criteria has no trigger rule, so its filter rules alone decide a match
+     */
+    boolean addTriggerThresholds(ForecastThresholdColumns.Builder columns, int owner) {
+        if (temperatureDirection == AlertCriteria.TemperatureDirection.ABOVE) {
+            columns.add(ForecastThresholdColumns.Column.TEMPERATURE_ABOVE, temperatureThresholdCelsius, owner);
+        } else if (temperatureDirection == AlertCriteria.TemperatureDirection.BELOW) {
+            columns.add(ForecastThresholdColumns.Column.TEMPERATURE_BELOW, temperatureThresholdCelsius, owner);
+        }
+        if (hasMaxTemperature) {
+            columns.add(ForecastThresholdColumns.Column.TEMPERATURE_ABOVE, maxTemperature, owner);
+        }
+        if (hasMinTemperature) {
+            columns.add(ForecastThresholdColumns.Column.TEMPERATURE_BELOW, minTemperature, owner);
+        }
+        if (windSpeedRule) {
+            columns.add(ForecastThresholdColumns.Column.WIND_SPEED_ABOVE, maxWindSpeed, owner);
+        }
+        if (legacyPrecipitationRule) {
+            columns.add(ForecastThresholdColumns.Column.PRECIPITATION_AMOUNT_ABOVE, maxPrecipitation, owner);
+        }
+        if (rainThresholdType == AlertCriteria.RainThresholdType.AMOUNT) {
+            columns.add(ForecastThresholdColumns.Column.PRECIPITATION_AMOUNT_AT_LEAST, rainThreshold, owner);
+        } else if (rainThresholdType == AlertCriteria.RainThresholdType.PROBABILITY) {
+            columns.add(ForecastThresholdColumns.Column.PRECIPITATION_PROBABILITY_AT_LEAST, rainThreshold, owner);
+        }
+        return hasTriggerRule;
+    }
+
+    /**
+     * Filter rules must all pass. Trigger rules are OR'ed; without trigger rules a criteria matches
+     * when at least one filter rule is configured.
+     */
+    public boolean matches(WeatherData weatherData) {
+        return matches(weatherData, false);
+    }
+
+    /**
+     * Like {@link #matches(WeatherData)}, but treats the coordinate radius as satisfied. Use only for
+     * condition data fetched for the criteria's own position (its coordinate or the gridpoint containing it),
+     * where the distance is zero by construction even if the data carries no coordinates itself.
+     */
+    public boolean matchesAtOwnLocation(WeatherData weatherData) {
+        return matches(weatherData, true);
+    }
+
+    private boolean matches(WeatherData weatherData, boolean atOwnLocation) {
+        if (weatherData == null || !enabled) {
+            return false;
+        }
+        if ((locationTextRule || coordinateRule || zoneRule) && !matchesLocation(weatherData, atOwnLocation)) {
+            return false;
+        }
+        if (eventTypeRule && !matchesEventType(weatherData)) {
+            return false;
+        }
+        if (severityRule && !matchesSeverity(weatherData)) {
+            return false;
+        }
+        if (!hasTriggerRule) {
+            return hasFilterRule;
+        }
+        return matchesTemperatureThreshold(weatherData)
+                || matchesLegacyTemperatureRange(weatherData)
+                || matchesWindSpeed(weatherData)
+                || matchesLegacyPrecipitation(weatherData)
+                || matchesRainThreshold(weatherData);
+    }
+
+    private boolean matchesLocation(WeatherData weatherData, boolean atOwnLocation) {
+        boolean locationMatched = !locationTextRule || matchesLocationText(weatherData);
+        boolean coordinateMatched = coordinateRule
+                ? atOwnLocation || matchesArea(weatherData)
+                : !zoneRule || atOwnLocation || matchesZone(weatherData);
+        if (locationTextRule && (coordinateRule || zoneRule)) {
+            return locationMatched || coordinateMatched;
+        }
+        return locationMatched && coordinateMatched;
+    }
+
+    private boolean matchesLocationText(WeatherData weatherData) {
+        return hasText(weatherData.getLocation()) && containsIgnoreCase(weatherData.getLocation(), locationTextLower);
+    }
+
+    /**
+     * An alert polygon is the precise affected area, so when the alert has one it alone decides whether the radius
+     * reaches the alert. Zone and county codes say nothing about distance and never satisfy a radius.
+     */
+    private boolean matchesArea(WeatherData weatherData) {
+        AlertGeometry geometry = weatherData.getGeometry();
+        if (geometry != null) {
+            return geometry.intersectsCircle(latitude, longitude, radiusKm);
+        }
+        return matchesCoordinates(weatherData);
+    }
+
+    /**
+     * A criteria with a coordinate but no radius watches the point itself. Alerts are issued for NWS zones and
+     * counties rather than coordinates, so the point is inside the alert area when the alert polygon contains
+     * it or, for alerts without one, when the alert lists the zone or county containing it.
+     */
+    private boolean matchesZone(WeatherData weatherData) {
+        AlertGeometry geometry = weatherData.getGeometry();
+        if (geometry != null) {
+            return geometry.intersectsCircle(latitude, longitude, 0.0);
+        }
+        List<String> codes = weatherData.getZoneCodes();
+        if (codes == null) {
+            return false;
+        }
+        for (String code : codes) {
+            if (code != null && (code.equalsIgnoreCase(forecastZone) || code.equalsIgnoreCase(county))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesCoordinates(WeatherData weatherData) {
+        if (weatherData.getLatitude() == null || weatherData.getLongitude() == null) {
+            return false;
+        }
+        double otherLatitudeRadians = Math.toRadians(weatherData.getLatitude());
+        double halfDeltaLatitude = (otherLatitudeRadians - latitudeRadians) / 2;
+        double halfDeltaLongitude = Math.toRadians(weatherData.getLongitude() - longitude) / 2;
+        double a = Math.sin(halfDeltaLatitude) * Math.sin(halfDeltaLatitude)
+                + cosLatitude * Math.cos(otherLatitudeRadians)
+                * Math.sin(halfDeltaLongitude) * Math.sin(halfDeltaLongitude);
+        double distanceKm = EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return distanceKm <= radiusKm;
+    }
+
+    private boolean matchesEventType(WeatherData weatherData) {
+        if (weatherData.getEventType() != null && weatherData.getEventType().equalsIgnoreCase(eventType)) {
+            return true;
+        }
+        // For condition-based weather data, eventType is synthetic (CURRENT/FORECAST_CONDITIONS).
+        // Support user-friendly event filters (e.g., "Rain") by matching headline/description text.
+        return (hasText(weatherData.getHeadline()) && containsIgnoreCase(weatherData.getHeadline(), eventTypeLower))
+                || (hasText(weatherData.getDescription()) && containsIgnoreCase(weatherData.getDescription(), eventTypeLower));
+    }
+
+    private boolean matchesSeverity(WeatherData weatherData) {
+        if (!hasText(weatherData.getSeverity())) {
+            return false;
+        }
+        return severityLevel(weatherData.getSeverity()) >= minSeverityLevel;
+    }
+
+    private boolean matchesTemperatureThreshold(WeatherData weatherData) {
+        if (temperatureDirection == null || weatherData.getTemperature() == null) {
+            return false;
+        }
+        return switch (temperatureDirection) {
+            case ABOVE -> weatherData.getTemperature() > temperatureThresholdCelsius;
+            case BELOW -> weatherData.getTemperature() < temperatureThresholdCelsius;
+        };
+    }
+
+    private boolean matchesLegacyTemperatureRange(WeatherData weatherData) {
+        if (!legacyTemperatureRule || weatherData.getTemperature() == null) {
+            return false;
+        }
+        double temperature = weatherData.getTemperature();
+        return (hasMaxTemperature && temperature > maxTemperature) || (hasMinTemperature && temperature < minTemperature);
+    }
+
+    private boolean matchesWindSpeed(WeatherData weatherData) {
+        return windSpeedRule && weatherData.getWindSpeed() != null && weatherData.getWindSpeed() > maxWindSpeed;
+    }
+
+    private boolean matchesLegacyPrecipitation(WeatherData weatherData) {
+        if (!legacyPrecipitationRule) {
+            return false;
+        }
+        Double precipitation = precipitationAmount(weatherData);
+        return precipitation != null && precipitation > maxPrecipitation;
+    }
+
+    private boolean matchesRainThreshold(WeatherData weatherData) {
+        if (rainThresholdType == null) {
+            return false;
+        }
+        Double measuredValue = switch (rainThresholdType) {
+            case PROBABILITY -> precipitationProbability(weatherData);
+            case AMOUNT -> precipitationAmount(weatherData);
+        };
+        return measuredValue != null && measuredValue >= rainThreshold;
+    }
+
+    static Double precipitationAmount(WeatherData weatherData) {
+        if (weatherData.getPrecipitationAmount() != null) {
+            return weatherData.getPrecipitationAmount();
+        }
+        return weatherData.getPrecipitation();
+    }
+
+    static Double precipitationProbability(WeatherData weatherData) {
+        if (weatherData.getPrecipitationProbability() != null) {
+            return weatherData.getPrecipitationProbability();
+        }
+        return weatherData.getPrecipitation();
+    }
+
+    private static double toCelsius(double threshold, AlertCriteria.TemperatureUnit unit) {
+        if (unit == AlertCriteria.TemperatureUnit.C) {
+            return threshold;
+        }
+        return (threshold - 32.0) * 5.0 / 9.0;
+    }
+
+    static int severityLevel(String severity) {
+        if ("EXTREME".equalsIgnoreCase(severity)) {
+            return 4;
+        }
+        if ("SEVERE".equalsIgnoreCase(severity)) {
+            return 3;
+        }
+        if ("MODERATE".equalsIgnoreCase(severity)) {
+            return 2;
+        }
+        if ("MINOR".equalsIgnoreCase(severity)) {
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Whether the criteria is located only by a coordinate and radius, without location text. Only such criteria
+     * can be found through the spatial and alert geometry indexes.
+     */
+    static boolean isRadiusOnly(AlertCriteria criteria) {
+        return !hasText(criteria.getLocation())
+                && criteria.getLatitude() != null
+                && criteria.getLongitude() != null
+                && criteria.getRadiusKm() != null;
+    }
+
+    /**
+     * Whether the criteria watches the point at its coordinate, located by stored zone codes, without location
+     * text. Only such criteria can be found through the zone index, and the alert geometry index by their point.
+     */
+    static boolean isZoneOnly(AlertCriteria criteria) {
+        return !hasText(criteria.getLocation())
+                && criteria.getRadiusKm() == null
+                && hasZoneCodes(criteria);
+    }
+
+    private static boolean hasZoneCodes(AlertCriteria criteria) {
+        return criteria.getLatitude() != null
+                && criteria.getLongitude() != null
+                && (hasText(criteria.getForecastZone()) || hasText(criteria.getCounty()));
+    }
+
+    private static String zoneCode(String code) {
+        return hasText(code) ? code.trim() : null;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * Case-insensitive substring check against an already-lowercased needle, without allocating.
+     */
+    static boolean containsIgnoreCase(String text, String lowerNeedle) {
+        int needleLength = lowerNeedle.length();
+        int last = text.length() - needleLength;
+        for (int start = 0; start <= last; start++) {
+            if (text.regionMatches(true, start, lowerNeedle, 0, needleLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,203 @@
+package com.weather.alert.domain.service.evaluation;
+
+import com.weather.alert.domain.model.AlertCriteria;
+import com.weather.alert.domain.model.WeatherData;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bitmap indexes over the discrete attributes of a list of criteria, keyed by position in the list (ordinal).
+ * <p>
+ * Checks that only depend on these attributes (enabled, monitoring flags, which rule kinds are configured,
+ * temperature unit, minimum severity) become AND/OR operations on {@link CriteriaBitmap}s, computed
+ * for the whole list at once instead of per criteria. Nullable flags are indexed as given: a criteria with no
+ * value for a flag is in neither its {@code true} nor its {@code false} bitmap.
+ */
+public final class CriteriaAttributeIndex {
+
+    private static final int SEVERITY_LEVELS = 5;
+
+    private final List<AlertCriteria> criteria;
+    private final Map<AlertCriteria, Integer> ordinals;
+    private final CriteriaBitmap all;
+    private final Map<Flag, CriteriaBitmap> whenTrue;
+    private final Map<Flag, CriteriaBitmap> whenFalse;
+    private final Map<AlertCriteria.TemperatureUnit, CriteriaBitmap> temperatureUnits;
+    /**
+     * Enabled criteria an alert of each severity level can pass the severity rule of; the last entry is for alerts
+     * without a severity.
+     */
+    private final CriteriaBitmap[] alertEligible;
+
+    private CriteriaAttributeIndex(
+            List<AlertCriteria> criteria,
+            Map<AlertCriteria, Integer> ordinals,
+            CriteriaBitmap all,
+            Map<Flag, CriteriaBitmap> whenTrue,
+            Map<Flag, CriteriaBitmap> whenFalse,
+            Map<AlertCriteria.TemperatureUnit, CriteriaBitmap> temperatureUnits,
+            CriteriaBitmap[] alertEligible) {
+        this.criteria = criteria;
+        this.ordinals = ordinals;
+        this.all = all;
+        this.whenTrue = whenTrue;
+        this.whenFalse = whenFalse;
+        this.temperatureUnits = temperatureUnits;
+        this.alertEligible = alertEligible;
+    }
+
+    public static CriteriaAttributeIndex build(List<AlertCriteria> criteria) {
+        List<AlertCriteria> indexed = criteria == null ? List.of() : criteria;
+        Map<AlertCriteria, Integer> ordinals = new IdentityHashMap<>();
+        Map<Flag, CriteriaBitmap.Builder> trueBuilders = new EnumMap<>(Flag.class);
+        Map<Flag, CriteriaBitmap.Builder> falseBuilders = new EnumMap<>(Flag.class);
+        for (Flag flag : Flag.values()) {
+            trueBuilders.put(flag, new CriteriaBitmap.Builder());
+            falseBuilders.put(flag, new CriteriaBitmap.Builder());
+        }
+        Map<AlertCriteria.TemperatureUnit, CriteriaBitmap.Builder> unitBuilders = new EnumMap<>(AlertCriteria.TemperatureUnit.class);
+        CriteriaBitmap.Builder present = new CriteriaBitmap.Builder();
+        CriteriaBitmap.Builder withoutSeverity = new CriteriaBitmap.Builder();
+        List<CriteriaBitmap.Builder> minSeverity = new ArrayList<>();
+        for (int level = 0; level < SEVERITY_LEVELS; level++) {
+            minSeverity.add(new CriteriaBitmap.Builder());
+        }
+
+        for (int ordinal = 0; ordinal < indexed.size(); ordinal++) {
+            AlertCriteria item = indexed.get(ordinal);
+            if (item == null) {
+                continue;
+            }
+            ordinals.put(item, ordinal);
+            present.add(ordinal);
+            for (Flag flag : Flag.values()) {
+                Boolean value = flag.value.apply(item);
+                if (Boolean.TRUE.equals(value)) {
+                    trueBuilders.get(flag).add(ordinal);
+                } else if (Boolean.FALSE.equals(value)) {
+                    falseBuilders.get(flag).add(ordinal);
+                }
+            }
+            if (item.getTemperatureUnit() != null) {
+                unitBuilders.computeIfAbsent(item.getTemperatureUnit(), ignored -> new CriteriaBitmap.Builder()).add(ordinal);
+            }
+            if (hasText(item.getMinSeverity())) {
+                minSeverity.get(CompiledAlertCriteria.severityLevel(item.getMinSeverity())).add(ordinal);
+            } else {
+                withoutSeverity.add(ordinal);
+            }
+        }
+
+        Map<Flag, CriteriaBitmap> whenTrue = new EnumMap<>(Flag.class);
+        Map<Flag, CriteriaBitmap> whenFalse = new EnumMap<>(Flag.class);
+        trueBuilders.forEach((flag, builder) -> whenTrue.put(flag, builder.build()));
+        falseBuilders.forEach((flag, builder) -> whenFalse.put(flag, builder.build()));
+        Map<AlertCriteria.TemperatureUnit, CriteriaBitmap> temperatureUnits = new EnumMap<>(AlertCriteria.TemperatureUnit.class);
+        unitBuilders.forEach((unit, builder) -> temperatureUnits.put(unit, builder.build()));
+
+        CriteriaBitmap enabled = whenTrue.get(Flag.ENABLED);
+        CriteriaBitmap[] alertEligible = new CriteriaBitmap[SEVERITY_LEVELS + 1];
+        CriteriaBitmap passing = withoutSeverity.build();
+        alertEligible[SEVERITY_LEVELS] = enabled.and(passing);
+        for (int level = 0; level < SEVERITY_LEVELS; level++) {
+            passing = passing.or(minSeverity.get(level).build());
+            alertEligible[level] = enabled.and(passing);
+        }
+        return new CriteriaAttributeIndex(
+                indexed,
+                ordinals,
+                present.build(),
+                whenTrue,
+                whenFalse,
+                temperatureUnits,
+                alertEligible);
+    }
+
+    /**
+     * Every ordinal of the indexed list that holds a criteria.
+     */
+    public CriteriaBitmap all() {
+        return all;
+    }
+
+    /**
+     * Criteria whose flag equals {@code value}; criteria without a value for the flag are in neither bitmap.
+     */
+    public CriteriaBitmap with(Flag flag, boolean value) {
+        return value ? whenTrue.get(flag) : whenFalse.get(flag);
+    }
+
+    public CriteriaBitmap withTemperatureUnit(AlertCriteria.TemperatureUnit unit) {
+        return temperatureUnits.getOrDefault(unit, CriteriaBitmap.EMPTY);
+    }
+
+    /**
+     * Enabled criteria whose minimum severity, if any, the alert meets. Every criteria an alert can match is in it.
+     */
+    public CriteriaBitmap alertEligible(WeatherData alert) {
+        if (alert == null || !hasText(alert.getSeverity())) {
+            return alertEligible[SEVERITY_LEVELS];
+        }
+        return alertEligible[CompiledAlertCriteria.severityLevel(alert.getSeverity())];
+    }
+
+    /**
+     * Ordinal of the criteria in the indexed list, or {@code -1} when it is not in it.
+     */
+    public int ordinal(AlertCriteria item) {
+        Integer ordinal = ordinals.get(item);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * The criteria at the bitmap's ordinals, in list order.
+     */
+    public List<AlertCriteria> criteria(CriteriaBitmap bitmap) {
+        int[] selected = bitmap.toArray();
+        List<AlertCriteria> result = new ArrayList<>(selected.length);
+        for (int ordinal : selected) {
+            if (ordinal < criteria.size() && criteria.get(ordinal) != null) {
+                result.add(criteria.get(ordinal));
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return criteria.size();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * Boolean attributes of a criteria. The rule flags are never {@code null}.
+     */
+    public enum Flag {
+        ENABLED(AlertCriteria::getEnabled),
+        MONITOR_CURRENT(AlertCriteria::getMonitorCurrent),
+        MONITOR_FORECAST(AlertCriteria::getMonitorForecast),
+        WEATHER_CONDITION_RULES(item -> item.getTemperatureThreshold() != null
+                || item.getMaxTemperature() != null
+                || item.getMinTemperature() != null
+                || item.getMaxWindSpeed() != null
+                || item.getMaxPrecipitation() != null
+                || item.getRainThreshold() != null),
+        TEMPERATURE_RULE(item -> item.getTemperatureThreshold() != null
+                || item.getMaxTemperature() != null
+                || item.getMinTemperature() != null),
+        RAIN_RULE(item -> item.getRainThreshold() != null || item.getMaxPrecipitation() != null);
+
+        private final Function<AlertCriteria, Boolean> value;
+
+        Flag(Function<AlertCriteria, Boolean> value) {
+            this.value = value;
+        }
+    }
+}
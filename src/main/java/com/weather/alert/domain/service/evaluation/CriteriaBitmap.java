@@ -0,0 +1,353 @@
+package com.weather.alert.domain.service.evaluation;
+
+import java.util.Arrays;
+
+/**
+ * Immutable compressed set of criteria ordinals, laid out like a Roaring bitmap.
+ * <p>
+ * Ordinals are split on their high 16 bits into chunks of 65536. A chunk holding at most {@value #ARRAY_LIMIT}
+ * ordinals stores their low 16 bits as a sorted {@code char[]}; a denser chunk stores a 1024-word
+ * {@code long[]} bitset. Set operations work chunk by chunk and pick the container of each result chunk the same
+ * way, so sparse attributes cost a few bytes per criteria and dense ones an eighth of a byte.
+ */
+public final class CriteriaBitmap {
+
+    public static final CriteriaBitmap EMPTY = new CriteriaBitmap(new char[0], new Object[0]);
+
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int WORDS = 1024;
+
+    private final char[] keys;
+    private final Object[] containers;
+
+    private CriteriaBitmap(char[] keys, Object[] containers) {
+        this.keys = keys;
+        this.containers = containers;
+    }
+
+    /**
+     * @param ordinals non-negative ordinals, in any order, duplicates allowed
+     */
+    public static CriteriaBitmap of(int... ordinals) {
+        int[] sorted = ordinals.clone();
+        Arrays.sort(sorted);
+        Builder builder = new Builder();
+        for (int ordinal : sorted) {
+            builder.add(ordinal);
+        }
+        return builder.build();
+    }
+
+    public boolean contains(int ordinal) {
+        if (ordinal < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, (char) (ordinal >>> 16));
+        return index >= 0 && containerContains(containers[index], (char) ordinal);
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (Object container : containers) {
+            cardinality += containerCardinality(container);
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    public CriteriaBitmap and(CriteriaBitmap other) {
+        Combiner result = new Combiner(Math.min(keys.length, other.keys.length));
+        int i = 0;
+        int j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.add(keys[i], and(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result.build();
+    }
+
+    public CriteriaBitmap or(CriteriaBitmap other) {
+        Combiner result = new Combiner(keys.length + other.keys.length);
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < other.keys.length) {
+            if (j == other.keys.length || (i < keys.length && keys[i] < other.keys[j])) {
+                result.add(keys[i], containers[i++]);
+            } else if (i == keys.length || keys[i] > other.keys[j]) {
+                result.add(other.keys[j], other.containers[j++]);
+            } else {
+                result.add(keys[i], or(containers[i++], other.containers[j++]));
+            }
+        }
+        return result.build();
+    }
+
+    public CriteriaBitmap andNot(CriteriaBitmap other) {
+        Combiner result = new Combiner(keys.length);
+        int j = 0;
+        for (int i = 0; i < keys.length; i++) {
+            while (j < other.keys.length && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.keys.length && other.keys[j] == keys[i]) {
+                result.add(keys[i], andNot(containers[i], other.containers[j]));
+            } else {
+                result.add(keys[i], containers[i]);
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * The ordinals in ascending order.
+     */
+    public int[] toArray() {
+        int[] ordinals = new int[cardinality()];
+        int next = 0;
+        for (int i = 0; i < keys.length; i++) {
+            int high = keys[i] << 16;
+            if (containers[i] instanceof char[] lows) {
+                for (char low : lows) {
+                    ordinals[next++] = high | low;
+                }
+            } else {
+                long[] words = (long[]) containers[i];
+                for (int word = 0; word < WORDS; word++) {
+                    long bits = words[word];
+                    while (bits != 0) {
+                        ordinals[next++] = high | (word << 6) | Long.numberOfTrailingZeros(bits);
+                        bits &= bits - 1;
+                    }
+                }
+            }
+        }
+        return ordinals;
+    }
+
+    private static boolean containerContains(Object container, char low) {
+        if (container instanceof char[] lows) {
+            return Arrays.binarySearch(lows, low) >= 0;
+        }
+        return (((long[]) container)[low >>> 6] & (1L << low)) != 0;
+    }
+
+    private static int containerCardinality(Object container) {
+        if (container instanceof char[] lows) {
+            return lows.length;
+        }
+        int cardinality = 0;
+        for (long word : (long[]) container) {
+            cardinality += Long.bitCount(word);
+        }
+        return cardinality;
+    }
+
+    private static Object and(Object left, Object right) {
+        if (left instanceof char[] lows) {
+            return filter(lows, right, true);
+        }
+        if (right instanceof char[] lows) {
+            return filter(lows, left, true);
+        }
+        long[] words = ((long[]) left).clone();
+        long[] rightWords = (long[]) right;
+        for (int word = 0; word < WORDS; word++) {
+            words[word] &= rightWords[word];
+        }
+        return normalize(words);
+    }
+
+    private static Object or(Object left, Object right) {
+        if (left instanceof char[] leftLows && right instanceof char[] rightLows
+                && leftLows.length + rightLows.length <= ARRAY_LIMIT) {
+            char[] merged = new char[leftLows.length + rightLows.length];
+            int i = 0;
+            int j = 0;
+            int size = 0;
+            while (i < leftLows.length || j < rightLows.length) {
+                if (j == rightLows.length || (i < leftLows.length && leftLows[i] < rightLows[j])) {
+                    merged[size++] = leftLows[i++];
+                } else if (i == leftLows.length || leftLows[i] > rightLows[j]) {
+                    merged[size++] = rightLows[j++];
+                } else {
+                    merged[size++] = leftLows[i++];
+                    j++;
+                }
+            }
+            return Arrays.copyOf(merged, size);
+        }
+        long[] words = toWords(left);
+        if (right instanceof char[] lows) {
+            for (char low : lows) {
+                words[low >>> 6] |= 1L << low;
+            }
+        } else {
+            long[] rightWords = (long[]) right;
+            for (int word = 0; word < WORDS; word++) {
+                words[word] |= rightWords[word];
+            }
+        }
+        return normalize(words);
+    }
+
+    private static Object andNot(Object left, Object right) {
+        if (left instanceof char[] lows) {
+            return filter(lows, right, false);
+        }
+        long[] words = ((long[]) left).clone();
+        if (right instanceof char[] lows) {
+            for (char low : lows) {
+                words[low >>> 6] &= ~(1L << low);
+            }
+        } else {
+            long[] rightWords = (long[]) right;
+            for (int word = 0; word < WORDS; word++) {
+                words[word] &= ~rightWords[word];
+            }
+        }
+        return normalize(words);
+    }
+
+    /**
+     * The lows that are ({@code keep = true}) or are not in {@code other}; {@code null} when none is left.
+     */
+    private static char[] filter(char[] lows, Object other, boolean keep) {
+        char[] kept = new char[lows.length];
+        int size = 0;
+        for (char low : lows) {
+            if (containerContains(other, low) == keep) {
+                kept[size++] = low;
+            }
+        }
+        return size == 0 ? null : Arrays.copyOf(kept, size);
+    }
+
+    private static long[] toWords(Object container) {
+        if (container instanceof long[] words) {
+            return words.clone();
+        }
+        long[] words = new long[WORDS];
+        for (char low : (char[]) container) {
+            words[low >>> 6] |= 1L << low;
+        }
+        return words;
+    }
+
+    /**
+     * The container for a chunk held as words: {@code null} when empty, an array when sparse enough.
+     */
+    private static Object normalize(long[] words) {
+        int cardinality = containerCardinality(words);
+        if (cardinality == 0) {
+            return null;
+        }
+        if (cardinality > ARRAY_LIMIT) {
+            return words;
+        }
+        char[] lows = new char[cardinality];
+        int size = 0;
+        for (int word = 0; word < WORDS; word++) {
+            long bits = words[word];
+            while (bits != 0) {
+                lows[size++] = (char) ((word << 6) | Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+        return lows;
+    }
+
+    /**
+     * Collects result chunks in key order, dropping empty ones.
+     */
+    private static final class Combiner {
+        private char[] keys;
+        private Object[] containers;
+        private int size;
+
+        private Combiner(int capacity) {
+            this.keys = new char[Math.max(capacity, 1)];
+            this.containers = new Object[Math.max(capacity, 1)];
+        }
+
+        private void add(char key, Object container) {
+            if (container == null) {
+                return;
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                containers = Arrays.copyOf(containers, size * 2);
+            }
+            keys[size] = key;
+            containers[size++] = container;
+        }
+
+        private CriteriaBitmap build() {
+            return size == 0 ? EMPTY : new CriteriaBitmap(Arrays.copyOf(keys, size), Arrays.copyOf(containers, size));
+        }
+    }
+
+    /**
+     * Builds a bitmap from ordinals added in ascending order.
+     */
+    public static final class Builder {
+        private final Combiner chunks = new Combiner(1);
+        private char key;
+        private char[] lows = new char[16];
+        private int size;
+        private long[] words;
+        private int last = -1;
+
+        public Builder add(int ordinal) {
+            if (ordinal < 0 || ordinal < last) {
+                throw new IllegalArgumentException("Ordinals must be non-negative and ascending: " + ordinal);
+            }
+            if (ordinal == last) {
+                return this;
+            }
+            last = ordinal;
+            char ordinalKey = (char) (ordinal >>> 16);
+            if (ordinalKey != key) {
+                flush();
+                key = ordinalKey;
+            }
+            char low = (char) ordinal;
+            if (words != null) {
+                words[low >>> 6] |= 1L << low;
+            } else if (size < ARRAY_LIMIT) {
+                if (size == lows.length) {
+                    lows = Arrays.copyOf(lows, size * 2);
+                }
+                lows[size++] = low;
+            } else {
+                words = toWords(Arrays.copyOf(lows, size));
+                words[low >>> 6] |= 1L << low;
+            }
+            return this;
+        }
+
+        public CriteriaBitmap build() {
+            flush();
+            return chunks.build();
+        }
+
+        private void flush() {
+            if (words != null) {
+                chunks.add(key, words);
+            } else if (size > 0) {
+                chunks.add(key, Arrays.copyOf(lows, size));
+            }
+            words = null;
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.weather.alert.domain.service.evaluation;
+
+import com.weather.alert.domain.model.AlertCriteria;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grid-bucket index over criteria locations, used to narrow which criteria need a full rule evaluation
+ * against a weather data point.
+ * <p>
+ * Only criteria whose location rule is purely radius-based can be excluded by position. Criteria watching a point
+ * by its zone codes are left to {@link CriteriaZoneIndex} and never returned. Criteria that also match by location
+ * text, or that have no location rule, are returned for every lookup.
+ */
+public final class CriteriaSpatialIndex {
+
+    private static final double CELL_SIZE_DEGREES = 1.0;
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final int MAX_CELLS_PER_CRITERIA = 64;
+
+    private final List<AlertCriteria> unconstrained;
+    private final List<AlertCriteria> wideRadius;
+    private final Map<Long, List<AlertCriteria>> cells;
+    private final int size;
+
+    private CriteriaSpatialIndex(
+            List<AlertCriteria> unconstrained,
+            List<AlertCriteria> wideRadius,
+            Map<Long, List<AlertCriteria>> cells,
+            int size) {
+        this.unconstrained = unconstrained;
+        this.wideRadius = wideRadius;
+        this.cells = cells;
+        this.size = size;
+    }
+
+    public static CriteriaSpatialIndex build(Collection<AlertCriteria> criteria) {
+        List<AlertCriteria> unconstrained = new ArrayList<>();
+        List<AlertCriteria> wideRadius = new ArrayList<>();
+        Map<Long, List<AlertCriteria>> cells = new HashMap<>();
+        int size = 0;
+        if (criteria == null) {
+            return new CriteriaSpatialIndex(unconstrained, wideRadius, cells, size);
+        }
+
+        for (AlertCriteria item : criteria) {
+            if (item == null) {
+                continue;
+            }
+            size++;
+            if (CompiledAlertCriteria.isZoneOnly(item)) {
+                continue;
+            }
+            if (!CompiledAlertCriteria.isRadiusOnly(item)) {
+                unconstrained.add(item);
+                continue;
+            }
+
+            double latitude = item.getLatitude();
+            double longitude = item.getLongitude();
+            double angularRadius = Math.max(0.0, item.getRadiusKm()) / EARTH_RADIUS_KM;
+            double minLatitude = latitude - Math.toDegrees(angularRadius);
+            double maxLatitude = latitude + Math.toDegrees(angularRadius);
+            double sinRatio = Math.sin(angularRadius) / Math.cos(Math.toRadians(latitude));
+            if (angularRadius >= Math.PI / 2 || minLatitude <= -90.0 || maxLatitude >= 90.0 || sinRatio >= 1.0) {
+                wideRadius.add(item);
+                continue;
+            }
+            double longitudeSpan = Math.toDegrees(Math.asin(sinRatio));
+
+            int minRow = cellRow(minLatitude);
+            int maxRow = cellRow(maxLatitude);
+            int minColumn = cellColumn(longitude - longitudeSpan);
+            int maxColumn = cellColumn(longitude + longitudeSpan);
+            long cellCount = (long) (maxRow - minRow + 1) * (maxColumn - minColumn + 1);
+            if (cellCount > MAX_CELLS_PER_CRITERIA) {
+                wideRadius.add(item);
+                continue;
+            }
+
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int column = minColumn; column <= maxColumn; column++) {
+                    cells.computeIfAbsent(cellKey(row, wrapColumn(column)), key -> new ArrayList<>()).add(item);
+                }
+            }
+        }
+        return new CriteriaSpatialIndex(unconstrained, wideRadius, cells, size);
+    }
+
+    /**
+     * Criteria that may match weather data at the given position. A missing position only excludes
+     * radius-only criteria, because those can never match data without coordinates.
+     */
+    public List<AlertCriteria> candidates(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return unconstrained;
+        }
+        List<AlertCriteria> bucket = cells.get(cellKey(cellRow(latitude), wrapColumn(cellColumn(longitude))));
+        if ((bucket == null || bucket.isEmpty()) && wideRadius.isEmpty()) {
+            return unconstrained;
+        }
+        List<AlertCriteria> candidates = new ArrayList<>(
+                unconstrained.size() + wideRadius.size() + (bucket == null ? 0 : bucket.size()));
+        candidates.addAll(unconstrained);
+        candidates.addAll(wideRadius);
+        if (bucket != null) {
+            candidates.addAll(bucket);
+        }
+        return candidates;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static int cellRow(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / CELL_SIZE_DEGREES);
+    }
+
+    private static int cellColumn(double longitude) {
+        return (int) Math.floor((longitude + 180.0) / CELL_SIZE_DEGREES);
+    }
+
+    private static int wrapColumn(int column) {
+        int columns = (int) Math.round(360.0 / CELL_SIZE_DEGREES);
+        return Math.floorMod(column, columns);
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+}
@@ -0,0 +1,263 @@
+package com.weather.alert.domain.service.evaluation;
+
+import com.weather.alert.domain.model.AlertCriteria;
+import com.weather.alert.domain.model.WeatherData;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton over the distinct location and event type texts of a set of criteria, used to narrow
+ * which criteria need a full rule evaluation against a weather data item.
+ * <p>
+ * The item's location is scanned once, and its event type, headline and description once, each yielding every
+ * pattern that occurs in it, so the cost depends on the text length rather than on the number of criteria. A
+ * criteria is dropped when a text it requires does not occur: its event type, and its location unless a
+ * coordinate radius can match instead. Surviving criteria are still evaluated in full, so the index only has to
+ * be a superset of the matches. Characters are compared the way {@link String#regionMatches(boolean, int, String,
+ * int, int)} ignores case, as {@link CompiledAlertCriteria} does.
+ */
+public final class CriteriaTextIndex {
+
+    private static final int NONE = -1;
+    private static final int[] NO_PATTERNS = new int[0];
+
+    private final Map<AlertCriteria, Requirement> requirements;
+    private final boolean eventTypePatterns;
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failure;
+    private final int[][] output;
+    private final int patternCount;
+
+    private CriteriaTextIndex(
+            Map<AlertCriteria, Requirement> requirements,
+            boolean eventTypePatterns,
+            char[][] labels,
+            int[][] targets,
+            int[] failure,
+            int[][] output,
+            int patternCount) {
+        this.requirements = requirements;
+        this.eventTypePatterns = eventTypePatterns;
+        this.labels = labels;
+        this.targets = targets;
+        this.failure = failure;
+        this.output = output;
+        this.patternCount = patternCount;
+    }
+
+    public static CriteriaTextIndex build(Collection<AlertCriteria> criteria) {
+        Map<AlertCriteria, Requirement> requirements = new IdentityHashMap<>();
+        Map<String, Integer> patternIds = new HashMap<>();
+        List<TreeMap<Character, Integer>> edges = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        edges.add(new TreeMap<>());
+        ends.add(new ArrayList<>());
+        boolean eventTypePatterns = false;
+        if (criteria != null) {
+            for (AlertCriteria item : criteria) {
+                if (item == null) {
+                    continue;
+                }
+                boolean coordinateRule = item.getLatitude() != null
+                        && item.getLongitude() != null
+                        && item.getRadiusKm() != null;
+                int location = !coordinateRule && hasText(item.getLocation())
+                        ? patternId(item.getLocation(), patternIds, edges, ends)
+                        : NONE;
+                int eventType = hasText(item.getEventType())
+                        ? patternId(item.getEventType(), patternIds, edges, ends)
+                        : NONE;
+                eventTypePatterns |= eventType != NONE;
+                if (location != NONE || eventType != NONE) {
+                    requirements.put(item, new Requirement(location, eventType));
+                }
+            }
+        }
+
+        int states = edges.size();
+        char[][] labels = new char[states][];
+        int[][] targets = new int[states][];
+        for (int state = 0; state < states; state++) {
+            TreeMap<Character, Integer> stateEdges = edges.get(state);
+            labels[state] = new char[stateEdges.size()];
+            targets[state] = new int[stateEdges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : stateEdges.entrySet()) {
+                labels[state][i] = edge.getKey();
+                targets[state][i++] = edge.getValue();
+            }
+        }
+
+        // Breadth-first, so the failure state of every shallower state is final when a deeper one needs it.
+        int[] failure = new int[states];
+        int[][] output = new int[states][];
+        output[0] = NO_PATTERNS;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            failure[child] = 0;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            output[state] = merge(ends.get(state), output[failure[state]]);
+            for (int i = 0; i < labels[state].length; i++) {
+                int child = targets[state][i];
+                int fallback = failure[state];
+                int next = step(labels, targets, fallback, labels[state][i]);
+                while (fallback != 0 && next == NONE) {
+                    fallback = failure[fallback];
+                    next = step(labels, targets, fallback, labels[state][i]);
+                }
+                failure[child] = next == NONE ? 0 : next;
+                queue.add(child);
+            }
+        }
+        return new CriteriaTextIndex(
+                requirements, eventTypePatterns, labels, targets, failure, output, patternIds.size());
+    }
+
+    /**
+     * The candidates that may still match the weather data, in their original order. Criteria this index was not
+     * built from are kept.
+     */
+    public List<AlertCriteria> filter(List<AlertCriteria> candidates, WeatherData weatherData) {
+        if (requirements.isEmpty() || candidates.isEmpty() || weatherData == null) {
+            return candidates;
+        }
+        BitSet locationHits = new BitSet(patternCount);
+        scan(weatherData.getLocation(), locationHits);
+        BitSet eventTypeHits = locationHits;
+        if (eventTypePatterns) {
+            eventTypeHits = new BitSet(patternCount);
+            scan(weatherData.getEventType(), eventTypeHits);
+            scan(weatherData.getHeadline(), eventTypeHits);
+            scan(weatherData.getDescription(), eventTypeHits);
+        }
+        List<AlertCriteria> remaining = null;
+        for (int i = 0; i < candidates.size(); i++) {
+            AlertCriteria candidate = candidates.get(i);
+            Requirement requirement = requirements.get(candidate);
+            boolean keep = requirement == null
+                    || ((requirement.location() == NONE || locationHits.get(requirement.location()))
+                    && (requirement.eventType() == NONE || eventTypeHits.get(requirement.eventType())));
+            if (keep && remaining != null) {
+                remaining.add(candidate);
+            } else if (!keep && remaining == null) {
+                remaining = new ArrayList<>(candidates.subList(0, i));
+            }
+        }
+        return remaining == null ? candidates : remaining;
+    }
+
+    /**
+     * Number of distinct texts in the automaton.
+     */
+    public int patternCount() {
+        return patternCount;
+    }
+
+    private void scan(String text, BitSet hits) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        int state = 0;
+        for (int position = 0; position < text.length(); position++) {
+            char c = fold(text.charAt(position));
+            int next = step(labels, targets, state, c);
+            while (state != 0 && next == NONE) {
+                state = failure[state];
+                next = step(labels, targets, state, c);
+            }
+            state = next == NONE ? 0 : next;
+            for (int pattern : output[state]) {
+                hits.set(pattern);
+            }
+        }
+    }
+
+    private static int patternId(
+            String text,
+            Map<String, Integer> patternIds,
+            List<TreeMap<Character, Integer>> edges,
+            List<List<Integer>> ends) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder folded = new StringBuilder(lower.length());
+        for (int i = 0; i < lower.length(); i++) {
+            folded.append(fold(lower.charAt(i)));
+        }
+        String pattern = folded.toString();
+        Integer existing = patternIds.get(pattern);
+        if (existing != null) {
+            return existing;
+        }
+        int id = patternIds.size();
+        patternIds.put(pattern, id);
+        int state = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            Integer next = edges.get(state).get(pattern.charAt(i));
+            if (next == null) {
+                next = edges.size();
+                edges.add(new TreeMap<>());
+                ends.add(new ArrayList<>());
+                edges.get(state).put(pattern.charAt(i), next);
+            }
+            state = next;
+        }
+        ends.get(state).add(id);
+        return id;
+    }
+
+    private static int step(char[][] labels, int[][] targets, int state, char c) {
+        char[] stateLabels = labels[state];
+        int low = 0;
+        int high = stateLabels.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char label = stateLabels[middle];
+            if (label < c) {
+                low = middle + 1;
+            } else if (label > c) {
+                high = middle - 1;
+            } else {
+                return targets[state][middle];
+            }
+        }
+        return NONE;
+    }
+
+    private static int[] merge(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        int[] merged = new int[own.size() + inherited.length];
+        for (int i = 0; i < own.size(); i++) {
+            merged[i] = own.get(i);
+        }
+        System.arraycopy(inherited, 0, merged, own.size(), inherited.length);
+        return merged;
+    }
+
+    /**
+     * Two characters are equal ignoring case, as {@code regionMatches} decides it, exactly when their folds are.
+     */
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private record Requirement(int location, int eventType) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.weather.alert.domain.service.evaluation;
+
+import com.weather.alert.domain.model.AlertCriteria;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index from NWS forecast zone and county codes to the criteria located in them, used to find the
+ * criteria an alert can reach from the UGC codes it was issued for.
+ * <p>
+ * Only criteria watching a point, with stored codes and neither a radius nor location text, are indexed: a listed
+ * zone or county places the point inside the alert area but says nothing about how far a radius reaches.
+ * {@link CriteriaSpatialIndex} leaves these criteria out. Criteria matching by location text are still returned by
+ * the spatial index for every lookup.
+ */
+public final class CriteriaZoneIndex {
+
+    private final Map<String, List<AlertCriteria>> byCode;
+
+    private CriteriaZoneIndex(Map<String, List<AlertCriteria>> byCode) {
+        this.byCode = byCode;
+    }
+
+    public static CriteriaZoneIndex build(Collection<AlertCriteria> criteria) {
+        Map<String, List<AlertCriteria>> byCode = new HashMap<>();
+        if (criteria == null) {
+            return new CriteriaZoneIndex(byCode);
+        }
+        for (AlertCriteria item : criteria) {
+            if (item == null || !CompiledAlertCriteria.isZoneOnly(item)) {
+                continue;
+            }
+            String zone = normalize(item.getForecastZone());
+            String county = normalize(item.getCounty());
+            if (zone != null) {
+                byCode.computeIfAbsent(zone, key -> new ArrayList<>()).add(item);
+            }
+            if (county != null && !county.equals(zone)) {
+                byCode.computeIfAbsent(county, key -> new ArrayList<>()).add(item);
+            }
+        }
+        return new CriteriaZoneIndex(byCode);
+    }
+
+    /**
+     * Indexed criteria located in any of the given zones or counties, each once.
+     */
+    public List<AlertCriteria> candidates(Collection<String> codes) {
+        if (codes == null || codes.isEmpty() || byCode.isEmpty()) {
+            return List.of();
+        }
+        List<AlertCriteria> single = null;
+        List<AlertCriteria> candidates = null;
+        Set<AlertCriteria> seen = null;
+        for (String code : codes) {
+            String normalized = normalize(code);
+            List<AlertCriteria> bucket = normalized == null ? null : byCode.get(normalized);
+            if (bucket == null) {
+                continue;
+            }
+            if (single == null) {
+                single = bucket;
+                continue;
+            }
+            if (candidates == null) {
+                candidates = new ArrayList<>(single);
+                seen = Collections.newSetFromMap(new IdentityHashMap<>());
+                seen.addAll(single);
+            }
+            for (AlertCriteria item : bucket) {
+                if (seen.add(item)) {
+                    candidates.add(item);
+                }
+            }
+        }
+        if (candidates != null) {
+            return candidates;
+        }
+        return single == null ? List.of() : single;
+    }
+
+    public int codeCount() {
+        return byCode.size();
+    }
+
+    private static String normalize(String code) {
+        if (code == null || code.isBlank()) {
+            return null;
+        }
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,181 @@
+package com.weather.alert.domain.service.evaluation;
+
+import com.weather.alert.domain.model.WeatherData;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Trigger thresholds of criteria that share a forecast (one gridpoint), kept as primitive columns sorted by
+ * threshold, one column per measured value and comparison.
+ * <p>
+ * For one forecast period the criteria a column triggers are a prefix (above, at least) or a suffix (below) of
+ * the column, found by binary search. Walking the periods in order and only visiting the part of each column not
+ * triggered yet gives every criteria the first period at which any of its trigger rules fires, in
+ * {@code O(periods * log criteria + criteria)}. No period before that one can match the criteria, so its full
+ * evaluation can start there.
+ */
+public final class ForecastThresholdColumns {
+
+    private final Map<Column, double[]> thresholds;
+    private final Map<Column, int[]> owners;
+    private final boolean[] untriggered;
+
+    private ForecastThresholdColumns(Map<Column, double[]> thresholds, Map<Column, int[]> owners, boolean[] untriggered) {
+        this.thresholds = thresholds;
+        this.owners = owners;
+        this.untriggered = untriggered;
+    }
+
+    /**
+     * @param criteria the criteria sharing a forecast; results are indexed by position in this list
+     */
+    public static ForecastThresholdColumns build(List<CompiledAlertCriteria> criteria) {
+        Builder builder = new Builder();
+        boolean[] untriggered = new boolean[criteria.size()];
+        for (int owner = 0; owner < criteria.size(); owner++) {
+            untriggered[owner] = !criteria.get(owner).addTriggerThresholds(builder, owner);
+        }
+        Map<Column, double[]> thresholds = new EnumMap<>(Column.class);
+        Map<Column, int[]> owners = new EnumMap<>(Column.class);
+        builder.entries.forEach((column, entries) -> {
+            entries.sort((left, right) -> Double.compare(left.threshold(), right.threshold()));
+            thresholds.put(column, entries.stream().mapToDouble(Entry::threshold).toArray());
+            owners.put(column, entries.stream().mapToInt(Entry::owner).toArray());
+        });
+        return new ForecastThresholdColumns(thresholds, owners, untriggered);
+    }
+
+    /**
+     * For every criteria, the index of the first period at which one of its trigger rules fires, or
+     * {@code periods.size()} when none does. Criteria without trigger rules get {@code 0}: any period may match.
+     */
+    public int[] firstTriggeredPeriods(List<WeatherData> periods) {
+        int[] first = new int[untriggered.length];
+        for (int owner = 0; owner < first.length; owner++) {
+            first[owner] = untriggered[owner] ? 0 : periods.size();
+        }
+        for (Map.Entry<Column, double[]> entry : thresholds.entrySet()) {
+            Column column = entry.getKey();
+            double[] columnThresholds = entry.getValue();
+            int[] columnOwners = owners.get(column);
+            // Thresholds triggered so far: [0, triggered) for prefix columns, [triggered, length) for BELOW.
+            int triggered = column.comparison == Comparison.BELOW ? columnThresholds.length : 0;
+            for (int period = 0; period < periods.size(); period++) {
+                Double measured = column.value.apply(periods.get(period));
+                if (measured == null || measured.isNaN()) {
+                    continue;
+                }
+                double value = measured;
+                if (column.comparison == Comparison.BELOW) {
+                    int from = firstAbove(columnThresholds, value);
+                    for (int i = from; i < triggered; i++) {
+                        first[columnOwners[i]] = Math.min(first[columnOwners[i]], period);
+                    }
+                    triggered = Math.min(triggered, from);
+                    if (triggered == 0) {
+                        break;
+                    }
+                } else {
+                    int to = column.comparison == Comparison.ABOVE
+                            ? firstAtLeast(columnThresholds, value)
+                            : firstAbove(columnThresholds, value);
+                    for (int i = triggered; i < to; i++) {
+                        first[columnOwners[i]] = Math.min(first[columnOwners[i]], period);
+                    }
+                    triggered = Math.max(triggered, to);
+                    if (triggered == columnThresholds.length) {
+                        break;
+                    }
+                }
+            }
+        }
+        return first;
+    }
+
+    public int size() {
+        return untriggered.length;
+    }
+
+    /**
+     * Index of the first threshold {@code >= value}.
+     */
+    private static int firstAtLeast(double[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Index of the first threshold {@code > value}.
+     */
+    private static int firstAbove(double[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    enum Comparison {
+        ABOVE,
+        AT_LEAST,
+        BELOW
+    }
+
+    /**
+     * One measured value and how trigger rules compare it, in the units {@link CompiledAlertCriteria} compares.
+     */
+    enum Column {
+        TEMPERATURE_ABOVE(WeatherData::getTemperature, Comparison.ABOVE),
+        TEMPERATURE_BELOW(WeatherData::getTemperature, Comparison.BELOW),
+        WIND_SPEED_ABOVE(WeatherData::getWindSpeed, Comparison.ABOVE),
+        PRECIPITATION_AMOUNT_ABOVE(CompiledAlertCriteria::precipitationAmount, Comparison.ABOVE),
+        PRECIPITATION_AMOUNT_AT_LEAST(CompiledAlertCriteria::precipitationAmount, Comparison.AT_LEAST),
+        PRECIPITATION_PROBABILITY_AT_LEAST(CompiledAlertCriteria::precipitationProbability, Comparison.AT_LEAST);
+
+        private final Function<WeatherData, Double> value;
+        private final Comparison comparison;
+
+        Column(Function<WeatherData, Double> value, Comparison comparison) {
+            this.value = value;
+            this.comparison = comparison;
+        }
+    }
+
+    static final class Builder {
+        private final Map<Column, List<Entry>> entries = new EnumMap<>(Column.class);
+
+        private Builder() {
+        }
+
+        /**
+         * NaN thresholds are skipped: no comparison against them is ever true.
+         */
+        void add(Column column, double threshold, int owner) {
+            if (!Double.isNaN(threshold)) {
+                entries.computeIfAbsent(column, ignored -> new ArrayList<>()).add(new Entry(threshold, owner));
+            }
+        }
+    }
+
+    private record Entry(double threshold, int owner) {
+    }
+}
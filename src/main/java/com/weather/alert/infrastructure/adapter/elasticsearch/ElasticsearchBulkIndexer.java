@@ -0,0 +1,228 @@
+package com.weather.alert.infrastructure.adapter.elasticsearch;
+
+import com.weather.alert.infrastructure.config.ElasticsearchBulkIndexProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Buffers weather documents and writes them to Elasticsearch with bulk requests from a single background thread,
+ * so callers never wait on an Elasticsearch round trip.
+ * <p>
+ * A flush runs when {@code batchSize} documents are buffered or every {@code flushIntervalMillis}. Documents that
+ * fail inside a bulk response (or whose whole request fails) are retried on following flushes until
+ * {@code maxAttempts} is reached. When the buffer is full the configured overflow policy either waits briefly
+ * for space or drops the document; drops are counted, never thrown to the caller.
+ * <p>
+ * Owned by {@link ElasticsearchWeatherAdapter}, which shuts it down with the application context.
+ */
+@Slf4j
+class ElasticsearchBulkIndexer {
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchBulkIndexProperties properties;
+    private final BlockingQueue<PendingDocument> queue;
+    private final Deque<PendingDocument> retries = new ArrayDeque<>();
+    private final ScheduledExecutorService flusher;
+    private final AtomicBoolean sizeFlushScheduled = new AtomicBoolean();
+    private final Timer flushTimer;
+    private final Counter indexedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+
+    ElasticsearchBulkIndexer(
+            ElasticsearchOperations elasticsearchOperations,
+            ElasticsearchBulkIndexProperties properties,
+            MeterRegistry meterRegistry) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(properties.getQueueCapacity(), 1));
+        this.flushTimer = meterRegistry.timer("weather.es.bulk.flush.duration");
+        this.indexedCounter = meterRegistry.counter("weather.es.bulk.documents", "outcome", "indexed");
+        this.retriedCounter = meterRegistry.counter("weather.es.bulk.documents", "outcome", "retried");
+        this.failedCounter = meterRegistry.counter("weather.es.bulk.documents", "outcome", "failed");
+        this.droppedCounter = meterRegistry.counter("weather.es.bulk.documents", "outcome", "dropped");
+        meterRegistry.gauge("weather.es.bulk.queue.depth", queue, BlockingQueue::size);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "es-bulk-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = Math.max(properties.getFlushIntervalMillis(), 10);
+        flusher.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Buffer a document for indexing.
+     *
+     * @return false when the document was dropped because the buffer stayed full
+     */
+    boolean enqueue(WeatherDataDocument document) {
+        if (document == null) {
+            return true;
+        }
+        PendingDocument pending = new PendingDocument(document, 0);
+        boolean accepted = queue.offer(pending);
+        if (!accepted && properties.getOverflowPolicy() == ElasticsearchBulkIndexProperties.OverflowPolicy.BLOCK) {
+            try {
+                accepted = queue.offer(pending, Math.max(properties.getBlockTimeoutMillis(), 0), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!accepted) {
+            droppedCounter.increment();
+            log.warn("Elasticsearch bulk buffer full; dropped weather document {}", document.getId());
+            return false;
+        }
+        if (queue.size() >= batchSize() && sizeFlushScheduled.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                sizeFlushScheduled.set(false);
+                flushSafely();
+            });
+        }
+        return true;
+    }
+
+    /**
+     * Write everything buffered so far. Runs on the flusher thread in normal operation.
+     */
+    synchronized void flush() {
+        List<PendingDocument> batch = new ArrayList<>(batchSize());
+        while (true) {
+            batch.clear();
+            while (batch.size() < batchSize() && !retries.isEmpty()) {
+                batch.add(retries.pollFirst());
+            }
+            queue.drainTo(batch, batchSize() - batch.size());
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<PendingDocument> failed = writeBatch(batch);
+            if (!failed.isEmpty()) {
+                scheduleRetries(failed);
+                // Leave the rest for the next interval so a struggling cluster gets some backoff.
+                return;
+            }
+        }
+    }
+
+    /**
+     * Documents waiting to be written. Holds the flush lock, since {@code retries} is only touched under it.
+     */
+    synchronized int bufferedCount() {
+        return queue.size() + retries.size();
+    }
+
+    void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        flushSafely();
+        int discarded = bufferedCount();
+        if (discarded > 0) {
+            log.warn("Discarding {} weather documents that could not be indexed before shutdown", discarded);
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.error("Unexpected error flushing Elasticsearch bulk buffer", ex);
+        }
+    }
+
+    /**
+     * @return documents that should be retried
+     */
+    private List<PendingDocument> writeBatch(List<PendingDocument> batch) {
+        // The same document is often indexed more than once per cycle; only the latest version is sent.
+        Map<Object, PendingDocument> unique = new LinkedHashMap<>();
+        for (PendingDocument pending : batch) {
+            Object key = pending.document().getId() != null ? pending.document().getId() : pending;
+            unique.put(key, pending);
+        }
+        List<IndexQuery> queries = new ArrayList<>(unique.size());
+        for (PendingDocument pending : unique.values()) {
+            queries.add(new IndexQueryBuilder()
+                    .withId(pending.document().getId())
+                    .withObject(pending.document())
+                    .build());
+        }
+
+        long start = System.nanoTime();
+        try {
+            elasticsearchOperations.bulkIndex(queries, WeatherDataDocument.class);
+            indexedCounter.increment(unique.size());
+            log.debug("Bulk indexed {} weather documents", unique.size());
+            return List.of();
+        } catch (BulkFailureException ex) {
+            List<PendingDocument> failed = new ArrayList<>();
+            for (PendingDocument pending : unique.values()) {
+                String id = pending.document().getId();
+                if (id != null && ex.getFailedDocuments().containsKey(id)) {
+                    failed.add(pending);
+                }
+            }
+            indexedCounter.increment(unique.size() - failed.size());
+            log.warn(
+                    "Bulk index partially failed: {} of {} weather documents rejected",
+                    ex.getFailedDocuments().size(),
+                    unique.size());
+            return failed;
+        } catch (RuntimeException ex) {
+            log.warn("Bulk index request for {} weather documents failed: {}", unique.size(), ex.getMessage());
+            return new ArrayList<>(unique.values());
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void scheduleRetries(List<PendingDocument> failed) {
+        int maxAttempts = Math.max(properties.getMaxAttempts(), 1);
+        for (PendingDocument pending : failed) {
+            PendingDocument next = new PendingDocument(pending.document(), pending.attempts() + 1);
+            if (next.attempts() >= maxAttempts) {
+                failedCounter.increment();
+                log.error(
+                        "Giving up indexing weather document {} after {} attempts",
+                        pending.document().getId(),
+                        next.attempts());
+            } else {
+                retriedCounter.increment();
+                retries.addLast(next);
+            }
+        }
+    }
+
+    private int batchSize() {
+        return Math.max(properties.getBatchSize(), 1);
+    }
+
+    private record PendingDocument(WeatherDataDocument document, int attempts) {
+    }
+}
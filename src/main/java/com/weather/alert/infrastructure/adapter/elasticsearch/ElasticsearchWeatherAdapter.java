@@ -3,7 +3,9 @@ package com.weather.alert.infrastructure.adapter.elasticsearch;
 import com.weather.alert.domain.model.PagedResult;
 import com.weather.alert.domain.model.WeatherData;
 import com.weather.alert.domain.port.WeatherDataSearchPort;
-import lombok.RequiredArgsConstructor;
+import com.weather.alert.infrastructure.config.ElasticsearchBulkIndexProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -19,22 +21,40 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class ElasticsearchWeatherAdapter implements WeatherDataSearchPort {
     
     private final ElasticsearchWeatherRepository repository;
     private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchBulkIndexer bulkIndexer;
+
+    public ElasticsearchWeatherAdapter(
+            ElasticsearchWeatherRepository repository,
+            ElasticsearchOperations elasticsearchOperations,
+            ElasticsearchBulkIndexProperties bulkIndexProperties,
+            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.bulkIndexer = new ElasticsearchBulkIndexer(elasticsearchOperations, bulkIndexProperties, meterRegistry);
+    }
     
+    /**
+     * Buffers the document for the next bulk request; does not wait for Elasticsearch.
+     */
     @Override
     public void indexWeatherData(WeatherData weatherData) {
-        try {
-            WeatherDataDocument document = toDocument(weatherData);
-            repository.save(document);
-            log.debug("Indexed weather data: {}", weatherData.getId());
-        } catch (Exception e) {
-            log.error("Error indexing weather data", e);
+        if (weatherData == null) {
+            return;
         }
+        bulkIndexer.enqueue(toDocument(weatherData));
+    }
+
+    /**
+     * Flush buffered documents before the Elasticsearch client is closed.
+     */
+    @PreDestroy
+    public void shutdown() {
+        bulkIndexer.shutdown();
     }
 
     @Override
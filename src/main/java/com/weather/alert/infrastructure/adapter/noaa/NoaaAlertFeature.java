@@ -5,5 +5,6 @@ import lombok.Data;
 @Data
 public class NoaaAlertFeature {
     private String id;
+    private NoaaAlertGeometry geometry;
     private NoaaAlertProperties properties;
 }
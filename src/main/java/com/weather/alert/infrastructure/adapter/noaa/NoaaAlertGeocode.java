@@ -0,0 +1,15 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class NoaaAlertGeocode {
+    /**
+     * UGC zone and county codes the alert was issued for, e.g. {@code FLZ045} and {@code FLC095}.
+     */
+    @JsonProperty("UGC")
+    private List<String> ugc;
+}
@@ -0,0 +1,51 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.weather.alert.domain.model.AlertGeometry;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * GeoJSON geometry of an alert feature. NOAA sends a {@code Polygon} for storm-based warnings and {@code null}
+ * for alerts issued by zone only.
+ */
+@Data
+public class NoaaAlertGeometry {
+    private String type;
+    private JsonNode coordinates;
+
+    /**
+     * @return the rings as an {@link AlertGeometry}, or {@code null} for other geometry types or no usable ring
+     */
+    AlertGeometry toAlertGeometry() {
+        if (type == null || coordinates == null || !coordinates.isArray()) {
+            return null;
+        }
+        List<double[]> rings = new ArrayList<>();
+        switch (type) {
+            case "Polygon" -> addRings(coordinates, rings);
+            case "MultiPolygon" -> coordinates.forEach(polygon -> addRings(polygon, rings));
+            default -> {
+                return null;
+            }
+        }
+        return AlertGeometry.of(rings);
+    }
+
+    private static void addRings(JsonNode polygon, List<double[]> rings) {
+        for (JsonNode ring : polygon) {
+            double[] points = new double[ring.size() * 2];
+            int length = 0;
+            for (JsonNode position : ring) {
+                if (position.size() >= 2 && position.get(0).isNumber() && position.get(1).isNumber()) {
+                    points[length++] = position.get(0).doubleValue();
+                    points[length++] = position.get(1).doubleValue();
+                }
+            }
+            rings.add(length == points.length ? points : Arrays.copyOf(points, length));
+        }
+    }
+}
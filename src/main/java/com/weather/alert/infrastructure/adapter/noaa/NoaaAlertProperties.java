@@ -11,6 +11,7 @@ public class NoaaAlertProperties {
     private String headline;
     private String description;
     private String areaDesc;
+    private NoaaAlertGeocode geocode;
     private String onset;
     private String expires;
     private String status;
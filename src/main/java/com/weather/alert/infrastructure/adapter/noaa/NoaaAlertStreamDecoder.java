@@ -0,0 +1,160 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Streaming decoder for NOAA alert collections ({@code {"features": [...]}}).
+ * <p>
+ * Buffers are fed to Jackson's non-blocking parser as they arrive and released immediately. Only the feature
+ * currently being read is held as tokens; it is bound to a {@link NoaaAlertFeature}, handed to the mapper, and its
+ * tokens are dropped. The raw document is never held, so the WebClient in-memory limit does not apply to this
+ * path.
+ */
+final class NoaaAlertStreamDecoder {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private NoaaAlertStreamDecoder() {
+    }
+
+    static <T> Mono<List<T>> decode(Flux<DataBuffer> body, Function<NoaaAlertFeature, T> mapper) {
+        return Mono.defer(() -> {
+            FeatureCollector<T> collector = new FeatureCollector<>(mapper);
+            return body
+                    .doOnNext(collector::feed)
+                    .then(Mono.fromCallable(collector::finish))
+                    .doFinally(signal -> collector.close());
+        });
+    }
+
+    private static final class FeatureCollector<T> {
+
+        private final Function<NoaaAlertFeature, T> mapper;
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private final List<T> results = new ArrayList<>();
+        private int depth;
+        private String topLevelField;
+        private boolean inFeatures;
+        private TokenBuffer feature;
+        private int featureDepth;
+
+        private FeatureCollector(Function<NoaaAlertFeature, T> mapper) {
+            this.mapper = mapper;
+            try {
+                this.parser = MAPPER.getFactory().createNonBlockingByteArrayParser();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        void feed(DataBuffer buffer) {
+            try {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                feeder.feedInput(bytes, 0, bytes.length);
+                drain();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        List<T> finish() throws IOException {
+            feeder.endOfInput();
+            drain();
+            if (depth != 0 || feature != null) {
+                throw new IOException("Truncated NOAA alert document");
+            }
+            return results;
+        }
+
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // nothing left to release
+            }
+        }
+
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (feature != null) {
+                    capture(token);
+                    continue;
+                }
+                switch (token) {
+                    case START_OBJECT -> {
+                        depth++;
+                        if (inFeatures && depth == 3) {
+                            feature = new TokenBuffer(parser, null);
+                            feature.copyCurrentEvent(parser);
+                            featureDepth = 1;
+                        }
+                    }
+                    case START_ARRAY -> {
+                        depth++;
+                        if (depth == 2 && "features".equals(topLevelField)) {
+                            inFeatures = true;
+                        }
+                    }
+                    case END_OBJECT, END_ARRAY -> {
+                        if (inFeatures && depth == 2) {
+                            inFeatures = false;
+                        }
+                        depth--;
+                    }
+                    case FIELD_NAME -> {
+                        if (depth == 1) {
+                            topLevelField = parser.currentName();
+                        }
+                    }
+                    default -> {
+                        // scalars outside features are not needed
+                    }
+                }
+            }
+        }
+
+        private void capture(JsonToken token) throws IOException {
+            feature.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                featureDepth++;
+                return;
+            }
+            if (!token.isStructEnd() || --featureDepth > 0) {
+                return;
+            }
+            try (JsonParser featureParser = feature.asParser(MAPPER)) {
+                T mapped = mapper.apply(MAPPER.readValue(featureParser, NoaaAlertFeature.class));
+                if (mapped != null) {
+                    results.add(mapped);
+                }
+            } finally {
+                feature = null;
+                depth--;
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Failure-rate circuit breaker for one NOAA operation.
+ * <p>
+ * Outcomes of the last {@code windowSize} calls are kept in a ring. Once at least {@code minimumCalls} are
+ * recorded and the share of failures reaches {@code failureRatePercent}, the breaker opens and rejects calls for
+ * {@code openDuration}. It then goes half-open and admits up to {@code halfOpenProbes} probe calls: if they all
+ * succeed it closes with an empty window, a single failing probe opens it again.
+ */
+final class NoaaCircuitBreaker {
+
+    enum State {
+        CLOSED(0),
+        OPEN(2),
+        HALF_OPEN(1);
+
+        private final int gaugeValue;
+
+        State(int gaugeValue) {
+            this.gaugeValue = gaugeValue;
+        }
+
+        int gaugeValue() {
+            return gaugeValue;
+        }
+    }
+
+    private final boolean[] failures;
+    private final int minimumCalls;
+    private final double failureRatePercent;
+    private final Duration openDuration;
+    private final int halfOpenProbes;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int next;
+    private int failureCount;
+    private Instant openUntil;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    NoaaCircuitBreaker(
+            int windowSize,
+            int minimumCalls,
+            double failureRatePercent,
+            Duration openDuration,
+            int halfOpenProbes,
+            Clock clock) {
+        this.failures = new boolean[Math.max(windowSize, 1)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, failures.length));
+        this.failureRatePercent = Math.max(1.0, Math.min(failureRatePercent, 100.0));
+        this.openDuration = openDuration;
+        this.halfOpenProbes = Math.max(halfOpenProbes, 1);
+        this.clock = clock;
+    }
+
+    /**
+     * @return whether a call may go out now; every permitted call must be followed by exactly one of
+     * {@link #onSuccess()}, {@link #onFailure()} or {@link #onCancel()}
+     */
+    synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.instant().isBefore(openUntil)) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probesStarted = 0;
+            probesSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesStarted >= halfOpenProbes) {
+                return false;
+            }
+            probesStarted++;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++probesSucceeded >= halfOpenProbes) {
+                close();
+            }
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+        }
+    }
+
+    /**
+     * A permitted call was abandoned without an outcome; a half-open probe slot is handed back.
+     */
+    synchronized void onCancel() {
+        if (state == State.HALF_OPEN && probesStarted > probesSucceeded) {
+            probesStarted--;
+        }
+    }
+
+    synchronized State state() {
+        if (state == State.OPEN && !clock.instant().isBefore(openUntil)) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    synchronized Instant openUntil() {
+        return state == State.OPEN ? openUntil : null;
+    }
+
+    /**
+     * Failure share of the calls in the window, in percent.
+     */
+    synchronized double failureRate() {
+        return recorded == 0 ? 0.0 : failureCount * 100.0 / recorded;
+    }
+
+    synchronized int bufferedCalls() {
+        return recorded;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == failures.length) {
+            if (failures[next]) {
+                failureCount--;
+            }
+        } else {
+            recorded++;
+        }
+        failures[next] = failed;
+        if (failed) {
+            failureCount++;
+        }
+        next = (next + 1) % failures.length;
+        if (recorded >= minimumCalls && failureRate() >= failureRatePercent) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openUntil = clock.instant().plus(openDuration);
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        openUntil = null;
+        recorded = 0;
+        next = 0;
+        failureCount = 0;
+    }
+}
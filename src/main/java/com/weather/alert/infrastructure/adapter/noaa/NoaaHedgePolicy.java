@@ -0,0 +1,118 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Decides when a slow NOAA request of one operation gets a duplicate ("hedge") request.
+ * <p>
+ * Latencies of recent successful requests are kept in a ring of {@code windowSize} samples. Once
+ * {@code minSamples} are known, a request still running after the {@code percentile} latency is hedged. Hedges
+ * are paid from a budget that earns {@code budgetPercent}/100 of a hedge per request, so they never exceed that
+ * share of the operation's traffic; the balance is capped so an idle period cannot save up a burst.
+ */
+final class NoaaHedgePolicy {
+
+    private static final int RESORT_EVERY = 32;
+    private static final double MAX_BUDGET_BALANCE = 10.0;
+
+    private final long[] samples;
+    private final int minSamples;
+    private final double percentile;
+    private final double budgetPerRequest;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+
+    private int recorded;
+    private int next;
+    private long[] sorted = new long[0];
+    private int unsorted;
+    private double budget;
+
+    NoaaHedgePolicy(
+            int windowSize,
+            int minSamples,
+            double percentile,
+            double budgetPercent,
+            Duration minDelay,
+            Duration maxDelay) {
+        this.samples = new long[Math.max(windowSize, 1)];
+        this.minSamples = Math.max(1, Math.min(minSamples, samples.length));
+        this.percentile = Math.max(1.0, Math.min(percentile, 99.9));
+        this.budgetPerRequest = Math.max(0.0, Math.min(budgetPercent, 100.0)) / 100.0;
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+    }
+
+    synchronized void recordLatency(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (recorded < samples.length) {
+            recorded++;
+        }
+        unsorted++;
+    }
+
+    /**
+     * Called once per request; earns its share of a hedge.
+     *
+     * @return how long to wait before hedging the request, or {@code null} when it must not be hedged (too few
+     * samples, or the percentile is beyond {@code maxDelay})
+     */
+    synchronized Duration onRequest() {
+        budget = Math.min(MAX_BUDGET_BALANCE, budget + budgetPerRequest);
+        if (recorded < minSamples) {
+            return null;
+        }
+        long delay = Math.max(minDelayNanos, percentileNanos());
+        return delay >= maxDelayNanos ? null : Duration.ofNanos(delay);
+    }
+
+    /**
+     * Takes one hedge from the budget, if the budget allows it.
+     */
+    synchronized boolean tryAcquireHedge() {
+        if (budget < 1.0) {
+            return false;
+        }
+        budget -= 1.0;
+        return true;
+    }
+
+    /**
+     * Mean latency of the recorded requests slower than {@code threshold}: the expected latency of a request
+     * known to be still running at that point. {@code 0} when no sample is that slow.
+     */
+    synchronized long expectedLatencyBeyond(Duration threshold) {
+        long[] view = sortedSamples();
+        long limit = threshold.toNanos();
+        int from = Arrays.binarySearch(view, limit);
+        from = from < 0 ? -from - 1 : from;
+        while (from < view.length && view[from] <= limit) {
+            from++;
+        }
+        if (from >= view.length) {
+            return 0L;
+        }
+        long sum = 0L;
+        for (int i = from; i < view.length; i++) {
+            sum += view[i];
+        }
+        return sum / (view.length - from);
+    }
+
+    private long percentileNanos() {
+        long[] view = sortedSamples();
+        int index = (int) Math.ceil(percentile / 100.0 * view.length) - 1;
+        return view[Math.max(0, Math.min(index, view.length - 1))];
+    }
+
+    private long[] sortedSamples() {
+        if (unsorted >= RESORT_EVERY || sorted.length != recorded) {
+            sorted = Arrays.copyOf(samples, recorded);
+            Arrays.sort(sorted);
+            unsorted = 0;
+        }
+        return sorted;
+    }
+}
@@ -0,0 +1,59 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Registry of NOAA calls currently in flight, keyed by operation and URL.
+ * <p>
+ * The first subscriber for a key starts the call; every subscriber arriving before it completes receives the
+ * same outcome instead of sending its own request. The entry is removed as soon as the call terminates, so the
+ * registry never serves old results: that is the job of {@link NoaaResponseCache}. The shared call keeps running
+ * when an individual subscriber cancels, so one caller timing out does not fail the others.
+ */
+final class NoaaInFlightRequests {
+
+    private final ConcurrentMap<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Subscribe to the call in flight for {@code key}, starting it with {@code call} if there is none.
+     * {@code onJoin} is told whether the subscriber started the call ({@code false}) or joined one ({@code true}).
+     */
+    @SuppressWarnings("unchecked")
+    <T> Mono<T> join(String key, Supplier<Mono<T>> call, JoinListener onJoin) {
+        return Mono.defer(() -> {
+            boolean[] started = {false};
+            Mono<T> shared = (Mono<T>) inFlight.computeIfAbsent(key, ignored -> {
+                started[0] = true;
+                return share(key, call);
+            });
+            onJoin.joined(!started[0]);
+            return shared;
+        });
+    }
+
+    int size() {
+        return inFlight.size();
+    }
+
+    private <T> Mono<T> share(String key, Supplier<Mono<T>> call) {
+        AtomicReference<Mono<T>> self = new AtomicReference<>();
+        // Deregister on the first signal, before it reaches subscribers, so a caller reacting to the outcome
+        // never joins the finished call.
+        Mono<T> shared = Mono.defer(call)
+                .doOnEach(signal -> inFlight.remove(key, self.get()))
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .cache();
+        self.set(shared);
+        return shared;
+    }
+
+    @FunctionalInterface
+    interface JoinListener {
+        void joined(boolean coalesced);
+    }
+}
@@ -0,0 +1,22 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import java.time.Instant;
+
+/**
+ * Snapshot of one NOAA operation's circuit breaker and bulkhead.
+ *
+ * @param circuit            {@code CLOSED}, {@code OPEN} or {@code HALF_OPEN}
+ * @param failureRatePercent failure share of the calls in the sliding window
+ * @param bufferedCalls      calls currently in the sliding window
+ * @param openUntil          when an open circuit starts probing again; {@code null} unless open
+ * @param inFlight           requests holding a bulkhead slot
+ * @param waiting            requests queued for a bulkhead slot
+ */
+public record NoaaOperationState(
+        String circuit,
+        double failureRatePercent,
+        int bufferedCalls,
+        Instant openUntil,
+        int inFlight,
+        int waiting) {
+}
@@ -0,0 +1,24 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code /actuator/noaa}: circuit breaker and bulkhead state of every NOAA operation.
+ */
+@Component
+@Endpoint(id = "noaa")
+@RequiredArgsConstructor
+public class NoaaOperationsEndpoint {
+
+    private final NoaaWeatherAdapter noaaWeatherAdapter;
+
+    @ReadOperation
+    public Map<String, NoaaOperationState> operations() {
+        return noaaWeatherAdapter.operationStates();
+    }
+}
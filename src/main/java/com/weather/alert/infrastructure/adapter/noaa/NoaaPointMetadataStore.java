@@ -0,0 +1,148 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import com.weather.alert.domain.model.GridPoint;
+import com.weather.alert.domain.model.PointMetadata;
+import com.weather.alert.domain.port.PointMetadataRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Point metadata and station bindings, kept in memory in front of {@link PointMetadataRepositoryPort}.
+ * <p>
+ * {@code /points} and station lists almost never change, so a resolved coordinate is reused until
+ * {@code ttl} has passed and is then refreshed on its next use. Any coordinate can be looked up (the conditions
+ * endpoints take arbitrary ones), so the in-memory maps keep at most {@code maxEntries} coordinates and grid cells,
+ * least recently used evicted; persisted rows are pruned once they are well past {@code ttl} by the retention
+ * cleanup. Persistence failures are logged and otherwise ignored: the store only saves NOAA calls and must never
+ * fail a fetch.
+ */
+@Slf4j
+final class NoaaPointMetadataStore {
+
+    private final PointMetadataRepositoryPort repository;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<CoordinateKey, PointMetadata> warm;
+    private final Map<GridPoint, Station> gridStations;
+
+    NoaaPointMetadataStore(PointMetadataRepositoryPort repository, Duration ttl, int maxEntries, Clock clock) {
+        this.repository = repository;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.warm = leastRecentlyUsed(maxEntries);
+        this.gridStations = leastRecentlyUsed(maxEntries);
+    }
+
+    private static <K, V> Map<K, V> leastRecentlyUsed(int maxEntries) {
+        int capacity = Math.max(maxEntries, 1);
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
+    static double round(double coordinate) {
+        return Math.round(coordinate * 10_000.0) / 10_000.0;
+    }
+
+    /**
+     * In-memory lookup only; never touches the database.
+     */
+    PointMetadata warm(double latitude, double longitude) {
+        return warm.get(new CoordinateKey(round(latitude), round(longitude)));
+    }
+
+    /**
+     * Database lookup for a coordinate that is not warm yet. Blocking.
+     */
+    Optional<PointMetadata> load(double latitude, double longitude) {
+        try {
+            Optional<PointMetadata> stored = repository.findByCoordinate(round(latitude), round(longitude));
+            stored.ifPresent(this::remember);
+            return stored;
+        } catch (RuntimeException ex) {
+            log.warn("Unable to load point metadata for {}, {}: {}", latitude, longitude, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    boolean isFresh(PointMetadata metadata) {
+        return metadata.getResolvedAt() != null && metadata.getResolvedAt().plus(ttl).isAfter(clock.instant());
+    }
+
+    /**
+     * Remember and persist freshly resolved metadata. Blocking. Takes ownership of the instance.
+     */
+    PointMetadata store(PointMetadata metadata) {
+        metadata.setLatitude(round(metadata.getLatitude()));
+        metadata.setLongitude(round(metadata.getLongitude()));
+        if (metadata.getResolvedAt() == null) {
+            metadata.setResolvedAt(clock.instant());
+        }
+        remember(metadata);
+        try {
+            repository.save(metadata);
+        } catch (RuntimeException ex) {
+            log.warn(
+                    "Unable to persist point metadata for {}, {}: {}",
+                    metadata.getLatitude(),
+                    metadata.getLongitude(),
+                    ex.getMessage());
+        }
+        return metadata;
+    }
+
+    /**
+     * Record the primary station of a coordinate and persist it with the rest of its metadata. Blocking.
+     */
+    PointMetadata bindStation(PointMetadata metadata, String stationId, String stationName) {
+        return store(metadata.toBuilder().stationId(stationId).stationName(stationName).build());
+    }
+
+    Optional<Station> stationFor(GridPoint gridPoint) {
+        return Optional.ofNullable(gridStations.get(gridPoint));
+    }
+
+    /**
+     * Record the primary station of a grid cell and persist it with every remembered coordinate inside the cell that
+     * has no binding yet, so the cell's station is known again after a restart once one of them is loaded. Blocking.
+     */
+    void bindStation(GridPoint gridPoint, String stationId, String stationName) {
+        gridStations.put(gridPoint, new Station(stationId, stationName));
+        List<PointMetadata> unbound;
+        synchronized (warm) {
+            unbound = warm.values().stream()
+                    .filter(metadata -> gridPoint.equals(metadata.gridPoint()))
+                    .filter(metadata -> metadata.getStationId() == null || metadata.getStationId().isBlank())
+                    .toList();
+        }
+        unbound.forEach(metadata -> bindStation(metadata, stationId, stationName));
+    }
+
+    int size() {
+        return warm.size();
+    }
+
+    private void remember(PointMetadata metadata) {
+        warm.put(new CoordinateKey(metadata.getLatitude(), metadata.getLongitude()), metadata);
+        GridPoint gridPoint = metadata.gridPoint();
+        if (gridPoint != null && metadata.getStationId() != null && !metadata.getStationId().isBlank()) {
+            gridStations.putIfAbsent(gridPoint, new Station(metadata.getStationId(), metadata.getStationName()));
+        }
+    }
+
+    record Station(String id, String name) {
+    }
+
+    private record CoordinateKey(double latitude, double longitude) {
+    }
+}
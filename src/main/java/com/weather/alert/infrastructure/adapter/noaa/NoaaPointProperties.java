@@ -4,6 +4,11 @@ import lombok.Data;
 
 @Data
 public class NoaaPointProperties {
+    private String gridId;
+    private Integer gridX;
+    private Integer gridY;
     private String forecastHourly;
     private String observationStations;
+    private String forecastZone;
+    private String county;
 }
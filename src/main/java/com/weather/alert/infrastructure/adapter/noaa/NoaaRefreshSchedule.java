@@ -0,0 +1,193 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Background refresh timers for NOAA documents read by every evaluation cycle (gridpoint forecasts, station
+ * observations), so the cycle reads a snapshot instead of fetching inline.
+ * <p>
+ * Every document has its own timer. The next refresh is due once NOAA's advertised lifetime has passed, or later
+ * when the document has not changed for a while: half the estimated change interval (a moving average of the
+ * intervals between observed changes, raised to the time since the last change) is used when that is longer.
+ * The interval is kept within {@code [minInterval, maxInterval]} and stretched by a random share of up to
+ * {@code jitter}, so documents first fetched together do not come due together. While a document's last refresh
+ * succeeded and its next one is not overdue by more than {@code grace}, its snapshot is current. Documents nobody
+ * read for {@code idleTimeout} are dropped.
+ */
+final class NoaaRefreshSchedule {
+
+    private static final double CHANGE_INTERVAL_WEIGHT = 0.3;
+    private static final int MAX_BACKOFF_DOUBLINGS = 5;
+
+    private final Duration minInterval;
+    private final Duration maxInterval;
+    private final double jitter;
+    private final Duration grace;
+    private final Duration idleTimeout;
+    private final RandomGenerator random;
+    private final Clock clock;
+    private final Map<String, Target> targets = new HashMap<>();
+
+    NoaaRefreshSchedule(
+            Duration minInterval,
+            Duration maxInterval,
+            double jitterPercent,
+            Duration grace,
+            Duration idleTimeout,
+            RandomGenerator random,
+            Clock clock) {
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval.compareTo(minInterval) < 0 ? minInterval : maxInterval;
+        this.jitter = Math.max(0.0, Math.min(jitterPercent, 100.0)) / 100.0;
+        this.grace = grace;
+        this.idleTimeout = idleTimeout;
+        this.random = random;
+        this.clock = clock;
+    }
+
+    /**
+     * Whether the snapshot of {@code key} is kept current by its timer. Counts as a read of the document.
+     */
+    synchronized boolean isCurrent(String key) {
+        Instant now = clock.instant();
+        Target target = targets.get(key);
+        if (target == null) {
+            return false;
+        }
+        target.lastReadAt = now;
+        return target.currentUntil != null && now.isBefore(target.currentUntil);
+    }
+
+    /**
+     * Start (or restart) the timer of a document that was just fetched inline and expires at {@code expiresAt}.
+     */
+    synchronized void track(String key, String operation, Supplier<Mono<Outcome>> refresh, Instant expiresAt) {
+        Instant now = clock.instant();
+        Target target = targets.computeIfAbsent(key, ignored -> new Target(operation, refresh, now));
+        target.lastReadAt = now;
+        if (!target.running) {
+            target.failures = 0;
+            schedule(target, expiresAt, now);
+        }
+    }
+
+    /**
+     * Claim up to {@code limit} refreshes that are due, earliest first, after dropping idle documents. Every
+     * claimed refresh must be reported back with {@link #completed}.
+     */
+    synchronized List<Due> due(int limit) {
+        Instant now = clock.instant();
+        List<Map.Entry<String, Target>> due = new ArrayList<>();
+        Iterator<Map.Entry<String, Target>> iterator = targets.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Target> entry = iterator.next();
+            Target target = entry.getValue();
+            if (target.running) {
+                continue;
+            }
+            if (!target.lastReadAt.plus(idleTimeout).isAfter(now)) {
+                iterator.remove();
+            } else if (!target.nextRefreshAt.isAfter(now)) {
+                due.add(entry);
+            }
+        }
+        due.sort(Comparator.comparing(entry -> entry.getValue().nextRefreshAt));
+        List<Due> claimed = new ArrayList<>();
+        for (Map.Entry<String, Target> entry : due.subList(0, Math.min(Math.max(limit, 0), due.size()))) {
+            Target target = entry.getValue();
+            target.running = true;
+            claimed.add(new Due(entry.getKey(), target.operation, target.refresh));
+        }
+        return claimed;
+    }
+
+    synchronized void completed(String key, Outcome outcome) {
+        Target target = targets.get(key);
+        if (target == null) {
+            return;
+        }
+        Instant now = clock.instant();
+        target.running = false;
+        if (!outcome.successful()) {
+            int doublings = Math.min(target.failures++, MAX_BACKOFF_DOUBLINGS);
+            Duration retry = minInterval.multipliedBy(1L << doublings);
+            target.nextRefreshAt = now.plus(retry.compareTo(maxInterval) > 0 ? maxInterval : retry);
+            return;
+        }
+        target.failures = 0;
+        if (outcome.changed()) {
+            long sinceChange = Duration.between(target.lastChangedAt, now).toMillis();
+            target.changeIntervalMillis = target.changeIntervalMillis < 0
+                    ? sinceChange
+                    : (long) (CHANGE_INTERVAL_WEIGHT * sinceChange + (1 - CHANGE_INTERVAL_WEIGHT) * target.changeIntervalMillis);
+            target.lastChangedAt = now;
+        }
+        schedule(target, outcome.expiresAt(), now);
+    }
+
+    synchronized Instant nextRefreshAt(String key) {
+        Target target = targets.get(key);
+        return target == null ? null : target.nextRefreshAt;
+    }
+
+    synchronized int size() {
+        return targets.size();
+    }
+
+    private void schedule(Target target, Instant expiresAt, Instant now) {
+        long lifetime = expiresAt == null ? 0L : Math.max(0L, Duration.between(now, expiresAt).toMillis());
+        long unchangedFor = Duration.between(target.lastChangedAt, now).toMillis();
+        long changeInterval = Math.max(target.changeIntervalMillis, unchangedFor);
+        long interval = Math.max(lifetime, changeInterval / 2);
+        interval = Math.max(minInterval.toMillis(), Math.min(interval, maxInterval.toMillis()));
+        interval += (long) (interval * jitter * random.nextDouble());
+        target.nextRefreshAt = now.plusMillis(interval);
+        target.currentUntil = target.nextRefreshAt.plus(grace);
+    }
+
+    /**
+     * Result of one refresh: whether it succeeded, whether NOAA returned a new document (rather than
+     * {@code 304 Not Modified}) and the expiry it advertised.
+     */
+    record Outcome(boolean successful, boolean changed, Instant expiresAt) {
+
+        static Outcome failed() {
+            return new Outcome(false, false, null);
+        }
+    }
+
+    record Due(String key, String operation, Supplier<Mono<Outcome>> refresh) {
+    }
+
+    private static final class Target {
+        private final String operation;
+        private final Supplier<Mono<Outcome>> refresh;
+        private Instant lastChangedAt;
+        private long changeIntervalMillis = -1L;
+        private Instant lastReadAt;
+        private Instant nextRefreshAt;
+        private Instant currentUntil;
+        private int failures;
+        private boolean running;
+
+        private Target(String operation, Supplier<Mono<Outcome>> refresh, Instant now) {
+            this.operation = operation;
+            this.refresh = refresh;
+            this.lastChangedAt = now;
+            this.lastReadAt = now;
+            this.nextRefreshAt = now;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Non-blocking admission control for NOAA requests.
+ * <p>
+ * A token bucket paces request attempts: it holds up to {@code burst} tokens and refills one token every
+ * {@code minRequestIntervalMillis}. A caller that finds the bucket empty reserves the next token and is
+ * resumed by a timer when it becomes available, instead of sleeping on a lock. Independently, at most
+ * {@code maxConcurrentRequests} requests are in flight; further requests queue without holding a thread.
+ */
+final class NoaaRequestThrottle {
+
+    private static final Object SLOT = new Object();
+
+    private final long intervalNanos;
+    private final double burst;
+    private final int maxConcurrentRequests;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private int inFlight;
+    private final Deque<Waiter> waiting = new ArrayDeque<>();
+
+    NoaaRequestThrottle(long minRequestIntervalMillis, int burst, int maxConcurrentRequests) {
+        this(minRequestIntervalMillis, burst, maxConcurrentRequests, System::nanoTime);
+    }
+
+    NoaaRequestThrottle(long minRequestIntervalMillis, int burst, int maxConcurrentRequests, LongSupplier nanoClock) {
+        this.intervalNanos = Duration.ofMillis(Math.max(minRequestIntervalMillis, 0)).toNanos();
+        this.burst = Math.max(burst, 1);
+        this.maxConcurrentRequests = Math.max(maxConcurrentRequests, 1);
+        this.nanoClock = nanoClock;
+        this.tokens = this.burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Completes once a rate token is available. Subscribe once per request attempt, retries included.
+     */
+    Mono<Void> awaitToken() {
+        return Mono.defer(() -> {
+            long delayNanos = reserveToken();
+            return delayNanos <= 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(delayNanos)).then();
+        });
+    }
+
+    /**
+     * Run the request while holding one of the in-flight slots.
+     */
+    <T> Mono<T> withSlot(Mono<T> request) {
+        return Mono.usingWhen(
+                acquireSlot(),
+                slot -> request,
+                slot -> Mono.fromRunnable(this::releaseSlot),
+                (slot, error) -> Mono.fromRunnable(this::releaseSlot),
+                slot -> Mono.fromRunnable(this::releaseSlot));
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+
+    synchronized int waiting() {
+        return waiting.size();
+    }
+
+    /**
+     * @return nanoseconds until the reserved token becomes available; 0 when one is available now
+     */
+    synchronized long reserveToken() {
+        if (intervalNanos <= 0) {
+            return 0L;
+        }
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(burst, tokens + (double) (now - lastRefillNanos) / intervalNanos);
+        lastRefillNanos = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0L : (long) Math.ceil(-tokens * intervalNanos);
+    }
+
+    private Mono<Object> acquireSlot() {
+        return Mono.create(sink -> {
+            Waiter waiter = new Waiter(sink);
+            boolean granted;
+            synchronized (this) {
+                granted = inFlight < maxConcurrentRequests;
+                if (granted) {
+                    inFlight++;
+                } else {
+                    waiting.addLast(waiter);
+                }
+            }
+            if (granted) {
+                sink.success(SLOT);
+                return;
+            }
+            sink.onCancel(() -> {
+                if (waiter.state.compareAndSet(Waiter.WAITING, Waiter.CANCELLED)) {
+                    synchronized (this) {
+                        waiting.remove(waiter);
+                    }
+                } else {
+                    // The slot was handed over as the subscriber went away; nobody else will release it.
+                    releaseSlot();
+                }
+            });
+        });
+    }
+
+    private void releaseSlot() {
+        while (true) {
+            Waiter next;
+            synchronized (this) {
+                next = waiting.pollFirst();
+                if (next == null) {
+                    inFlight--;
+                    return;
+                }
+            }
+            // The slot passes straight to the next live waiter, so inFlight is unchanged.
+            if (next.state.compareAndSet(Waiter.WAITING, Waiter.GRANTED)) {
+                next.sink.success(SLOT);
+                return;
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final MonoSink<Object> sink;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        private Waiter(MonoSink<Object> sink) {
+            this.sink = sink;
+        }
+    }
+}
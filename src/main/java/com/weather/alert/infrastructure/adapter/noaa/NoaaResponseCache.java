@@ -0,0 +1,118 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Last response per NOAA resource, used for freshness-based reuse and conditional GETs.
+ * <p>
+ * Entries hold a payload with its {@code ETag}/{@code Last-Modified} validators and the expiry NOAA advertised
+ * through {@code Cache-Control: max-age} or {@code Expires}. Until then the payload is reused without a request.
+ * After that it is revalidated, and a {@code 304 Not Modified} renews it without downloading or parsing the
+ * document again. Forecasts and observations are kept as the deserialized body, before mapping, because mapped
+ * values depend on the caller (coordinates, forecast window cutoff). Alert feeds, national and per area, are
+ * decoded while streaming and kept as the bound features, then mapped on every read.
+ * <p>
+ * Resources are keyed by path and query, so absolute URLs from {@code /points} share entries with the relative
+ * paths the adapter builds itself (observations by station, forecasts by gridpoint). Least recently used entries
+ * are evicted beyond {@code maxEntries}.
+ */
+final class NoaaResponseCache {
+
+    private final Map<String, Entry<?>> entries;
+    private final Set<String> refreshing = new HashSet<>();
+
+    NoaaResponseCache(int maxEntries) {
+        int capacity = Math.max(maxEntries, 0);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<?>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    static String key(String url) {
+        if (url == null || !url.contains("://")) {
+            return url;
+        }
+        try {
+            URI uri = URI.create(url);
+            return uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+        } catch (IllegalArgumentException ex) {
+            return url;
+        }
+    }
+
+    /**
+     * @return the cached entry when its body is of the requested type, otherwise {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    synchronized <T> Entry<T> get(String key, Class<T> bodyType) {
+        Entry<?> entry = entries.get(key);
+        if (entry == null || !bodyType.isInstance(entry.body())) {
+            return null;
+        }
+        return (Entry<T>) entry;
+    }
+
+    /**
+     * Remember a fresh response. Responses that are neither cacheable for a while nor revalidatable are dropped.
+     */
+    synchronized <T> void put(String key, String etag, String lastModified, Instant expiresAt, T body, Instant now) {
+        boolean revalidatable = !isBlank(etag) || !isBlank(lastModified);
+        boolean fresh = expiresAt != null && expiresAt.isAfter(now);
+        if (body == null || !(revalidatable || fresh)) {
+            entries.remove(key);
+            return;
+        }
+        entries.put(key, new Entry<>(etag, lastModified, expiresAt, now, body));
+    }
+
+    /**
+     * Extend a revalidated entry after {@code 304 Not Modified}.
+     */
+    synchronized <T> void renew(String key, Entry<T> entry, Instant expiresAt, Instant now) {
+        entries.put(key, new Entry<>(entry.etag(), entry.lastModified(), expiresAt, now, entry.body()));
+    }
+
+    /**
+     * Claim the background refresh of a stale entry. Only one refresh per key runs at a time.
+     */
+    synchronized boolean startRefresh(String key) {
+        return refreshing.add(key);
+    }
+
+    synchronized void finishRefresh(String key) {
+        refreshing.remove(key);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    record Entry<T>(String etag, String lastModified, Instant expiresAt, Instant storedAt, T body) {
+
+        boolean isFresh(Instant now) {
+            return expiresAt != null && expiresAt.isAfter(now);
+        }
+
+        /**
+         * Whether the entry may still be served stale: within {@code maxStale} of its expiry, or of the time it
+         * was stored when NOAA gave no expiry.
+         */
+        boolean isServableStale(Instant now, Duration maxStale) {
+            Instant reference = expiresAt != null ? expiresAt : storedAt;
+            return !reference.plus(maxStale).isBefore(now);
+        }
+    }
+}
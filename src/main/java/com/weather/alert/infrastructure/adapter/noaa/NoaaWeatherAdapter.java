@@ -1,68 +1,175 @@
 package com.weather.alert.infrastructure.adapter.noaa;
 
+import com.weather.alert.domain.model.GridPoint;
+import com.weather.alert.domain.model.PointMetadata;
 import com.weather.alert.domain.model.WeatherData;
+import com.weather.alert.domain.port.PointMetadataRepositoryPort;
 import com.weather.alert.domain.port.WeatherDataPort;
 import com.weather.alert.domain.port.WeatherFetchResult;
+import com.weather.alert.infrastructure.config.NoaaClientProperties;
+import com.weather.alert.infrastructure.config.NoaaHedgingProperties;
+import com.weather.alert.infrastructure.config.NoaaRefreshProperties;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
- * Adapter for fetching weather data from NOAA API
+ * Adapter for fetching weather data from NOAA API.
+ * <p>
+ * Every operation is a non-blocking {@link Mono} pipeline. The {@code *Async} port methods expose it as a
+ * {@link CompletableFuture}; the synchronous methods block on the same pipeline. Requests are admitted through
+ * a {@link NoaaRequestThrottle}, so pacing and the in-flight limit never park a thread. Each operation also has
+ * its own {@link NoaaCircuitBreaker} and concurrency bulkhead, so one failing or slow endpoint cannot take the
+ * others down with it (see {@link #operationStates()}). Optionally, requests slower than their operation's usual
+ * tail latency are hedged with a duplicate (see {@link NoaaHedgePolicy}). Alert, forecast and
+ * observation documents are cached for the lifetime NOAA advertises and then revalidated with conditional GETs
+ * (see {@link NoaaResponseCache}). Concurrent callers asking for the same document share one request
+ * (see {@link NoaaInFlightRequests}). Optionally, forecasts and observations are refreshed in the background on
+ * per-document timers, and reads are served from those snapshots (see {@link NoaaRefreshSchedule}).
  */
 @Component
 @Slf4j
 public class NoaaWeatherAdapter implements WeatherDataPort {
 
+    private static final int MAX_FORECAST_WINDOW_HOURS = 168;
+    private static final Duration MAX_RESPONSE_TTL = Duration.ofHours(6);
+    private static final List<String> OPERATIONS = List.of(
+            "active_alerts",
+            "point_metadata",
+            "observation_stations",
+            "latest_observation",
+            "hourly_forecast");
+    private static final Set<String> SNAPSHOT_OPERATIONS = Set.of("latest_observation", "hourly_forecast");
+    private static final Set<String> ALERT_FEED_OPERATIONS = Set.of("active_alerts", "alerts_for_state");
+
     private final WebClient noaaWebClient;
     private final MeterRegistry meterRegistry;
     private final long requestTimeoutSeconds;
     private final long retryMaxAttempts;
     private final long retryBackoffMillis;
-    private final long minRequestIntervalMillis;
     private final int outageFailureThreshold;
     private final long outageOpenSeconds;
+    private final int circuitWindowSize;
+    private final double circuitFailureRatePercent;
+    private final int circuitHalfOpenProbes;
+    private final int operationMaxConcurrentRequests;
+    private final NoaaRequestThrottle requestThrottle;
+    private final NoaaResponseCache responseCache;
+    private final NoaaInFlightRequests inFlightRequests = new NoaaInFlightRequests();
+    private final Duration responseCacheMaxStale;
+    private final NoaaPointMetadataStore pointMetadataStore;
+    private final NoaaHedgingProperties hedgingProperties;
+    private final NoaaRefreshProperties refreshProperties;
+    private final NoaaRefreshSchedule refreshSchedule;
+    private final Clock clock;
 
-    private final Object requestPacingLock = new Object();
-    private final AtomicInteger consecutiveFailures = new AtomicInteger();
-    private volatile long lastRequestAtMillis = 0L;
-    private volatile Instant outageOpenUntil;
+    private final Map<String, OperationGuard> operationGuards = new ConcurrentHashMap<>();
 
     public NoaaWeatherAdapter(
             WebClient noaaWebClient,
             MeterRegistry meterRegistry,
-            @Value("${app.noaa.request-timeout-seconds:8}") long requestTimeoutSeconds,
-            @Value("${app.noaa.retry-max-attempts:2}") long retryMaxAttempts,
-            @Value("${app.noaa.retry-backoff-millis:250}") long retryBackoffMillis,
-            @Value("${app.noaa.min-request-interval-millis:150}") long minRequestIntervalMillis,
-            @Value("${app.noaa.outage-failure-threshold:4}") int outageFailureThreshold,
-            @Value("${app.noaa.outage-open-seconds:30}") long outageOpenSeconds) {
+            PointMetadataRepositoryPort pointMetadataRepository,
+            NoaaClientProperties clientProperties,
+            NoaaHedgingProperties hedgingProperties,
+            NoaaRefreshProperties refreshProperties) {
+        this(
+                noaaWebClient,
+                meterRegistry,
+                pointMetadataRepository,
+                clientProperties,
+                hedgingProperties,
+                refreshProperties,
+                Clock.systemUTC());
+    }
+
+    /**
+     * {@code clock} drives response cache freshness, snapshot refresh timers, point metadata expiry and circuit
+     * breaker open periods.
+     */
+    NoaaWeatherAdapter(
+            WebClient noaaWebClient,
+            MeterRegistry meterRegistry,
+            PointMetadataRepositoryPort pointMetadataRepository,
+            NoaaClientProperties clientProperties,
+            NoaaHedgingProperties hedgingProperties,
+            NoaaRefreshProperties refreshProperties,
+            Clock clock) {
         this.noaaWebClient = noaaWebClient;
+        this.clock = clock;
         this.meterRegistry = meterRegistry;
-        this.requestTimeoutSeconds = Math.max(1, requestTimeoutSeconds);
-        this.retryMaxAttempts = Math.max(0, retryMaxAttempts);
-        this.retryBackoffMillis = Math.max(50, retryBackoffMillis);
-        this.minRequestIntervalMillis = Math.max(0, minRequestIntervalMillis);
-        this.outageFailureThreshold = Math.max(1, outageFailureThreshold);
-        this.outageOpenSeconds = Math.max(5, outageOpenSeconds);
+        this.hedgingProperties = hedgingProperties;
+        this.refreshProperties = refreshProperties;
+        this.requestTimeoutSeconds = Math.max(1, clientProperties.getRequestTimeoutSeconds());
+        this.retryMaxAttempts = Math.max(0, clientProperties.getRetryMaxAttempts());
+        this.retryBackoffMillis = Math.max(50, clientProperties.getRetryBackoffMillis());
+        this.outageFailureThreshold = Math.max(1, clientProperties.getOutageFailureThreshold());
+        this.outageOpenSeconds = Math.max(5, clientProperties.getOutageOpenSeconds());
+        this.circuitWindowSize = Math.max(1, clientProperties.getCircuitWindowSize());
+        this.circuitFailureRatePercent = clientProperties.getCircuitFailureRatePercent();
+        this.circuitHalfOpenProbes = Math.max(1, clientProperties.getCircuitHalfOpenProbes());
+        this.operationMaxConcurrentRequests = Math.max(1, clientProperties.getOperationMaxConcurrentRequests());
+        this.requestThrottle = new NoaaRequestThrottle(
+                clientProperties.getMinRequestIntervalMillis(),
+                clientProperties.getRateLimitBurst(),
+                clientProperties.getMaxConcurrentRequests());
+        this.responseCache = new NoaaResponseCache(clientProperties.getResponseCacheMaxEntries());
+        this.responseCacheMaxStale = Duration.ofMinutes(Math.max(0, clientProperties.getResponseCacheMaxStaleMinutes()));
+        this.pointMetadataStore = new NoaaPointMetadataStore(
+                pointMetadataRepository,
+                Duration.ofHours(Math.max(1, clientProperties.getPointMetadataTtlHours())),
+                clientProperties.getPointMetadataMaxEntries(),
+                clock);
+        this.refreshSchedule = new NoaaRefreshSchedule(
+                Duration.ofSeconds(Math.max(1, refreshProperties.getMinIntervalSeconds())),
+                Duration.ofMinutes(Math.max(1, refreshProperties.getMaxIntervalMinutes())),
+                refreshProperties.getJitterPercent(),
+                Duration.ofMillis(Math.max(0, refreshProperties.getTickMillis()))
+                        .plusSeconds(this.requestTimeoutSeconds * (this.retryMaxAttempts + 1)),
+                Duration.ofMinutes(Math.max(1, refreshProperties.getIdleMinutes())),
+                ThreadLocalRandom.current(),
+                clock);
+        meterRegistry.gauge("weather.noaa.point_metadata.cached", pointMetadataStore, NoaaPointMetadataStore::size);
+        meterRegistry.gauge("weather.noaa.response.cache.size", responseCache, NoaaResponseCache::size);
+        meterRegistry.gauge("weather.noaa.requests.in_flight", requestThrottle, NoaaRequestThrottle::inFlight);
+        meterRegistry.gauge("weather.noaa.requests.waiting", requestThrottle, NoaaRequestThrottle::waiting);
+        meterRegistry.gauge("weather.noaa.requests.shared", inFlightRequests, NoaaInFlightRequests::size);
+        meterRegistry.gauge("weather.noaa.refresh.tracked", refreshSchedule, NoaaRefreshSchedule::size);
+        OPERATIONS.forEach(this::guard);
     }
 
     @Override
@@ -72,28 +179,66 @@ public class NoaaWeatherAdapter implements WeatherDataPort {
 
     @Override
     public WeatherFetchResult<List<WeatherData>> fetchActiveAlertsWithStatus() {
-        log.info("Fetching active alerts from NOAA API");
-        RequestResult<NoaaAlertResponse> response = requestWithFallback(
-                "active_alerts",
-                () -> noaaWebClient
-                        .get()
-                        .uri("/alerts/active")
-                        .retrieve()
-                        .bodyToMono(NoaaAlertResponse.class));
-        if (!response.successful()) {
-            return WeatherFetchResult.failure(List.of(), response.failureReason());
-        }
-        List<WeatherData> weatherData = response.payload() == null || response.payload().getFeatures() == null
-                ? List.of()
-                : mapToAlertWeatherData(response.payload().getFeatures());
-        return WeatherFetchResult.success(weatherData);
+        return activeAlerts().block();
+    }
+
+    @Override
+    public CompletableFuture<WeatherFetchResult<List<WeatherData>>> fetchActiveAlertsAsync() {
+        return activeAlerts().toFuture();
+    }
+
+    @Override
+    public CompletableFuture<WeatherFetchResult<List<WeatherData>>> fetchActiveAlertsForAreaAsync(String area) {
+        return cachedRequest(
+                "alerts_for_state",
+                "/alerts/active?area=" + area,
+                AlertFeed.class,
+                response -> decodeAlerts(response.bodyToFlux(DataBuffer.class)),
+                false)
+                .map(response -> {
+                    if (!response.successful()) {
+                        return WeatherFetchResult.failure(List.<WeatherData>of(), response.failureReason());
+                    }
+                    return fetched(response, mapAlerts(response.payload()));
+                })
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<WeatherFetchResult<Optional<String>>> resolveForecastZoneAsync(double latitude, double longitude) {
+        return pointMetadata(latitude, longitude).map(metadataResult -> {
+            if (!metadataResult.successful()) {
+                return WeatherFetchResult.failure(Optional.<String>empty(), metadataResult.failureReason());
+            }
+            PointMetadata metadata = metadataResult.payload();
+            return WeatherFetchResult.success(Optional.ofNullable(metadata == null ? null : metadata.getForecastZone()));
+        }).toFuture();
+    }
+
+    @Override
+    public WeatherFetchResult<Optional<PointMetadata>> resolvePointMetadataWithStatus(double latitude, double longitude) {
+        return pointMetadataResult(latitude, longitude).block();
+    }
+
+    @Override
+    public CompletableFuture<WeatherFetchResult<Optional<PointMetadata>>> resolvePointMetadataAsync(
+            double latitude,
+            double longitude) {
+        return pointMetadataResult(latitude, longitude).publishOn(Schedulers.boundedElastic()).toFuture();
+    }
+
+    private Mono<WeatherFetchResult<Optional<PointMetadata>>> pointMetadataResult(double latitude, double longitude) {
+        return pointMetadata(latitude, longitude).map(metadataResult -> metadataResult.successful()
+                ? WeatherFetchResult.success(Optional.ofNullable(metadataResult.payload()))
+                : WeatherFetchResult.failure(Optional.<PointMetadata>empty(), metadataResult.failureReason()));
     }
 
     @Override
     public List<WeatherData> fetchAlertsForLocation(double latitude, double longitude) {
         log.info("Fetching alerts for location: {}, {}", latitude, longitude);
-        RequestResult<NoaaAlertResponse> response = requestWithFallback(
+        return alertsFor(
                 "alerts_for_location",
+                "/alerts/active?point=" + latitude + "," + longitude,
                 () -> noaaWebClient
                         .get()
                         .uri(uriBuilder -> uriBuilder
@@ -101,18 +246,16 @@ public class NoaaWeatherAdapter implements WeatherDataPort {
                                 .queryParam("point", latitude + "," + longitude)
                                 .build())
                         .retrieve()
-                        .bodyToMono(NoaaAlertResponse.class));
-        if (!response.successful() || response.payload() == null || response.payload().getFeatures() == null) {
-            return List.of();
-        }
-        return mapToAlertWeatherData(response.payload().getFeatures());
+                        .bodyToFlux(DataBuffer.class))
+                .block();
     }
 
     @Override
     public List<WeatherData> fetchAlertsForState(String stateCode) {
         log.info("Fetching alerts for state: {}", stateCode);
-        RequestResult<NoaaAlertResponse> response = requestWithFallback(
+        return alertsFor(
                 "alerts_for_state",
+                "/alerts/active?area=" + stateCode,
                 () -> noaaWebClient
                         .get()
                         .uri(uriBuilder -> uriBuilder
@@ -120,11 +263,8 @@ public class NoaaWeatherAdapter implements WeatherDataPort {
                                 .queryParam("area", stateCode)
                                 .build())
                         .retrieve()
-                        .bodyToMono(NoaaAlertResponse.class));
-        if (!response.successful() || response.payload() == null || response.payload().getFeatures() == null) {
-            return List.of();
-        }
-        return mapToAlertWeatherData(response.payload().getFeatures());
+                        .bodyToFlux(DataBuffer.class))
+                .block();
     }
 
     @Override
@@ -134,39 +274,44 @@ public class NoaaWeatherAdapter implements WeatherDataPort {
 
     @Override
     public WeatherFetchResult<Optional<WeatherData>> fetchCurrentConditionsWithStatus(double latitude, double longitude) {
-        log.info("Fetching NOAA current conditions for: {}, {}", latitude, longitude);
-        RequestResult<NoaaPointProperties> pointPropertiesResult = fetchPointProperties(latitude, longitude);
-        if (!pointPropertiesResult.successful()) {
-            return WeatherFetchResult.failure(Optional.empty(), pointPropertiesResult.failureReason());
-        }
-        NoaaPointProperties pointProperties = pointPropertiesResult.payload();
-        if (pointProperties == null) {
-            return WeatherFetchResult.success(Optional.empty());
-        }
+        return currentConditions(latitude, longitude).block();
+    }
 
-        RequestResult<NoaaStationProperties> stationResult = fetchPrimaryStation(pointProperties.getObservationStations());
-        if (!stationResult.successful()) {
-            return WeatherFetchResult.failure(Optional.empty(), stationResult.failureReason());
-        }
-        NoaaStationProperties station = stationResult.payload();
-        if (station == null || station.getStationIdentifier() == null || station.getStationIdentifier().isBlank()) {
-            log.warn("No observation station found for point {}, {}", latitude, longitude);
-            return WeatherFetchResult.success(Optional.empty());
-        }
+    @Override
+    public CompletableFuture<WeatherFetchResult<Optional<WeatherData>>> fetchCurrentConditionsAsync(
+            double latitude,
+            double longitude) {
+        return currentConditions(latitude, longitude).toFuture();
+    }
 
-        String stationId = station.getStationIdentifier();
-        String stationName = station.getName();
-        RequestResult<NoaaObservationResponse> observationResult = requestWithFallback(
-                "latest_observation",
-                () -> noaaWebClient.get()
-                        .uri("/stations/{stationId}/observations/latest", stationId)
-                        .retrieve()
-                        .bodyToMono(NoaaObservationResponse.class));
-        if (!observationResult.successful()) {
-            return WeatherFetchResult.failure(Optional.empty(), observationResult.failureReason());
-        }
-        WeatherData weatherData = mapObservationToWeatherData(observationResult.payload(), stationId, stationName, latitude, longitude);
-        return WeatherFetchResult.success(Optional.ofNullable(weatherData));
+    @Override
+    public WeatherFetchResult<Optional<GridPoint>> resolveGridPointWithStatus(double latitude, double longitude) {
+        return gridPoint(latitude, longitude).block();
+    }
+
+    @Override
+    public CompletableFuture<WeatherFetchResult<Optional<GridPoint>>> resolveGridPointAsync(double latitude, double longitude) {
+        return gridPoint(latitude, longitude).toFuture();
+    }
+
+    @Override
+    public WeatherFetchResult<Optional<WeatherData>> fetchCurrentConditionsWithStatus(GridPoint gridPoint) {
+        return currentConditions(gridPoint).block();
+    }
+
+    @Override
+    public CompletableFuture<WeatherFetchResult<Optional<WeatherData>>> fetchCurrentConditionsAsync(GridPoint gridPoint) {
+        return currentConditions(gridPoint).toFuture();
+    }
+
+    @Override
+    public WeatherFetchResult<List<WeatherData>> fetchForecastConditionsWithStatus(GridPoint gridPoint) {
+        return forecastConditions(gridPoint).block();
+    }
+
+    @Override
+    public CompletableFuture<WeatherFetchResult<List<WeatherData>>> fetchForecastConditionsAsync(GridPoint gridPoint) {
+        return forecastConditions(gridPoint).toFuture();
     }
 
     @Override
@@ -179,51 +324,325 @@ public class NoaaWeatherAdapter implements WeatherDataPort {
             double latitude,
             double longitude,
             int forecastWindowHours) {
-        int normalizedHours = Math.max(1, Math.min(forecastWindowHours, 168));
-        log.info("Fetching NOAA forecast conditions for: {}, {} with {}h window", latitude, longitude, normalizedHours);
+        return forecastConditions(latitude, longitude, forecastWindowHours).block();
+    }
+
+    @Override
+    public CompletableFuture<WeatherFetchResult<List<WeatherData>>> fetchForecastConditionsAsync(
+            double latitude,
+            double longitude,
+            int forecastWindowHours) {
+        return forecastConditions(latitude, longitude, forecastWindowHours).toFuture();
+    }
+
+    private Mono<WeatherFetchResult<List<WeatherData>>> activeAlerts() {
+        return Mono.defer(() -> {
+            log.info("Fetching active alerts from NOAA API");
+            return cachedRequest(
+                    "active_alerts",
+                    "/alerts/active",
+                    AlertFeed.class,
+                    response -> decodeAlerts(response.bodyToFlux(DataBuffer.class)),
+                    false);
+        }).map(response -> {
+            if (!response.successful()) {
+                return WeatherFetchResult.failure(List.<WeatherData>of(), response.failureReason());
+            }
+            return fetched(response, mapAlerts(response.payload()));
+        });
+    }
+
+    private Mono<List<WeatherData>> alertsFor(
+            String operation,
+            String key,
+            Supplier<Flux<DataBuffer>> requestSupplier) {
+        return sharedRequest(operation, key, () -> decodeAlerts(requestSupplier.get())).map(response -> {
+            if (!response.successful()) {
+                return List.<WeatherData>of();
+            }
+            return mapAlerts(response.payload());
+        });
+    }
 
-        RequestResult<NoaaPointProperties> pointPropertiesResult = fetchPointProperties(latitude, longitude);
-        if (!pointPropertiesResult.successful()) {
-            return WeatherFetchResult.failure(List.of(), pointPropertiesResult.failureReason());
+    /**
+     * Alerts are bound feature by feature while the body streams in (see {@link NoaaAlertStreamDecoder}).
+     */
+    private Mono<AlertFeed> decodeAlerts(Flux<DataBuffer> body) {
+        return NoaaAlertStreamDecoder.decode(body, Function.<NoaaAlertFeature>identity())
+                .map(features -> new AlertFeed(List.copyOf(features)));
+    }
+
+    /**
+     * Fresh {@link WeatherData} for every read, so cached feeds never share mutable alerts between callers and
+     * each alert is timestamped when it is read.
+     */
+    private List<WeatherData> mapAlerts(AlertFeed feed) {
+        if (feed == null) {
+            return List.of();
+        }
+        return feed.features().stream().map(this::mapFeatureToWeatherData).toList();
+    }
+
+    private Mono<WeatherFetchResult<Optional<WeatherData>>> currentConditions(double latitude, double longitude) {
+        return Mono.defer(() -> {
+            log.info("Fetching NOAA current conditions for: {}, {}", latitude, longitude);
+            return pointMetadata(latitude, longitude);
+        }).flatMap(metadataResult -> {
+            if (!metadataResult.successful()) {
+                return Mono.just(WeatherFetchResult.<Optional<WeatherData>>failure(
+                        Optional.empty(),
+                        metadataResult.failureReason()));
+            }
+            PointMetadata metadata = metadataResult.payload();
+            if (metadata == null) {
+                return Mono.just(WeatherFetchResult.success(Optional.<WeatherData>empty()));
+            }
+            if (metadata.getStationId() != null) {
+                return latestObservation(metadata.getStationId(), metadata.getStationName(), latitude, longitude);
+            }
+            return primaryStation(
+                    metadata.getObservationStationsUrl(),
+                    "point " + latitude + ", " + longitude,
+                    station -> blocking(() -> pointMetadataStore.bindStation(metadata, station.id(), station.name())))
+                    .flatMap(stationResult -> observationAtStation(stationResult, latitude, longitude));
+        });
+    }
+
+    private Mono<WeatherFetchResult<Optional<GridPoint>>> gridPoint(double latitude, double longitude) {
+        return pointMetadata(latitude, longitude).map(metadataResult -> {
+            if (!metadataResult.successful()) {
+                return WeatherFetchResult.failure(Optional.<GridPoint>empty(), metadataResult.failureReason());
+            }
+            PointMetadata metadata = metadataResult.payload();
+            return WeatherFetchResult.success(Optional.ofNullable(metadata == null ? null : metadata.gridPoint()));
+        });
+    }
+
+    private Mono<WeatherFetchResult<Optional<WeatherData>>> currentConditions(GridPoint gridPoint) {
+        return Mono.defer(() -> {
+            log.info("Fetching NOAA current conditions for gridpoint {}", gridPoint);
+            Optional<NoaaPointMetadataStore.Station> bound = pointMetadataStore.stationFor(gridPoint);
+            if (bound.isPresent()) {
+                return latestObservation(bound.get().id(), bound.get().name(), null, null);
+            }
+            return primaryStation(
+                    "/gridpoints/" + gridPoint.office() + "/" + gridPoint.gridX() + "," + gridPoint.gridY() + "/stations",
+                    "gridpoint " + gridPoint,
+                    station -> blocking(() -> {
+                        pointMetadataStore.bindStation(gridPoint, station.id(), station.name());
+                        return station;
+                    }))
+                    .flatMap(stationResult -> observationAtStation(stationResult, null, null));
+        });
+    }
+
+    private Mono<WeatherFetchResult<Optional<WeatherData>>> observationAtStation(
+            RequestResult<NoaaPointMetadataStore.Station> stationResult,
+            Double latitude,
+            Double longitude) {
+        if (!stationResult.successful()) {
+            return Mono.just(WeatherFetchResult.failure(Optional.empty(), stationResult.failureReason()));
         }
-        NoaaPointProperties pointProperties = pointPropertiesResult.payload();
-        if (pointProperties == null || pointProperties.getForecastHourly() == null) {
-            return WeatherFetchResult.success(List.of());
+        NoaaPointMetadataStore.Station station = stationResult.payload();
+        if (station == null) {
+            return Mono.just(WeatherFetchResult.success(Optional.empty()));
         }
+        return latestObservation(station.id(), station.name(), latitude, longitude);
+    }
 
-        RequestResult<NoaaForecastHourlyResponse> forecastResult = requestWithFallback(
-                "hourly_forecast",
-                () -> noaaWebClient.get()
-                        .uri(pointProperties.getForecastHourly())
-                        .retrieve()
-                        .bodyToMono(NoaaForecastHourlyResponse.class));
-        if (!forecastResult.successful()) {
-            return WeatherFetchResult.failure(List.of(), forecastResult.failureReason());
+    /**
+     * Primary station listed at {@code observationStationsUrl}. A station that was found is handed to
+     * {@code binder} so later cycles can skip the station list.
+     */
+    private Mono<RequestResult<NoaaPointMetadataStore.Station>> primaryStation(
+            String observationStationsUrl,
+            String description,
+            Function<NoaaPointMetadataStore.Station, Mono<?>> binder) {
+        return fetchPrimaryStation(observationStationsUrl).flatMap(stationResult -> {
+            if (!stationResult.successful()) {
+                return Mono.just(RequestResult.<NoaaPointMetadataStore.Station>failure(stationResult.failureReason()));
+            }
+            NoaaStationProperties station = stationResult.payload();
+            if (station == null || station.getStationIdentifier() == null || station.getStationIdentifier().isBlank()) {
+                log.warn("No observation station found for {}", description);
+                return Mono.just(RequestResult.<NoaaPointMetadataStore.Station>success(null));
+            }
+            NoaaPointMetadataStore.Station bound =
+                    new NoaaPointMetadataStore.Station(station.getStationIdentifier(), station.getName());
+            return binder.apply(bound).then(Mono.just(RequestResult.success(bound)));
+        });
+    }
+
+    private Mono<WeatherFetchResult<Optional<WeatherData>>> latestObservation(
+            String stationId,
+            String stationName,
+            Double latitude,
+            Double longitude) {
+        return cachedRequest(
+                "latest_observation",
+                "/stations/" + stationId + "/observations/latest",
+                NoaaObservationResponse.class,
+                true)
+                .map(observationResult -> {
+                    if (!observationResult.successful()) {
+                        return WeatherFetchResult.failure(Optional.<WeatherData>empty(), observationResult.failureReason());
+                    }
+                    WeatherData weatherData = mapObservationToWeatherData(
+                            observationResult.payload(),
+                            stationId,
+                            stationName,
+                            latitude,
+                            longitude);
+                    return fetched(observationResult, Optional.ofNullable(weatherData));
+                });
+    }
+
+    private Mono<WeatherFetchResult<List<WeatherData>>> forecastConditions(GridPoint gridPoint) {
+        return Mono.defer(() -> {
+            log.info("Fetching NOAA forecast conditions for gridpoint {}", gridPoint);
+            return cachedRequest(
+                    "hourly_forecast",
+                    "/gridpoints/" + gridPoint.office() + "/" + gridPoint.gridX() + "," + gridPoint.gridY() + "/forecast/hourly",
+                    NoaaForecastHourlyResponse.class,
+                    true);
+        }).map(forecastResult -> {
+            if (!forecastResult.successful()) {
+                return WeatherFetchResult.failure(List.<WeatherData>of(), forecastResult.failureReason());
+            }
+            return fetched(forecastResult, mapForecastToWeatherData(
+                    forecastResult.payload(),
+                    "forecast-" + gridPoint.office() + "-" + gridPoint.gridX() + "-" + gridPoint.gridY(),
+                    String.format(Locale.US, "grid=%s/%d,%d", gridPoint.office(), gridPoint.gridX(), gridPoint.gridY()),
+                    null,
+                    null,
+                    MAX_FORECAST_WINDOW_HOURS));
+        });
+    }
+
+    private Mono<WeatherFetchResult<List<WeatherData>>> forecastConditions(
+            double latitude,
+            double longitude,
+            int forecastWindowHours) {
+        int normalizedHours = Math.max(1, Math.min(forecastWindowHours, MAX_FORECAST_WINDOW_HOURS));
+        return Mono.defer(() -> {
+            log.info("Fetching NOAA forecast conditions for: {}, {} with {}h window", latitude, longitude, normalizedHours);
+            return pointMetadata(latitude, longitude);
+        }).flatMap(metadataResult -> {
+            if (!metadataResult.successful()) {
+                return Mono.just(WeatherFetchResult.<List<WeatherData>>failure(
+                        List.of(),
+                        metadataResult.failureReason()));
+            }
+            PointMetadata metadata = metadataResult.payload();
+            if (metadata == null || metadata.getForecastHourlyUrl() == null) {
+                return Mono.just(WeatherFetchResult.success(List.<WeatherData>of()));
+            }
+
+            return cachedRequest("hourly_forecast", metadata.getForecastHourlyUrl(), NoaaForecastHourlyResponse.class, true)
+                    .map(forecastResult -> {
+                        if (!forecastResult.successful()) {
+                            return WeatherFetchResult.failure(List.<WeatherData>of(), forecastResult.failureReason());
+                        }
+                        return fetched(forecastResult, mapForecastToWeatherData(
+                                forecastResult.payload(),
+                                "forecast-" + latitude + "-" + longitude,
+                                String.format(Locale.US, "lat=%.4f,lon=%.4f", latitude, longitude),
+                                latitude,
+                                longitude,
+                                normalizedHours));
+                    });
+        });
+    }
+
+    /**
+     * Point metadata from memory or the database while it is fresh, otherwise from {@code /points}. When the
+     * refresh fails, stale metadata is still returned: it almost never changes.
+     */
+    private Mono<RequestResult<PointMetadata>> pointMetadata(double latitude, double longitude) {
+        return Mono.defer(() -> {
+            PointMetadata warm = pointMetadataStore.warm(latitude, longitude);
+            Mono<Optional<PointMetadata>> known = warm != null
+                    ? Mono.just(Optional.of(warm))
+                    : blocking(() -> pointMetadataStore.load(latitude, longitude));
+            return known.flatMap(stored -> {
+                if (stored.isPresent() && pointMetadataStore.isFresh(stored.get())) {
+                    meterRegistry.counter("weather.noaa.point_metadata.lookups", "outcome", "hit").increment();
+                    return Mono.just(RequestResult.success(stored.get()));
+                }
+                meterRegistry.counter("weather.noaa.point_metadata.lookups", "outcome", "miss").increment();
+                return fetchPointProperties(latitude, longitude).flatMap(result -> {
+                    if (!result.successful()) {
+                        if (stored.isPresent()) {
+                            log.warn("Using stale point metadata for {}, {}: {}", latitude, longitude, result.failureReason());
+                            return Mono.just(RequestResult.success(stored.get()));
+                        }
+                        return Mono.just(RequestResult.<PointMetadata>failure(result.failureReason()));
+                    }
+                    if (result.payload() == null) {
+                        return Mono.just(RequestResult.<PointMetadata>success(null));
+                    }
+                    PointMetadata resolved = toPointMetadata(result.payload(), latitude, longitude);
+                    return blocking(() -> pointMetadataStore.store(resolved)).map(RequestResult::success);
+                });
+            });
+        });
+    }
+
+    private PointMetadata toPointMetadata(NoaaPointProperties properties, double latitude, double longitude) {
+        return PointMetadata.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .gridId(properties.getGridId())
+                .gridX(properties.getGridX())
+                .gridY(properties.getGridY())
+                .forecastHourlyUrl(properties.getForecastHourly())
+                .observationStationsUrl(properties.getObservationStations())
+                .forecastZone(lastPathSegment(properties.getForecastZone()))
+                .county(lastPathSegment(properties.getCounty()))
+                .build();
+    }
+
+    /**
+     * Zone and county references are URLs such as {@code .../zones/forecast/FLZ045}; only the code is kept.
+     */
+    private static String lastPathSegment(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
         }
-        return WeatherFetchResult.success(mapForecastToWeatherData(forecastResult.payload(), latitude, longitude, normalizedHours));
+        String trimmed = url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+        return trimmed.substring(trimmed.lastIndexOf('/') + 1);
     }
 
-    private RequestResult<NoaaPointProperties> fetchPointProperties(double latitude, double longitude) {
-        return requestWithFallback(
+    /**
+     * Runs a blocking store call off the HTTP event loop.
+     */
+    private static <T> Mono<T> blocking(Supplier<T> call) {
+        return Mono.fromSupplier(call).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<RequestResult<NoaaPointProperties>> fetchPointProperties(double latitude, double longitude) {
+        return sharedRequest(
                 "point_metadata",
+                "/points/" + latitude + "," + longitude,
                 () -> noaaWebClient.get()
                         .uri("/points/{latitude},{longitude}", latitude, longitude)
                         .retrieve()
                         .bodyToMono(NoaaPointResponse.class))
-                .mapPayload(response -> response == null ? null : response.getProperties());
+                .map(result -> result.mapPayload(response -> response == null ? null : response.getProperties()));
     }
 
-    private RequestResult<NoaaStationProperties> fetchPrimaryStation(String observationStationsUrl) {
+    private Mono<RequestResult<NoaaStationProperties>> fetchPrimaryStation(String observationStationsUrl) {
         if (observationStationsUrl == null || observationStationsUrl.isBlank()) {
-            return RequestResult.success(null);
+            return Mono.just(RequestResult.success(null));
         }
-        return requestWithFallback(
+        return sharedRequest(
                 "observation_stations",
+                NoaaResponseCache.key(observationStationsUrl),
                 () -> noaaWebClient.get()
                         .uri(observationStationsUrl)
                         .retrieve()
                         .bodyToMono(NoaaStationsResponse.class))
-                .mapPayload(response -> {
+                .map(result -> result.mapPayload(response -> {
                     if (response == null || response.getFeatures() == null || response.getFeatures().isEmpty()) {
                         return null;
                     }
@@ -232,13 +651,7 @@ public class NoaaWeatherAdapter implements WeatherDataPort {
                             .filter(properties -> properties != null && properties.getStationIdentifier() != null)
                             .findFirst()
                             .orElse(null);
-                });
-    }
-
-    private List<WeatherData> mapToAlertWeatherData(List<NoaaAlertFeature> features) {
-        return features.stream()
-                .map(this::mapFeatureToWeatherData)
-                .toList();
+                }));
     }
 
     private WeatherData mapFeatureToWeatherData(NoaaAlertFeature feature) {
@@ -247,6 +660,8 @@ public class NoaaWeatherAdapter implements WeatherDataPort {
         return WeatherData.builder()
                 .id(feature.getId() != null ? feature.getId() : UUID.randomUUID().toString())
                 .location(props.getAreaDesc())
+                .zoneCodes(props.getGeocode() == null ? null : props.getGeocode().getUgc())
+                .geometry(feature.getGeometry() == null ? null : feature.getGeometry().toAlertGeometry())
                 .eventType(props.getEvent())
                 .severity(props.getSeverity())
                 .headline(props.getHeadline())
@@ -266,8 +681,8 @@ public class NoaaWeatherAdapter implements WeatherDataPort {
             NoaaObservationResponse response,
             String stationId,
             String stationName,
-            double latitude,
-            double longitude) {
+            Double latitude,
+            Double longitude) {
         if (response == null) {
             return null;
         }
@@ -304,8 +719,10 @@ public class NoaaWeatherAdapter implements WeatherDataPort {
 
     private List<WeatherData> mapForecastToWeatherData(
             NoaaForecastHourlyResponse response,
-            double latitude,
-            double longitude,
+            String idPrefix,
+            String location,
+            Double latitude,
+            Double longitude,
             int forecastWindowHours) {
         if (response == null || response.getProperties() == null || response.getProperties().getPeriods() == null) {
             return List.of();
@@ -328,8 +745,8 @@ public class NoaaWeatherAdapter implements WeatherDataPort {
             Double humidity = extractValue(period.getRelativeHumidity());
 
             WeatherData weatherData = WeatherData.builder()
-                    .id("forecast-" + latitude + "-" + longitude + "-" + onset.toEpochMilli())
-                    .location(String.format(Locale.US, "lat=%.4f,lon=%.4f", latitude, longitude))
+                    .id(idPrefix + "-" + onset.toEpochMilli())
+                    .location(location)
                     .latitude(latitude)
                     .longitude(longitude)
                     .eventType("FORECAST_CONDITIONS")
@@ -387,36 +804,372 @@ public class NoaaWeatherAdapter implements WeatherDataPort {
         }
     }
 
-    private <T> RequestResult<T> requestWithFallback(String operation, Supplier<Mono<T>> requestSupplier) {
-        if (isOutageOpen()) {
-            String reason = "outage guard open until " + outageOpenUntil;
-            meterRegistry.counter("weather.noaa.requests", "operation", operation, "outcome", "short_circuit").increment();
-            log.warn("Skipping NOAA request for operation={}: {}", operation, reason);
-            return RequestResult.failure(reason);
+    /**
+     * GET served from {@link NoaaResponseCache} while NOAA's advertised lifetime lasts, otherwise revalidated with
+     * a conditional GET. With {@code staleWhileRevalidate}, an expired entry is returned marked stale while one
+     * background request refreshes it. Whenever a refresh fails, including while the outage guard is open, an
+     * entry within {@code app.noaa.response-cache-max-stale-minutes} is served stale instead of failing; alert
+     * feeds excepted, since an old feed would evaluate as current and miss alerts issued or expired since. With
+     * background refresh enabled, forecasts and observations are served from the cache while their refresh timer
+     * keeps them current, and a document fetched here starts its timer.
+     */
+    private <T> Mono<RequestResult<T>> cachedRequest(
+            String operation,
+            String url,
+            Class<T> bodyType,
+            boolean staleWhileRevalidate) {
+        return cachedRequest(operation, url, bodyType, response -> response.bodyToMono(bodyType), staleWhileRevalidate);
+    }
+
+    private <T> Mono<RequestResult<T>> cachedRequest(
+            String operation,
+            String url,
+            Class<T> bodyType,
+            Function<ClientResponse, Mono<T>> decoder,
+            boolean staleWhileRevalidate) {
+        String key = NoaaResponseCache.key(url);
+        boolean snapshot = refreshProperties.isEnabled() && SNAPSHOT_OPERATIONS.contains(operation);
+        return Mono.defer(() -> {
+            Instant now = clock.instant();
+            NoaaResponseCache.Entry<T> cached = responseCache.get(key, bodyType);
+            if (cached != null && snapshot && refreshSchedule.isCurrent(key)) {
+                countCacheLookup(operation, "snapshot");
+                return Mono.just(RequestResult.success(cached.body()));
+            }
+            if (cached != null && cached.isFresh(now)) {
+                countCacheLookup(operation, "fresh");
+                trackSnapshot(snapshot, operation, url, key, bodyType, decoder, cached.expiresAt());
+                return Mono.just(RequestResult.success(cached.body()));
+            }
+            boolean servableStale = cached != null
+                    && !ALERT_FEED_OPERATIONS.contains(operation)
+                    && cached.isServableStale(now, responseCacheMaxStale);
+            if (servableStale && staleWhileRevalidate && cached.expiresAt() != null) {
+                if (responseCache.startRefresh(key)) {
+                    revalidate(operation, url, key, decoder, cached)
+                            .doFinally(signal -> responseCache.finishRefresh(key))
+                            .subscribe();
+                }
+                countCacheLookup(operation, "stale");
+                return Mono.just(RequestResult.stale(cached.body()));
+            }
+            countCacheLookup(operation, "miss");
+            return revalidate(operation, url, key, decoder, cached).map(result -> {
+                if (result.successful()) {
+                    NoaaResponseCache.Entry<T> stored = responseCache.get(key, bodyType);
+                    if (stored != null) {
+                        trackSnapshot(snapshot, operation, url, key, bodyType, decoder, stored.expiresAt());
+                    }
+                }
+                if (!result.successful() && servableStale) {
+                    log.warn("Serving stale NOAA {} response for {}: {}", operation, key, result.failureReason());
+                    countCacheLookup(operation, "stale_on_error");
+                    return RequestResult.stale(cached.body());
+                }
+                return result;
+            });
+        });
+    }
+
+    private <T> void trackSnapshot(
+            boolean snapshot,
+            String operation,
+            String url,
+            String key,
+            Class<T> bodyType,
+            Function<ClientResponse, Mono<T>> decoder,
+            Instant expiresAt) {
+        if (snapshot) {
+            refreshSchedule.track(
+                    key,
+                    operation,
+                    () -> refreshSnapshot(operation, url, key, bodyType, decoder),
+                    expiresAt);
+        }
+    }
+
+    /**
+     * Start the background refreshes that are due (see {@link NoaaRefreshSchedule}). Each one is a conditional
+     * GET through the regular request path; {@code weather.noaa.refresh.runs} counts them by outcome.
+     */
+    @Scheduled(
+            fixedDelayString = "${app.noaa.refresh.tick-millis:1000}",
+            initialDelayString = "${app.noaa.refresh.tick-millis:1000}")
+    public void refreshDueSnapshots() {
+        refreshDue().subscribe();
+    }
+
+    /**
+     * The refreshes due now, run concurrently; completes once all of them are recorded.
+     */
+    Mono<Void> refreshDue() {
+        if (!refreshProperties.isEnabled()) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(refreshSchedule.due(refreshProperties.getMaxPerTick()))
+                .flatMap(due -> due.refresh().get()
+                        .defaultIfEmpty(NoaaRefreshSchedule.Outcome.failed())
+                        .onErrorReturn(NoaaRefreshSchedule.Outcome.failed())
+                        .doOnNext(outcome -> {
+                            refreshSchedule.completed(due.key(), outcome);
+                            String result = !outcome.successful() ? "failed" : outcome.changed() ? "changed" : "unchanged";
+                            meterRegistry.counter("weather.noaa.refresh.runs", "operation", due.operation(), "outcome", result)
+                                    .increment();
+                        }))
+                .then();
+    }
+
+    /**
+     * Revalidate a snapshot. It changed unless NOAA answered {@code 304 Not Modified}, which hands back the cached
+     * body itself.
+     */
+    private <T> Mono<NoaaRefreshSchedule.Outcome> refreshSnapshot(
+            String operation,
+            String url,
+            String key,
+            Class<T> bodyType,
+            Function<ClientResponse, Mono<T>> decoder) {
+        return Mono.defer(() -> {
+            NoaaResponseCache.Entry<T> cached = responseCache.get(key, bodyType);
+            return revalidate(operation, url, key, decoder, cached).map(result -> {
+                NoaaResponseCache.Entry<T> stored = responseCache.get(key, bodyType);
+                if (!result.successful() || stored == null) {
+                    return NoaaRefreshSchedule.Outcome.failed();
+                }
+                boolean changed = cached == null || result.payload() != cached.body();
+                return new NoaaRefreshSchedule.Outcome(true, changed, stored.expiresAt());
+            });
+        });
+    }
+
+    /**
+     * Conditional GET against the cached entry, if any. {@code 304 Not Modified} renews the entry without
+     * downloading or parsing the document again.
+     */
+    private <T> Mono<RequestResult<T>> revalidate(
+            String operation,
+            String url,
+            String key,
+            Function<ClientResponse, Mono<T>> decoder,
+            NoaaResponseCache.Entry<T> cached) {
+        return sharedRequest(operation, key, () -> noaaWebClient.get()
+                .uri(url)
+                .headers(headers -> {
+                    if (cached == null) {
+                        return;
+                    }
+                    if (cached.etag() != null) {
+                        headers.setIfNoneMatch(cached.etag());
+                    }
+                    if (cached.lastModified() != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+                    }
+                })
+                .exchangeToMono(response -> {
+                    HttpHeaders responseHeaders = response.headers().asHttpHeaders();
+                    Instant now = clock.instant();
+                    if (cached != null && response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                        meterRegistry.counter("weather.noaa.conditional.requests", "operation", operation, "outcome", "hit")
+                                .increment();
+                        responseCache.renew(key, cached, expiresAt(responseHeaders, now), now);
+                        return response.releaseBody().thenReturn(cached.body());
+                    }
+                    if (response.statusCode().isError()) {
+                        return response.<T>createError();
+                    }
+                    meterRegistry.counter("weather.noaa.conditional.requests", "operation", operation, "outcome", "miss")
+                            .increment();
+                    return decoder.apply(response).doOnNext(body -> responseCache.put(
+                            key,
+                            responseHeaders.getETag(),
+                            responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED),
+                            expiresAt(responseHeaders, now),
+                            body,
+                            now));
+                }));
+    }
+
+    /**
+     * Freshness lifetime from {@code Cache-Control: max-age} (less {@code Age}) or {@code Expires}, capped at
+     * {@link #MAX_RESPONSE_TTL}. {@code null} when the response must be revalidated on every use.
+     */
+    private static Instant expiresAt(HttpHeaders headers, Instant now) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null) {
+            for (String directive : cacheControl.split(",")) {
+                String normalized = directive.trim().toLowerCase(Locale.ROOT);
+                if (normalized.equals("no-store") || normalized.equals("no-cache")) {
+                    return null;
+                }
+                if (normalized.startsWith("max-age=")) {
+                    try {
+                        long maxAge = Long.parseLong(normalized.substring("max-age=".length()).trim());
+                        long age = parseAge(headers.getFirst(HttpHeaders.AGE));
+                        long lifetime = Math.min(maxAge - age, MAX_RESPONSE_TTL.toSeconds());
+                        return lifetime > 0 ? now.plusSeconds(lifetime) : null;
+                    } catch (NumberFormatException ex) {
+                        return null;
+                    }
+                }
+            }
         }
+        long expires = headers.getExpires();
+        if (expires <= 0) {
+            return null;
+        }
+        Instant expiresAt = Instant.ofEpochMilli(expires);
+        Instant cap = now.plus(MAX_RESPONSE_TTL);
+        return expiresAt.isAfter(cap) ? cap : expiresAt;
+    }
 
-        paceRequests();
-        Timer.Sample sample = Timer.start(meterRegistry);
+    private static long parseAge(String age) {
+        if (age == null || age.isBlank()) {
+            return 0L;
+        }
         try {
-            Mono<T> request = requestSupplier.get().timeout(Duration.ofSeconds(requestTimeoutSeconds));
+            return Math.max(0L, Long.parseLong(age.trim()));
+        } catch (NumberFormatException ex) {
+            return 0L;
+        }
+    }
+
+    private void countCacheLookup(String operation, String outcome) {
+        meterRegistry.counter("weather.noaa.cache.lookups", "operation", operation, "outcome", outcome).increment();
+    }
+
+    private static <T> WeatherFetchResult<T> fetched(RequestResult<?> source, T data) {
+        return source.stale() ? WeatherFetchResult.stale(data) : WeatherFetchResult.success(data);
+    }
+
+    /**
+     * {@link #request} shared with every concurrent caller of the same operation and key, failures included.
+     * {@code weather.noaa.requests.coalesced} counts callers that started the call ({@code outcome=leader})
+     * and callers that joined one in flight ({@code outcome=joined}); joined / total is the coalescing ratio.
+     */
+    private <T> Mono<RequestResult<T>> sharedRequest(String operation, String key, Supplier<Mono<T>> requestSupplier) {
+        return inFlightRequests.join(
+                operation + " " + key,
+                () -> request(operation, requestSupplier),
+                coalesced -> meterRegistry.counter(
+                        "weather.noaa.requests.coalesced",
+                        "operation", operation,
+                        "outcome", coalesced ? "joined" : "leader").increment());
+    }
+
+    /**
+     * One NOAA call through the operation's circuit breaker and bulkhead, then pacing, the global in-flight
+     * limit, timeout and retries. Never errors: failures are returned as an unsuccessful {@link RequestResult}.
+     */
+    private <T> Mono<RequestResult<T>> request(String operation, Supplier<Mono<T>> requestSupplier) {
+        OperationGuard guard = guard(operation);
+        return Mono.defer(() -> {
+            if (!guard.breaker().tryAcquirePermission()) {
+                String reason = "circuit open for " + operation + " until " + guard.breaker().openUntil();
+                meterRegistry.counter("weather.noaa.requests", "operation", operation, "outcome", "short_circuit").increment();
+                log.warn("Skipping NOAA request for operation={}: {}", operation, reason);
+                return Mono.just(RequestResult.<T>failure(reason));
+            }
+
+            Mono<T> attempt = requestThrottle.awaitToken().then(hedged(operation, guard.hedging(), requestSupplier));
             if (retryMaxAttempts > 0) {
-                request = request.retryWhen(
+                attempt = attempt.retryWhen(
                         Retry.backoff(retryMaxAttempts, Duration.ofMillis(retryBackoffMillis))
                                 .filter(this::isRetryable)
                                 .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
             }
-            T payload = request.block();
-            markProviderSuccess();
-            meterRegistry.counter("weather.noaa.requests", "operation", operation, "outcome", "success").increment();
-            return RequestResult.success(payload);
-        } catch (Exception ex) {
-            markProviderFailure();
-            meterRegistry.counter("weather.noaa.requests", "operation", operation, "outcome", "failure").increment();
-            log.warn("NOAA request failed for operation={}. Falling back to empty result. cause={}", operation, ex.getMessage());
-            return RequestResult.failure(ex.getMessage());
-        } finally {
-            sample.stop(meterRegistry.timer("weather.noaa.request.duration", "operation", operation));
+            Mono<T> paced = attempt;
+            return guard.bulkhead().withSlot(requestThrottle.withSlot(Mono.defer(() -> {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                return paced
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .map(payload -> {
+                            guard.breaker().onSuccess();
+                            meterRegistry.counter("weather.noaa.requests", "operation", operation, "outcome", "success").increment();
+                            return RequestResult.success(payload.orElse(null));
+                        })
+                        .onErrorResume(ex -> {
+                            guard.breaker().onFailure();
+                            meterRegistry.counter("weather.noaa.requests", "operation", operation, "outcome", "failure").increment();
+                            log.warn(
+                                    "NOAA request failed for operation={}. Falling back to empty result. cause={}",
+                                    operation,
+                                    ex.getMessage());
+                            return Mono.just(RequestResult.failure(ex.getMessage()));
+                        })
+                        .doFinally(signal -> sample.stop(meterRegistry.timer("weather.noaa.request.duration", "operation", operation)));
+            }))).doOnCancel(guard.breaker()::onCancel);
+        });
+    }
+
+    /**
+     * One attempt, hedged when enabled: if it is still running after the operation's hedge delay and the budget
+     * allows, a duplicate is sent and whichever completes first wins; the other is cancelled. A failure only wins
+     * once both have failed, and is then reported as the primary's, so a hedge that fails fast never cuts short a
+     * primary that would have succeeded. No hedge is sent once the primary has failed. The hedge waits for a rate
+     * token but not for an in-flight slot; the budget bounds the extra load instead.
+     * <p>
+     * {@code weather.noaa.hedge.requests} counts hedges {@code sent}, {@code won} and {@code denied} by the
+     * budget. {@code weather.noaa.hedge.latency.saved} estimates each win against the mean latency of past
+     * requests that were as slow as the hedge delay.
+     * <p>
+     * Only a primary request that completes feeds the latency window the hedge delay is derived from. A hedge
+     * only wins when the primary is slow, so recording the winner's time would pull the percentile down and hedge
+     * more and more requests.
+     */
+    private <T> Mono<T> hedged(String operation, NoaaHedgePolicy policy, Supplier<Mono<T>> requestSupplier) {
+        Mono<T> call = Mono.defer(requestSupplier).timeout(Duration.ofSeconds(requestTimeoutSeconds));
+        if (!hedgingProperties.isEnabled()) {
+            return call;
         }
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            Duration hedgeDelay = policy.onRequest();
+            if (hedgeDelay == null) {
+                return call.doOnSuccess(payload -> policy.recordLatency(System.nanoTime() - start));
+            }
+            AtomicBoolean hedgeWon = new AtomicBoolean();
+            AtomicReference<Throwable> primaryError = new AtomicReference<>();
+            // Optional so that an empty response still counts as a value for firstWithValue.
+            Mono<Optional<T>> primary = call
+                    .doOnSuccess(payload -> policy.recordLatency(System.nanoTime() - start))
+                    .doOnError(primaryError::set)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty());
+            Mono<Optional<T>> hedge = Mono.delay(hedgeDelay).flatMap(tick -> {
+                if (primaryError.get() != null) {
+                    return Mono.<Optional<T>>empty();
+                }
+                if (!policy.tryAcquireHedge()) {
+                    countHedge(operation, "denied");
+                    return Mono.<Optional<T>>empty();
+                }
+                countHedge(operation, "sent");
+                return requestThrottle.awaitToken()
+                        .then(call)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .doOnSuccess(payload -> hedgeWon.set(true));
+            });
+            return Mono.firstWithValue(primary, hedge)
+                    .onErrorMap(NoSuchElementException.class, ex -> primaryError.get() != null ? primaryError.get() : ex)
+                    .flatMap(Mono::justOrEmpty)
+                    .doOnSuccess(payload -> {
+                        if (hedgeWon.get()) {
+                            long elapsed = System.nanoTime() - start;
+                            countHedge(operation, "won");
+                            long saved = policy.expectedLatencyBeyond(hedgeDelay) - elapsed;
+                            if (saved > 0) {
+                                meterRegistry.timer("weather.noaa.hedge.latency.saved", "operation", operation)
+                                        .record(saved, TimeUnit.NANOSECONDS);
+                            }
+                        }
+                    });
+        });
+    }
+
+    private void countHedge(String operation, String outcome) {
+        meterRegistry.counter("weather.noaa.hedge.requests", "operation", operation, "outcome", outcome).increment();
     }
 
     private boolean isRetryable(Throwable throwable) {
@@ -430,60 +1183,85 @@ public class NoaaWeatherAdapter implements WeatherDataPort {
         return name.contains("timeout");
     }
 
-    private boolean isOutageOpen() {
-        Instant until = outageOpenUntil;
-        return until != null && until.isAfter(Instant.now());
+    /**
+     * Circuit breaker and bulkhead state per operation, as exposed by {@link NoaaOperationsEndpoint}.
+     */
+    public Map<String, NoaaOperationState> operationStates() {
+        Map<String, NoaaOperationState> states = new TreeMap<>();
+        operationGuards.forEach((operation, guard) -> states.put(operation, new NoaaOperationState(
+                guard.breaker().state().name(),
+                guard.breaker().failureRate(),
+                guard.breaker().bufferedCalls(),
+                guard.breaker().openUntil(),
+                guard.bulkhead().inFlight(),
+                guard.bulkhead().waiting())));
+        return states;
     }
 
-    private void markProviderSuccess() {
-        consecutiveFailures.set(0);
-        outageOpenUntil = null;
+    private OperationGuard guard(String operation) {
+        return operationGuards.computeIfAbsent(operation, this::newGuard);
     }
 
-    private void markProviderFailure() {
-        int failures = consecutiveFailures.incrementAndGet();
-        if (failures < outageFailureThreshold) {
-            return;
-        }
-        Instant until = Instant.now().plusSeconds(outageOpenSeconds);
-        outageOpenUntil = until;
-        consecutiveFailures.set(0);
-        log.warn("NOAA outage guard opened for {} seconds (until {}).", outageOpenSeconds, until);
+    /**
+     * The bulkhead is a slot-only {@link NoaaRequestThrottle}: pacing stays global because NOAA's rate limit is.
+     */
+    private OperationGuard newGuard(String operation) {
+        OperationGuard guard = new OperationGuard(
+                new NoaaCircuitBreaker(
+                        circuitWindowSize,
+                        outageFailureThreshold,
+                        circuitFailureRatePercent,
+                        Duration.ofSeconds(outageOpenSeconds),
+                        circuitHalfOpenProbes,
+                        clock),
+                new NoaaRequestThrottle(0, 1, operationMaxConcurrentRequests),
+                new NoaaHedgePolicy(
+                        hedgingProperties.getWindowSize(),
+                        hedgingProperties.getMinSamples(),
+                        hedgingProperties.getPercentile(),
+                        hedgingProperties.getBudgetPercent(),
+                        Duration.ofMillis(Math.max(1, hedgingProperties.getMinDelayMillis())),
+                        Duration.ofSeconds(requestTimeoutSeconds)));
+        meterRegistry.gauge(
+                "weather.noaa.circuit.state",
+                Tags.of("operation", operation),
+                guard.breaker(),
+                breaker -> breaker.state().gaugeValue());
+        meterRegistry.gauge(
+                "weather.noaa.bulkhead.waiting",
+                Tags.of("operation", operation),
+                guard.bulkhead(),
+                NoaaRequestThrottle::waiting);
+        return guard;
     }
 
-    private void paceRequests() {
-        if (minRequestIntervalMillis <= 0) {
-            return;
-        }
-        synchronized (requestPacingLock) {
-            long now = System.currentTimeMillis();
-            long earliestNext = lastRequestAtMillis + minRequestIntervalMillis;
-            long sleepMillis = earliestNext - now;
-            if (sleepMillis > 0) {
-                try {
-                    Thread.sleep(sleepMillis);
-                } catch (InterruptedException interruptedException) {
-                    Thread.currentThread().interrupt();
-                }
-            }
-            lastRequestAtMillis = System.currentTimeMillis();
-        }
+    private record OperationGuard(NoaaCircuitBreaker breaker, NoaaRequestThrottle bulkhead, NoaaHedgePolicy hedging) {
+    }
+
+    /**
+     * Decoded features of one alert collection response; cached as a unit and mapped on every read.
+     */
+    private record AlertFeed(List<NoaaAlertFeature> features) {
     }
 
-    private record RequestResult<T>(boolean successful, T payload, String failureReason) {
+    private record RequestResult<T>(boolean successful, T payload, String failureReason, boolean stale) {
         static <T> RequestResult<T> success(T payload) {
-            return new RequestResult<>(true, payload, null);
+            return new RequestResult<>(true, payload, null, false);
+        }
+
+        static <T> RequestResult<T> stale(T payload) {
+            return new RequestResult<>(true, payload, null, true);
         }
 
         static <T> RequestResult<T> failure(String failureReason) {
-            return new RequestResult<>(false, null, failureReason);
+            return new RequestResult<>(false, null, failureReason, false);
         }
 
         <R> RequestResult<R> mapPayload(Function<T, R> mapper) {
             if (!successful) {
                 return RequestResult.failure(failureReason);
             }
-            return RequestResult.success(mapper.apply(payload));
+            return new RequestResult<>(true, mapper.apply(payload), null, stale);
         }
     }
 }
@@ -35,6 +35,12 @@ public class AlertCriteriaEntity {
     
     @Column(name = "radius_km")
     private Double radiusKm;
+
+    @Column(name = "forecast_zone", length = 32)
+    private String forecastZone;
+
+    @Column(name = "county", length = 32)
+    private String county;
     
     @Column(name = "event_type")
     private String eventType;
@@ -89,4 +95,8 @@ public class AlertCriteriaEntity {
     
     @Column(name = "enabled")
     private Boolean enabled;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
 }
@@ -3,6 +3,7 @@ package com.weather.alert.infrastructure.adapter.persistence;
 import com.weather.alert.domain.model.AlertCriteria;
 import com.weather.alert.domain.port.AlertCriteriaRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -41,6 +42,15 @@ public class AlertCriteriaRepositoryAdapter implements AlertCriteriaRepositoryPo
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public List<AlertCriteria> findEnabledAfter(String afterId, int limit) {
+        PageRequest page = PageRequest.of(0, Math.max(limit, 1));
+        List<AlertCriteriaEntity> entities = afterId == null
+                ? jpaRepository.findByEnabledTrueOrderByIdAsc(page)
+                : jpaRepository.findByEnabledTrueAndIdGreaterThanOrderByIdAsc(afterId, page);
+        return entities.stream().map(this::toDomain).toList();
+    }
+
     @Override
     public void delete(String id) {
         jpaRepository.deleteById(id);
@@ -55,6 +65,8 @@ public class AlertCriteriaRepositoryAdapter implements AlertCriteriaRepositoryPo
                 .latitude(criteria.getLatitude())
                 .longitude(criteria.getLongitude())
                 .radiusKm(criteria.getRadiusKm())
+                .forecastZone(criteria.getForecastZone())
+                .county(criteria.getCounty())
                 .eventType(criteria.getEventType())
                 .minSeverity(criteria.getMinSeverity())
                 .maxTemperature(criteria.getMaxTemperature())
@@ -72,6 +84,7 @@ public class AlertCriteriaRepositoryAdapter implements AlertCriteriaRepositoryPo
                 .oncePerEvent(criteria.getOncePerEvent())
                 .rearmWindowMinutes(criteria.getRearmWindowMinutes())
                 .enabled(criteria.getEnabled())
+                .version(criteria.getVersion())
                 .build();
     }
     
@@ -84,6 +97,8 @@ public class AlertCriteriaRepositoryAdapter implements AlertCriteriaRepositoryPo
                 .latitude(entity.getLatitude())
                 .longitude(entity.getLongitude())
                 .radiusKm(entity.getRadiusKm())
+                .forecastZone(entity.getForecastZone())
+                .county(entity.getCounty())
                 .eventType(entity.getEventType())
                 .minSeverity(entity.getMinSeverity())
                 .maxTemperature(entity.getMaxTemperature())
@@ -101,6 +116,7 @@ public class AlertCriteriaRepositoryAdapter implements AlertCriteriaRepositoryPo
                 .oncePerEvent(entity.getOncePerEvent())
                 .rearmWindowMinutes(entity.getRearmWindowMinutes())
                 .enabled(entity.getEnabled())
+                .version(entity.getVersion())
                 .build();
     }
 }
@@ -3,15 +3,35 @@ package com.weather.alert.infrastructure.adapter.persistence;
 import com.weather.alert.domain.model.AlertCriteriaState;
 import com.weather.alert.domain.port.AlertCriteriaStateRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class AlertCriteriaStateRepositoryAdapter implements AlertCriteriaStateRepositoryPort {
 
+    private static final String UPSERT_SQL = "insert into criteria_state " +
+            "(criteria_id, last_condition_met, last_event_signature, last_notified_at, created_at, updated_at) " +
+            "values (:criteriaId, :lastConditionMet, :lastEventSignature, :lastNotifiedAt, :createdAt, :updatedAt) " +
+            "on conflict (criteria_id) do update set " +
+            "last_condition_met = excluded.last_condition_met, " +
+            "last_event_signature = excluded.last_event_signature, " +
+            "last_notified_at = excluded.last_notified_at, " +
+            "updated_at = excluded.updated_at";
+
     private final JpaAlertCriteriaStateRepository jpaRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
     @Override
     public Optional<AlertCriteriaState> findByCriteriaId(String criteriaId) {
@@ -25,6 +45,43 @@ public class AlertCriteriaStateRepositoryAdapter implements AlertCriteriaStateRe
         return toDomain(saved);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, AlertCriteriaState> findByCriteriaIds(Collection<String> criteriaIds) {
+        Map<String, AlertCriteriaState> states = new HashMap<>();
+        if (criteriaIds == null || criteriaIds.isEmpty()) {
+            return states;
+        }
+        jpaRepository.findAllById(criteriaIds).forEach(entity -> states.put(entity.getCriteriaId(), toDomain(entity)));
+        return states;
+    }
+
+    /**
+     * One JDBC batch of Postgres upserts: a single round trip whether the rows exist or not, without loading them
+     * first or letting Hibernate merge new rows one SELECT at a time. {@code created_at} is only written on insert.
+     */
+    @Override
+    @Transactional
+    public void saveAll(Collection<AlertCriteriaState> states) {
+        if (states == null || states.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] rows = states.stream()
+                .map(state -> new MapSqlParameterSource()
+                        .addValue("criteriaId", state.getCriteriaId())
+                        .addValue("lastConditionMet", state.getLastConditionMet())
+                        .addValue("lastEventSignature", state.getLastEventSignature())
+                        .addValue("lastNotifiedAt", toTimestamp(state.getLastNotifiedAt()))
+                        .addValue("createdAt", toTimestamp(state.getCreatedAt()))
+                        .addValue("updatedAt", toTimestamp(state.getUpdatedAt())))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+
+    private static OffsetDateTime toTimestamp(Instant instant) {
+        return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+    }
+
     private AlertCriteriaStateEntity toEntity(AlertCriteriaState state) {
         return AlertCriteriaStateEntity.builder()
                 .criteriaId(state.getCriteriaId())
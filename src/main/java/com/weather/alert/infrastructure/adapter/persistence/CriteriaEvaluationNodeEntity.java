@@ -0,0 +1,28 @@
+package com.weather.alert.infrastructure.adapter.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "criteria_evaluation_node")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CriteriaEvaluationNodeEntity {
+
+    @Id
+    @Column(name = "node_id", nullable = false)
+    private String nodeId;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private Instant heartbeatAt;
+}
@@ -0,0 +1,31 @@
+package com.weather.alert.infrastructure.adapter.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "criteria_partition_lease")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CriteriaPartitionLeaseEntity {
+
+    @Id
+    @Column(name = "partition_id", nullable = false)
+    private Integer partitionId;
+
+    @Column(name = "owner_id")
+    private String ownerId;
+
+    @Column(name = "lease_expires_at")
+    private Instant leaseExpiresAt;
+}
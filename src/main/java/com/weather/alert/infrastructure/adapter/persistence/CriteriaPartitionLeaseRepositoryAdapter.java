@@ -0,0 +1,87 @@
+package com.weather.alert.infrastructure.adapter.persistence;
+
+import com.weather.alert.domain.port.CriteriaPartitionLeasePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Lease table based partition assignment. Every heartbeat renews the node's own leases, trims them down to
+ * its fair share ({@code ceil(partitions / liveNodes)}) and claims free or expired partitions with a
+ * conditional update, so two nodes can never take the same partition in the same heartbeat. Excess partitions a
+ * running evaluation cycle still works on are kept until a heartbeat after the cycle. Nodes that stop
+ * heartbeating lose their partitions once the lease expires. Leases on partitions at or above the configured
+ * count, left over from a larger partition count, are released rather than renewed.
+ * <p>
+ * Heartbeats, lease expiry and liveness are all timed by the database clock ({@code now()}), never the node's,
+ * so clock skew between nodes cannot make a live lease look expired to another node.
+ */
+@Component
+@RequiredArgsConstructor
+public class CriteriaPartitionLeaseRepositoryAdapter implements CriteriaPartitionLeasePort {
+
+    private final JpaCriteriaPartitionLeaseRepository leaseRepository;
+    private final JpaCriteriaEvaluationNodeRepository nodeRepository;
+
+    @Override
+    @Transactional
+    public Set<Integer> heartbeat(String nodeId, int partitionCount, Duration leaseDuration, Set<Integer> inUse) {
+        long leaseSeconds = Math.max(leaseDuration.toSeconds(), 1);
+
+        nodeRepository.recordHeartbeat(nodeId);
+        nodeRepository.deleteNotLive(leaseSeconds);
+        leaseRepository.insertMissingPartitions(partitionCount);
+        leaseRepository.releasePartitionsFrom(nodeId, partitionCount);
+        leaseRepository.renewOwnedLeases(nodeId, partitionCount, leaseSeconds);
+
+        long liveNodes = Math.max(nodeRepository.countLive(leaseSeconds), 1);
+        int fairShare = fairShare(partitionCount, liveNodes);
+
+        List<Integer> owned = new ArrayList<>(leaseRepository.findOwnedPartitionIds(nodeId, partitionCount));
+        if (owned.size() > fairShare) {
+            List<Integer> excess = new ArrayList<>();
+            for (int i = owned.size() - 1; i >= 0 && owned.size() - excess.size() > fairShare; i--) {
+                if (!inUse.contains(owned.get(i))) {
+                    excess.add(owned.get(i));
+                }
+            }
+            if (!excess.isEmpty()) {
+                leaseRepository.releasePartitions(nodeId, excess);
+                owned.removeAll(excess);
+            }
+        }
+
+        if (owned.size() < fairShare) {
+            List<Integer> claimable = new ArrayList<>(leaseRepository.findClaimablePartitionIds(partitionCount));
+            // Spread concurrent claimers over different rows instead of having every node race for the lowest id.
+            Collections.shuffle(claimable);
+            for (Integer partitionId : claimable) {
+                if (owned.size() >= fairShare) {
+                    break;
+                }
+                if (leaseRepository.claimPartition(partitionId, nodeId, leaseSeconds) > 0) {
+                    owned.add(partitionId);
+                }
+            }
+        }
+        return new TreeSet<>(owned);
+    }
+
+    @Override
+    @Transactional
+    public void release(String nodeId) {
+        leaseRepository.releaseAll(nodeId);
+        nodeRepository.deleteById(nodeId);
+    }
+
+    static int fairShare(int partitionCount, long liveNodes) {
+        return (int) ((partitionCount + liveNodes - 1) / liveNodes);
+    }
+}
@@ -1,5 +1,6 @@
 package com.weather.alert.infrastructure.adapter.persistence;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +10,6 @@ import java.util.List;
 public interface JpaAlertCriteriaRepository extends JpaRepository<AlertCriteriaEntity, String> {
     List<AlertCriteriaEntity> findByUserId(String userId);
     List<AlertCriteriaEntity> findByEnabled(Boolean enabled);
+    List<AlertCriteriaEntity> findByEnabledTrueOrderByIdAsc(Pageable pageable);
+    List<AlertCriteriaEntity> findByEnabledTrueAndIdGreaterThanOrderByIdAsc(String id, Pageable pageable);
 }
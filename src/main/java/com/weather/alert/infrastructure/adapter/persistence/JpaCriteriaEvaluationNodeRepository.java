@@ -0,0 +1,30 @@
+package com.weather.alert.infrastructure.adapter.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaCriteriaEvaluationNodeRepository extends JpaRepository<CriteriaEvaluationNodeEntity, String> {
+
+    @Modifying
+    @Query(
+            value = "insert into criteria_evaluation_node (node_id, heartbeat_at) values (:nodeId, now()) " +
+                    "on conflict (node_id) do update set heartbeat_at = excluded.heartbeat_at",
+            nativeQuery = true)
+    int recordHeartbeat(@Param("nodeId") String nodeId);
+
+    @Query(
+            value = "select count(*) from criteria_evaluation_node " +
+                    "where heartbeat_at >= now() - :liveSeconds * interval '1 second'",
+            nativeQuery = true)
+    long countLive(@Param("liveSeconds") long liveSeconds);
+
+    @Modifying
+    @Query(
+            value = "delete from criteria_evaluation_node where heartbeat_at < now() - :liveSeconds * interval '1 second'",
+            nativeQuery = true)
+    int deleteNotLive(@Param("liveSeconds") long liveSeconds);
+}
@@ -0,0 +1,70 @@
+package com.weather.alert.infrastructure.adapter.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JpaCriteriaPartitionLeaseRepository extends JpaRepository<CriteriaPartitionLeaseEntity, Integer> {
+
+    @Modifying
+    @Query(
+            value = "insert into criteria_partition_lease (partition_id) " +
+                    "select generate_series(0, :partitionCount - 1) " +
+                    "on conflict (partition_id) do nothing",
+            nativeQuery = true)
+    int insertMissingPartitions(@Param("partitionCount") int partitionCount);
+
+    @Query("select l.partitionId from CriteriaPartitionLeaseEntity l " +
+            "where l.ownerId = :ownerId and l.partitionId < :partitionCount order by l.partitionId")
+    List<Integer> findOwnedPartitionIds(@Param("ownerId") String ownerId, @Param("partitionCount") int partitionCount);
+
+    @Query(
+            value = "select partition_id from criteria_partition_lease " +
+                    "where partition_id < :partitionCount " +
+                    "and (owner_id is null or lease_expires_at is null or lease_expires_at < now()) " +
+                    "order by partition_id",
+            nativeQuery = true)
+    List<Integer> findClaimablePartitionIds(@Param("partitionCount") int partitionCount);
+
+    @Modifying
+    @Query(
+            value = "update criteria_partition_lease set lease_expires_at = now() + :leaseSeconds * interval '1 second' " +
+                    "where owner_id = :ownerId and partition_id < :partitionCount",
+            nativeQuery = true)
+    int renewOwnedLeases(
+            @Param("ownerId") String ownerId,
+            @Param("partitionCount") int partitionCount,
+            @Param("leaseSeconds") long leaseSeconds);
+
+    @Modifying
+    @Query("update CriteriaPartitionLeaseEntity l set l.ownerId = null, l.leaseExpiresAt = null " +
+            "where l.ownerId = :ownerId and l.partitionId >= :partitionCount")
+    int releasePartitionsFrom(@Param("ownerId") String ownerId, @Param("partitionCount") int partitionCount);
+
+    @Modifying
+    @Query(
+            value = "update criteria_partition_lease " +
+                    "set owner_id = :ownerId, lease_expires_at = now() + :leaseSeconds * interval '1 second' " +
+                    "where partition_id = :partitionId " +
+                    "and (owner_id is null or lease_expires_at is null or lease_expires_at < now())",
+            nativeQuery = true)
+    int claimPartition(
+            @Param("partitionId") int partitionId,
+            @Param("ownerId") String ownerId,
+            @Param("leaseSeconds") long leaseSeconds);
+
+    @Modifying
+    @Query("update CriteriaPartitionLeaseEntity l set l.ownerId = null, l.leaseExpiresAt = null " +
+            "where l.ownerId = :ownerId and l.partitionId in :partitionIds")
+    int releasePartitions(@Param("ownerId") String ownerId, @Param("partitionIds") Collection<Integer> partitionIds);
+
+    @Modifying
+    @Query("update CriteriaPartitionLeaseEntity l set l.ownerId = null, l.leaseExpiresAt = null where l.ownerId = :ownerId")
+    int releaseAll(@Param("ownerId") String ownerId);
+}
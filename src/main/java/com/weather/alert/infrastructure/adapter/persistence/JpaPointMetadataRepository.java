@@ -0,0 +1,19 @@
+package com.weather.alert.infrastructure.adapter.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Repository
+public interface JpaPointMetadataRepository extends JpaRepository<PointMetadataEntity, String> {
+
+    @Transactional
+    @Modifying
+    @Query("delete from PointMetadataEntity p where p.resolvedAt < :cutoff")
+    int deleteByResolvedAtBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,61 @@
+package com.weather.alert.infrastructure.adapter.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "point_metadata")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointMetadataEntity {
+
+    @Id
+    @Column(name = "coordinate_key", nullable = false)
+    private String coordinateKey;
+
+    @Column(nullable = false)
+    private Double latitude;
+
+    @Column(nullable = false)
+    private Double longitude;
+
+    @Column(name = "grid_id")
+    private String gridId;
+
+    @Column(name = "grid_x")
+    private Integer gridX;
+
+    @Column(name = "grid_y")
+    private Integer gridY;
+
+    @Column(name = "forecast_hourly_url", length = 1024)
+    private String forecastHourlyUrl;
+
+    @Column(name = "observation_stations_url", length = 1024)
+    private String observationStationsUrl;
+
+    @Column(name = "forecast_zone")
+    private String forecastZone;
+
+    @Column
+    private String county;
+
+    @Column(name = "station_id")
+    private String stationId;
+
+    @Column(name = "station_name")
+    private String stationName;
+
+    @Column(name = "resolved_at", nullable = false)
+    private Instant resolvedAt;
+}
@@ -0,0 +1,66 @@
+package com.weather.alert.infrastructure.adapter.persistence;
+
+import com.weather.alert.domain.model.PointMetadata;
+import com.weather.alert.domain.port.PointMetadataRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class PointMetadataRepositoryAdapter implements PointMetadataRepositoryPort {
+
+    private final JpaPointMetadataRepository jpaRepository;
+
+    @Override
+    public Optional<PointMetadata> findByCoordinate(double latitude, double longitude) {
+        return jpaRepository.findById(coordinateKey(latitude, longitude)).map(this::toDomain);
+    }
+
+    @Override
+    public PointMetadata save(PointMetadata metadata) {
+        PointMetadataEntity saved = jpaRepository.save(toEntity(metadata));
+        return toDomain(saved);
+    }
+
+    static String coordinateKey(double latitude, double longitude) {
+        return String.format(Locale.US, "%.4f,%.4f", latitude, longitude);
+    }
+
+    private PointMetadataEntity toEntity(PointMetadata metadata) {
+        return PointMetadataEntity.builder()
+                .coordinateKey(coordinateKey(metadata.getLatitude(), metadata.getLongitude()))
+                .latitude(metadata.getLatitude())
+                .longitude(metadata.getLongitude())
+                .gridId(metadata.getGridId())
+                .gridX(metadata.getGridX())
+                .gridY(metadata.getGridY())
+                .forecastHourlyUrl(metadata.getForecastHourlyUrl())
+                .observationStationsUrl(metadata.getObservationStationsUrl())
+                .forecastZone(metadata.getForecastZone())
+                .county(metadata.getCounty())
+                .stationId(metadata.getStationId())
+                .stationName(metadata.getStationName())
+                .resolvedAt(metadata.getResolvedAt())
+                .build();
+    }
+
+    private PointMetadata toDomain(PointMetadataEntity entity) {
+        return PointMetadata.builder()
+                .latitude(entity.getLatitude())
+                .longitude(entity.getLongitude())
+                .gridId(entity.getGridId())
+                .gridX(entity.getGridX())
+                .gridY(entity.getGridY())
+                .forecastHourlyUrl(entity.getForecastHourlyUrl())
+                .observationStationsUrl(entity.getObservationStationsUrl())
+                .forecastZone(entity.getForecastZone())
+                .county(entity.getCounty())
+                .stationId(entity.getStationId())
+                .stationName(entity.getStationName())
+                .resolvedAt(entity.getResolvedAt())
+                .build();
+    }
+}
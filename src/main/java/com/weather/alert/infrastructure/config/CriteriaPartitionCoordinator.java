@@ -0,0 +1,147 @@
+package com.weather.alert.infrastructure.config;
+
+import com.weather.alert.domain.model.CriteriaPartitionSelector;
+import com.weather.alert.domain.port.CriteriaPartitionLeasePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps this instance's criteria partition leases alive and exposes the partitions it may evaluate.
+ * <p>
+ * The selector is only handed out while the last successful heartbeat's lease is still valid; if the database
+ * is unreachable long enough for the leases to expire, the instance evaluates nothing rather than risking
+ * overlap with the node that took its partitions over. A cycle takes its partitions with {@link #beginCycle()};
+ * until {@link #endCycle()} heartbeats keep them even if rebalancing would hand them to another node, since the
+ * cycle can outlast several leases.
+ */
+@Component
+@Slf4j
+public class CriteriaPartitionCoordinator {
+
+    private final CriteriaPartitionLeasePort leasePort;
+    private final CriteriaPartitionProperties properties;
+    private final Clock clock;
+    private final String nodeId;
+
+    private volatile CriteriaPartitionSelector ownedPartitions;
+    private volatile Instant leaseValidUntil = Instant.EPOCH;
+    private volatile Set<Integer> inUse = Set.of();
+
+    public CriteriaPartitionCoordinator(
+            CriteriaPartitionLeasePort leasePort,
+            CriteriaPartitionProperties properties,
+            MeterRegistry meterRegistry) {
+        this(leasePort, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    CriteriaPartitionCoordinator(
+            CriteriaPartitionLeasePort leasePort,
+            CriteriaPartitionProperties properties,
+            MeterRegistry meterRegistry,
+            Clock clock) {
+        this.leasePort = leasePort;
+        this.properties = properties;
+        this.clock = clock;
+        this.nodeId = resolveNodeId(properties.getNodeId());
+        this.ownedPartitions = CriteriaPartitionSelector.none(properties.getPartitions());
+        meterRegistry.gauge(
+                "weather.alert.criteria.partitions.owned",
+                this,
+                coordinator -> coordinator.properties.isEnabled() ? coordinator.currentSelector().partitions().size() : 0);
+    }
+
+    @Scheduled(fixedDelayString = "${app.alert-processing.cluster.heartbeat-millis:15000}")
+    public void heartbeat() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Duration leaseDuration = Duration.ofSeconds(properties.getLeaseSeconds());
+        Instant heartbeatStart = clock.instant();
+        try {
+            Set<Integer> owned = leasePort.heartbeat(nodeId, properties.getPartitions(), leaseDuration, inUse);
+            CriteriaPartitionSelector updated = new CriteriaPartitionSelector(properties.getPartitions(), owned);
+            if (!updated.partitions().equals(ownedPartitions.partitions())) {
+                log.info(
+                        "Criteria partition assignment changed for node {}: {} of {}",
+                        nodeId,
+                        updated.partitions(),
+                        updated.partitionCount());
+            }
+            ownedPartitions = updated;
+            // Measured from before the call so a slow heartbeat never extends the lease past what the database holds.
+            leaseValidUntil = heartbeatStart.plus(leaseDuration);
+        } catch (Exception ex) {
+            log.warn("Criteria partition heartbeat failed for node {}: {}", nodeId, ex.getMessage());
+        }
+    }
+
+    /**
+     * Partitions this instance should evaluate right now. All partitions when cluster mode is disabled.
+     */
+    public CriteriaPartitionSelector currentSelector() {
+        if (!properties.isEnabled()) {
+            return CriteriaPartitionSelector.all();
+        }
+        if (!clock.instant().isBefore(leaseValidUntil)) {
+            return CriteriaPartitionSelector.none(properties.getPartitions());
+        }
+        return ownedPartitions;
+    }
+
+    /**
+     * {@link #currentSelector()} for an evaluation cycle; its partitions are held until {@link #endCycle()}.
+     */
+    public CriteriaPartitionSelector beginCycle() {
+        CriteriaPartitionSelector selector = currentSelector();
+        if (properties.isEnabled()) {
+            inUse = selector.partitions();
+        }
+        return selector;
+    }
+
+    public void endCycle() {
+        inUse = Set.of();
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @PreDestroy
+    public void releaseLeases() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        ownedPartitions = CriteriaPartitionSelector.none(properties.getPartitions());
+        leaseValidUntil = Instant.EPOCH;
+        try {
+            leasePort.release(nodeId);
+            log.info("Released criteria partition leases for node {}", nodeId);
+        } catch (Exception ex) {
+            log.warn("Failed to release criteria partition leases for node {}: {}", nodeId, ex.getMessage());
+        }
+    }
+
+    private static String resolveNodeId(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return configured.trim();
+        }
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception ex) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,37 @@
+package com.weather.alert.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.alert-processing.cluster")
+@Data
+public class CriteriaPartitionProperties {
+
+    /**
+     * Share criteria evaluation between instances through leased hash partitions. When disabled every
+     * instance evaluates all criteria.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of criteria hash partitions. Must be the same on every instance and should exceed the instance count.
+     */
+    private int partitions = 16;
+
+    /**
+     * Lease duration. A node that stops heartbeating loses its partitions after this long.
+     */
+    private long leaseSeconds = 60;
+
+    /**
+     * Interval between lease heartbeats. Should be well below the lease duration.
+     */
+    private long heartbeatMillis = 15000;
+
+    /**
+     * Stable node identifier. Blank generates hostname plus a random suffix at startup.
+     */
+    private String nodeId;
+}
@@ -33,4 +33,10 @@ public class DataRetentionProperties {
      * Remove criteria-state rows whose criteria no longer exists.
      */
     private boolean cleanupOrphanCriteriaState = true;
+
+    /**
+     * Retain persisted NOAA point metadata rows this many days after they were last resolved. Coordinates still in
+     * use are re-resolved every {@code app.noaa.point-metadata-ttl-hours}. 0 disables point metadata cleanup.
+     */
+    private long pointMetadataDays = 14;
 }
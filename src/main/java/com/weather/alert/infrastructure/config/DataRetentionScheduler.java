@@ -3,6 +3,7 @@ package com.weather.alert.infrastructure.config;
 import com.weather.alert.domain.port.WeatherDataSearchPort;
 import com.weather.alert.infrastructure.adapter.persistence.JpaAlertCriteriaStateRepository;
 import com.weather.alert.infrastructure.adapter.persistence.JpaAlertRepository;
+import com.weather.alert.infrastructure.adapter.persistence.JpaPointMetadataRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -18,6 +19,7 @@ public class DataRetentionScheduler {
 
     private final JpaAlertRepository alertRepository;
     private final JpaAlertCriteriaStateRepository criteriaStateRepository;
+    private final JpaPointMetadataRepository pointMetadataRepository;
     private final WeatherDataSearchPort weatherDataSearchPort;
     private final DataRetentionProperties retentionProperties;
 
@@ -33,6 +35,7 @@ public class DataRetentionScheduler {
         int deletedAlerts = 0;
         int deletedStatesByAge = 0;
         int deletedOrphanStates = 0;
+        int deletedPointMetadata = 0;
         long deletedWeatherDocs = 0;
 
         if (retentionProperties.getAlertsDays() > 0) {
@@ -62,6 +65,16 @@ public class DataRetentionScheduler {
             }
         }
 
+        if (retentionProperties.getPointMetadataDays() > 0) {
+            try {
+                Instant pointMetadataCutoff = Instant.now()
+                        .minus(Duration.ofDays(retentionProperties.getPointMetadataDays()));
+                deletedPointMetadata = pointMetadataRepository.deleteByResolvedAtBefore(pointMetadataCutoff);
+            } catch (Exception e) {
+                log.error("Point metadata cleanup failed", e);
+            }
+        }
+
         if (retentionProperties.getWeatherDataHours() > 0) {
             try {
                 Instant weatherCutoff = Instant.now().minus(Duration.ofHours(retentionProperties.getWeatherDataHours()));
@@ -72,11 +85,12 @@ public class DataRetentionScheduler {
         }
 
         log.info(
-                "Retention cleanup completed in {} ms (alertsDeleted={}, criteriaStateDeletedByAge={}, criteriaStateDeletedOrphan={}, weatherDocsDeleted={})",
+                "Retention cleanup completed in {} ms (alertsDeleted={}, criteriaStateDeletedByAge={}, criteriaStateDeletedOrphan={}, pointMetadataDeleted={}, weatherDocsDeleted={})",
                 Duration.between(startedAt, Instant.now()).toMillis(),
                 deletedAlerts,
                 deletedStatesByAge,
                 deletedOrphanStates,
+                deletedPointMetadata,
                 deletedWeatherDocs);
     }
 }
@@ -0,0 +1,44 @@
+package com.weather.alert.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.elasticsearch.bulk")
+@Data
+public class ElasticsearchBulkIndexProperties {
+
+    /**
+     * Documents per bulk request. A flush is triggered as soon as this many are buffered.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum time a buffered document waits before it is flushed.
+     */
+    private long flushIntervalMillis = 1000;
+
+    /**
+     * Buffered documents before the overflow policy applies.
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * What to do when the buffer is full: BLOCK waits up to {@link #blockTimeoutMillis} for space and then
+     * drops the document, DROP discards it immediately.
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    private long blockTimeoutMillis = 200;
+
+    /**
+     * Bulk attempts per document, including the first, before a failed document is dropped.
+     */
+    private int maxAttempts = 3;
+
+    public enum OverflowPolicy {
+        BLOCK,
+        DROP
+    }
+}
@@ -0,0 +1,67 @@
+package com.weather.alert.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.noaa")
+@Data
+public class NoaaClientProperties {
+
+    /**
+     * Bound on one NOAA call, and how often and how far apart failed calls are retried.
+     */
+    private long requestTimeoutSeconds = 8;
+
+    private long retryMaxAttempts = 2;
+
+    private long retryBackoffMillis = 250;
+
+    /**
+     * Token bucket pacing: {@code rateLimitBurst} requests may go back to back, then one per
+     * {@code minRequestIntervalMillis}. At most {@code maxConcurrentRequests} are in flight; further requests queue
+     * without holding a thread.
+     */
+    private long minRequestIntervalMillis = 150;
+
+    private int rateLimitBurst = 1;
+
+    private int maxConcurrentRequests = 4;
+
+    /**
+     * Circuit breaker per operation: after at least {@code outageFailureThreshold} calls, a failure rate of
+     * {@code circuitFailureRatePercent} over the last {@code circuitWindowSize} calls opens it for
+     * {@code outageOpenSeconds}; {@code circuitHalfOpenProbes} successful probes close it again.
+     */
+    private int outageFailureThreshold = 4;
+
+    private long outageOpenSeconds = 30;
+
+    private int circuitWindowSize = 20;
+
+    private double circuitFailureRatePercent = 50;
+
+    private int circuitHalfOpenProbes = 2;
+
+    /**
+     * Bulkhead: requests in flight per operation, within {@code maxConcurrentRequests}.
+     */
+    private int operationMaxConcurrentRequests = 2;
+
+    /**
+     * Cached alert, forecast and observation responses (least recently used evicted), and how long past expiry one
+     * may still be served stale.
+     */
+    private int responseCacheMaxEntries = 5000;
+
+    private long responseCacheMaxStaleMinutes = 60;
+
+    /**
+     * Persisted {@code /points} metadata and station bindings are reused this long before being refreshed, and at
+     * most this many coordinates (and grid cells) are kept in memory, least recently used evicted.
+     */
+    private long pointMetadataTtlHours = 168;
+
+    private int pointMetadataMaxEntries = 10000;
+}
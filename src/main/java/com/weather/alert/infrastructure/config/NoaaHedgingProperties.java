@@ -0,0 +1,38 @@
+package com.weather.alert.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.noaa.hedging")
+@Data
+public class NoaaHedgingProperties {
+
+    /**
+     * Send a duplicate of a NOAA request that is slower than usual and use whichever answers first.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Per-operation latency percentile after which a still-running request is hedged.
+     */
+    private double percentile = 95;
+
+    /**
+     * Hedges allowed as a percentage of the operation's requests.
+     */
+    private double budgetPercent = 5;
+
+    /**
+     * Recent latencies kept per operation, and how many must be known before hedging starts.
+     */
+    private int windowSize = 512;
+
+    private int minSamples = 50;
+
+    /**
+     * Lower bound for the hedge delay, so fast operations are not hedged on noise.
+     */
+    private long minDelayMillis = 50;
+}
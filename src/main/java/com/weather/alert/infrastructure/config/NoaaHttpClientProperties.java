@@ -0,0 +1,61 @@
+package com.weather.alert.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.noaa.http")
+@Data
+public class NoaaHttpClientProperties {
+
+    /**
+     * Pooled connections to api.weather.gov. Keep at or above {@code app.noaa.max-concurrent-requests} plus
+     * headroom for hedged requests.
+     */
+    private int maxConnections = 16;
+
+    /**
+     * Requests that may wait for a pooled connection, and how long they wait.
+     */
+    private int pendingAcquireMaxCount = 256;
+
+    private long pendingAcquireTimeoutMillis = 10000;
+
+    /**
+     * Idle connections are closed after this long; every connection is retired after {@link #maxLifeTimeSeconds}
+     * so DNS changes are picked up. Expired connections are evicted in the background every
+     * {@link #evictionIntervalSeconds}.
+     */
+    private long maxIdleTimeSeconds = 30;
+
+    private long maxLifeTimeSeconds = 300;
+
+    private long evictionIntervalSeconds = 30;
+
+    private long connectTimeoutMillis = 3000;
+
+    /**
+     * Socket read/write inactivity limits and the time allowed for response headers. Each must stay below
+     * {@code app.noaa.request-timeout-seconds}, which bounds the whole call, so a stalled connection fails at the
+     * transport (and is dropped from the pool) before the reactive timeout gives up on the request; this is checked
+     * at startup.
+     */
+    private long readTimeoutSeconds = 5;
+
+    private long writeTimeoutSeconds = 5;
+
+    private long responseTimeoutSeconds = 5;
+
+    /**
+     * Send {@code Accept-Encoding: gzip} and decompress responses as they stream in.
+     */
+    private boolean compression = true;
+
+    /**
+     * Bounds for how long resolved api.weather.gov addresses are cached.
+     */
+    private long dnsCacheMinTtlSeconds = 30;
+
+    private long dnsCacheMaxTtlSeconds = 300;
+}
@@ -0,0 +1,41 @@
+package com.weather.alert.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.noaa.refresh")
+@Data
+public class NoaaRefreshProperties {
+
+    /**
+     * Refresh gridpoint forecasts and station observations on their own timers in the background, so the
+     * evaluation cycle reads snapshots instead of fetching them inline.
+     */
+    private boolean enabled = false;
+
+    /**
+     * How often due refreshes are looked for, and how many are started per look.
+     */
+    private long tickMillis = 1000;
+
+    private int maxPerTick = 10;
+
+    /**
+     * Bounds for the refresh interval of one document, whatever NOAA's expiry and the change history suggest.
+     */
+    private long minIntervalSeconds = 60;
+
+    private long maxIntervalMinutes = 30;
+
+    /**
+     * Random stretch of each interval, in percent, to stagger documents that were first fetched together.
+     */
+    private double jitterPercent = 20;
+
+    /**
+     * Documents not read by evaluation for this long stop being refreshed.
+     */
+    private long idleMinutes = 30;
+}
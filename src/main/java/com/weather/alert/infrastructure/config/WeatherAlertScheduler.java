@@ -1,5 +1,6 @@
 package com.weather.alert.infrastructure.config;
 
+import com.weather.alert.domain.model.CriteriaPartitionSelector;
 import com.weather.alert.domain.service.AlertProcessingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,19 +19,28 @@ import java.time.Instant;
 public class WeatherAlertScheduler {
     
     private final AlertProcessingService alertProcessingService;
+    private final CriteriaPartitionCoordinator partitionCoordinator;
     
     /**
      * Fetch weather alerts every 5 minutes
      */
     @Scheduled(fixedDelay = 300000, initialDelay = 30000) // every 5 minutes, wait for previous run to finish
     public void processWeatherAlerts() {
+        CriteriaPartitionSelector partitions = partitionCoordinator.beginCycle();
+        if (partitions.isEmpty()) {
+            partitionCoordinator.endCycle();
+            log.info("No criteria partitions leased by node {}; skipping weather alert processing", partitionCoordinator.nodeId());
+            return;
+        }
         Instant start = Instant.now();
         log.info("Starting scheduled weather alert processing");
         try {
-            alertProcessingService.processWeatherAlerts();
+            alertProcessingService.processWeatherAlerts(partitions);
             log.info("Scheduled weather alert processing completed in {} ms", Duration.between(start, Instant.now()).toMillis());
         } catch (Exception e) {
             log.error("Error processing weather alerts", e);
+        } finally {
+            partitionCoordinator.endCycle();
         }
     }
 }
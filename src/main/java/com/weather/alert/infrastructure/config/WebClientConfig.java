@@ -1,17 +1,32 @@
 package com.weather.alert.infrastructure.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class WebClientConfig {
-    
+
+    static final String NOAA_CONNECTION_POOL = "noaa";
+
     @Bean
-    public WebClient noaaWebClient(@Value("${app.noaa.max-in-memory-size:10MB}") DataSize maxInMemorySize) {
+    public WebClient noaaWebClient(
+            @Value("${app.noaa.max-in-memory-size:10MB}") DataSize maxInMemorySize,
+            NoaaClientProperties clientProperties,
+            NoaaHttpClientProperties httpProperties) {
+        validateTransportTimeouts(httpProperties, clientProperties.getRequestTimeoutSeconds());
         ExchangeStrategies exchangeStrategies = ExchangeStrategies.builder()
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes()))
                 .build();
@@ -19,7 +34,52 @@ public class WebClientConfig {
         return WebClient.builder()
                 .baseUrl("https://api.weather.gov")
                 .defaultHeader("User-Agent", "Weather-Alert-Backend/1.0")
+                .clientConnector(new ReactorClientHttpConnector(noaaHttpClient(httpProperties)))
                 .exchangeStrategies(exchangeStrategies)
                 .build();
     }
+
+    /**
+     * Transport timeouts at or above the per-request timeout would never fire: the reactive timeout always gives up
+     * first and leaves the stalled connection to be noticed later.
+     */
+    static void validateTransportTimeouts(NoaaHttpClientProperties properties, long requestTimeoutSeconds) {
+        if (properties.getReadTimeoutSeconds() >= requestTimeoutSeconds
+                || properties.getWriteTimeoutSeconds() >= requestTimeoutSeconds
+                || properties.getResponseTimeoutSeconds() >= requestTimeoutSeconds) {
+            throw new IllegalStateException(
+                    "app.noaa.http read/write/response timeouts (" + properties.getReadTimeoutSeconds() + "s/"
+                            + properties.getWriteTimeoutSeconds() + "s/" + properties.getResponseTimeoutSeconds()
+                            + "s) must be below app.noaa.request-timeout-seconds (" + requestTimeoutSeconds + "s)");
+        }
+    }
+
+    /**
+     * Keep-alive connection pool (published as {@code reactor.netty.connection.provider.*} metrics with
+     * {@code name=noaa}), gzip negotiation with streaming decompression, transport timeouts and cached DNS.
+     */
+    static HttpClient noaaHttpClient(NoaaHttpClientProperties properties) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(NOAA_CONNECTION_POOL)
+                .maxConnections(Math.max(1, properties.getMaxConnections()))
+                .pendingAcquireMaxCount(Math.max(1, properties.getPendingAcquireMaxCount()))
+                .pendingAcquireTimeout(Duration.ofMillis(properties.getPendingAcquireTimeoutMillis()))
+                .maxIdleTime(Duration.ofSeconds(properties.getMaxIdleTimeSeconds()))
+                .maxLifeTime(Duration.ofSeconds(properties.getMaxLifeTimeSeconds()))
+                .evictInBackground(Duration.ofSeconds(properties.getEvictionIntervalSeconds()))
+                .metrics(true)
+                .build();
+
+        return HttpClient.create(connectionProvider)
+                .keepAlive(true)
+                .compress(properties.isCompression())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeoutMillis())
+                .responseTimeout(Duration.ofSeconds(properties.getResponseTimeoutSeconds()))
+                // Per exchange: handlers on a pooled connection are removed when the exchange completes.
+                .doOnRequest((request, connection) -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(properties.getReadTimeoutSeconds(), TimeUnit.SECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(properties.getWriteTimeoutSeconds(), TimeUnit.SECONDS)))
+                .resolver(resolver -> resolver
+                        .cacheMinTimeToLive(Duration.ofSeconds(properties.getDnsCacheMinTtlSeconds()))
+                        .cacheMaxTimeToLive(Duration.ofSeconds(properties.getDnsCacheMaxTtlSeconds())));
+    }
 }
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_alert_criteria_enabled_id ON alert_criteria (id) WHERE enabled = TRUE;
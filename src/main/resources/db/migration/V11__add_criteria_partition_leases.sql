@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS criteria_partition_lease (
+    partition_id INTEGER PRIMARY KEY,
+    owner_id VARCHAR(255),
+    lease_expires_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX IF NOT EXISTS idx_criteria_partition_lease_owner_id ON criteria_partition_lease (owner_id);
+
+CREATE TABLE IF NOT EXISTS criteria_evaluation_node (
+    node_id VARCHAR(255) PRIMARY KEY,
+    heartbeat_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_criteria_evaluation_node_heartbeat_at ON criteria_evaluation_node (heartbeat_at);
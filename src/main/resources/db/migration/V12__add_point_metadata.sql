@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS point_metadata (
+    coordinate_key VARCHAR(64) PRIMARY KEY,
+    latitude DOUBLE PRECISION NOT NULL,
+    longitude DOUBLE PRECISION NOT NULL,
+    grid_id VARCHAR(16),
+    grid_x INTEGER,
+    grid_y INTEGER,
+    forecast_hourly_url VARCHAR(1024),
+    observation_stations_url VARCHAR(1024),
+    forecast_zone VARCHAR(32),
+    county VARCHAR(32),
+    station_id VARCHAR(32),
+    station_name VARCHAR(255),
+    resolved_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
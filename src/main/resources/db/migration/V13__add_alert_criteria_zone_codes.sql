@@ -0,0 +1,3 @@
+ALTER TABLE alert_criteria
+    ADD COLUMN IF NOT EXISTS forecast_zone VARCHAR(32),
+    ADD COLUMN IF NOT EXISTS county VARCHAR(32);
@@ -4,11 +4,14 @@ import com.weather.alert.application.dto.CreateAlertCriteriaRequest;
 import com.weather.alert.application.exception.CriteriaNotFoundException;
 import com.weather.alert.domain.model.AlertCriteria;
 import com.weather.alert.domain.model.EmailMessage;
+import com.weather.alert.domain.model.PointMetadata;
 import com.weather.alert.domain.model.User;
 import com.weather.alert.domain.model.UserApprovalStatus;
 import com.weather.alert.domain.port.AlertCriteriaRepositoryPort;
 import com.weather.alert.domain.port.EmailSenderPort;
 import com.weather.alert.domain.port.UserRepositoryPort;
+import com.weather.alert.domain.port.WeatherDataPort;
+import com.weather.alert.domain.port.WeatherFetchResult;
 import com.weather.alert.domain.service.AlertProcessingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,10 +21,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,12 +45,15 @@ class ManageAlertCriteriaUseCaseTest {
 
     @Mock
     private EmailSenderPort emailSenderPort;
+
+    @Mock
+    private WeatherDataPort weatherDataPort;
     
     private ManageAlertCriteriaUseCase useCase;
     
     @BeforeEach
     void setUp() {
-        useCase = new ManageAlertCriteriaUseCase(criteriaRepository, alertProcessingService, userRepository, emailSenderPort);
+        useCase = new ManageAlertCriteriaUseCase(criteriaRepository, alertProcessingService, userRepository, emailSenderPort, weatherDataPort);
     }
     
     @Test
@@ -318,4 +328,84 @@ class ManageAlertCriteriaUseCaseTest {
         assertEquals(AlertCriteria.RainThresholdType.PROBABILITY, result.getRainThresholdType());
         assertEquals(120, result.getRearmWindowMinutes());
     }
+
+    @Test
+    void shouldStoreZoneAndCountyCodesForCriteriaCoordinate() {
+        CreateAlertCriteriaRequest request = CreateAlertCriteriaRequest.builder()
+                .userId("user1")
+                .latitude(28.5383)
+                .longitude(-81.3792)
+                .radiusKm(25.0)
+                .eventType("Flood Warning")
+                .build();
+        Map<String, AlertCriteria> stored = new HashMap<>();
+        when(weatherDataPort.resolvePointMetadataAsync(28.5383, -81.3792)).thenReturn(CompletableFuture.completedFuture(
+                WeatherFetchResult.success(Optional.of(PointMetadata.builder().forecastZone("FLZ045").county("FLC095").build()))));
+        when(criteriaRepository.save(any(AlertCriteria.class))).thenAnswer(invocation -> {
+            AlertCriteria criteria = invocation.getArgument(0);
+            stored.put(criteria.getId(), criteria);
+            return criteria;
+        });
+        when(criteriaRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(stored.get(invocation.<String>getArgument(0))));
+
+        AlertCriteria created = useCase.createCriteria(request);
+
+        assertEquals("FLZ045", created.getForecastZone());
+        assertEquals("FLC095", created.getCounty());
+
+        AlertCriteria updated = useCase.updateCriteria(created.getId(), request);
+
+        assertEquals("FLZ045", updated.getForecastZone());
+        assertEquals("FLC095", updated.getCounty());
+        verify(weatherDataPort, times(1)).resolvePointMetadataAsync(28.5383, -81.3792);
+
+        when(weatherDataPort.resolvePointMetadataAsync(28.60, -81.3792)).thenReturn(CompletableFuture.completedFuture(
+                WeatherFetchResult.failure(Optional.empty(), "NOAA unavailable")));
+        request.setLatitude(28.60);
+        updated = useCase.updateCriteria(created.getId(), request);
+
+        assertNull(updated.getForecastZone());
+        assertNull(updated.getCounty());
+    }
+
+    @Test
+    void shouldSaveCriteriaWithoutWaitingForZoneCodeLookup() {
+        CreateAlertCriteriaRequest request = CreateAlertCriteriaRequest.builder()
+                .userId("user1")
+                .latitude(28.5383)
+                .longitude(-81.3792)
+                .eventType("Flood Warning")
+                .build();
+        CompletableFuture<WeatherFetchResult<Optional<PointMetadata>>> firstLookup = new CompletableFuture<>();
+        CompletableFuture<WeatherFetchResult<Optional<PointMetadata>>> movedLookup = new CompletableFuture<>();
+        Map<String, AlertCriteria> stored = new HashMap<>();
+        when(weatherDataPort.resolvePointMetadataAsync(28.5383, -81.3792)).thenReturn(firstLookup);
+        when(weatherDataPort.resolvePointMetadataAsync(28.60, -81.3792)).thenReturn(movedLookup);
+        when(criteriaRepository.save(any(AlertCriteria.class))).thenAnswer(invocation -> {
+            AlertCriteria criteria = invocation.getArgument(0);
+            stored.put(criteria.getId(), criteria);
+            return criteria;
+        });
+        when(criteriaRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(stored.get(invocation.<String>getArgument(0))));
+
+        AlertCriteria created = useCase.createCriteria(request);
+
+        assertNull(created.getForecastZone());
+        verify(alertProcessingService).processCriteriaImmediately(created);
+
+        request.setLatitude(28.60);
+        useCase.updateCriteria(created.getId(), request);
+        firstLookup.complete(WeatherFetchResult.success(
+                Optional.of(PointMetadata.builder().forecastZone("FLZ045").county("FLC095").build())));
+
+        assertNull(stored.get(created.getId()).getForecastZone());
+
+        movedLookup.complete(WeatherFetchResult.success(
+                Optional.of(PointMetadata.builder().forecastZone("FLZ046").county("FLC117").build())));
+
+        assertEquals("FLZ046", stored.get(created.getId()).getForecastZone());
+        assertEquals("FLC117", stored.get(created.getId()).getCounty());
+    }
 }
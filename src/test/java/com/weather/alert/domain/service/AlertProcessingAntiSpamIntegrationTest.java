@@ -20,12 +20,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -72,7 +74,7 @@ class AlertProcessingAntiSpamIntegrationTest {
         AlertCriteria criteria = defaultTemperatureCriteria("criteria-spam-1");
         WeatherData met = currentAtTemp(12.0);
 
-        when(criteriaRepository.findAllEnabled()).thenReturn(List.of(criteria));
+        stubEnabledCriteria(List.of(criteria));
         when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
         when(weatherDataPort.fetchCurrentConditionsWithStatus(28.5383, -81.3792))
                 .thenReturn(
@@ -93,7 +95,7 @@ class AlertProcessingAntiSpamIntegrationTest {
         WeatherData notMet = currentAtTemp(18.0);
         WeatherData metAgain = currentAtTemp(11.5);
 
-        when(criteriaRepository.findAllEnabled()).thenReturn(List.of(criteria));
+        stubEnabledCriteria(List.of(criteria));
         when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
         when(weatherDataPort.fetchCurrentConditionsWithStatus(28.5383, -81.3792))
                 .thenReturn(
@@ -116,7 +118,7 @@ class AlertProcessingAntiSpamIntegrationTest {
         WeatherData notMet = currentAtTemp(18.0);
         WeatherData metAgain = currentAtTemp(11.0);
 
-        when(criteriaRepository.findAllEnabled()).thenReturn(List.of(criteria));
+        stubEnabledCriteria(List.of(criteria));
         when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
         when(weatherDataPort.fetchCurrentConditionsWithStatus(28.5383, -81.3792))
                 .thenReturn(
@@ -144,7 +146,7 @@ class AlertProcessingAntiSpamIntegrationTest {
                 .updatedAt(Instant.now().minusSeconds(3600))
                 .build());
 
-        when(criteriaRepository.findAllEnabled()).thenReturn(List.of(criteria));
+        stubEnabledCriteria(List.of(criteria));
         when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
         when(weatherDataPort.fetchCurrentConditionsWithStatus(28.5383, -81.3792))
                 .thenReturn(WeatherFetchResult.success(Optional.of(currentAtTemp(12.0))));
@@ -201,4 +203,16 @@ class AlertProcessingAntiSpamIntegrationTest {
             return state;
         }
     }
+
+    private void stubEnabledCriteria(List<AlertCriteria> criteria) {
+        when(criteriaRepository.findEnabledAfter(any(), anyInt())).thenAnswer(invocation -> {
+            String afterId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return criteria.stream()
+                    .filter(item -> afterId == null || item.getId().compareTo(afterId) > 0)
+                    .sorted(Comparator.comparing(AlertCriteria::getId))
+                    .limit(limit)
+                    .toList();
+        });
+    }
 }
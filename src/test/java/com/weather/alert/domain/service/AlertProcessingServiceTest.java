@@ -2,7 +2,10 @@ package com.weather.alert.domain.service;
 
 import com.weather.alert.domain.model.Alert;
 import com.weather.alert.domain.model.AlertCriteria;
+import com.weather.alert.domain.model.AlertGeometry;
 import com.weather.alert.domain.model.AlertCriteriaState;
+import com.weather.alert.domain.model.CriteriaPartitionSelector;
+import com.weather.alert.domain.model.GridPoint;
 import com.weather.alert.domain.model.WeatherData;
 import com.weather.alert.domain.port.AlertCriteriaRepositoryPort;
 import com.weather.alert.domain.port.AlertCriteriaStateRepositoryPort;
@@ -19,12 +22,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -50,10 +67,12 @@ class AlertProcessingServiceTest {
     @Mock
     private AlertCriteriaStateRepositoryPort criteriaStateRepository;
 
+    private SimpleMeterRegistry meterRegistry;
     private AlertProcessingService service;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
         service = new AlertProcessingService(
                 weatherDataPort,
                 criteriaRepository,
@@ -62,7 +81,7 @@ class AlertProcessingServiceTest {
                 searchPort,
                 criteriaStateRepository,
                 new AlertCriteriaRuleEvaluator(),
-                new SimpleMeterRegistry()
+                meterRegistry
         );
         lenient().when(alertRepository.findByCriteriaIdAndEventKey(anyString(), anyString()))
                 .thenReturn(Optional.empty());
@@ -92,12 +111,10 @@ class AlertProcessingServiceTest {
                 .temperature(13.0)
                 .build();
 
-        when(criteriaRepository.findAllEnabled()).thenReturn(List.of(criteria));
+        stubEnabledCriteria(List.of(criteria));
         when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
         when(weatherDataPort.fetchCurrentConditionsWithStatus(28.5383, -81.3792))
                 .thenReturn(WeatherFetchResult.success(Optional.of(current)));
-        when(criteriaStateRepository.findByCriteriaId(criteria.getId())).thenReturn(Optional.empty());
-        when(criteriaStateRepository.save(any(AlertCriteriaState.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(alertRepository.save(any(Alert.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         service.processWeatherAlerts();
@@ -146,12 +163,10 @@ class AlertProcessingServiceTest {
                 .precipitationProbability(70.0)
                 .build();
 
-        when(criteriaRepository.findAllEnabled()).thenReturn(List.of(criteria));
+        stubEnabledCriteria(List.of(criteria));
         when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
         when(weatherDataPort.fetchForecastConditionsWithStatus(28.5383, -81.3792, 48))
                 .thenReturn(WeatherFetchResult.success(List.of(forecastNonMatch, forecastMatchOne, forecastMatchTwo)));
-        when(criteriaStateRepository.findByCriteriaId(criteria.getId())).thenReturn(Optional.empty());
-        when(criteriaStateRepository.save(any(AlertCriteriaState.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(alertRepository.save(any(Alert.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         service.processWeatherAlerts();
@@ -175,9 +190,8 @@ class AlertProcessingServiceTest {
                 .monitorForecast(true)
                 .build();
 
-        when(criteriaRepository.findAllEnabled()).thenReturn(List.of(criteria));
+        stubEnabledCriteria(List.of(criteria));
         when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
-        when(criteriaStateRepository.findByCriteriaId(criteria.getId())).thenReturn(Optional.empty());
 
         service.processWeatherAlerts();
 
@@ -210,8 +224,6 @@ class AlertProcessingServiceTest {
         when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
         when(weatherDataPort.fetchCurrentConditionsWithStatus(28.5383, -81.3792))
                 .thenReturn(WeatherFetchResult.success(Optional.of(current)));
-        when(criteriaStateRepository.findByCriteriaId(criteria.getId())).thenReturn(Optional.empty());
-        when(criteriaStateRepository.save(any(AlertCriteriaState.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(alertRepository.save(any(Alert.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         List<Alert> generated = service.processCriteriaImmediately(criteria);
@@ -249,12 +261,10 @@ class AlertProcessingServiceTest {
                 .eventKey("current|criteria-dup|2026-01-01T10:00:00Z")
                 .build();
 
-        when(criteriaRepository.findAllEnabled()).thenReturn(List.of(criteria));
+        stubEnabledCriteria(List.of(criteria));
         when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
         when(weatherDataPort.fetchCurrentConditionsWithStatus(28.5383, -81.3792))
                 .thenReturn(WeatherFetchResult.success(Optional.of(current)));
-        when(criteriaStateRepository.findByCriteriaId(criteria.getId())).thenReturn(Optional.empty());
-        when(criteriaStateRepository.save(any(AlertCriteriaState.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(alertRepository.findByCriteriaIdAndEventKey(eq("criteria-dup"), anyString())).thenReturn(Optional.of(existing));
 
         service.processWeatherAlerts();
@@ -297,12 +307,10 @@ class AlertProcessingServiceTest {
                 .temperature(12.0)
                 .build();
 
-        when(criteriaRepository.findAllEnabled()).thenReturn(List.of(first, second));
+        stubEnabledCriteria(List.of(first, second));
         when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
         when(weatherDataPort.fetchCurrentConditionsWithStatus(28.5383, -81.3792))
                 .thenReturn(WeatherFetchResult.success(Optional.of(current)));
-        when(criteriaStateRepository.findByCriteriaId(anyString())).thenReturn(Optional.empty());
-        when(criteriaStateRepository.save(any(AlertCriteriaState.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(alertRepository.save(any(Alert.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         service.processWeatherAlerts();
@@ -311,6 +319,251 @@ class AlertProcessingServiceTest {
         verify(alertRepository, times(2)).save(any(Alert.class));
     }
 
+    @Test
+    void shouldShareConditionFetchesAcrossParallelBatches() {
+        ReflectionTestUtils.setField(service, "parallelism", 4);
+        List<AlertCriteria> criteria = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            criteria.add(AlertCriteria.builder()
+                    .id("criteria-" + i)
+                    .userId("dev-admin")
+                    .enabled(true)
+                    .latitude(28.5383)
+                    .longitude(-81.3792)
+                    .temperatureThreshold(60.0)
+                    .temperatureDirection(AlertCriteria.TemperatureDirection.BELOW)
+                    .temperatureUnit(AlertCriteria.TemperatureUnit.F)
+                    .monitorCurrent(true)
+                    .monitorForecast(false)
+                    .build());
+        }
+
+        WeatherData current = WeatherData.builder()
+                .id("current-shared")
+                .eventType("CURRENT_CONDITIONS")
+                .temperature(12.0)
+                .build();
+
+        stubEnabledCriteria(criteria);
+        when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
+        when(weatherDataPort.fetchCurrentConditionsWithStatus(28.5383, -81.3792)).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return WeatherFetchResult.success(Optional.of(current));
+        });
+        when(alertRepository.save(any(Alert.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.processWeatherAlerts();
+
+        verify(weatherDataPort, times(1)).fetchCurrentConditionsWithStatus(28.5383, -81.3792);
+        verify(alertRepository, times(250)).save(any(Alert.class));
+        verify(criteriaRepository, times(3)).findEnabledAfter(any(), eq(100));
+        verify(criteriaRepository, never()).findAllEnabled();
+    }
+
+    @Test
+    void shouldOnlyEvaluateCriteriaInSelectedPartitions() {
+        List<AlertCriteria> criteria = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            criteria.add(AlertCriteria.builder()
+                    .id("criteria-" + i)
+                    .userId("dev-admin")
+                    .enabled(true)
+                    .latitude(28.5383)
+                    .longitude(-81.3792)
+                    .temperatureThreshold(60.0)
+                    .temperatureDirection(AlertCriteria.TemperatureDirection.BELOW)
+                    .temperatureUnit(AlertCriteria.TemperatureUnit.F)
+                    .monitorCurrent(true)
+                    .monitorForecast(false)
+                    .build());
+        }
+        CriteriaPartitionSelector partitions = new CriteriaPartitionSelector(4, Set.of(0, 2));
+        long expected = criteria.stream().filter(item -> partitions.includes(item.getId())).count();
+
+        WeatherData current = WeatherData.builder()
+                .id("current-partitioned")
+                .eventType("CURRENT_CONDITIONS")
+                .temperature(12.0)
+                .build();
+
+        stubEnabledCriteria(criteria);
+        when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
+        when(weatherDataPort.fetchCurrentConditionsWithStatus(28.5383, -81.3792))
+                .thenReturn(WeatherFetchResult.success(Optional.of(current)));
+        when(alertRepository.save(any(Alert.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.processWeatherAlerts(partitions);
+
+        ArgumentCaptor<Alert> savedAlerts = ArgumentCaptor.forClass(Alert.class);
+        verify(alertRepository, times((int) expected)).save(savedAlerts.capture());
+        assertTrue(expected > 0 && expected < criteria.size());
+        assertTrue(savedAlerts.getAllValues().stream().allMatch(alert -> partitions.includes(alert.getCriteriaId())));
+        verify(criteriaRepository, times(3)).findEnabledAfter(any(), eq(100));
+    }
+
+    @Test
+    void shouldFetchForecastOncePerGridpointAndSliceEachCriteriaWindow() {
+        AlertCriteria shortWindow = AlertCriteria.builder()
+                .id("criteria-short")
+                .userId("dev-admin")
+                .enabled(true)
+                .latitude(28.5383)
+                .longitude(-81.3792)
+                .radiusKm(5.0)
+                .rainThreshold(50.0)
+                .rainThresholdType(AlertCriteria.RainThresholdType.PROBABILITY)
+                .monitorCurrent(false)
+                .monitorForecast(true)
+                .forecastWindowHours(6)
+                .build();
+        AlertCriteria longWindow = AlertCriteria.builder()
+                .id("criteria-long")
+                .userId("dev-admin")
+                .enabled(true)
+                .latitude(28.5391)
+                .longitude(-81.3801)
+                .radiusKm(5.0)
+                .rainThreshold(50.0)
+                .rainThresholdType(AlertCriteria.RainThresholdType.PROBABILITY)
+                .monitorCurrent(false)
+                .monitorForecast(true)
+                .forecastWindowHours(48)
+                .build();
+
+        GridPoint gridPoint = new GridPoint("MLB", 26, 68);
+        WeatherData laterRain = WeatherData.builder()
+                .id("forecast-MLB-26-68-later")
+                .eventType("FORECAST_CONDITIONS")
+                .headline("Rain Likely")
+                .onset(Instant.now().plusSeconds(12 * 3600L))
+                .precipitationProbability(80.0)
+                .build();
+
+        stubEnabledCriteria(List.of(shortWindow, longWindow));
+        when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
+        when(weatherDataPort.resolveGridPointWithStatus(anyDouble(), anyDouble()))
+                .thenReturn(WeatherFetchResult.success(Optional.of(gridPoint)));
+        when(weatherDataPort.fetchForecastConditionsWithStatus(gridPoint))
+                .thenReturn(WeatherFetchResult.success(List.of(laterRain)));
+        when(alertRepository.save(any(Alert.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.processWeatherAlerts();
+
+        verify(weatherDataPort, times(1)).fetchForecastConditionsWithStatus(gridPoint);
+        verify(weatherDataPort, never()).fetchForecastConditionsWithStatus(anyDouble(), anyDouble(), anyInt());
+        verify(searchPort, times(1)).indexWeatherData(laterRain);
+        ArgumentCaptor<Alert> alertCaptor = ArgumentCaptor.forClass(Alert.class);
+        verify(alertRepository, times(1)).save(alertCaptor.capture());
+        assertEquals("criteria-long", alertCaptor.getValue().getCriteriaId());
+    }
+
+    @Test
+    void shouldStartForecastScanAtFirstPeriodCrossingEachSharedGridpointThreshold() {
+        AlertCriteria windy = AlertCriteria.builder()
+                .id("criteria-windy")
+                .userId("dev-admin")
+                .enabled(true)
+                .latitude(28.5383)
+                .longitude(-81.3792)
+                .maxWindSpeed(40.0)
+                .monitorCurrent(false)
+                .monitorForecast(true)
+                .build();
+        AlertCriteria stormy = AlertCriteria.builder()
+                .id("criteria-stormy")
+                .userId("dev-admin")
+                .enabled(true)
+                .latitude(28.5391)
+                .longitude(-81.3801)
+                .maxWindSpeed(60.0)
+                .monitorCurrent(false)
+                .monitorForecast(true)
+                .build();
+
+        GridPoint gridPoint = new GridPoint("MLB", 26, 68);
+        List<WeatherData> forecast = List.of(
+                forecastPeriod("calm", 10.0, 1),
+                forecastPeriod("breezy", 50.0, 2),
+                forecastPeriod("gale", 70.0, 3));
+
+        stubEnabledCriteria(List.of(windy, stormy));
+        when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
+        when(weatherDataPort.resolveGridPointAsync(anyDouble(), anyDouble()))
+                .thenReturn(CompletableFuture.completedFuture(WeatherFetchResult.success(Optional.of(gridPoint))));
+        when(weatherDataPort.fetchForecastConditionsAsync(gridPoint))
+                .thenReturn(CompletableFuture.completedFuture(WeatherFetchResult.success(forecast)));
+        when(alertRepository.save(any(Alert.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.processWeatherAlerts();
+
+        ArgumentCaptor<Alert> saved = ArgumentCaptor.forClass(Alert.class);
+        verify(alertRepository, times(2)).save(saved.capture());
+        Map<String, String> matchedPeriods = saved.getAllValues().stream()
+                .collect(Collectors.toMap(Alert::getCriteriaId, Alert::getWeatherDataId));
+        assertEquals(Map.of("criteria-windy", "breezy", "criteria-stormy", "gale"), matchedPeriods);
+    }
+
+    private static WeatherData forecastPeriod(String id, double windSpeed, int hoursAhead) {
+        return WeatherData.builder()
+                .id(id)
+                .eventType("FORECAST_CONDITIONS")
+                .onset(Instant.now().plusSeconds(hoursAhead * 3600L))
+                .windSpeed(windSpeed)
+                .build();
+    }
+
+    @Test
+    void shouldPrefetchBatchConditionsThroughNonBlockingPortMethods() {
+        AlertCriteria first = AlertCriteria.builder()
+                .id("criteria-a")
+                .userId("dev-admin")
+                .enabled(true)
+                .latitude(28.5383)
+                .longitude(-81.3792)
+                .temperatureThreshold(60.0)
+                .temperatureDirection(AlertCriteria.TemperatureDirection.BELOW)
+                .temperatureUnit(AlertCriteria.TemperatureUnit.F)
+                .monitorCurrent(true)
+                .monitorForecast(false)
+                .build();
+        AlertCriteria second = AlertCriteria.builder()
+                .id("criteria-b")
+                .userId("dev-admin")
+                .enabled(true)
+                .latitude(28.5383)
+                .longitude(-81.3792)
+                .temperatureThreshold(90.0)
+                .temperatureDirection(AlertCriteria.TemperatureDirection.ABOVE)
+                .temperatureUnit(AlertCriteria.TemperatureUnit.F)
+                .monitorCurrent(true)
+                .monitorForecast(false)
+                .build();
+
+        GridPoint gridPoint = new GridPoint("MLB", 26, 68);
+        WeatherData current = WeatherData.builder()
+                .id("current-KORL-1")
+                .eventType("CURRENT_CONDITIONS")
+                .temperature(12.0)
+                .build();
+
+        stubEnabledCriteria(List.of(first, second));
+        when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
+        when(weatherDataPort.resolveGridPointAsync(28.5383, -81.3792))
+                .thenReturn(CompletableFuture.completedFuture(WeatherFetchResult.success(Optional.of(gridPoint))));
+        when(weatherDataPort.fetchCurrentConditionsAsync(gridPoint))
+                .thenReturn(CompletableFuture.completedFuture(WeatherFetchResult.success(Optional.of(current))));
+        when(alertRepository.save(any(Alert.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.processWeatherAlerts();
+
+        verify(weatherDataPort, times(1)).resolveGridPointAsync(28.5383, -81.3792);
+        verify(weatherDataPort, times(1)).fetchCurrentConditionsAsync(gridPoint);
+        verify(weatherDataPort, never()).resolveGridPointWithStatus(anyDouble(), anyDouble());
+        verify(weatherDataPort, never()).fetchCurrentConditionsWithStatus(any(GridPoint.class));
+        verify(searchPort, times(1)).indexWeatherData(current);
+        verify(alertRepository, times(1)).save(any(Alert.class));
+    }
+
     @Test
     void shouldOnlyTriggerMatchingTemperatureCriteriaWhenDirectionsConflict() {
         AlertCriteria belowThreshold = AlertCriteria.builder()
@@ -345,12 +598,10 @@ class AlertProcessingServiceTest {
                 .temperature(18.0) // 64.4F
                 .build();
 
-        when(criteriaRepository.findAllEnabled()).thenReturn(List.of(belowThreshold, aboveThreshold));
+        stubEnabledCriteria(List.of(belowThreshold, aboveThreshold));
         when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
         when(weatherDataPort.fetchCurrentConditionsWithStatus(28.5383, -81.3792))
                 .thenReturn(WeatherFetchResult.success(Optional.of(current)));
-        when(criteriaStateRepository.findByCriteriaId(anyString())).thenReturn(Optional.empty());
-        when(criteriaStateRepository.save(any(AlertCriteriaState.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(alertRepository.save(any(Alert.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         service.processWeatherAlerts();
@@ -377,15 +628,436 @@ class AlertProcessingServiceTest {
                 .monitorForecast(false)
                 .build();
 
-        when(criteriaRepository.findAllEnabled()).thenReturn(List.of(criteria));
+        stubEnabledCriteria(List.of(criteria));
         when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
         when(weatherDataPort.fetchCurrentConditionsWithStatus(28.5383, -81.3792))
                 .thenReturn(WeatherFetchResult.failure(Optional.empty(), "upstream timeout"));
 
         service.processWeatherAlerts();
 
-        verify(criteriaStateRepository, never()).save(any(AlertCriteriaState.class));
+        verify(criteriaStateRepository, never()).saveAll(anyCollection());
         verify(alertRepository, never()).save(any(Alert.class));
         verify(notificationPort, never()).publishAlert(any(Alert.class));
     }
+
+    @Test
+    void shouldMarkAlertOnlyCriteriaUnavailableWhenActiveAlertsFail() {
+        AlertCriteria criteria = AlertCriteria.builder()
+                .id("criteria-alert-only")
+                .userId("dev-admin")
+                .enabled(true)
+                .eventType("Tornado Warning")
+                .build();
+
+        stubEnabledCriteria(List.of(criteria));
+        when(weatherDataPort.fetchActiveAlertsWithStatus())
+                .thenReturn(WeatherFetchResult.failure(List.of(), "HTTP 503"));
+
+        service.processWeatherAlerts();
+
+        assertEquals(1.0, meterRegistry.counter("weather.alert.criteria.unavailable").count());
+        assertEquals(0.0, meterRegistry.counter("weather.alert.criteria.not_met").count());
+        verify(criteriaStateRepository, never()).saveAll(anyCollection());
+    }
+
+    @Test
+    void shouldLoadStateOncePerBatchAndSkipWritesForUnchangedMetState() {
+        AlertCriteria stillMet = windCriteria("criteria-still-met");
+        AlertCriteria newlyMet = windCriteria("criteria-newly-met");
+        WeatherData current = WeatherData.builder()
+                .id("current-windy")
+                .eventType("CURRENT_CONDITIONS")
+                .windSpeed(60.0)
+                .build();
+        AlertCriteriaState existing = AlertCriteriaState.builder()
+                .criteriaId("criteria-still-met")
+                .lastConditionMet(true)
+                .lastEventSignature("current|criteria-still-met")
+                .lastNotifiedAt(Instant.now().minusSeconds(600))
+                .createdAt(Instant.now().minusSeconds(3600))
+                .updatedAt(Instant.now().minusSeconds(600))
+                .build();
+
+        stubEnabledCriteria(List.of(stillMet, newlyMet));
+        when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
+        when(weatherDataPort.fetchCurrentConditionsWithStatus(28.5383, -81.3792))
+                .thenReturn(WeatherFetchResult.success(Optional.of(current)));
+        when(criteriaStateRepository.findByCriteriaIds(anyCollection()))
+                .thenReturn(Map.of("criteria-still-met", existing));
+        when(alertRepository.save(any(Alert.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.processWeatherAlerts();
+
+        verify(criteriaStateRepository, times(1)).findByCriteriaIds(List.of("criteria-newly-met", "criteria-still-met"));
+        verify(criteriaStateRepository, never()).findByCriteriaId(anyString());
+        verify(criteriaStateRepository, never()).save(any(AlertCriteriaState.class));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<AlertCriteriaState>> savedCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(criteriaStateRepository, times(1)).saveAll(savedCaptor.capture());
+        assertEquals(
+                List.of("criteria-newly-met"),
+                savedCaptor.getValue().stream().map(AlertCriteriaState::getCriteriaId).toList());
+        assertEquals(1.0, meterRegistry.summary("weather.alert.criteria.state.writes_avoided").totalAmount());
+    }
+
+    @Test
+    void shouldRewriteUnchangedMetStateOnceTouchIntervalElapsed() {
+        AlertCriteria stillMet = windCriteria("criteria-still-met");
+        WeatherData current = WeatherData.builder()
+                .id("current-windy")
+                .eventType("CURRENT_CONDITIONS")
+                .windSpeed(60.0)
+                .build();
+        Instant staleUpdate = Instant.now().minusSeconds(2 * 3600);
+        AlertCriteriaState existing = AlertCriteriaState.builder()
+                .criteriaId("criteria-still-met")
+                .lastConditionMet(true)
+                .lastEventSignature("current|criteria-still-met")
+                .lastNotifiedAt(staleUpdate)
+                .createdAt(staleUpdate)
+                .updatedAt(staleUpdate)
+                .build();
+
+        stubEnabledCriteria(List.of(stillMet));
+        when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
+        when(weatherDataPort.fetchCurrentConditionsWithStatus(28.5383, -81.3792))
+                .thenReturn(WeatherFetchResult.success(Optional.of(current)));
+        when(criteriaStateRepository.findByCriteriaIds(anyCollection()))
+                .thenReturn(Map.of("criteria-still-met", existing));
+
+        service.processWeatherAlerts();
+
+        verify(criteriaStateRepository, times(1)).saveAll(List.of(existing));
+        verify(alertRepository, never()).save(any(Alert.class));
+        assertTrue(existing.getUpdatedAt().isAfter(staleUpdate));
+    }
+
+    @Test
+    void shouldKeepPreviousStateForCriteriaWhoseAlertCouldNotBeSaved() {
+        AlertCriteria saved = windCriteria("criteria-saved");
+        AlertCriteria failing = windCriteria("criteria-save-fails");
+        WeatherData current = WeatherData.builder()
+                .id("current-windy")
+                .eventType("CURRENT_CONDITIONS")
+                .windSpeed(60.0)
+                .build();
+
+        stubEnabledCriteria(List.of(saved, failing));
+        when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
+        when(weatherDataPort.fetchCurrentConditionsWithStatus(28.5383, -81.3792))
+                .thenReturn(WeatherFetchResult.success(Optional.of(current)));
+        when(alertRepository.save(any(Alert.class))).thenAnswer(invocation -> {
+            Alert alert = invocation.getArgument(0);
+            if ("criteria-save-fails".equals(alert.getCriteriaId())) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return alert;
+        });
+
+        assertThrows(IllegalStateException.class, () -> service.processWeatherAlerts());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<AlertCriteriaState>> savedCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(criteriaStateRepository, times(1)).saveAll(savedCaptor.capture());
+        assertEquals(
+                List.of("criteria-saved"),
+                savedCaptor.getValue().stream().map(AlertCriteriaState::getCriteriaId).toList());
+        verify(notificationPort, times(1)).publishAlert(any(Alert.class));
+    }
+
+    private AlertCriteria windCriteria(String id) {
+        return AlertCriteria.builder()
+                .id(id)
+                .userId("dev-admin")
+                .enabled(true)
+                .latitude(28.5383)
+                .longitude(-81.3792)
+                .maxWindSpeed(40.0)
+                .monitorCurrent(true)
+                .monitorForecast(false)
+                .build();
+    }
+
+    @Test
+    void shouldFetchOnlyAlertAreasReachableByCriteriaWhenAlertFeedIsPartitioned() {
+        ReflectionTestUtils.setField(service, "partitionedAlertFeed", true);
+        AlertCriteria orlando = AlertCriteria.builder()
+                .id("criteria-fl")
+                .userId("dev-admin")
+                .enabled(true)
+                .latitude(28.5383)
+                .longitude(-81.3792)
+                .radiusKm(25.0)
+                .eventType("Flood Warning")
+                .build();
+        AlertCriteria savannah = AlertCriteria.builder()
+                .id("criteria-ga")
+                .userId("dev-admin")
+                .enabled(true)
+                .latitude(32.0809)
+                .longitude(-81.0912)
+                .radiusKm(25.0)
+                .eventType("Flood Warning")
+                .build();
+        WeatherData borderAlert = WeatherData.builder().id("alert-border").eventType("Flood Warning").build();
+        WeatherData floridaAlert = WeatherData.builder().id("alert-fl").eventType("Heat Advisory").build();
+
+        stubEnabledCriteria(List.of(orlando, savannah));
+        when(weatherDataPort.resolveForecastZoneAsync(28.5383, -81.3792))
+                .thenReturn(CompletableFuture.completedFuture(WeatherFetchResult.success(Optional.of("FLZ045"))));
+        when(weatherDataPort.resolveForecastZoneAsync(32.0809, -81.0912))
+                .thenReturn(CompletableFuture.completedFuture(WeatherFetchResult.success(Optional.of("GAZ118"))));
+        when(weatherDataPort.fetchActiveAlertsForAreaAsync("FL"))
+                .thenReturn(CompletableFuture.completedFuture(WeatherFetchResult.success(List.of(floridaAlert, borderAlert))));
+        when(weatherDataPort.fetchActiveAlertsForAreaAsync("GA"))
+                .thenReturn(CompletableFuture.completedFuture(WeatherFetchResult.success(List.of(borderAlert))));
+        when(weatherDataPort.fetchActiveAlertsForAreaAsync("SC"))
+                .thenReturn(CompletableFuture.completedFuture(WeatherFetchResult.success(List.of())));
+
+        service.processWeatherAlerts();
+
+        verify(weatherDataPort, never()).fetchActiveAlertsWithStatus();
+        verify(weatherDataPort, times(1)).fetchActiveAlertsForAreaAsync("SC");
+        verify(searchPort, times(1)).indexWeatherData(floridaAlert);
+        verify(searchPort, times(1)).indexWeatherData(borderAlert);
+        assertEquals(1.0, meterRegistry.counter("weather.alert.active_alert.fetches", "mode", "partitioned").count());
+    }
+
+    @Test
+    void shouldFallBackToNationalAlertFeedWhenCriteriaIsNotLocalized() {
+        ReflectionTestUtils.setField(service, "partitionedAlertFeed", true);
+        AlertCriteria localized = AlertCriteria.builder()
+                .id("criteria-a")
+                .userId("dev-admin")
+                .enabled(true)
+                .latitude(28.5383)
+                .longitude(-81.3792)
+                .radiusKm(25.0)
+                .eventType("Flood Warning")
+                .build();
+        AlertCriteria textOnly = AlertCriteria.builder()
+                .id("criteria-b")
+                .userId("dev-admin")
+                .enabled(true)
+                .location("Orange County")
+                .build();
+
+        stubEnabledCriteria(List.of(localized, textOnly));
+        when(weatherDataPort.resolveForecastZoneAsync(28.5383, -81.3792))
+                .thenReturn(CompletableFuture.completedFuture(WeatherFetchResult.success(Optional.of("FLZ045"))));
+        when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
+
+        service.processWeatherAlerts();
+
+        verify(weatherDataPort, times(1)).fetchActiveAlertsWithStatus();
+        verify(weatherDataPort, never()).fetchActiveAlertsForAreaAsync(anyString());
+        assertEquals(1.0, meterRegistry.counter("weather.alert.active_alert.fetches", "mode", "national").count());
+    }
+
+    @Test
+    void shouldMatchActiveAlertsToCriteriaByStoredZoneCodes() {
+        ReflectionTestUtils.setField(service, "partitionedAlertFeed", true);
+        AlertCriteria orlando = AlertCriteria.builder()
+                .id("criteria-fl")
+                .userId("dev-admin")
+                .enabled(true)
+                .latitude(28.5383)
+                .longitude(-81.3792)
+                .forecastZone("FLZ045")
+                .county("FLC095")
+                .eventType("Flood Warning")
+                .build();
+        WeatherData countyAlert = WeatherData.builder()
+                .id("alert-orange")
+                .eventType("Flood Warning")
+                .location("Orange, FL")
+                .zoneCodes(List.of("FLC095", "FLC117"))
+                .build();
+        WeatherData elsewhere = WeatherData.builder()
+                .id("alert-miami")
+                .eventType("Flood Warning")
+                .location("Miami-Dade, FL")
+                .zoneCodes(List.of("FLZ173"))
+                .build();
+
+        stubEnabledCriteria(List.of(orlando));
+        when(weatherDataPort.fetchActiveAlertsForAreaAsync("FL"))
+                .thenReturn(CompletableFuture.completedFuture(WeatherFetchResult.success(List.of(elsewhere, countyAlert))));
+        when(alertRepository.save(any(Alert.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.processWeatherAlerts();
+
+        verify(weatherDataPort, never()).resolveForecastZoneAsync(anyDouble(), anyDouble());
+        ArgumentCaptor<Alert> saved = ArgumentCaptor.forClass(Alert.class);
+        verify(alertRepository, times(1)).save(saved.capture());
+        assertEquals("Orange, FL", saved.getValue().getLocation());
+        assertEquals(1.0, meterRegistry.counter("weather.alert.active_alert.candidate_checks").count());
+    }
+
+    @Test
+    void shouldMatchRadiusCriteriaToEarlierAlertPolygonItsCircleReaches() {
+        AlertCriteria orlando = AlertCriteria.builder()
+                .id("criteria-fl")
+                .userId("dev-admin")
+                .enabled(true)
+                .latitude(28.5383)
+                .longitude(-81.3792)
+                .radiusKm(25.0)
+                .county("FLC095")
+                .eventType("Tornado Warning")
+                .build();
+        WeatherData stormPolygon = WeatherData.builder()
+                .id("alert-polygon")
+                .eventType("Tornado Warning")
+                .location("Seminole, FL")
+                .geometry(AlertGeometry.of(List.<double[]>of(
+                        new double[] {-81.45, 28.65, -81.20, 28.65, -81.20, 28.80, -81.45, 28.80, -81.45, 28.65})))
+                .build();
+        WeatherData distantPolygon = WeatherData.builder()
+                .id("alert-distant")
+                .eventType("Tornado Warning")
+                .location("Hillsborough, FL")
+                .geometry(AlertGeometry.of(List.<double[]>of(
+                        new double[] {-82.60, 27.90, -82.30, 27.90, -82.30, 28.10, -82.60, 28.10, -82.60, 27.90})))
+                .build();
+        WeatherData countyAlert = WeatherData.builder()
+                .id("alert-orange")
+                .eventType("Tornado Warning")
+                .location("Orange, FL")
+                .zoneCodes(List.of("FLC095"))
+                .build();
+
+        stubEnabledCriteria(List.of(orlando));
+        when(weatherDataPort.fetchActiveAlertsWithStatus())
+                .thenReturn(WeatherFetchResult.success(List.of(distantPolygon, stormPolygon, countyAlert)));
+        when(alertRepository.save(any(Alert.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.processWeatherAlerts();
+
+        ArgumentCaptor<Alert> saved = ArgumentCaptor.forClass(Alert.class);
+        verify(alertRepository, times(1)).save(saved.capture());
+        assertEquals("Seminole, FL", saved.getValue().getLocation());
+        assertEquals(1.0, meterRegistry.counter("weather.alert.active_alert.candidate_checks").count());
+    }
+
+    @Test
+    void shouldMatchActiveAlertsOncePerCycleAcrossCriteriaBatches() {
+        List<AlertCriteria> criteria = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            criteria.add(AlertCriteria.builder()
+                    .id("criteria-" + i)
+                    .userId("dev-admin")
+                    .enabled(true)
+                    .version(1L)
+                    .eventType(i == 7 || i == 207 ? "Tornado Warning" : "Flood Warning")
+                    .build());
+        }
+        WeatherData tornado = WeatherData.builder()
+                .id("alert-tornado")
+                .eventType("Tornado Warning")
+                .location("Orange, FL")
+                .build();
+
+        stubEnabledCriteria(criteria);
+        when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of(tornado)));
+        when(alertRepository.save(any(Alert.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.processWeatherAlerts();
+
+        ArgumentCaptor<Alert> saved = ArgumentCaptor.forClass(Alert.class);
+        verify(alertRepository, times(2)).save(saved.capture());
+        assertEquals(
+                Set.of("criteria-7", "criteria-207"),
+                saved.getAllValues().stream().map(Alert::getCriteriaId).collect(Collectors.toSet()));
+        assertEquals(2.0, meterRegistry.counter("weather.alert.active_alert.candidate_checks").count());
+        verify(criteriaRepository, times(6)).findEnabledAfter(any(), eq(100));
+    }
+
+    @Test
+    void shouldRematchCriteriaUpdatedAfterCycleMatchedActiveAlerts() {
+        AlertCriteria before = AlertCriteria.builder()
+                .id("criteria-updated")
+                .userId("dev-admin")
+                .enabled(true)
+                .version(1L)
+                .eventType("Flood Warning")
+                .build();
+        AlertCriteria after = AlertCriteria.builder()
+                .id("criteria-updated")
+                .userId("dev-admin")
+                .enabled(true)
+                .version(2L)
+                .eventType("Tornado Warning")
+                .build();
+        WeatherData tornado = WeatherData.builder()
+                .id("alert-tornado")
+                .eventType("Tornado Warning")
+                .location("Orange, FL")
+                .build();
+
+        when(criteriaRepository.findEnabledAfter(any(), eq(100)))
+                .thenReturn(List.of(before))
+                .thenReturn(List.of(after));
+        when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of(tornado)));
+        when(alertRepository.save(any(Alert.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.processWeatherAlerts();
+
+        ArgumentCaptor<Alert> saved = ArgumentCaptor.forClass(Alert.class);
+        verify(alertRepository, times(1)).save(saved.capture());
+        assertEquals("criteria-updated", saved.getValue().getCriteriaId());
+    }
+
+    @Test
+    void shouldPublishAlertsAlreadyInPipelineWhenCriteriaPagingFails() {
+        List<AlertCriteria> firstPage = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            firstPage.add(AlertCriteria.builder()
+                    .id(String.format("criteria-%03d", i))
+                    .userId("dev-admin")
+                    .enabled(true)
+                    .latitude(28.5383)
+                    .longitude(-81.3792)
+                    .temperatureThreshold(60.0)
+                    .temperatureDirection(AlertCriteria.TemperatureDirection.BELOW)
+                    .temperatureUnit(AlertCriteria.TemperatureUnit.F)
+                    .monitorCurrent(true)
+                    .monitorForecast(false)
+                    .build());
+        }
+        WeatherData current = WeatherData.builder()
+                .id("current-cold")
+                .eventType("CURRENT_CONDITIONS")
+                .temperature(10.0)
+                .build();
+
+        when(criteriaRepository.findEnabledAfter(any(), eq(100))).thenAnswer(invocation -> {
+            if (invocation.getArgument(0) == null) {
+                return firstPage;
+            }
+            throw new IllegalStateException("database unavailable");
+        });
+        when(weatherDataPort.fetchActiveAlertsWithStatus()).thenReturn(WeatherFetchResult.success(List.of()));
+        when(weatherDataPort.fetchCurrentConditionsWithStatus(28.5383, -81.3792))
+                .thenReturn(WeatherFetchResult.success(Optional.of(current)));
+        when(alertRepository.save(any(Alert.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThrows(IllegalStateException.class, () -> service.processWeatherAlerts());
+
+        verify(alertRepository, times(100)).save(any(Alert.class));
+        verify(notificationPort, times(100)).publishAlert(any(Alert.class));
+        verify(criteriaStateRepository, atLeastOnce()).saveAll(anyCollection());
+    }
+
+    private void stubEnabledCriteria(List<AlertCriteria> criteria) {
+        when(criteriaRepository.findEnabledAfter(any(), anyInt())).thenAnswer(invocation -> {
+            String afterId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return criteria.stream()
+                    .filter(item -> afterId == null || item.getId().compareTo(afterId) > 0)
+                    .sorted(Comparator.comparing(AlertCriteria::getId))
+                    .limit(limit)
+                    .toList();
+        });
+    }
 }
@@ -0,0 +1,138 @@
+package com.weather.alert.domain.service;
+
+import com.weather.alert.domain.model.AlertCriteria;
+import com.weather.alert.domain.model.WeatherData;
+import com.weather.alert.domain.port.WeatherDataPort;
+import com.weather.alert.domain.port.WeatherFetchResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionedAlertFeedTest {
+
+    @Mock
+    private WeatherDataPort weatherDataPort;
+
+    @Test
+    void shouldIncludeNeighbouringStatesTheRadiusReaches() {
+        PartitionedAlertFeed feed = new PartitionedAlertFeed(weatherDataPort, 8);
+        feed.include(List.of(
+                criteria("criteria-kc", 39.0997, -94.5786, 30.0, "MOZ037"),
+                criteria("criteria-denver", 39.7392, -104.9903, 10.0, "COZ039")));
+
+        assertEquals(Optional.of(Set.of("CO", "KS", "MO")), feed.areas());
+    }
+
+    @Test
+    void shouldIncludeMarineAreasACoastalRadiusReaches() {
+        PartitionedAlertFeed feed = new PartitionedAlertFeed(weatherDataPort, 8);
+        feed.include(List.of(criteria("criteria-miami", 25.7617, -80.1918, 20.0, "FLZ173")));
+
+        assertEquals(Optional.of(Set.of("AM", "FL", "GM")), feed.areas());
+    }
+
+    @Test
+    void shouldFallBackToNationalFeedWhenRadiusReachesTooManyAreas() {
+        PartitionedAlertFeed feed = new PartitionedAlertFeed(weatherDataPort, 2);
+        feed.include(List.of(criteria("criteria-four-corners", 36.9990, -109.0452, 50.0, "AZZ001")));
+
+        assertEquals(Optional.empty(), feed.areas());
+    }
+
+    @Test
+    void shouldFallBackToNationalFeedWhenCriteriaAlsoMatchesLocationText() {
+        AlertCriteria criteria = criteria("criteria-denver", 39.7392, -104.9903, 10.0, "COZ039");
+        criteria.setLocation("Denver");
+        PartitionedAlertFeed feed = new PartitionedAlertFeed(weatherDataPort, 8);
+        feed.include(List.of(criteria));
+
+        assertEquals(Optional.empty(), feed.areas());
+        verify(weatherDataPort, never()).resolveForecastZoneAsync(39.7392, -104.9903);
+    }
+
+    @Test
+    void shouldRetryFailedAreaBeforeReturningMergedAlerts() {
+        WeatherData kansas = WeatherData.builder().id("alert-ks").build();
+        WeatherData missouri = WeatherData.builder().id("alert-mo").build();
+        when(weatherDataPort.fetchActiveAlertsForAreaAsync("KS"))
+                .thenReturn(completed(WeatherFetchResult.failure(null, "HTTP 503")))
+                .thenReturn(completed(WeatherFetchResult.success(List.of(kansas))));
+        when(weatherDataPort.fetchActiveAlertsForAreaAsync("MO"))
+                .thenReturn(completed(WeatherFetchResult.success(List.of(missouri))));
+
+        WeatherFetchResult<List<WeatherData>> result =
+                new PartitionedAlertFeed(weatherDataPort, 8).fetch(Set.of("KS", "MO"));
+
+        assertTrue(result.successful());
+        assertEquals(Set.of(kansas, missouri), Set.copyOf(result.data()));
+        verify(weatherDataPort, times(1)).fetchActiveAlertsForAreaAsync("MO");
+        verify(weatherDataPort, never()).fetchActiveAlertsWithStatus();
+    }
+
+    @Test
+    void shouldUseNationalFeedForAreasThatKeepFailing() {
+        WeatherData missouri = WeatherData.builder().id("alert-mo").build();
+        WeatherData kansas = WeatherData.builder().id("alert-ks").build();
+        when(weatherDataPort.fetchActiveAlertsForAreaAsync("KS"))
+                .thenReturn(completed(WeatherFetchResult.failure(null, "HTTP 503")));
+        when(weatherDataPort.fetchActiveAlertsForAreaAsync("MO"))
+                .thenReturn(completed(WeatherFetchResult.success(List.of(missouri))));
+        when(weatherDataPort.fetchActiveAlertsWithStatus())
+                .thenReturn(WeatherFetchResult.success(List.of(missouri, kansas)));
+
+        WeatherFetchResult<List<WeatherData>> result =
+                new PartitionedAlertFeed(weatherDataPort, 8).fetch(Set.of("KS", "MO"));
+
+        assertTrue(result.successful());
+        assertEquals(List.of(missouri, kansas), result.data());
+        verify(weatherDataPort, times(2)).fetchActiveAlertsForAreaAsync("KS");
+    }
+
+    @Test
+    void shouldKeepAlertsOfFetchedAreasWhenNationalFallbackFails() {
+        WeatherData missouri = WeatherData.builder().id("alert-mo").build();
+        when(weatherDataPort.fetchActiveAlertsForAreaAsync("KS"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("connection reset")));
+        when(weatherDataPort.fetchActiveAlertsForAreaAsync("MO"))
+                .thenReturn(completed(WeatherFetchResult.success(List.of(missouri))));
+        when(weatherDataPort.fetchActiveAlertsWithStatus())
+                .thenReturn(WeatherFetchResult.failure(List.of(), "HTTP 503"));
+
+        WeatherFetchResult<List<WeatherData>> result =
+                new PartitionedAlertFeed(weatherDataPort, 8).fetch(Set.of("KS", "MO"));
+
+        assertFalse(result.successful());
+        assertEquals(List.of(missouri), result.data());
+        assertTrue(result.failureReason().contains("KS: "));
+        assertTrue(result.failureReason().contains("national: HTTP 503"));
+    }
+
+    private static AlertCriteria criteria(String id, double latitude, double longitude, double radiusKm, String zone) {
+        return AlertCriteria.builder()
+                .id(id)
+                .latitude(latitude)
+                .longitude(longitude)
+                .radiusKm(radiusKm)
+                .forecastZone(zone)
+                .build();
+    }
+
+    private static <T> CompletableFuture<WeatherFetchResult<T>> completed(WeatherFetchResult<T> result) {
+        return CompletableFuture.completedFuture(result);
+    }
+}
@@ -0,0 +1,134 @@
+package com.weather.alert.domain.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PipelineStageTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldHandleEveryItemAndRethrowFirstFailureAfterDraining() {
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        IllegalStateException failure = new IllegalStateException("boom");
+        AtomicInteger queueDepth = new AtomicInteger();
+        PipelineStage<Integer> stage = new PipelineStage<>("test", 3, 4, item -> {
+            if (item == 5) {
+                throw failure;
+            }
+            handled.add(item);
+        }, meterRegistry, queueDepth);
+
+        for (int i = 0; i < 20; i++) {
+            stage.submit(i);
+        }
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, stage::awaitCompletion);
+        stage.close();
+
+        assertSame(failure, thrown);
+        assertEquals(19, handled.size());
+        assertEquals(0, queueDepth.get());
+        assertEquals(19.0, meterRegistry.counter("weather.alert.pipeline.items", "stage", "test", "outcome", "success").count());
+        assertEquals(1.0, meterRegistry.counter("weather.alert.pipeline.items", "stage", "test", "outcome", "failure").count());
+    }
+
+    @Test
+    void shouldBlockProducerWhileQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger queueDepth = new AtomicInteger();
+        PipelineStage<Integer> stage = new PipelineStage<>("blocking", 1, 1, item -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }, meterRegistry, queueDepth);
+
+        stage.submit(1);
+        Thread.sleep(100);
+        stage.submit(2);
+
+        CountDownLatch thirdQueued = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            stage.submit(3);
+            thirdQueued.countDown();
+        });
+        producer.start();
+
+        assertFalse(thirdQueued.await(200, TimeUnit.MILLISECONDS), "producer should wait for queue space");
+        assertEquals(1, queueDepth.get());
+
+        release.countDown();
+        assertTrue(thirdQueued.await(5, TimeUnit.SECONDS));
+        stage.awaitCompletion();
+        stage.close();
+
+        assertEquals(0, queueDepth.get());
+        assertEquals(1, meterRegistry.timer("weather.alert.pipeline.submit.blocked", "stage", "blocking").count());
+    }
+
+    @Test
+    void shouldHandleQueuedItemsWhenClosedWithoutAwaiting() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        AtomicInteger queueDepth = new AtomicInteger();
+        PipelineStage<Integer> stage = new PipelineStage<>("closing", 1, 8, item -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            if (!Thread.currentThread().isInterrupted()) {
+                handled.add(item);
+            }
+        }, meterRegistry, queueDepth);
+        for (int i = 0; i < 5; i++) {
+            stage.submit(i);
+        }
+
+        Thread closer = new Thread(stage::close);
+        closer.start();
+        release.countDown();
+        closer.join(5000);
+
+        assertFalse(closer.isAlive());
+        assertEquals(List.of(0, 1, 2, 3, 4), handled);
+        assertEquals(0, queueDepth.get());
+        assertThrows(IllegalStateException.class, () -> stage.submit(5));
+    }
+
+    @Test
+    void shouldKeepWorkersAliveWhenAnItemThrowsAnError() {
+        AssertionError failure = new AssertionError("boom");
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        PipelineStage<Integer> stage = new PipelineStage<>("erroring", 1, 2, item -> {
+            if (item % 2 == 0) {
+                throw failure;
+            }
+            handled.add(item);
+        }, meterRegistry, new AtomicInteger());
+
+        for (int i = 0; i < 10; i++) {
+            stage.submit(i);
+        }
+
+        AssertionError thrown = assertThrows(AssertionError.class, stage::awaitCompletion);
+        stage.close();
+
+        assertSame(failure, thrown);
+        assertEquals(List.of(1, 3, 5, 7, 9), handled);
+    }
+}
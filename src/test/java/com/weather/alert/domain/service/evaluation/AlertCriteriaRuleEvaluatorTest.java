@@ -1,9 +1,12 @@
 package com.weather.alert.domain.service.evaluation;
 
 import com.weather.alert.domain.model.AlertCriteria;
+import com.weather.alert.domain.model.AlertGeometry;
 import com.weather.alert.domain.model.WeatherData;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class AlertCriteriaRuleEvaluatorTest {
@@ -191,4 +194,153 @@ class AlertCriteriaRuleEvaluatorTest {
 
         assertFalse(evaluator.matches(criteria, weatherData));
     }
+
+    @Test
+    void shouldMatchLocationAndEventTextCaseInsensitively() {
+        AlertCriteria criteria = AlertCriteria.builder()
+                .enabled(true)
+                .location("orange county")
+                .eventType("rain")
+                .build();
+
+        WeatherData weatherData = WeatherData.builder()
+                .location("ORANGE COUNTY, FL")
+                .eventType("FORECAST_CONDITIONS")
+                .headline("Heavy Rain expected")
+                .build();
+
+        assertTrue(evaluator.matches(criteria, weatherData));
+    }
+
+    @Test
+    void shouldDecideZoneListedAlertByItsPolygonWhenItHasOne() {
+        AlertCriteria criteria = AlertCriteria.builder()
+                .enabled(true)
+                .latitude(28.5383)
+                .longitude(-81.3792)
+                .forecastZone("FLZ045")
+                .eventType("Tornado Warning")
+                .build();
+        WeatherData zoneOnly = WeatherData.builder()
+                .eventType("Tornado Warning")
+                .zoneCodes(List.of("FLZ045"))
+                .build();
+        WeatherData distantPolygon = WeatherData.builder()
+                .eventType("Tornado Warning")
+                .zoneCodes(List.of("FLZ045"))
+                .geometry(AlertGeometry.of(List.<double[]>of(
+                        new double[] {-81.0, 28.9, -80.8, 28.9, -80.8, 29.1, -81.0, 29.1, -81.0, 28.9})))
+                .build();
+        WeatherData coveringPolygon = WeatherData.builder()
+                .eventType("Tornado Warning")
+                .zoneCodes(List.of("FLZ045"))
+                .geometry(AlertGeometry.of(List.<double[]>of(
+                        new double[] {-81.5, 28.4, -81.3, 28.4, -81.3, 28.6, -81.5, 28.6, -81.5, 28.4})))
+                .build();
+
+        assertTrue(evaluator.matches(criteria, zoneOnly));
+        assertFalse(evaluator.matches(criteria, distantPolygon));
+        assertTrue(evaluator.matches(criteria, coveringPolygon));
+    }
+
+    @Test
+    void shouldNotTreatListedCountyAsWithinRadius() {
+        AlertCriteria criteria = AlertCriteria.builder()
+                .enabled(true)
+                .latitude(28.5383)
+                .longitude(-81.3792)
+                .radiusKm(5.0)
+                .county("FLC095")
+                .eventType("Flood Warning")
+                .build();
+        WeatherData countyAlert = WeatherData.builder()
+                .eventType("Flood Warning")
+                .zoneCodes(List.of("FLC095"))
+                .build();
+        WeatherData nearbyReport = WeatherData.builder()
+                .eventType("Flood Warning")
+                .zoneCodes(List.of("FLC095"))
+                .latitude(28.55)
+                .longitude(-81.38)
+                .build();
+
+        assertFalse(evaluator.matches(criteria, countyAlert));
+        assertTrue(evaluator.matches(criteria, nearbyReport));
+    }
+
+    @Test
+    void shouldReuseCompiledCriteriaUntilVersionChanges() {
+        AlertCriteria criteria = AlertCriteria.builder()
+                .id("criteria-1")
+                .version(1L)
+                .enabled(true)
+                .maxWindSpeed(50.0)
+                .build();
+        WeatherData weatherData = WeatherData.builder()
+                .windSpeed(40.0)
+                .build();
+
+        CompiledAlertCriteria first = evaluator.compile(criteria);
+        assertSame(first, evaluator.compile(criteria));
+        assertFalse(evaluator.matches(first, weatherData));
+
+        criteria.setMaxWindSpeed(30.0);
+        criteria.setVersion(2L);
+        CompiledAlertCriteria second = evaluator.compile(criteria);
+
+        assertNotSame(first, second);
+        assertTrue(evaluator.matches(second, weatherData));
+        assertEquals(1, evaluator.cachedCount());
+
+        evaluator.evict("criteria-1");
+        assertEquals(0, evaluator.cachedCount());
+    }
+
+    @Test
+    void shouldDropCachedEntryWhenCriteriaIsDisabled() {
+        AlertCriteria criteria = AlertCriteria.builder()
+                .id("criteria-1")
+                .version(1L)
+                .enabled(true)
+                .eventType("Tornado")
+                .build();
+
+        evaluator.compile(criteria);
+        assertEquals(1, evaluator.cachedCount());
+
+        criteria.setEnabled(false);
+        criteria.setVersion(2L);
+
+        assertFalse(evaluator.matches(criteria, WeatherData.builder().eventType("Tornado").build()));
+        assertEquals(0, evaluator.cachedCount());
+    }
+
+    @Test
+    void shouldKeepCacheWithinItsBound() {
+        AlertCriteriaRuleEvaluator bounded = new AlertCriteriaRuleEvaluator(2);
+        for (int i = 0; i < 5; i++) {
+            AlertCriteria criteria = AlertCriteria.builder()
+                    .id("criteria-" + i)
+                    .version(1L)
+                    .enabled(true)
+                    .eventType("Tornado")
+                    .build();
+            CompiledAlertCriteria compiled = bounded.compile(criteria);
+
+            assertSame(compiled, bounded.compile(criteria));
+            assertTrue(bounded.cachedCount() <= 2);
+        }
+    }
+
+    @Test
+    void shouldNotCacheCriteriaWithoutVersion() {
+        AlertCriteria criteria = AlertCriteria.builder()
+                .id("unsaved")
+                .enabled(true)
+                .eventType("Tornado")
+                .build();
+
+        assertNotSame(evaluator.compile(criteria), evaluator.compile(criteria));
+        assertEquals(0, evaluator.cachedCount());
+    }
 }
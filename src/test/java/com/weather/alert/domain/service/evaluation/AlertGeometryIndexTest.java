@@ -0,0 +1,89 @@
+package com.weather.alert.domain.service.evaluation;
+
+import com.weather.alert.domain.model.AlertCriteria;
+import com.weather.alert.domain.model.AlertGeometry;
+import com.weather.alert.domain.model.WeatherData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlertGeometryIndexTest {
+
+    private final AlertCriteriaRuleEvaluator evaluator = new AlertCriteriaRuleEvaluator();
+
+    @Test
+    void shouldTestPointsAgainstPolygonWithHole() {
+        AlertGeometry ring = AlertGeometry.of(List.of(
+                square(-82.0, 28.0, -81.0, 29.0),
+                square(-81.6, 28.4, -81.4, 28.6)));
+
+        assertTrue(ring.contains(28.2, -81.8));
+        assertFalse(ring.contains(28.5, -81.5));
+        assertFalse(ring.contains(29.5, -81.5));
+        assertEquals(28.0, ring.minLatitude());
+        assertEquals(-81.0, ring.maxLongitude());
+        assertNull(AlertGeometry.of(List.of(new double[] {-82.0, 28.0, -81.0, 29.0})));
+    }
+
+    @Test
+    void shouldIntersectCircleReachingPolygonEdge() {
+        AlertGeometry polygon = AlertGeometry.of(List.<double[]>of(square(-82.0, 28.0, -81.0, 29.0)));
+
+        // 0.1 degrees of latitude north of the polygon is about 11.1 km.
+        assertTrue(polygon.intersectsCircle(29.1, -81.5, 12.0));
+        assertFalse(polygon.intersectsCircle(29.1, -81.5, 10.0));
+        assertTrue(polygon.intersectsCircle(28.5, -81.5, 0.0));
+    }
+
+    @Test
+    void shouldReturnFeedPositionsOfAlertsWhoseEnvelopeCircleReaches() {
+        List<WeatherData> alerts = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            double west = -100.0 + i;
+            alerts.add(WeatherData.builder()
+                    .id("alert-" + i)
+                    .geometry(AlertGeometry.of(List.<double[]>of(square(west, 35.0, west + 0.5, 35.5))))
+                    .build());
+        }
+        alerts.add(3, WeatherData.builder().id("zone-only").zoneCodes(List.of("OKZ025")).build());
+
+        AlertGeometryIndex index = AlertGeometryIndex.build(alerts);
+
+        assertEquals(40, index.size());
+        assertArrayEquals(new int[] {11, 12}, index.candidates(35.25, -89.25, 50.0));
+        assertArrayEquals(new int[] {1}, index.candidates(criteria(35.25, -98.75, 10.0)));
+        assertEquals(0, index.candidates(35.25, -50.0, 50.0).length);
+        AlertCriteria withText = criteria(35.25, -98.75, 10.0);
+        withText.setLocation("Oklahoma");
+        assertEquals(0, index.candidates(withText).length);
+    }
+
+    @Test
+    void shouldMatchCriteriaCircleAgainstAlertPolygonInsteadOfCentroid() {
+        WeatherData warning = WeatherData.builder()
+                .eventType("Tornado Warning")
+                .geometry(AlertGeometry.of(List.<double[]>of(square(-82.0, 28.0, -81.0, 29.0))))
+                .build();
+
+        assertTrue(evaluator.matches(criteria(28.5, -81.5, 1.0), warning));
+        assertTrue(evaluator.matches(criteria(29.1, -81.5, 15.0), warning));
+        assertFalse(evaluator.matches(criteria(30.0, -81.5, 15.0), warning));
+    }
+
+    private static AlertCriteria criteria(double latitude, double longitude, double radiusKm) {
+        return AlertCriteria.builder()
+                .id("criteria")
+                .enabled(true)
+                .latitude(latitude)
+                .longitude(longitude)
+                .radiusKm(radiusKm)
+                .build();
+    }
+
+    private static double[] square(double west, double south, double east, double north) {
+        return new double[] {west, south, east, south, east, north, west, north, west, south};
+    }
+}
@@ -0,0 +1,58 @@
+package com.weather.alert.domain.service.evaluation;
+
+import com.weather.alert.domain.model.AlertCriteria;
+import com.weather.alert.domain.model.WeatherData;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CriteriaAttributeIndexTest {
+
+    @Test
+    void shouldSelectEnabledCriteriaWhoseMinimumSeverityAlertMeets() {
+        AlertCriteria anySeverity = criteria("any", true, null);
+        AlertCriteria severe = criteria("severe", true, "SEVERE");
+        AlertCriteria extreme = criteria("extreme", true, "Extreme");
+        AlertCriteria disabled = criteria("disabled", false, null);
+        CriteriaAttributeIndex index = CriteriaAttributeIndex.build(Arrays.asList(anySeverity, null, severe, extreme, disabled));
+
+        assertEquals(List.of(anySeverity, severe), index.criteria(index.alertEligible(alert("Severe"))));
+        assertEquals(List.of(anySeverity, severe, extreme), index.criteria(index.alertEligible(alert("Extreme"))));
+        assertEquals(List.of(anySeverity), index.criteria(index.alertEligible(alert(null))));
+        assertEquals(List.of(anySeverity, severe, extreme, disabled), index.criteria(index.all()));
+        assertEquals(2, index.ordinal(severe));
+        assertEquals(-1, index.ordinal(criteria("other", true, null)));
+    }
+
+    @Test
+    void shouldIndexNullableFlagsAsGivenAndRuleFlagsBothWays() {
+        AlertCriteria unset = AlertCriteria.builder().id("unset").build();
+        AlertCriteria current = AlertCriteria.builder()
+                .id("current")
+                .monitorCurrent(true)
+                .monitorForecast(false)
+                .temperatureUnit(AlertCriteria.TemperatureUnit.C)
+                .maxTemperature(30.0)
+                .build();
+        CriteriaAttributeIndex index = CriteriaAttributeIndex.build(List.of(unset, current));
+
+        assertEquals(List.of(current), index.criteria(index.with(CriteriaAttributeIndex.Flag.MONITOR_CURRENT, true)));
+        assertTrue(index.with(CriteriaAttributeIndex.Flag.MONITOR_CURRENT, false).isEmpty());
+        assertEquals(List.of(current), index.criteria(index.with(CriteriaAttributeIndex.Flag.MONITOR_FORECAST, false)));
+        assertEquals(List.of(unset), index.criteria(index.with(CriteriaAttributeIndex.Flag.TEMPERATURE_RULE, false)));
+        assertEquals(List.of(current), index.criteria(index.with(CriteriaAttributeIndex.Flag.WEATHER_CONDITION_RULES, true)));
+        assertEquals(List.of(current), index.criteria(index.withTemperatureUnit(AlertCriteria.TemperatureUnit.C)));
+        assertTrue(index.withTemperatureUnit(AlertCriteria.TemperatureUnit.F).isEmpty());
+    }
+
+    private static AlertCriteria criteria(String id, boolean enabled, String minSeverity) {
+        return AlertCriteria.builder().id(id).enabled(enabled).minSeverity(minSeverity).build();
+    }
+
+    private static WeatherData alert(String severity) {
+        return WeatherData.builder().eventType("Tornado Warning").severity(severity).build();
+    }
+}
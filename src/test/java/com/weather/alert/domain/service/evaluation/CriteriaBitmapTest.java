@@ -0,0 +1,68 @@
+package com.weather.alert.domain.service.evaluation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CriteriaBitmapTest {
+
+    @Test
+    void shouldCombineSparseAndDenseChunksLikeBitSet() {
+        Random random = new Random(7);
+        for (int round = 0; round < 20; round++) {
+            BitSet left = randomSet(random);
+            BitSet right = randomSet(random);
+            CriteriaBitmap leftBitmap = CriteriaBitmap.of(left.stream().toArray());
+            CriteriaBitmap rightBitmap = CriteriaBitmap.of(right.stream().toArray());
+
+            BitSet and = (BitSet) left.clone();
+            and.and(right);
+            BitSet or = (BitSet) left.clone();
+            or.or(right);
+            BitSet andNot = (BitSet) left.clone();
+            andNot.andNot(right);
+
+            assertArrayEquals(and.stream().toArray(), leftBitmap.and(rightBitmap).toArray());
+            assertArrayEquals(or.stream().toArray(), leftBitmap.or(rightBitmap).toArray());
+            assertArrayEquals(andNot.stream().toArray(), leftBitmap.andNot(rightBitmap).toArray());
+            assertEquals(or.cardinality(), leftBitmap.or(rightBitmap).cardinality());
+        }
+    }
+
+    @Test
+    void shouldAnswerMembershipAndRejectUnorderedBuilds() {
+        CriteriaBitmap bitmap = CriteriaBitmap.of(70_000, 3, 3, 65_535);
+
+        assertTrue(bitmap.contains(3));
+        assertTrue(bitmap.contains(65_535));
+        assertTrue(bitmap.contains(70_000));
+        assertFalse(bitmap.contains(4));
+        assertFalse(bitmap.contains(-1));
+        assertEquals(3, bitmap.cardinality());
+        assertTrue(bitmap.andNot(bitmap).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new CriteriaBitmap.Builder().add(5).add(4));
+    }
+
+    /**
+     * Three chunks: one sparse, one dense enough for a word container, one that differs per round.
+     */
+    private static BitSet randomSet(Random random) {
+        BitSet set = new BitSet();
+        for (int i = 0; i < 200; i++) {
+            set.set(random.nextInt(65_536));
+        }
+        int denseFill = random.nextInt(3) + 1;
+        for (int low = 0; low < 65_536; low++) {
+            if (random.nextInt(8) < denseFill) {
+                set.set(65_536 + low);
+            }
+        }
+        for (int i = 0; i < random.nextInt(5_000); i++) {
+            set.set(2 * 65_536 + random.nextInt(8_192));
+        }
+        return set;
+    }
+}
@@ -0,0 +1,90 @@
+package com.weather.alert.domain.service.evaluation;
+
+import com.weather.alert.domain.model.AlertCriteria;
+import com.weather.alert.domain.model.WeatherData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CriteriaSpatialIndexTest {
+
+    private final AlertCriteriaRuleEvaluator evaluator = new AlertCriteriaRuleEvaluator();
+
+    @Test
+    void shouldOnlyReturnRadiusCriteriaThatCanReachThePoint() {
+        AlertCriteria orlando = radiusCriteria("orlando", 28.5383, -81.3792, 25.0);
+        AlertCriteria seattle = radiusCriteria("seattle", 47.6062, -122.3321, 25.0);
+
+        CriteriaSpatialIndex index = CriteriaSpatialIndex.build(List.of(orlando, seattle));
+
+        List<AlertCriteria> candidates = index.candidates(28.60, -81.30);
+
+        assertTrue(candidates.contains(orlando));
+        assertFalse(candidates.contains(seattle));
+    }
+
+    @Test
+    void shouldAlwaysReturnCriteriaThatMatchByTextOrHaveNoRadius() {
+        AlertCriteria textAndRadius = radiusCriteria("text-and-radius", 47.6062, -122.3321, 10.0);
+        textAndRadius.setLocation("Orange County");
+        AlertCriteria eventOnly = AlertCriteria.builder()
+                .id("event-only")
+                .enabled(true)
+                .eventType("Tornado Warning")
+                .build();
+
+        CriteriaSpatialIndex index = CriteriaSpatialIndex.build(List.of(textAndRadius, eventOnly));
+
+        assertTrue(index.candidates(28.5383, -81.3792).containsAll(List.of(textAndRadius, eventOnly)));
+        assertTrue(index.candidates(null, null).containsAll(List.of(textAndRadius, eventOnly)));
+    }
+
+    @Test
+    void shouldExcludeRadiusOnlyCriteriaWhenPointHasNoCoordinates() {
+        AlertCriteria orlando = radiusCriteria("orlando", 28.5383, -81.3792, 25.0);
+
+        CriteriaSpatialIndex index = CriteriaSpatialIndex.build(List.of(orlando));
+
+        assertTrue(index.candidates(null, null).isEmpty());
+        assertFalse(evaluator.matches(orlando, WeatherData.builder().eventType("Flood Warning").build()));
+    }
+
+    @Test
+    void shouldNeverDropCriteriaTheEvaluatorWouldMatch() {
+        AlertCriteria nearAntimeridian = radiusCriteria("antimeridian", 51.0, 179.8, 60.0);
+        AlertCriteria wide = radiusCriteria("wide", 40.0, -100.0, 2500.0);
+        AlertCriteria edge = radiusCriteria("edge", 35.0, -90.0, 111.0);
+
+        CriteriaSpatialIndex index = CriteriaSpatialIndex.build(List.of(nearAntimeridian, wide, edge));
+
+        for (double latitude = 30.0; latitude <= 55.0; latitude += 0.25) {
+            for (double longitude = -180.0; longitude < 180.0; longitude += 0.25) {
+                WeatherData point = WeatherData.builder()
+                        .eventType("Flood Warning")
+                        .latitude(latitude)
+                        .longitude(longitude)
+                        .build();
+                List<AlertCriteria> candidates = index.candidates(latitude, longitude);
+                for (AlertCriteria criteria : List.of(nearAntimeridian, wide, edge)) {
+                    if (evaluator.matches(criteria, point)) {
+                        assertTrue(
+                                candidates.contains(criteria),
+                                () -> criteria.getId() + " missing at " + point.getLatitude() + "," + point.getLongitude());
+                    }
+                }
+            }
+        }
+    }
+
+    private AlertCriteria radiusCriteria(String id, double latitude, double longitude, double radiusKm) {
+        return AlertCriteria.builder()
+                .id(id)
+                .enabled(true)
+                .latitude(latitude)
+                .longitude(longitude)
+                .radiusKm(radiusKm)
+                .build();
+    }
+}
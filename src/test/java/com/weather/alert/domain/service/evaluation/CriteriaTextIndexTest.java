@@ -0,0 +1,87 @@
+package com.weather.alert.domain.service.evaluation;
+
+import com.weather.alert.domain.model.AlertCriteria;
+import com.weather.alert.domain.model.WeatherData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CriteriaTextIndexTest {
+
+    private final AlertCriteriaRuleEvaluator evaluator = new AlertCriteriaRuleEvaluator();
+
+    @Test
+    void shouldKeepCriteriaWhoseLocationAndEventTypeOccurInAlertText() {
+        AlertCriteria orange = criteria("orange", "Orange", null);
+        AlertCriteria orangeCounty = criteria("orange-county", "orange county", "Flood");
+        AlertCriteria range = criteria("range", "RANGE", "Tornado Warning");
+        AlertCriteria seminole = criteria("seminole", "Seminole", null);
+        AlertCriteria anyFlood = criteria("any-flood", null, "flood warning");
+        List<AlertCriteria> all = List.of(orange, orangeCounty, range, seminole, anyFlood);
+        CriteriaTextIndex index = CriteriaTextIndex.build(all);
+        WeatherData alert = WeatherData.builder()
+                .location("Orange County; Osceola")
+                .eventType("Flood Warning")
+                .headline("Flood Warning issued for Orange County")
+                .build();
+
+        assertEquals(List.of(orange, orangeCounty, anyFlood), index.filter(all, alert));
+        assertEquals(7, index.patternCount());
+    }
+
+    @Test
+    void shouldNotRequireLocationTextOfCriteriaThatCanMatchByRadius() {
+        AlertCriteria textOrRadius = criteria("text-or-radius", "Orlando", null);
+        textOrRadius.setLatitude(28.5383);
+        textOrRadius.setLongitude(-81.3792);
+        textOrRadius.setRadiusKm(25.0);
+        AlertCriteria unknown = criteria("unknown", "Miami", null);
+        CriteriaTextIndex index = CriteriaTextIndex.build(List.of(textOrRadius));
+        WeatherData alert = WeatherData.builder().location("Orange, FL").build();
+
+        assertEquals(List.of(textOrRadius, unknown), index.filter(List.of(textOrRadius, unknown), alert));
+    }
+
+    @Test
+    void shouldKeepEveryCriteriaTheRuleEvaluatorMatchesWithOverlappingPatterns() {
+        List<AlertCriteria> all = List.of(
+                criteria("he", "he", null),
+                criteria("she", "SHE", "rain"),
+                criteria("his", "his", "Heavy Rain"),
+                criteria("hers", "hers", null),
+                criteria("strasse", "Stra\u00dfe", null),
+                criteria("rain", null, "RAIN"));
+        CriteriaTextIndex index = CriteriaTextIndex.build(all);
+        List<WeatherData> alerts = List.of(
+                WeatherData.builder().location("USHERS").headline("heavy rain").build(),
+                WeatherData.builder().location("this").eventType("Heavy Rain").build(),
+                WeatherData.builder().location("STRASSE, STRA\u1e9eE").description("Rain").build(),
+                WeatherData.builder().location("she").build());
+
+        for (WeatherData alert : alerts) {
+            List<AlertCriteria> kept = index.filter(all, alert);
+            for (AlertCriteria item : all) {
+                if (evaluator.matches(item, alert)) {
+                    assertTrue(kept.contains(item), item.getId() + " dropped for " + alert.getLocation());
+                }
+            }
+        }
+        assertEquals(List.of("he", "she", "hers", "rain"), ids(index.filter(all, alerts.get(0))));
+        assertEquals(List.of("strasse", "rain"), ids(index.filter(all, alerts.get(2))));
+    }
+
+    private static List<String> ids(List<AlertCriteria> criteria) {
+        return criteria.stream().map(AlertCriteria::getId).toList();
+    }
+
+    private static AlertCriteria criteria(String id, String location, String eventType) {
+        return AlertCriteria.builder()
+                .id(id)
+                .enabled(true)
+                .location(location)
+                .eventType(eventType)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.weather.alert.domain.service.evaluation;
+
+import com.weather.alert.domain.model.AlertCriteria;
+import com.weather.alert.domain.model.WeatherData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CriteriaZoneIndexTest {
+
+    private final AlertCriteriaRuleEvaluator evaluator = new AlertCriteriaRuleEvaluator();
+
+    @Test
+    void shouldReturnCriteriaLocatedInAlertZonesOrCountiesOnce() {
+        AlertCriteria orlando = zonedCriteria("orlando", "FLZ045", "FLC095");
+        AlertCriteria winterPark = zonedCriteria("winter-park", "FLZ045", "FLC095");
+        AlertCriteria miami = zonedCriteria("miami", "FLZ173", "FLC086");
+
+        CriteriaZoneIndex index = CriteriaZoneIndex.build(List.of(orlando, winterPark, miami));
+
+        assertEquals(List.of(orlando, winterPark), index.candidates(List.of("flz045", "FLC095", "FLC117")));
+        assertEquals(List.of(miami), index.candidates(List.of("FLC086")));
+        assertTrue(index.candidates(List.of("GAZ118")).isEmpty());
+        assertTrue(index.candidates(null).isEmpty());
+    }
+
+    @Test
+    void shouldLeaveCriteriaWithLocationTextOrWithoutCodesToSpatialIndex() {
+        AlertCriteria textAndZone = zonedCriteria("text-and-zone", "FLZ045", "FLC095");
+        textAndZone.setLocation("Orange County");
+        AlertCriteria unresolved = zonedCriteria("unresolved", null, null);
+
+        CriteriaZoneIndex index = CriteriaZoneIndex.build(List.of(textAndZone, unresolved));
+
+        assertEquals(0, index.codeCount());
+        assertTrue(CriteriaSpatialIndex.build(List.of(textAndZone)).candidates(null, null).contains(textAndZone));
+    }
+
+    @Test
+    void shouldLeaveRadiusCriteriaOutEvenWithCodes() {
+        AlertCriteria radius = zonedCriteria("radius", "FLZ045", "FLC095");
+        radius.setRadiusKm(25.0);
+
+        CriteriaZoneIndex index = CriteriaZoneIndex.build(List.of(radius));
+
+        assertEquals(0, index.codeCount());
+        assertFalse(evaluator.matches(radius, WeatherData.builder().zoneCodes(List.of("FLC095")).build()));
+    }
+
+    @Test
+    void shouldMatchAlertIssuedForCriteriaZone() {
+        AlertCriteria orlando = zonedCriteria("orlando", "FLZ045", "FLC095");
+
+        assertTrue(evaluator.matches(orlando, WeatherData.builder().zoneCodes(List.of("FLC095")).build()));
+        assertFalse(evaluator.matches(orlando, WeatherData.builder().zoneCodes(List.of("FLZ173")).build()));
+        assertFalse(evaluator.matches(orlando, WeatherData.builder().location("Orange, FL").build()));
+    }
+
+    private AlertCriteria zonedCriteria(String id, String forecastZone, String county) {
+        return AlertCriteria.builder()
+                .id(id)
+                .enabled(true)
+                .latitude(28.5383)
+                .longitude(-81.3792)
+                .forecastZone(forecastZone)
+                .county(county)
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.weather.alert.domain.service.evaluation;
+
+import com.weather.alert.domain.model.AlertCriteria;
+import com.weather.alert.domain.model.WeatherData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ForecastThresholdColumnsTest {
+
+    @Test
+    void shouldFindFirstPeriodEachThresholdIsCrossed() {
+        List<CompiledAlertCriteria> criteria = List.of(
+                compile(AlertCriteria.builder()
+                        .temperatureThreshold(25.0)
+                        .temperatureDirection(AlertCriteria.TemperatureDirection.ABOVE)
+                        .temperatureUnit(AlertCriteria.TemperatureUnit.C)),
+                compile(AlertCriteria.builder()
+                        .temperatureThreshold(50.0)
+                        .temperatureDirection(AlertCriteria.TemperatureDirection.BELOW)
+                        .temperatureUnit(AlertCriteria.TemperatureUnit.F)),
+                compile(AlertCriteria.builder()
+                        .rainThreshold(60.0)
+                        .rainThresholdType(AlertCriteria.RainThresholdType.PROBABILITY)),
+                compile(AlertCriteria.builder().maxWindSpeed(80.0)),
+                compile(AlertCriteria.builder().eventType("Rain")));
+        List<WeatherData> periods = List.of(
+                WeatherData.builder().temperature(20.0).precipitationProbability(60.0).build(),
+                WeatherData.builder().temperature(26.0).windSpeed(30.0).build(),
+                WeatherData.builder().temperature(9.0).build());
+
+        int[] first = ForecastThresholdColumns.build(criteria).firstTriggeredPeriods(periods);
+
+        assertArrayEquals(new int[] {1, 2, 0, 3, 0}, first);
+    }
+
+    @Test
+    void shouldNeverSkipPeriodTheCriteriaMatches() {
+        Random random = new Random(42);
+        List<CompiledAlertCriteria> criteria = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            AlertCriteria.AlertCriteriaBuilder builder = AlertCriteria.builder();
+            switch (random.nextInt(6)) {
+                case 0 -> builder.temperatureThreshold(random.nextInt(120) - 10.0)
+                        .temperatureDirection(random.nextBoolean()
+                                ? AlertCriteria.TemperatureDirection.ABOVE
+                                : AlertCriteria.TemperatureDirection.BELOW)
+                        .temperatureUnit(AlertCriteria.TemperatureUnit.F);
+                case 1 -> builder.maxTemperature(random.nextInt(40) * 1.0).minTemperature(random.nextInt(10) * 1.0);
+                case 2 -> builder.maxWindSpeed(random.nextInt(60) * 1.0);
+                case 3 -> builder.maxPrecipitation(random.nextInt(20) * 1.0);
+                case 4 -> builder.rainThreshold(random.nextInt(10) * 10.0)
+                        .rainThresholdType(random.nextBoolean()
+                                ? AlertCriteria.RainThresholdType.AMOUNT
+                                : AlertCriteria.RainThresholdType.PROBABILITY)
+                        .maxWindSpeed(random.nextBoolean() ? 40.0 : null);
+                default -> builder.eventType("Rain").maxWindSpeed(random.nextInt(60) * 1.0);
+            }
+            criteria.add(compile(builder));
+        }
+        List<WeatherData> periods = new ArrayList<>();
+        for (int i = 0; i < 48; i++) {
+            periods.add(WeatherData.builder()
+                    .headline(i % 7 == 0 ? "Rain Likely" : "Sunny")
+                    .temperature(random.nextInt(12) == 0 ? null : random.nextInt(40) - 5.0)
+                    .windSpeed(random.nextInt(50) * 1.0)
+                    .precipitation(random.nextInt(10) * 1.0)
+                    .precipitationProbability(random.nextInt(3) == 0 ? null : random.nextInt(100) * 1.0)
+                    .build());
+        }
+
+        int[] first = ForecastThresholdColumns.build(criteria).firstTriggeredPeriods(periods);
+
+        for (int owner = 0; owner < criteria.size(); owner++) {
+            int expected = periods.size();
+            for (int period = 0; period < periods.size(); period++) {
+                if (criteria.get(owner).matchesAtOwnLocation(periods.get(period))) {
+                    expected = period;
+                    break;
+                }
+            }
+            assertTrue(first[owner] <= expected, "criteria " + owner + " skipped its first match");
+        }
+    }
+
+    private static CompiledAlertCriteria compile(AlertCriteria.AlertCriteriaBuilder builder) {
+        return CompiledAlertCriteria.compile(builder.enabled(true).build());
+    }
+}
@@ -0,0 +1,138 @@
+package com.weather.alert.infrastructure.adapter.elasticsearch;
+
+import com.weather.alert.infrastructure.config.ElasticsearchBulkIndexProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ElasticsearchBulkIndexerTest {
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ElasticsearchBulkIndexer indexer;
+
+    @AfterEach
+    void tearDown() {
+        if (indexer != null) {
+            indexer.shutdown();
+        }
+    }
+
+    @Test
+    void shouldSendBufferedDocumentsAsOneBulkRequestKeepingLatestVersionPerId() {
+        indexer = new ElasticsearchBulkIndexer(elasticsearchOperations, properties(3), meterRegistry);
+        List<List<IndexQuery>> requests = captureBulkRequests();
+
+        indexer.enqueue(document("alert-1", "first"));
+        indexer.enqueue(document("alert-2", "only"));
+        indexer.enqueue(document("alert-1", "second"));
+        indexer.flush();
+
+        assertEquals(1, requests.size());
+        List<IndexQuery> queries = requests.get(0);
+        assertEquals(List.of("alert-1", "alert-2"), queries.stream().map(IndexQuery::getId).toList());
+        assertEquals("second", ((WeatherDataDocument) queries.get(0).getObject()).getHeadline());
+        assertEquals(2.0, meterRegistry.counter("weather.es.bulk.documents", "outcome", "indexed").count());
+        assertEquals(1, meterRegistry.timer("weather.es.bulk.flush.duration").count());
+    }
+
+    @Test
+    void shouldRetryOnlyRejectedDocumentsUntilMaxAttempts() {
+        indexer = new ElasticsearchBulkIndexer(elasticsearchOperations, properties(10), meterRegistry);
+        List<List<IndexQuery>> requests = captureBulkRequests(
+                Map.of("alert-2", new BulkFailureException.FailureDetails(429, "rejected")));
+
+        indexer.enqueue(document("alert-1", "ok"));
+        indexer.enqueue(document("alert-2", "rejected"));
+        indexer.flush();
+        indexer.flush();
+        indexer.flush();
+        indexer.flush();
+
+        assertEquals(List.of("alert-1", "alert-2"), requests.get(0).stream().map(IndexQuery::getId).toList());
+        assertEquals(List.of("alert-2"), requests.get(1).stream().map(IndexQuery::getId).toList());
+        assertEquals(List.of("alert-2"), requests.get(2).stream().map(IndexQuery::getId).toList());
+        assertEquals(3, requests.size());
+        assertEquals(0, indexer.bufferedCount());
+        assertEquals(1.0, meterRegistry.counter("weather.es.bulk.documents", "outcome", "indexed").count());
+        assertEquals(2.0, meterRegistry.counter("weather.es.bulk.documents", "outcome", "retried").count());
+        assertEquals(1.0, meterRegistry.counter("weather.es.bulk.documents", "outcome", "failed").count());
+    }
+
+    @Test
+    void shouldDropDocumentsWhenBufferIsFullAndPolicyIsDrop() {
+        ElasticsearchBulkIndexProperties properties = properties(100);
+        properties.setQueueCapacity(2);
+        properties.setOverflowPolicy(ElasticsearchBulkIndexProperties.OverflowPolicy.DROP);
+        indexer = new ElasticsearchBulkIndexer(elasticsearchOperations, properties, meterRegistry);
+
+        assertTrue(indexer.enqueue(document("alert-1", "one")));
+        assertTrue(indexer.enqueue(document("alert-2", "two")));
+        assertFalse(indexer.enqueue(document("alert-3", "three")));
+
+        assertEquals(2, indexer.bufferedCount());
+        assertEquals(1.0, meterRegistry.counter("weather.es.bulk.documents", "outcome", "dropped").count());
+        assertEquals(2.0, meterRegistry.get("weather.es.bulk.queue.depth").gauge().value());
+    }
+
+    private List<List<IndexQuery>> captureBulkRequests() {
+        return captureBulkRequests(Map.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<IndexQuery>> captureBulkRequests(Map<String, BulkFailureException.FailureDetails> failures) {
+        List<List<IndexQuery>> requests = new ArrayList<>();
+        when(elasticsearchOperations.bulkIndex(anyList(), eq(WeatherDataDocument.class))).thenAnswer(invocation -> {
+            List<IndexQuery> queries = new ArrayList<>((List<IndexQuery>) invocation.getArgument(0));
+            requests.add(queries);
+            Map<String, BulkFailureException.FailureDetails> failed = new HashMap<>();
+            for (IndexQuery query : queries) {
+                if (failures.containsKey(query.getId())) {
+                    failed.put(query.getId(), failures.get(query.getId()));
+                }
+            }
+            if (!failed.isEmpty()) {
+                throw new BulkFailureException("bulk failed", failed);
+            }
+            return List.of();
+        });
+        return requests;
+    }
+
+    private ElasticsearchBulkIndexProperties properties(int batchSize) {
+        ElasticsearchBulkIndexProperties properties = new ElasticsearchBulkIndexProperties();
+        properties.setBatchSize(batchSize);
+        properties.setFlushIntervalMillis(60_000);
+        properties.setMaxAttempts(3);
+        return properties;
+    }
+
+    private WeatherDataDocument document(String id, String headline) {
+        return WeatherDataDocument.builder()
+                .id(id)
+                .headline(headline)
+                .eventType("Flood Warning")
+                .build();
+    }
+}
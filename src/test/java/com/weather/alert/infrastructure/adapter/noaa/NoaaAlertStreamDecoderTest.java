@@ -0,0 +1,91 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NoaaAlertStreamDecoderTest {
+
+    private static final String FEED = """
+            {
+              "@context": ["https://geojson.org/geojson-ld/geojson-context.jsonld", {"@version": "1.1"}],
+              "type": "FeatureCollection",
+              "features": [
+                {
+                  "id": "alert-1",
+                  "type": "Feature",
+                  "geometry": {"type": "Polygon", "coordinates": [[[-97.1, 32.7], [-97.0, 32.8], [-97.1, 32.7]]]},
+                  "properties": {"event": "Tornado Warning", "severity": "Extreme", "parameters": {"VTEC": ["x"]}}
+                },
+                {
+                  "id": "alert-2",
+                  "type": "Feature",
+                  "geometry": null,
+                  "properties": {"event": "Flood Watch", "severity": "Moderate", "headline": "Braces } and ] in text"}
+                }
+              ],
+              "title": "Current watches, warnings, and advisories",
+              "pagination": {"next": "https://api.weather.gov/alerts/active?cursor=abc"}
+            }
+            """;
+
+    @Test
+    void shouldDecodeFeaturesSplitAcrossArbitraryBuffers() {
+        for (int chunkSize : new int[]{1, 7, 64, FEED.length()}) {
+            List<String> events = NoaaAlertStreamDecoder
+                    .decode(chunks(FEED, chunkSize), feature -> feature.getId() + ":" + feature.getProperties().getEvent())
+                    .block();
+
+            assertEquals(List.of("alert-1:Tornado Warning", "alert-2:Flood Watch"), events, "chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    void shouldSkipFeaturesMappedToNull() {
+        List<String> events = NoaaAlertStreamDecoder
+                .decode(chunks(FEED, 16), feature -> "Extreme".equals(feature.getProperties().getSeverity())
+                        ? feature.getId()
+                        : null)
+                .block();
+
+        assertEquals(List.of("alert-1"), events);
+    }
+
+    @Test
+    void shouldReturnEmptyListWhenFeedHasNoFeatures() {
+        List<String> events = NoaaAlertStreamDecoder
+                .decode(chunks("{\"type\":\"FeatureCollection\",\"features\":[]}", 5), NoaaAlertFeature::getId)
+                .block();
+
+        assertEquals(List.of(), events);
+    }
+
+    @Test
+    void shouldFailOnTruncatedDocument() {
+        String truncated = FEED.substring(0, FEED.indexOf("alert-2"));
+
+        assertThrows(RuntimeException.class, () -> NoaaAlertStreamDecoder
+                .decode(chunks(truncated, 32), NoaaAlertFeature::getId)
+                .block());
+    }
+
+    private static Flux<DataBuffer> chunks(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int start = 0; start < bytes.length; start += chunkSize) {
+            int length = Math.min(chunkSize, bytes.length - start);
+            DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(length);
+            buffer.write(bytes, start, length);
+            buffers.add(buffer);
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
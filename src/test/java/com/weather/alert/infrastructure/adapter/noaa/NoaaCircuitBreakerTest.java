@@ -0,0 +1,110 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NoaaCircuitBreakerTest {
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-02-24T12:00:00Z"));
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    };
+
+    @Test
+    void shouldOpenOnlyOnceMinimumCallsReachFailureRate() {
+        NoaaCircuitBreaker breaker = new NoaaCircuitBreaker(10, 4, 50, Duration.ofSeconds(30), 1, clock);
+
+        call(breaker, false);
+        call(breaker, true);
+        call(breaker, true);
+        assertEquals(NoaaCircuitBreaker.State.CLOSED, breaker.state());
+
+        call(breaker, false);
+        assertEquals(NoaaCircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(50.0, breaker.failureRate());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void shouldForgetOutcomesThatSlideOutOfWindow() {
+        NoaaCircuitBreaker breaker = new NoaaCircuitBreaker(4, 4, 50, Duration.ofSeconds(30), 1, clock);
+
+        call(breaker, true);
+        call(breaker, false);
+        call(breaker, false);
+        call(breaker, false);
+        call(breaker, false);
+
+        assertEquals(4, breaker.bufferedCalls());
+        assertEquals(0.0, breaker.failureRate());
+        call(breaker, true);
+        assertEquals(NoaaCircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulHalfOpenProbes() {
+        NoaaCircuitBreaker breaker = new NoaaCircuitBreaker(10, 1, 50, Duration.ofSeconds(30), 2, clock);
+        call(breaker, true);
+        assertEquals(NoaaCircuitBreaker.State.OPEN, breaker.state());
+
+        now.set(now.get().plusSeconds(31));
+        assertEquals(NoaaCircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+
+        breaker.onSuccess();
+        assertEquals(NoaaCircuitBreaker.State.HALF_OPEN, breaker.state());
+        breaker.onSuccess();
+        assertEquals(NoaaCircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0, breaker.bufferedCalls());
+    }
+
+    @Test
+    void shouldReopenOnFailedProbeAndReturnCancelledProbes() {
+        NoaaCircuitBreaker breaker = new NoaaCircuitBreaker(10, 1, 50, Duration.ofSeconds(30), 1, clock);
+        call(breaker, true);
+        now.set(now.get().plusSeconds(31));
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+        breaker.onCancel();
+        assertTrue(breaker.tryAcquirePermission());
+
+        breaker.onFailure();
+        assertEquals(NoaaCircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(now.get().plusSeconds(30), breaker.openUntil());
+    }
+
+    private static void call(NoaaCircuitBreaker breaker, boolean failed) {
+        assertTrue(breaker.tryAcquirePermission());
+        if (failed) {
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NoaaHedgePolicyTest {
+
+    @Test
+    void shouldHedgeAtTrackedPercentileOnceEnoughSamplesAreKnown() {
+        NoaaHedgePolicy policy = new NoaaHedgePolicy(100, 10, 90, 100, Duration.ofMillis(1), Duration.ofSeconds(8));
+
+        for (int i = 1; i <= 9; i++) {
+            policy.recordLatency(Duration.ofMillis(i * 10L).toNanos());
+        }
+        assertNull(policy.onRequest());
+
+        policy.recordLatency(Duration.ofMillis(100).toNanos());
+        assertEquals(Duration.ofMillis(90), policy.onRequest());
+    }
+
+    @Test
+    void shouldNotHedgeBelowMinimumOrBeyondMaximumDelay() {
+        NoaaHedgePolicy policy = new NoaaHedgePolicy(10, 1, 95, 100, Duration.ofMillis(50), Duration.ofSeconds(1));
+
+        policy.recordLatency(Duration.ofMillis(5).toNanos());
+        assertEquals(Duration.ofMillis(50), policy.onRequest());
+
+        for (int i = 0; i < 10; i++) {
+            policy.recordLatency(Duration.ofSeconds(2).toNanos());
+        }
+        policy.recordLatency(Duration.ofSeconds(2).toNanos());
+        assertNull(policy.onRequest());
+    }
+
+    @Test
+    void shouldLimitHedgesToBudgetShareOfRequests() {
+        NoaaHedgePolicy policy = new NoaaHedgePolicy(10, 1, 95, 25, Duration.ofMillis(1), Duration.ofSeconds(8));
+
+        int hedges = 0;
+        for (int i = 0; i < 100; i++) {
+            policy.onRequest();
+            if (policy.tryAcquireHedge()) {
+                hedges++;
+            }
+        }
+
+        assertEquals(25, hedges);
+        assertFalse(policy.tryAcquireHedge());
+    }
+
+    @Test
+    void shouldEstimateExpectedLatencyOfRequestsSlowerThanThreshold() {
+        NoaaHedgePolicy policy = new NoaaHedgePolicy(10, 1, 95, 5, Duration.ofMillis(1), Duration.ofSeconds(8));
+        for (long millis : new long[]{10, 20, 30, 400, 600}) {
+            policy.recordLatency(Duration.ofMillis(millis).toNanos());
+        }
+
+        assertEquals(Duration.ofMillis(500).toNanos(), policy.expectedLatencyBeyond(Duration.ofMillis(30)));
+        assertEquals(0L, policy.expectedLatencyBeyond(Duration.ofSeconds(1)));
+        assertTrue(policy.expectedLatencyBeyond(Duration.ZERO) > 0);
+    }
+}
@@ -0,0 +1,59 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import com.weather.alert.domain.model.GridPoint;
+import com.weather.alert.domain.model.PointMetadata;
+import com.weather.alert.domain.port.PointMetadataRepositoryPort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class NoaaPointMetadataStoreTest {
+
+    private final NoaaPointMetadataStore store = new NoaaPointMetadataStore(
+            mock(PointMetadataRepositoryPort.class),
+            Duration.ofHours(168),
+            2,
+            Clock.fixed(Instant.parse("2026-03-01T12:00:00Z"), ZoneOffset.UTC));
+
+    @Test
+    void shouldEvictLeastRecentlyUsedCoordinateBeyondMaxEntries() {
+        store.store(metadata(28.5383, -81.3792));
+        store.store(metadata(30.3322, -81.6557));
+        store.warm(28.5383, -81.3792);
+        store.store(metadata(27.9506, -82.4572));
+
+        assertEquals(2, store.size());
+        assertNotNull(store.warm(28.5383, -81.3792));
+        assertNull(store.warm(30.3322, -81.6557));
+        assertNotNull(store.warm(27.9506, -82.4572));
+    }
+
+    @Test
+    void shouldBoundGridStationBindings() {
+        store.bindStation(new GridPoint("MLB", 26, 68), "KORL", "Orlando Executive Airport");
+        store.bindStation(new GridPoint("JAX", 65, 66), "KJAX", "Jacksonville International Airport");
+        store.bindStation(new GridPoint("TBW", 71, 98), "KTPA", "Tampa International Airport");
+
+        assertTrue(store.stationFor(new GridPoint("MLB", 26, 68)).isEmpty());
+        assertEquals("KTPA", store.stationFor(new GridPoint("TBW", 71, 98)).orElseThrow().id());
+    }
+
+    private static PointMetadata metadata(double latitude, double longitude) {
+        return PointMetadata.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .gridId("MLB")
+                .gridX(26)
+                .gridY(68)
+                .build();
+    }
+}
@@ -0,0 +1,136 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NoaaRefreshScheduleTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-24T12:00:00Z");
+    private static final Supplier<Mono<NoaaRefreshSchedule.Outcome>> REFRESH = Mono::empty;
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    };
+
+    @Test
+    void shouldRefreshAtExpiryStretchedByJitter() {
+        NoaaRefreshSchedule schedule = newSchedule(50, fixed(0.5));
+
+        schedule.track("/forecast", "hourly_forecast", REFRESH, NOW.plus(Duration.ofMinutes(10)));
+
+        Instant next = schedule.nextRefreshAt("/forecast");
+        assertEquals(NOW.plus(Duration.ofSeconds(750)), next);
+        now.set(next.plusSeconds(5));
+        assertTrue(schedule.isCurrent("/forecast"));
+        now.set(next.plusSeconds(11));
+        assertFalse(schedule.isCurrent("/forecast"));
+    }
+
+    @Test
+    void shouldStretchIntervalOfDocumentThatRarelyChanges() {
+        NoaaRefreshSchedule schedule = newSchedule(0, fixed(0));
+        schedule.track("/obs", "latest_observation", REFRESH, NOW.plus(Duration.ofMinutes(2)));
+
+        Instant later = NOW.plus(Duration.ofMinutes(20));
+        now.set(later);
+        assertEquals(1, schedule.due(10).size());
+        schedule.completed("/obs", new NoaaRefreshSchedule.Outcome(true, false, later.plus(Duration.ofMinutes(2))));
+        assertEquals(later.plus(Duration.ofMinutes(10)), schedule.nextRefreshAt("/obs"));
+
+        Instant muchLater = NOW.plus(Duration.ofMinutes(120));
+        now.set(muchLater.minus(Duration.ofMinutes(5)));
+        schedule.isCurrent("/obs");
+        now.set(muchLater);
+        schedule.due(10);
+        schedule.completed("/obs", new NoaaRefreshSchedule.Outcome(true, false, muchLater.plusSeconds(30)));
+        assertEquals(muchLater.plus(Duration.ofMinutes(30)), schedule.nextRefreshAt("/obs"));
+    }
+
+    @Test
+    void shouldBackOffFailedRefreshesAndStopServingOverdueSnapshot() {
+        NoaaRefreshSchedule schedule = newSchedule(0, fixed(0));
+        schedule.track("/obs", "latest_observation", REFRESH, NOW.plus(Duration.ofMinutes(5)));
+        Instant due = schedule.nextRefreshAt("/obs");
+
+        now.set(due);
+        schedule.due(10);
+        schedule.completed("/obs", NoaaRefreshSchedule.Outcome.failed());
+        assertEquals(due.plus(Duration.ofMinutes(1)), schedule.nextRefreshAt("/obs"));
+        now.set(due.plus(Duration.ofMinutes(1)));
+        schedule.due(10);
+        schedule.completed("/obs", NoaaRefreshSchedule.Outcome.failed());
+        assertEquals(due.plus(Duration.ofMinutes(3)), schedule.nextRefreshAt("/obs"));
+
+        assertFalse(schedule.isCurrent("/obs"));
+    }
+
+    @Test
+    void shouldClaimDueRefreshesEarliestFirstAndDropIdleDocuments() {
+        NoaaRefreshSchedule schedule = newSchedule(0, fixed(0));
+        now.set(NOW.minus(Duration.ofMinutes(50)));
+        schedule.track("/idle", "hourly_forecast", REFRESH, NOW.plus(Duration.ofMinutes(3)));
+        now.set(NOW);
+        schedule.track("/late", "hourly_forecast", REFRESH, NOW.plus(Duration.ofMinutes(4)));
+        schedule.track("/early", "hourly_forecast", REFRESH, NOW.plus(Duration.ofMinutes(2)));
+
+        now.set(NOW.plus(Duration.ofMinutes(15)));
+        List<NoaaRefreshSchedule.Due> due = schedule.due(1);
+
+        assertEquals(List.of("/early"), due.stream().map(NoaaRefreshSchedule.Due::key).toList());
+        assertEquals(2, schedule.size());
+        assertTrue(schedule.due(10).stream().noneMatch(d -> d.key().equals("/early")));
+    }
+
+    private NoaaRefreshSchedule newSchedule(double jitterPercent, RandomGenerator random) {
+        return new NoaaRefreshSchedule(
+                Duration.ofMinutes(1),
+                Duration.ofMinutes(30),
+                jitterPercent,
+                Duration.ofSeconds(10),
+                Duration.ofMinutes(30),
+                random,
+                clock);
+    }
+
+    private static RandomGenerator fixed(double value) {
+        return new RandomGenerator() {
+            @Override
+            public long nextLong() {
+                return 0L;
+            }
+
+            @Override
+            public double nextDouble() {
+                return value;
+            }
+        };
+    }
+}
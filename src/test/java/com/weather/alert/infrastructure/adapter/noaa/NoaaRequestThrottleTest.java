@@ -0,0 +1,87 @@
+package com.weather.alert.infrastructure.adapter.noaa;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NoaaRequestThrottleTest {
+
+    @Test
+    void shouldAllowBurstThenSpaceTokensByInterval() {
+        AtomicLong now = new AtomicLong();
+        NoaaRequestThrottle throttle = new NoaaRequestThrottle(100, 2, 4, now::get);
+
+        assertEquals(0L, throttle.reserveToken());
+        assertEquals(0L, throttle.reserveToken());
+        assertEquals(Duration.ofMillis(100).toNanos(), throttle.reserveToken());
+        assertEquals(Duration.ofMillis(200).toNanos(), throttle.reserveToken());
+
+        now.addAndGet(Duration.ofMillis(250).toNanos());
+        assertEquals(Duration.ofMillis(50).toNanos(), throttle.reserveToken());
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertEquals(0L, throttle.reserveToken());
+        assertEquals(0L, throttle.reserveToken());
+        assertEquals(Duration.ofMillis(100).toNanos(), throttle.reserveToken());
+    }
+
+    @Test
+    void shouldNotPaceWhenIntervalIsZero() {
+        NoaaRequestThrottle throttle = new NoaaRequestThrottle(0, 1, 1);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0L, throttle.reserveToken());
+        }
+    }
+
+    @Test
+    void shouldQueueRequestsBeyondConcurrencyLimitWithoutBlocking() {
+        NoaaRequestThrottle throttle = new NoaaRequestThrottle(0, 1, 2);
+        List<Sinks.One<String>> responses = List.of(Sinks.one(), Sinks.one(), Sinks.one());
+        List<String> completed = new CopyOnWriteArrayList<>();
+
+        for (Sinks.One<String> response : responses) {
+            throttle.withSlot(response.asMono()).subscribe(completed::add);
+        }
+
+        assertEquals(2, throttle.inFlight());
+        assertEquals(1, throttle.waiting());
+
+        responses.get(0).tryEmitValue("first");
+        assertEquals(2, throttle.inFlight());
+        assertEquals(0, throttle.waiting());
+
+        responses.get(1).tryEmitValue("second");
+        responses.get(2).tryEmitValue("third");
+        assertEquals(List.of("first", "second", "third"), completed);
+        assertEquals(0, throttle.inFlight());
+    }
+
+    @Test
+    void shouldReleaseSlotsOfCancelledAndFailedRequests() {
+        NoaaRequestThrottle throttle = new NoaaRequestThrottle(0, 1, 1);
+        Sinks.One<String> running = Sinks.one();
+
+        Disposable holder = throttle.withSlot(running.asMono()).subscribe();
+        Disposable queued = throttle.withSlot(Mono.just("queued")).subscribe();
+        assertEquals(1, throttle.waiting());
+
+        queued.dispose();
+        assertEquals(0, throttle.waiting());
+        assertEquals(1, throttle.inFlight());
+
+        holder.dispose();
+        assertEquals(0, throttle.inFlight());
+
+        throttle.withSlot(Mono.error(new IllegalStateException("boom"))).subscribe(value -> { }, error -> { });
+        assertEquals(0, throttle.inFlight());
+    }
+}
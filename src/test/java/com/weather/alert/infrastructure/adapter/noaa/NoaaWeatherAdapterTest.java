@@ -1,31 +1,58 @@
 package com.weather.alert.infrastructure.adapter.noaa;
 
+import com.weather.alert.domain.model.GridPoint;
 import com.weather.alert.domain.model.WeatherData;
+import com.weather.alert.domain.model.PointMetadata;
+import com.weather.alert.domain.port.PointMetadataRepositoryPort;
+import com.weather.alert.domain.port.WeatherFetchResult;
+import com.weather.alert.infrastructure.config.NoaaClientProperties;
+import com.weather.alert.infrastructure.config.NoaaHedgingProperties;
+import com.weather.alert.infrastructure.config.NoaaRefreshProperties;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class NoaaWeatherAdapterTest {
 
     private MockWebServer server;
+    private PointMetadataRepositoryPort pointMetadataRepository;
 
     @BeforeEach
     void setUp() throws IOException {
         server = new MockWebServer();
         server.start();
+        pointMetadataRepository = mock(PointMetadataRepositoryPort.class);
     }
 
     @AfterEach
@@ -148,6 +175,49 @@ class NoaaWeatherAdapterTest {
         assertEquals(70.0, period.getHumidity(), 0.01);
     }
 
+    @Test
+    void shouldResolveGridpointAndFetchFullForecastForIt() throws InterruptedException {
+        Instant inTwelveHours = Instant.now().plus(12, ChronoUnit.HOURS);
+        Instant inOneHundredHours = Instant.now().plus(100, ChronoUnit.HOURS);
+
+        server.enqueue(jsonResponse("""
+                {
+                  "properties": {
+                    "gridId": "MLB",
+                    "gridX": 26,
+                    "gridY": 68,
+                    "forecastHourly": "%s",
+                    "observationStations": "%s"
+                  }
+                }
+                """.formatted(
+                server.url("/gridpoints/MLB/26,68/forecast/hourly"),
+                server.url("/gridpoints/MLB/26,68/stations"))));
+        server.enqueue(jsonResponse("""
+                {
+                  "properties": {
+                    "periods": [
+                      {"startTime": "%s", "temperature": 70, "temperatureUnit": "F", "shortForecast": "Showers"},
+                      {"startTime": "%s", "temperature": 75, "temperatureUnit": "F", "shortForecast": "Sunny"}
+                    ]
+                  }
+                }
+                """.formatted(inTwelveHours, inOneHundredHours)));
+
+        NoaaWeatherAdapter adapter = newAdapter(server.url("/").toString(), 2, 0, 100);
+
+        Optional<GridPoint> gridPoint = adapter.resolveGridPointWithStatus(28.5383, -81.3792).data();
+        assertEquals(Optional.of(new GridPoint("MLB", 26, 68)), gridPoint);
+
+        WeatherFetchResult<List<WeatherData>> forecast = adapter.fetchForecastConditionsWithStatus(gridPoint.get());
+
+        assertTrue(forecast.successful());
+        assertEquals(2, forecast.data().size());
+        assertEquals("grid=MLB/26,68", forecast.data().get(0).getLocation());
+        server.takeRequest();
+        assertEquals("/gridpoints/MLB/26,68/forecast/hourly", server.takeRequest().getPath());
+    }
+
     @Test
     void shouldFallbackToEmptyWhenNoaaReturnsError() {
         server.enqueue(new MockResponse().setResponseCode(500).setBody("{\"error\":\"boom\"}"));
@@ -179,15 +249,10 @@ class NoaaWeatherAdapterTest {
         server.enqueue(new MockResponse().setResponseCode(500).setBody("{\"error\":\"boom\"}"));
 
         WebClient webClient = WebClient.builder().baseUrl(server.url("/").toString()).build();
+        NoaaClientProperties client = clientProperties();
+        client.setOutageFailureThreshold(1);
         NoaaWeatherAdapter adapter = new NoaaWeatherAdapter(
-                webClient,
-                new SimpleMeterRegistry(),
-                2,
-                0,
-                100,
-                0,
-                1,
-                30);
+                webClient, new SimpleMeterRegistry(), pointMetadataRepository, client, new NoaaHedgingProperties(), new NoaaRefreshProperties());
 
         Optional<WeatherData> first = adapter.fetchCurrentConditions(10.0, 10.0);
         Optional<WeatherData> second = adapter.fetchCurrentConditions(10.0, 10.0);
@@ -197,17 +262,504 @@ class NoaaWeatherAdapterTest {
         assertEquals(1, server.getRequestCount());
     }
 
+    @Test
+    void shouldOpenCircuitOnlyForFailingOperation() {
+        server.enqueue(new MockResponse().setResponseCode(500).setBody("{\"error\":\"boom\"}"));
+        server.enqueue(jsonResponse("{\"features\": []}"));
+
+        WebClient webClient = WebClient.builder().baseUrl(server.url("/").toString()).build();
+        NoaaClientProperties client = clientProperties();
+        client.setOutageFailureThreshold(1);
+        NoaaWeatherAdapter adapter = new NoaaWeatherAdapter(
+                webClient, new SimpleMeterRegistry(), pointMetadataRepository, client, new NoaaHedgingProperties(), new NoaaRefreshProperties());
+        GridPoint gridPoint = new GridPoint("MLB", 26, 68);
+
+        assertFalse(adapter.fetchForecastConditionsWithStatus(gridPoint).successful());
+        assertFalse(adapter.fetchForecastConditionsWithStatus(gridPoint).successful());
+        assertTrue(adapter.fetchActiveAlertsWithStatus().successful());
+
+        assertEquals(2, server.getRequestCount());
+        assertEquals("OPEN", adapter.operationStates().get("hourly_forecast").circuit());
+        assertEquals("CLOSED", adapter.operationStates().get("active_alerts").circuit());
+    }
+
+    @Test
+    void shouldHedgeSlowRequestAndUseFasterDuplicate() {
+        server.enqueue(jsonResponse("{\"features\": []}"));
+        server.enqueue(jsonResponse("{\"features\": []}").setHeadersDelay(3, TimeUnit.SECONDS));
+        server.enqueue(jsonResponse("""
+                {"features": [{"id": "urn:oid:alert-2", "properties": {"event": "Heat Advisory"}}]}
+                """));
+
+        NoaaHedgingProperties hedging = new NoaaHedgingProperties();
+        hedging.setEnabled(true);
+        hedging.setMinSamples(1);
+        hedging.setBudgetPercent(100);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WebClient webClient = WebClient.builder().baseUrl(server.url("/").toString()).build();
+        NoaaClientProperties client = clientProperties();
+        client.setRequestTimeoutSeconds(5);
+        NoaaWeatherAdapter adapter = new NoaaWeatherAdapter(
+                webClient, meterRegistry, pointMetadataRepository, client, hedging, new NoaaRefreshProperties());
+
+        assertTrue(adapter.fetchAlertsForState("FL").isEmpty());
+        long start = System.nanoTime();
+        List<WeatherData> hedged = adapter.fetchAlertsForState("TX");
+
+        assertEquals("Heat Advisory", hedged.get(0).getEventType());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(3));
+        assertEquals(3, server.getRequestCount());
+        assertEquals(1.0, meterRegistry.counter(
+                "weather.noaa.hedge.requests", "operation", "alerts_for_state", "outcome", "sent").count());
+        assertEquals(1.0, meterRegistry.counter(
+                "weather.noaa.hedge.requests", "operation", "alerts_for_state", "outcome", "won").count());
+    }
+
+    @Test
+    void shouldKeepWaitingForPrimaryWhenHedgeFails() {
+        server.enqueue(jsonResponse("{\"features\": []}"));
+        server.enqueue(jsonResponse("""
+                {"features": [{"id": "urn:oid:alert-1", "properties": {"event": "Heat Advisory"}}]}
+                """).setHeadersDelay(1, TimeUnit.SECONDS));
+        server.enqueue(new MockResponse().setResponseCode(503).setBody("{\"error\":\"unavailable\"}"));
+
+        NoaaHedgingProperties hedging = new NoaaHedgingProperties();
+        hedging.setEnabled(true);
+        hedging.setMinSamples(1);
+        hedging.setBudgetPercent(100);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WebClient webClient = WebClient.builder().baseUrl(server.url("/").toString()).build();
+        NoaaClientProperties client = clientProperties();
+        client.setRequestTimeoutSeconds(5);
+        NoaaWeatherAdapter adapter = new NoaaWeatherAdapter(
+                webClient, meterRegistry, pointMetadataRepository, client, hedging, new NoaaRefreshProperties());
+
+        assertTrue(adapter.fetchAlertsForState("FL").isEmpty());
+        List<WeatherData> alerts = adapter.fetchAlertsForState("TX");
+
+        assertEquals(1, alerts.size());
+        assertEquals("Heat Advisory", alerts.get(0).getEventType());
+        assertEquals(3, server.getRequestCount());
+        assertEquals(1.0, meterRegistry.counter(
+                "weather.noaa.hedge.requests", "operation", "alerts_for_state", "outcome", "sent").count());
+        assertEquals(0.0, meterRegistry.counter(
+                "weather.noaa.hedge.requests", "operation", "alerts_for_state", "outcome", "won").count());
+    }
+
+    @Test
+    void shouldFailActiveAlertsInsteadOfServingStaleFeedWhenRefreshFails() {
+        server.enqueue(jsonResponse("""
+                {"features": [{"id": "urn:oid:alert-1", "properties": {"event": "Flood Warning"}}]}
+                """).setHeader("ETag", "\"v1\""));
+        server.enqueue(new MockResponse().setResponseCode(503).setBody("{\"error\":\"unavailable\"}"));
+
+        NoaaWeatherAdapter adapter = newAdapter(server.url("/").toString(), 2, 0, 100);
+
+        assertTrue(adapter.fetchActiveAlertsWithStatus().successful());
+        WeatherFetchResult<List<WeatherData>> failed = adapter.fetchActiveAlertsWithStatus();
+
+        assertFalse(failed.successful());
+        assertFalse(failed.stale());
+        assertTrue(failed.data().isEmpty());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    void shouldMapCachedActiveAlertsAfreshOnEveryRead() throws InterruptedException {
+        server.enqueue(jsonResponse("""
+                {"features": [{"id": "urn:oid:alert-1", "properties": {"event": "Flood Warning", "headline": "Flood Warning issued"}}]}
+                """).setHeader("Cache-Control", "public, max-age=600"));
+
+        NoaaWeatherAdapter adapter = newAdapter(server.url("/").toString(), 2, 0, 100);
+
+        WeatherData first = adapter.fetchActiveAlertsWithStatus().data().get(0);
+        first.setHeadline("changed by a caller");
+        Thread.sleep(5);
+        WeatherData second = adapter.fetchActiveAlertsWithStatus().data().get(0);
+
+        assertNotSame(first, second);
+        assertEquals("Flood Warning issued", second.getHeadline());
+        assertTrue(second.getTimestamp().isAfter(first.getTimestamp()));
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void shouldRevalidateActiveAlertsAndReuseCachedBodyOnNotModified() throws InterruptedException {
+        server.enqueue(jsonResponse("""
+                {
+                  "features": [
+                    {
+                      "id": "urn:oid:alert-1",
+                      "geometry": {
+                        "type": "Polygon",
+                        "coordinates": [[[-81.45, 28.65], [-81.20, 28.65], [-81.20, 28.80], [-81.45, 28.65]]]
+                      },
+                      "properties": {
+                        "areaDesc": "Orange County",
+                        "geocode": {"SAME": ["012095"], "UGC": ["FLC095"]},
+                        "event": "Flood Warning",
+                        "severity": "Severe",
+                        "headline": "Flood Warning issued"
+                      }
+                    }
+                  ]
+                }
+                """).setHeader("ETag", "\"v1\"").setHeader("Last-Modified", "Tue, 24 Feb 2026 19:00:00 GMT"));
+        server.enqueue(new MockResponse().setResponseCode(304).setHeader("ETag", "\"v1\""));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WebClient webClient = WebClient.builder().baseUrl(server.url("/").toString()).build();
+        NoaaWeatherAdapter adapter = new NoaaWeatherAdapter(
+                webClient, meterRegistry, pointMetadataRepository, clientProperties(), new NoaaHedgingProperties(), new NoaaRefreshProperties());
+
+        WeatherFetchResult<List<WeatherData>> first = adapter.fetchActiveAlertsWithStatus();
+        WeatherFetchResult<List<WeatherData>> second = adapter.fetchActiveAlertsWithStatus();
+
+        assertTrue(second.successful());
+        assertEquals(1, second.data().size());
+        assertEquals(first.data().get(0).getId(), second.data().get(0).getId());
+        assertEquals("Flood Warning", second.data().get(0).getEventType());
+        assertEquals(List.of("FLC095"), second.data().get(0).getZoneCodes());
+        assertTrue(second.data().get(0).getGeometry().contains(28.7, -81.25));
+
+        assertNull(server.takeRequest(1, TimeUnit.SECONDS).getHeader("If-None-Match"));
+        RecordedRequest revalidation = server.takeRequest(1, TimeUnit.SECONDS);
+        assertEquals("\"v1\"", revalidation.getHeader("If-None-Match"));
+        assertEquals("Tue, 24 Feb 2026 19:00:00 GMT", revalidation.getHeader("If-Modified-Since"));
+        assertEquals(1.0, meterRegistry.counter(
+                "weather.noaa.conditional.requests", "operation", "active_alerts", "outcome", "hit").count());
+        assertEquals(1.0, meterRegistry.counter(
+                "weather.noaa.conditional.requests", "operation", "active_alerts", "outcome", "miss").count());
+    }
+
+    @Test
+    void shouldShareOneRequestBetweenConcurrentCallersForSameDocument() {
+        server.enqueue(jsonResponse("""
+                {"features": [{"id": "urn:oid:alert-1", "properties": {"event": "Flood Warning"}}]}
+                """).setHeadersDelay(300, TimeUnit.MILLISECONDS));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WebClient webClient = WebClient.builder().baseUrl(server.url("/").toString()).build();
+        NoaaWeatherAdapter adapter = new NoaaWeatherAdapter(
+                webClient, meterRegistry, pointMetadataRepository, clientProperties(), new NoaaHedgingProperties(), new NoaaRefreshProperties());
+
+        List<CompletableFuture<WeatherFetchResult<List<WeatherData>>>> callers = List.of(
+                adapter.fetchActiveAlertsAsync(),
+                adapter.fetchActiveAlertsAsync(),
+                adapter.fetchActiveAlertsAsync());
+
+        for (CompletableFuture<WeatherFetchResult<List<WeatherData>>> caller : callers) {
+            WeatherFetchResult<List<WeatherData>> result = caller.join();
+            assertTrue(result.successful());
+            assertEquals("Flood Warning", result.data().get(0).getEventType());
+        }
+        assertEquals(1, server.getRequestCount());
+        assertEquals(1.0, meterRegistry.counter(
+                "weather.noaa.requests.coalesced", "operation", "active_alerts", "outcome", "leader").count());
+        assertEquals(2.0, meterRegistry.counter(
+                "weather.noaa.requests.coalesced", "operation", "active_alerts", "outcome", "joined").count());
+    }
+
+    @Test
+    void shouldShareFailureBetweenConcurrentCallersAndRetryAfterwards() {
+        server.enqueue(new MockResponse().setResponseCode(500).setHeadersDelay(300, TimeUnit.MILLISECONDS));
+        server.enqueue(jsonResponse("{\"features\": []}"));
+
+        NoaaWeatherAdapter adapter = newAdapter(server.url("/").toString(), 2, 0, 100);
+        GridPoint gridPoint = new GridPoint("MLB", 26, 68);
+
+        CompletableFuture<WeatherFetchResult<List<WeatherData>>> first = adapter.fetchForecastConditionsAsync(gridPoint);
+        CompletableFuture<WeatherFetchResult<List<WeatherData>>> second = adapter.fetchForecastConditionsAsync(gridPoint);
+
+        assertFalse(first.join().successful());
+        assertFalse(second.join().successful());
+        assertEquals(1, server.getRequestCount());
+
+        assertTrue(adapter.fetchActiveAlertsWithStatus().successful());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    void shouldServeForecastSnapshotAndRefreshItInBackground() throws InterruptedException {
+        AtomicReference<Instant> now = new AtomicReference<>(Instant.now());
+        server.enqueue(jsonResponse("""
+                {"properties": {"periods": [{"startTime": "%s", "temperature": 70, "temperatureUnit": "F"}]}}
+                """.formatted(Instant.now().plus(1, ChronoUnit.HOURS))).setHeader("ETag", "\"v1\""));
+        server.enqueue(jsonResponse("""
+                {"properties": {"periods": [{"startTime": "%s", "temperature": 80, "temperatureUnit": "F"}]}}
+                """.formatted(Instant.now().plus(1, ChronoUnit.HOURS))).setHeader("ETag", "\"v2\""));
+
+        NoaaRefreshProperties refresh = new NoaaRefreshProperties();
+        refresh.setEnabled(true);
+        refresh.setMinIntervalSeconds(1);
+        refresh.setJitterPercent(0);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WebClient webClient = WebClient.builder().baseUrl(server.url("/").toString()).build();
+        NoaaWeatherAdapter adapter = new NoaaWeatherAdapter(
+                webClient, meterRegistry, pointMetadataRepository, clientProperties(), new NoaaHedgingProperties(), refresh,
+                clockAt(now));
+        GridPoint gridPoint = new GridPoint("MLB", 26, 68);
+
+        assertEquals(21.1, adapter.fetchForecastConditionsWithStatus(gridPoint).data().get(0).getTemperature(), 0.1);
+        assertEquals(21.1, adapter.fetchForecastConditionsWithStatus(gridPoint).data().get(0).getTemperature(), 0.1);
+        assertEquals(1, server.getRequestCount());
+
+        adapter.refreshDue().block(Duration.ofSeconds(2));
+        assertEquals(1, server.getRequestCount());
+        now.set(now.get().plus(Duration.ofMillis(1100)));
+        adapter.refreshDue().block(Duration.ofSeconds(2));
+        server.takeRequest(1, TimeUnit.SECONDS);
+        assertEquals("\"v1\"", server.takeRequest(1, TimeUnit.SECONDS).getHeader("If-None-Match"));
+
+        WeatherFetchResult<List<WeatherData>> refreshed = adapter.fetchForecastConditionsWithStatus(gridPoint);
+        assertTrue(refreshed.successful());
+        assertFalse(refreshed.stale());
+        assertEquals(26.7, refreshed.data().get(0).getTemperature(), 0.1);
+        assertEquals(2, server.getRequestCount());
+        assertEquals(1.0, meterRegistry.counter(
+                "weather.noaa.refresh.runs", "operation", "hourly_forecast", "outcome", "changed").count());
+        assertEquals(2.0, meterRegistry.counter(
+                "weather.noaa.cache.lookups", "operation", "hourly_forecast", "outcome", "snapshot").count());
+    }
+
+    @Test
+    void shouldUsePersistedPointMetadataAndStationBinding() throws InterruptedException {
+        when(pointMetadataRepository.findByCoordinate(28.5383, -81.3792)).thenReturn(Optional.of(PointMetadata.builder()
+                .latitude(28.5383)
+                .longitude(-81.3792)
+                .gridId("MLB")
+                .gridX(26)
+                .gridY(68)
+                .stationId("KORL")
+                .stationName("Orlando Executive Airport")
+                .resolvedAt(Instant.now().minus(1, ChronoUnit.HOURS))
+                .build()));
+        server.enqueue(jsonResponse("""
+                {
+                  "properties": {
+                    "timestamp": "2026-02-24T19:10:00Z",
+                    "temperature": {"unitCode":"wmoUnit:degC","value":21}
+                  }
+                }
+                """));
+
+        NoaaWeatherAdapter adapter = newAdapter(server.url("/").toString(), 2, 0, 100);
+
+        Optional<GridPoint> gridPoint = adapter.resolveGridPointWithStatus(28.5383, -81.3792).data();
+        Optional<WeatherData> current = adapter.fetchCurrentConditions(28.5383, -81.3792);
+
+        assertEquals(Optional.of(new GridPoint("MLB", 26, 68)), gridPoint);
+        assertTrue(current.isPresent());
+        assertEquals("Orlando Executive Airport", current.get().getLocation());
+        assertEquals(1, server.getRequestCount());
+        assertEquals("/stations/KORL/observations/latest", server.takeRequest(1, TimeUnit.SECONDS).getPath());
+    }
+
+    @Test
+    void shouldResolvePointMetadataOnceAndBindPrimaryStation() throws InterruptedException {
+        String baseUrl = server.url("/").toString();
+        server.enqueue(jsonResponse("""
+                {
+                  "properties": {
+                    "gridId": "MLB",
+                    "gridX": 26,
+                    "gridY": 68,
+                    "forecastZone": "%szones/forecast/FLZ045",
+                    "county": "%szones/county/FLC095",
+                    "observationStations": "%sgridpoints/MLB/26,68/stations"
+                  }
+                }
+                """.formatted(baseUrl, baseUrl, baseUrl)));
+        server.enqueue(jsonResponse("""
+                {"features": [{"properties": {"stationIdentifier": "KORL", "name": "Orlando Executive Airport"}}]}
+                """));
+        String observation = """
+                {"properties": {"timestamp": "2026-02-24T19:10:00Z", "temperature": {"unitCode":"wmoUnit:degC","value":21}}}
+                """;
+        server.enqueue(jsonResponse(observation));
+        server.enqueue(jsonResponse(observation));
+
+        NoaaWeatherAdapter adapter = newAdapter(baseUrl, 2, 0, 100);
+
+        assertTrue(adapter.fetchCurrentConditions(28.5383, -81.3792).isPresent());
+        assertTrue(adapter.fetchCurrentConditions(28.5383, -81.3792).isPresent());
+
+        assertEquals(4, server.getRequestCount());
+        server.takeRequest(1, TimeUnit.SECONDS);
+        server.takeRequest(1, TimeUnit.SECONDS);
+        server.takeRequest(1, TimeUnit.SECONDS);
+        assertEquals("/stations/KORL/observations/latest", server.takeRequest(1, TimeUnit.SECONDS).getPath());
+
+        ArgumentCaptor<PointMetadata> saved = ArgumentCaptor.forClass(PointMetadata.class);
+        verify(pointMetadataRepository, times(2)).save(saved.capture());
+        PointMetadata bound = saved.getAllValues().get(1);
+        assertEquals("FLZ045", bound.getForecastZone());
+        assertEquals("FLC095", bound.getCounty());
+        assertEquals("KORL", bound.getStationId());
+        assertEquals(new GridPoint("MLB", 26, 68), bound.gridPoint());
+    }
+
+    @Test
+    void shouldPersistGridpointStationBindingAcrossRestart() throws InterruptedException {
+        Map<String, PointMetadata> rows = new ConcurrentHashMap<>();
+        when(pointMetadataRepository.save(any())).thenAnswer(invocation -> {
+            PointMetadata metadata = invocation.getArgument(0);
+            rows.put(metadata.getLatitude() + "," + metadata.getLongitude(), metadata);
+            return metadata;
+        });
+        when(pointMetadataRepository.findByCoordinate(anyDouble(), anyDouble())).thenAnswer(invocation ->
+                Optional.ofNullable(rows.get(invocation.getArgument(0) + "," + invocation.getArgument(1))));
+        String baseUrl = server.url("/").toString();
+        server.enqueue(jsonResponse("""
+                {
+                  "properties": {
+                    "gridId": "MLB",
+                    "gridX": 26,
+                    "gridY": 68,
+                    "observationStations": "%sgridpoints/MLB/26,68/stations"
+                  }
+                }
+                """.formatted(baseUrl)));
+        server.enqueue(jsonResponse("""
+                {"features": [{"properties": {"stationIdentifier": "KORL", "name": "Orlando Executive Airport"}}]}
+                """));
+        String observation = """
+                {"properties": {"timestamp": "2026-02-24T19:10:00Z", "temperature": {"unitCode":"wmoUnit:degC","value":21}}}
+                """;
+        server.enqueue(jsonResponse(observation));
+        server.enqueue(jsonResponse(observation));
+
+        NoaaWeatherAdapter adapter = newAdapter(baseUrl, 2, 0, 100);
+        GridPoint gridPoint = adapter.resolveGridPointWithStatus(28.5383, -81.3792).data().orElseThrow();
+        assertTrue(adapter.fetchCurrentConditionsWithStatus(gridPoint).data().isPresent());
+
+        NoaaWeatherAdapter restarted = newAdapter(baseUrl, 2, 0, 100);
+        assertEquals(Optional.of(gridPoint), restarted.resolveGridPointWithStatus(28.5383, -81.3792).data());
+        assertTrue(restarted.fetchCurrentConditionsWithStatus(gridPoint).data().isPresent());
+
+        assertEquals("KORL", rows.get("28.5383,-81.3792").getStationId());
+        assertEquals(4, server.getRequestCount());
+        server.takeRequest(1, TimeUnit.SECONDS);
+        assertEquals("/gridpoints/MLB/26,68/stations", server.takeRequest(1, TimeUnit.SECONDS).getPath());
+        server.takeRequest(1, TimeUnit.SECONDS);
+        assertEquals("/stations/KORL/observations/latest", server.takeRequest(1, TimeUnit.SECONDS).getPath());
+    }
+
+    @Test
+    void shouldReuseForecastWithinAdvertisedMaxAgeWithoutRequest() {
+        server.enqueue(jsonResponse(forecastBody()).setHeader("Cache-Control", "public, max-age=3600"));
+
+        NoaaWeatherAdapter adapter = newAdapter(server.url("/").toString(), 2, 0, 100);
+        GridPoint gridPoint = new GridPoint("MLB", 26, 68);
+
+        WeatherFetchResult<List<WeatherData>> first = adapter.fetchForecastConditionsWithStatus(gridPoint);
+        WeatherFetchResult<List<WeatherData>> second = adapter.fetchForecastConditionsWithStatus(gridPoint);
+
+        assertFalse(first.stale());
+        assertFalse(second.stale());
+        assertEquals(first.data().size(), second.data().size());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void shouldServeExpiredForecastAsStaleWhileRevalidatingInBackground() throws InterruptedException {
+        server.enqueue(jsonResponse(forecastBody())
+                .setHeader("ETag", "\"f1\"")
+                .setHeader("Expires", DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                        ZonedDateTime.now(ZoneOffset.UTC).minusSeconds(10))));
+        server.enqueue(new MockResponse().setResponseCode(304).setHeader("Cache-Control", "max-age=600"));
+
+        NoaaWeatherAdapter adapter = newAdapter(server.url("/").toString(), 2, 0, 100);
+        GridPoint gridPoint = new GridPoint("MLB", 26, 68);
+
+        adapter.fetchForecastConditionsWithStatus(gridPoint);
+        WeatherFetchResult<List<WeatherData>> stale = adapter.fetchForecastConditionsWithStatus(gridPoint);
+
+        assertTrue(stale.successful());
+        assertTrue(stale.stale());
+        assertEquals(1, stale.data().size());
+        server.takeRequest(1, TimeUnit.SECONDS);
+        assertEquals("\"f1\"", server.takeRequest(2, TimeUnit.SECONDS).getHeader("If-None-Match"));
+    }
+
+    @Test
+    void shouldServeCachedObservationAsStaleWhenRefreshFails() {
+        when(pointMetadataRepository.findByCoordinate(28.5383, -81.3792)).thenReturn(Optional.of(PointMetadata.builder()
+                .latitude(28.5383)
+                .longitude(-81.3792)
+                .stationId("KORL")
+                .resolvedAt(Instant.now())
+                .build()));
+        server.enqueue(jsonResponse("""
+                {"properties": {"timestamp": "2026-02-24T19:10:00Z", "temperature": {"unitCode":"wmoUnit:degC","value":21}}}
+                """).setHeader("ETag", "\"o1\""));
+        server.enqueue(new MockResponse().setResponseCode(503).setBody("{\"error\":\"unavailable\"}"));
+
+        NoaaWeatherAdapter adapter = newAdapter(server.url("/").toString(), 2, 0, 100);
+
+        WeatherFetchResult<Optional<WeatherData>> first = adapter.fetchCurrentConditionsWithStatus(28.5383, -81.3792);
+        WeatherFetchResult<Optional<WeatherData>> second = adapter.fetchCurrentConditionsWithStatus(28.5383, -81.3792);
+
+        assertFalse(first.stale());
+        assertTrue(second.successful());
+        assertTrue(second.stale());
+        assertTrue(second.data().isPresent());
+        assertEquals(first.data().map(WeatherData::getId), second.data().map(WeatherData::getId));
+    }
+
+    private String forecastBody() {
+        return """
+                {
+                  "properties": {
+                    "periods": [
+                      {"startTime": "%s", "temperature": 70, "temperatureUnit": "F", "shortForecast": "Showers"}
+                    ]
+                  }
+                }
+                """.formatted(Instant.now().plus(2, ChronoUnit.HOURS));
+    }
+
     private NoaaWeatherAdapter newAdapter(String baseUrl, long timeoutSeconds, long retries, long retryBackoffMillis) {
         WebClient webClient = WebClient.builder().baseUrl(baseUrl).build();
+        NoaaClientProperties client = clientProperties();
+        client.setRequestTimeoutSeconds(timeoutSeconds);
+        client.setRetryMaxAttempts(retries);
+        client.setRetryBackoffMillis(retryBackoffMillis);
         return new NoaaWeatherAdapter(
-                webClient,
-                new SimpleMeterRegistry(),
-                timeoutSeconds,
-                retries,
-                retryBackoffMillis,
-                0,
-                1000,
-                30);
+                webClient, new SimpleMeterRegistry(), pointMetadataRepository, client, new NoaaHedgingProperties(), new NoaaRefreshProperties());
+    }
+
+    /**
+     * Test defaults: short timeouts, no retries or pacing, and a circuit breaker that never opens.
+     */
+    private static NoaaClientProperties clientProperties() {
+        NoaaClientProperties properties = new NoaaClientProperties();
+        properties.setRequestTimeoutSeconds(2);
+        properties.setRetryMaxAttempts(0);
+        properties.setRetryBackoffMillis(100);
+        properties.setMinRequestIntervalMillis(0);
+        properties.setOutageFailureThreshold(1000);
+        properties.setResponseCacheMaxEntries(100);
+        return properties;
+    }
+
+    private static Clock clockAt(AtomicReference<Instant> now) {
+        return new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
     }
 
     private MockResponse jsonResponse(String body) {
@@ -0,0 +1,75 @@
+package com.weather.alert.infrastructure.adapter.persistence;
+
+import com.weather.alert.domain.model.AlertCriteriaState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class AlertCriteriaStateRepositoryAdapterTest {
+
+    @Mock
+    private JpaAlertCriteriaStateRepository jpaRepository;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldWriteEveryStateInOneUpsertBatchWithoutLoadingRows() {
+        AlertCriteriaStateRepositoryAdapter adapter = new AlertCriteriaStateRepositoryAdapter(jpaRepository, jdbcTemplate);
+        Instant now = Instant.parse("2026-03-01T12:00:00Z");
+        AlertCriteriaState existing = AlertCriteriaState.builder()
+                .criteriaId("criteria-existing")
+                .lastConditionMet(true)
+                .lastEventSignature("alert|Flood Warning|Orange, FL")
+                .lastNotifiedAt(now)
+                .createdAt(now.minusSeconds(3600))
+                .updatedAt(now)
+                .build();
+        AlertCriteriaState created = AlertCriteriaState.builder()
+                .criteriaId("criteria-new")
+                .lastConditionMet(false)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        adapter.saveAll(List.of(existing, created));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<SqlParameterSource[]> rows = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate, times(1)).batchUpdate(sql.capture(), rows.capture());
+        assertTrue(sql.getValue().contains("on conflict (criteria_id) do update"));
+        assertEquals(2, rows.getValue().length);
+        assertEquals("criteria-existing", rows.getValue()[0].getValue("criteriaId"));
+        assertEquals(OffsetDateTime.of(2026, 3, 1, 12, 0, 0, 0, ZoneOffset.UTC), rows.getValue()[0].getValue("lastNotifiedAt"));
+        assertNull(rows.getValue()[1].getValue("lastNotifiedAt"));
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    void shouldSkipEmptyWrites() {
+        AlertCriteriaStateRepositoryAdapter adapter = new AlertCriteriaStateRepositoryAdapter(jpaRepository, jdbcTemplate);
+
+        adapter.saveAll(List.of());
+
+        verify(jdbcTemplate, times(0)).batchUpdate(anyString(), any(SqlParameterSource[].class));
+    }
+}
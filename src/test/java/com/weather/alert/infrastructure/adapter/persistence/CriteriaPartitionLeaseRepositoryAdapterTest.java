@@ -0,0 +1,57 @@
+package com.weather.alert.infrastructure.adapter.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CriteriaPartitionLeaseRepositoryAdapterTest {
+
+    @Mock
+    private JpaCriteriaPartitionLeaseRepository leaseRepository;
+
+    @Mock
+    private JpaCriteriaEvaluationNodeRepository nodeRepository;
+
+    @Test
+    void shouldReleaseLeasesBeyondPartitionCountAndRenewOnlyTheRest() {
+        CriteriaPartitionLeaseRepositoryAdapter adapter =
+                new CriteriaPartitionLeaseRepositoryAdapter(leaseRepository, nodeRepository);
+        when(nodeRepository.countLive(30L)).thenReturn(1L);
+        when(leaseRepository.findOwnedPartitionIds("node-a", 4)).thenReturn(List.of(0, 1, 2, 3));
+
+        Set<Integer> owned = adapter.heartbeat("node-a", 4, Duration.ofSeconds(30), Set.of());
+
+        assertEquals(Set.of(0, 1, 2, 3), owned);
+        InOrder order = inOrder(leaseRepository);
+        order.verify(leaseRepository).releasePartitionsFrom("node-a", 4);
+        order.verify(leaseRepository).renewOwnedLeases("node-a", 4, 30L);
+        verify(leaseRepository, never()).findClaimablePartitionIds(anyInt());
+    }
+
+    @Test
+    void shouldKeepExcessPartitionsThatARunningCycleStillUses() {
+        CriteriaPartitionLeaseRepositoryAdapter adapter =
+                new CriteriaPartitionLeaseRepositoryAdapter(leaseRepository, nodeRepository);
+        when(nodeRepository.countLive(30L)).thenReturn(2L);
+        when(leaseRepository.findOwnedPartitionIds("node-a", 4)).thenReturn(List.of(0, 1, 2, 3));
+
+        Set<Integer> owned = adapter.heartbeat("node-a", 4, Duration.ofSeconds(30), Set.of(2, 3));
+
+        assertEquals(Set.of(2, 3), owned);
+        verify(leaseRepository).releasePartitions("node-a", List.of(1, 0));
+    }
+}
@@ -0,0 +1,155 @@
+package com.weather.alert.infrastructure.config;
+
+import com.weather.alert.domain.model.CriteriaPartitionSelector;
+import com.weather.alert.domain.port.CriteriaPartitionLeasePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CriteriaPartitionCoordinatorTest {
+
+    @Mock
+    private CriteriaPartitionLeasePort leasePort;
+
+    @Test
+    void shouldSelectAllPartitionsWithoutLeasesWhenClusterModeIsDisabled() {
+        CriteriaPartitionCoordinator coordinator = new CriteriaPartitionCoordinator(
+                leasePort,
+                new CriteriaPartitionProperties(),
+                new SimpleMeterRegistry());
+
+        coordinator.heartbeat();
+        coordinator.releaseLeases();
+
+        assertSame(CriteriaPartitionSelector.all(), coordinator.currentSelector());
+        verify(leasePort, never()).heartbeat(anyString(), anyInt(), any(Duration.class), any());
+        verify(leasePort, never()).release(anyString());
+    }
+
+    @Test
+    void shouldExposeLeasedPartitionsUntilTheLeaseExpires() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        CriteriaPartitionCoordinator coordinator = new CriteriaPartitionCoordinator(
+                leasePort,
+                clusterProperties(),
+                new SimpleMeterRegistry(),
+                clock);
+        when(leasePort.heartbeat("node-a", 8, Duration.ofSeconds(60), Set.of())).thenReturn(Set.of(1, 5));
+
+        assertTrue(coordinator.currentSelector().isEmpty());
+
+        coordinator.heartbeat();
+        CriteriaPartitionSelector selector = coordinator.currentSelector();
+        assertEquals(8, selector.partitionCount());
+        assertEquals(Set.of(1, 5), selector.partitions());
+
+        clock.advance(Duration.ofSeconds(61));
+        assertTrue(coordinator.currentSelector().isEmpty());
+    }
+
+    @Test
+    void shouldKeepPreviousLeaseWhenHeartbeatFailsAndReleaseOnShutdown() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        CriteriaPartitionCoordinator coordinator = new CriteriaPartitionCoordinator(
+                leasePort,
+                clusterProperties(),
+                new SimpleMeterRegistry(),
+                clock);
+        when(leasePort.heartbeat(eq("node-a"), eq(8), any(Duration.class), any()))
+                .thenReturn(Set.of(3))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        coordinator.heartbeat();
+        clock.advance(Duration.ofSeconds(15));
+        coordinator.heartbeat();
+
+        assertEquals(Set.of(3), coordinator.currentSelector().partitions());
+
+        coordinator.releaseLeases();
+
+        assertTrue(coordinator.currentSelector().isEmpty());
+        verify(leasePort).release("node-a");
+    }
+
+    @Test
+    void shouldHoldPartitionsOfRunningCycleAcrossHeartbeats() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        CriteriaPartitionCoordinator coordinator = new CriteriaPartitionCoordinator(
+                leasePort,
+                clusterProperties(),
+                new SimpleMeterRegistry(),
+                clock);
+        when(leasePort.heartbeat("node-a", 8, Duration.ofSeconds(60), Set.of())).thenReturn(Set.of(1, 5));
+        when(leasePort.heartbeat("node-a", 8, Duration.ofSeconds(60), Set.of(1, 5))).thenReturn(Set.of(1, 5));
+
+        coordinator.heartbeat();
+        assertEquals(Set.of(1, 5), coordinator.beginCycle().partitions());
+        clock.advance(Duration.ofSeconds(15));
+        coordinator.heartbeat();
+        coordinator.endCycle();
+        clock.advance(Duration.ofSeconds(15));
+        coordinator.heartbeat();
+
+        verify(leasePort).heartbeat("node-a", 8, Duration.ofSeconds(60), Set.of(1, 5));
+        verify(leasePort, times(2)).heartbeat("node-a", 8, Duration.ofSeconds(60), Set.of());
+    }
+
+    private CriteriaPartitionProperties clusterProperties() {
+        CriteriaPartitionProperties properties = new CriteriaPartitionProperties();
+        properties.setEnabled(true);
+        properties.setPartitions(8);
+        properties.setLeaseSeconds(60);
+        properties.setNodeId("node-a");
+        return properties;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.weather.alert.infrastructure.config;
 import com.weather.alert.domain.port.WeatherDataSearchPort;
 import com.weather.alert.infrastructure.adapter.persistence.JpaAlertCriteriaStateRepository;
 import com.weather.alert.infrastructure.adapter.persistence.JpaAlertRepository;
+import com.weather.alert.infrastructure.adapter.persistence.JpaPointMetadataRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -24,6 +25,9 @@ class DataRetentionSchedulerTest {
     @Mock
     private JpaAlertCriteriaStateRepository criteriaStateRepository;
 
+    @Mock
+    private JpaPointMetadataRepository pointMetadataRepository;
+
     @Mock
     private WeatherDataSearchPort weatherDataSearchPort;
 
@@ -35,15 +39,18 @@ class DataRetentionSchedulerTest {
         properties.setWeatherDataHours(72);
         properties.setCriteriaStateDays(14);
         properties.setCleanupOrphanCriteriaState(true);
+        properties.setPointMetadataDays(14);
 
         when(alertRepository.deleteByAlertTimeBefore(any(Instant.class))).thenReturn(3);
         when(criteriaStateRepository.deleteByUpdatedAtBefore(any(Instant.class))).thenReturn(2);
         when(criteriaStateRepository.deleteOrphanedStates()).thenReturn(1);
+        when(pointMetadataRepository.deleteByResolvedAtBefore(any(Instant.class))).thenReturn(4);
         when(weatherDataSearchPort.deleteWeatherDataOlderThan(any(Instant.class))).thenReturn(8L);
 
         DataRetentionScheduler scheduler = new DataRetentionScheduler(
                 alertRepository,
                 criteriaStateRepository,
+                pointMetadataRepository,
                 weatherDataSearchPort,
                 properties);
 
@@ -52,6 +59,7 @@ class DataRetentionSchedulerTest {
         verify(alertRepository).deleteByAlertTimeBefore(any(Instant.class));
         verify(criteriaStateRepository).deleteByUpdatedAtBefore(any(Instant.class));
         verify(criteriaStateRepository).deleteOrphanedStates();
+        verify(pointMetadataRepository).deleteByResolvedAtBefore(any(Instant.class));
         verify(weatherDataSearchPort).deleteWeatherDataOlderThan(any(Instant.class));
     }
 
@@ -63,6 +71,7 @@ class DataRetentionSchedulerTest {
         DataRetentionScheduler scheduler = new DataRetentionScheduler(
                 alertRepository,
                 criteriaStateRepository,
+                pointMetadataRepository,
                 weatherDataSearchPort,
                 properties);
 
@@ -71,6 +80,7 @@ class DataRetentionSchedulerTest {
         verify(alertRepository, never()).deleteByAlertTimeBefore(any(Instant.class));
         verify(criteriaStateRepository, never()).deleteByUpdatedAtBefore(any(Instant.class));
         verify(criteriaStateRepository, never()).deleteOrphanedStates();
+        verify(pointMetadataRepository, never()).deleteByResolvedAtBefore(any(Instant.class));
         verify(weatherDataSearchPort, never()).deleteWeatherDataOlderThan(any(Instant.class));
     }
 }
@@ -0,0 +1,90 @@
+package com.weather.alert.infrastructure.config;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WebClientConfigTest {
+
+    private MockWebServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void shouldNegotiateGzipAndReuseConnection() throws Exception {
+        String body = "{\"features\": []}";
+        server.enqueue(gzipResponse(body));
+        server.enqueue(gzipResponse(body));
+
+        CountDownLatch released = new CountDownLatch(1);
+        HttpClient httpClient = WebClientConfig.noaaHttpClient(new NoaaHttpClientProperties())
+                .observe((connection, state) -> {
+                    if (state == ConnectionObserver.State.RELEASED) {
+                        released.countDown();
+                    }
+                });
+        WebClient webClient = WebClient.builder()
+                .baseUrl(server.url("/").toString())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+
+        assertEquals(body, webClient.get().uri("/alerts/active").retrieve().bodyToMono(String.class).block());
+        // The connection returns to the pool just after the body has been delivered.
+        assertTrue(released.await(5, TimeUnit.SECONDS));
+        assertEquals(body, webClient.get().uri("/alerts/active").retrieve().bodyToMono(String.class).block());
+
+        RecordedRequest first = server.takeRequest(1, TimeUnit.SECONDS);
+        RecordedRequest second = server.takeRequest(1, TimeUnit.SECONDS);
+        assertEquals("gzip", first.getHeader("Accept-Encoding"));
+        assertEquals(1, second.getSequenceNumber());
+    }
+
+    @Test
+    void shouldRejectTransportTimeoutsNotBelowRequestTimeout() {
+        NoaaHttpClientProperties properties = new NoaaHttpClientProperties();
+        WebClientConfig.validateTransportTimeouts(properties, 8);
+
+        properties.setResponseTimeoutSeconds(8);
+
+        assertThrows(IllegalStateException.class, () -> WebClientConfig.validateTransportTimeouts(properties, 8));
+    }
+
+    private static MockResponse gzipResponse(String body) throws IOException {
+        Buffer compressed = new Buffer();
+        try (BufferedSink sink = Okio.buffer(new GzipSink(compressed))) {
+            sink.writeUtf8(body);
+        }
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setHeader("Content-Encoding", "gzip")
+                .setBody(compressed);
+    }
+}